@@ -0,0 +1,68 @@
+package com.interviewsystem.benchmark;
+
+import com.interviewsystem.InterviewSystemApplication;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the application on a random port against a benchmark database.
+ *
+ * <p>{@code h2} uses a private in-memory database. {@code postgres} uses a local PostgreSQL
+ * database given by the {@code benchmark.postgres.url}, {@code benchmark.postgres.user} and
+ * {@code benchmark.postgres.password} system properties; its schema is dropped and recreated.
+ */
+final class BenchmarkContext {
+
+  private BenchmarkContext() {
+  }
+
+  static ConfigurableApplicationContext start(String database) {
+    return start(database, Map.of());
+  }
+
+  /**
+   * Start the application with additional properties, which take precedence over the defaults.
+   */
+  static ConfigurableApplicationContext start(String database, Map<String, String> overrides) {
+    Map<String, String> properties = new HashMap<>();
+    properties.put("server.port", "0");
+    properties.put("spring.liquibase.enabled", "false");
+    properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+    properties.put("spring.jpa.properties.hibernate.jdbc.batch_size", "50");
+    properties.put("spring.jpa.properties.hibernate.use_sql_comments", "false");
+    properties.put("interview.assignment.enabled", "false");
+    properties.put("logging.level.root", "WARN");
+    properties.put("logging.level.com.interviewsystem", "WARN");
+    switch (database) {
+      case "h2" -> {
+        properties.put("spring.datasource.url",
+            "jdbc:h2:mem:benchmark-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.jpa.properties.hibernate.dialect",
+            "org.hibernate.dialect.H2Dialect");
+      }
+      case "postgres" -> {
+        properties.put("spring.datasource.url", System.getProperty("benchmark.postgres.url",
+            "jdbc:postgresql://localhost:5432/interview_benchmark"));
+        properties.put("spring.datasource.username",
+            System.getProperty("benchmark.postgres.user", "postgres"));
+        properties.put("spring.datasource.password",
+            System.getProperty("benchmark.postgres.password", "postgres"));
+      }
+      default -> throw new IllegalArgumentException("Unknown benchmark database: " + database);
+    }
+    properties.putAll(overrides);
+    // Passed as command-line arguments so that they override application.yml.
+    String[] args = properties.entrySet().stream()
+        .map(property -> "--" + property.getKey() + "=" + property.getValue())
+        .toArray(String[]::new);
+    // The main class cannot be deduced from a benchmark thread, and AOT initializers need it.
+    return new SpringApplicationBuilder(InterviewSystemApplication.class)
+        .main(InterviewSystemApplication.class)
+        .run(args);
+  }
+}
@@ -0,0 +1,104 @@
+package com.interviewsystem.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.interviewsystem.dto.SubmissionExport;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encode and decode cost of a bulk export page in JSON and CBOR. The {@code payloadBytes} secondary
+ * result reports the encoded size of one page.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+  private static final TypeReference<List<SubmissionExport>> PAGE = new TypeReference<>() {
+  };
+
+  @Param({"json", "cbor"})
+  public String format;
+
+  @Param({"1000"})
+  public int pageSize;
+
+  private ObjectMapper mapper;
+
+  private List<SubmissionExport> page;
+
+  private byte[] encoded;
+
+  @Setup
+  public void setUp() throws IOException {
+    mapper = ("cbor".equals(format) ? CBORMapper.builder() : JsonMapper.builder())
+        .findAndAddModules()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+    LocalDateTime submittedAt = LocalDateTime.of(2024, 1, 1, 9, 0);
+    page = new ArrayList<>(pageSize);
+    for (int i = 0; i < pageSize; i++) {
+      page.add(SubmissionExport.builder()
+          .id((long) i)
+          .candidateId(10_000L + i)
+          .problemId((long) (i % 50))
+          .language("JAVA")
+          .compilationStatus("SUCCESS")
+          .submittedAt(submittedAt.plusSeconds(i))
+          .codeContent("class Solution {\n  int solve(int[] nums) {\n    return nums.length * "
+              + i + ";\n  }\n}\n")
+          .build());
+    }
+    encoded = mapper.writeValueAsBytes(page);
+  }
+
+  @Benchmark
+  public byte[] encode(Size size) throws IOException {
+    byte[] bytes = mapper.writeValueAsBytes(page);
+    size.payloadBytes = bytes.length;
+    return bytes;
+  }
+
+  @Benchmark
+  public List<SubmissionExport> decode() throws IOException {
+    return mapper.readValue(encoded, PAGE);
+  }
+
+  /**
+   * Reports the encoded page size alongside the timings.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Size {
+
+    public long payloadBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      payloadBytes = 0;
+    }
+  }
+}
@@ -0,0 +1,131 @@
+package com.interviewsystem.benchmark;
+
+import com.interviewsystem.entity.Candidate;
+import com.interviewsystem.entity.Submission;
+import com.interviewsystem.repository.CandidateRepository;
+import com.interviewsystem.repository.SubmissionRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Repository finder latency with 10K and 100K candidates, each with one submission spread over
+ * 1,000 problems. Rows are seeded with JDBC batches so that setup does not dominate the run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class FinderBenchmark {
+
+  static final int PROBLEMS = 1000;
+
+  static final int SEED_BATCH = 1000;
+
+  @Param({"h2"})
+  public String database;
+
+  @Param({"10000", "100000"})
+  public int rows;
+
+  private ConfigurableApplicationContext context;
+
+  private CandidateRepository candidateRepository;
+
+  private SubmissionRepository submissionRepository;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = BenchmarkContext.start(database);
+    candidateRepository = context.getBean(CandidateRepository.class);
+    submissionRepository = context.getBean(SubmissionRepository.class);
+    seed(context.getBean(JdbcTemplate.class));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public Optional<Candidate> findCandidateByEmail() {
+    return candidateRepository.findByEmail("seed-" + randomId(rows) + "@example.com");
+  }
+
+  @Benchmark
+  public List<Submission> findSubmissionsByCandidateId() {
+    return submissionRepository.findByCandidateId(randomId(rows));
+  }
+
+  @Benchmark
+  public long countSubmissionsByProblemId() {
+    return submissionRepository.countByProblemId(randomId(PROBLEMS));
+  }
+
+  private void seed(JdbcTemplate jdbc) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    for (int from = 1; from <= PROBLEMS; from += SEED_BATCH) {
+      int to = Math.min(from + SEED_BATCH - 1, PROBLEMS);
+      jdbc.batchUpdate("insert into problem (id, title, description, difficulty, category, "
+              + "primary_tech_stack, estimated_minutes, max_score, created_at, updated_at) "
+              + "values (?, ?, 'Seeded', 'MEDIUM', 'ALGORITHMS', 'JAVA', 60, 100, ?, ?)",
+          range(from, to), SEED_BATCH, (ps, id) -> {
+            ps.setLong(1, id);
+            ps.setString(2, "Seeded problem " + id);
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, now);
+          });
+    }
+    for (int from = 1; from <= rows; from += SEED_BATCH) {
+      int to = Math.min(from + SEED_BATCH - 1, rows);
+      jdbc.batchUpdate("insert into candidate (id, email, first_name, last_name, tech_stack, "
+              + "created_at, updated_at) values (?, ?, 'Seed', 'Candidate', 'JAVA', ?, ?)",
+          range(from, to), SEED_BATCH, (ps, id) -> {
+            ps.setLong(1, id);
+            ps.setString(2, "seed-" + id + "@example.com");
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, now);
+          });
+      jdbc.batchUpdate("insert into submission (id, candidate_id, problem_id, code_content, "
+              + "language, submitted_at, compilation_status, created_at, updated_at) "
+              + "values (?, ?, ?, 'class Solution {}', 'JAVA', ?, 'SUCCESS', ?, ?)",
+          range(from, to), SEED_BATCH, (ps, id) -> {
+            ps.setLong(1, id);
+            ps.setLong(2, id);
+            ps.setLong(3, id % PROBLEMS + 1);
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+          });
+    }
+  }
+
+  private static List<Long> range(long from, long to) {
+    return LongStream.rangeClosed(from, to).boxed().toList();
+  }
+
+  private static long randomId(int bound) {
+    return ThreadLocalRandom.current().nextLong(bound) + 1;
+  }
+}
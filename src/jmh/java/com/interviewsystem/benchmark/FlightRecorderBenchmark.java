@@ -0,0 +1,80 @@
+package com.interviewsystem.benchmark;
+
+import com.interviewsystem.service.evaluation.OutputComparison;
+import com.interviewsystem.service.evaluation.RunTestCaseEvent;
+import java.util.concurrent.TimeUnit;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the evaluation-stage JFR events, on the cheapest stage there is: comparing a 100-line
+ * output. {@code none} emits no event, {@code idle} emits one with no recording running, and
+ * {@code recording} emits one into the continuous recording with JFR's default settings. Real
+ * stages run a candidate process and take milliseconds, so the difference between {@code none}
+ * and {@code recording} here is an upper bound on the relative overhead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlightRecorderBenchmark {
+
+  @Param({"none", "idle", "recording"})
+  public String events;
+
+  private String expected;
+
+  private String actual;
+
+  private Recording recording;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    StringBuilder output = new StringBuilder();
+    for (int i = 0; i < 100; i++) {
+      output.append(i).append(' ').append(i * 31).append('\n');
+    }
+    expected = output.toString();
+    actual = output.append('\n').toString();
+    if ("recording".equals(events)) {
+      recording = new Recording(Configuration.getConfiguration("default"));
+      recording.enable(RunTestCaseEvent.class);
+      recording.setToDisk(true);
+      recording.start();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    if (recording != null) {
+      recording.close();
+    }
+  }
+
+  @Benchmark
+  public boolean compareOutput() {
+    if ("none".equals(events)) {
+      return OutputComparison.TRIMMED.matches(expected, actual);
+    }
+    RunTestCaseEvent event = new RunTestCaseEvent();
+    event.begin();
+    boolean matches = OutputComparison.TRIMMED.matches(expected, actual);
+    event.finish(1L, 2L, "JAVA");
+    return matches;
+  }
+}
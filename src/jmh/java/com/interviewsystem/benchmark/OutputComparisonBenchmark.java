@@ -0,0 +1,59 @@
+package com.interviewsystem.benchmark;
+
+import com.interviewsystem.service.evaluation.OutputComparison;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Output comparison of matching outputs that differ only in whitespace and number formatting, the
+ * common accepted case where every byte has to be inspected.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OutputComparisonBenchmark {
+
+  @Param({"TRIMMED", "TOKENS", "NUMERIC", "UNORDERED_LINES"})
+  public OutputComparison comparison;
+
+  @Param({"100", "10000"})
+  public int lines;
+
+  private String expected;
+
+  private String actual;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    StringBuilder expectedOutput = new StringBuilder();
+    StringBuilder actualOutput = new StringBuilder();
+    for (int i = 0; i < lines; i++) {
+      int a = random.nextInt(1_000_000);
+      int b = random.nextInt(1_000_000);
+      expectedOutput.append(a).append(' ').append(b).append('\n');
+      actualOutput.append(a).append(' ').append(b).append(i % 10 == 0 ? " \r\n" : "\n");
+    }
+    expected = expectedOutput.toString();
+    actual = actualOutput.append("\n\n").toString();
+  }
+
+  @Benchmark
+  public boolean compare() {
+    return comparison.matches(expected, actual);
+  }
+}
@@ -0,0 +1,104 @@
+package com.interviewsystem.benchmark;
+
+import com.interviewsystem.entity.Candidate;
+import com.interviewsystem.entity.Problem;
+import com.interviewsystem.entity.Submission;
+import com.interviewsystem.repository.CandidateRepository;
+import com.interviewsystem.repository.ProblemRepository;
+import com.interviewsystem.repository.SubmissionRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Entity persist throughput: single saves and batched inserts through the repositories, including
+ * the change events every save publishes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class PersistBenchmark {
+
+  static final int BATCH_SIZE = 500;
+
+  @Param({"h2"})
+  public String database;
+
+  private final AtomicLong sequence = new AtomicLong();
+
+  private ConfigurableApplicationContext context;
+
+  private CandidateRepository candidateRepository;
+
+  private SubmissionRepository submissionRepository;
+
+  private Candidate candidate;
+
+  private Problem problem;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = BenchmarkContext.start(database);
+    candidateRepository = context.getBean(CandidateRepository.class);
+    submissionRepository = context.getBean(SubmissionRepository.class);
+    candidate = candidateRepository.save(candidate(sequence.incrementAndGet()));
+    problem = context.getBean(ProblemRepository.class).save(Problem.builder()
+        .title("Benchmark Problem")
+        .description("Persist me")
+        .category("ALGORITHMS")
+        .primaryTechStack("JAVA")
+        .build());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public Candidate persistCandidate() {
+    return candidateRepository.save(candidate(sequence.incrementAndGet()));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public List<Submission> batchInsertSubmissions() {
+    List<Submission> batch = new ArrayList<>(BATCH_SIZE);
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      batch.add(Submission.builder()
+          .candidate(candidate)
+          .problem(problem)
+          .codeContent("class Solution { int answer() { return " + i + "; } }")
+          .language("JAVA")
+          .build());
+    }
+    return submissionRepository.saveAll(batch);
+  }
+
+  private static Candidate candidate(long n) {
+    return Candidate.builder()
+        .email("benchmark-" + n + "@example.com")
+        .firstName("Bench")
+        .lastName("Mark")
+        .build();
+  }
+}
@@ -0,0 +1,58 @@
+package com.interviewsystem.benchmark;
+
+import com.interviewsystem.entity.TestCase;
+import com.interviewsystem.service.evaluation.ExecutionScorer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Execution scoring over {@link TestCase#getWeightPercentage() weighted} test cases.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoringBenchmark {
+
+  @Param({"10", "100", "1000"})
+  public int testCases;
+
+  private List<TestCase> cases;
+
+  private boolean[] passed;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    cases = new ArrayList<>(testCases);
+    passed = new boolean[testCases];
+    for (int i = 0; i < testCases; i++) {
+      cases.add(TestCase.builder()
+          .inputDescription("input " + i)
+          .expectedOutput("output " + i)
+          .weightPercentage(1 + random.nextInt(20))
+          .build());
+      passed[i] = random.nextInt(4) != 0;
+    }
+  }
+
+  @Benchmark
+  public int score() {
+    return ExecutionScorer.score(cases, passed);
+  }
+}
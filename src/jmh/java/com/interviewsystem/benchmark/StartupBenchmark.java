@@ -0,0 +1,44 @@
+package com.interviewsystem.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Cold application startup, eager versus lazy bean initialization. Every sample is the first start
+ * in a fresh JVM, so class loading and JIT warm-up are included as they are for a new worker pod.
+ *
+ * <p>To measure the fast-startup build, package with {@code -P fast-startup,benchmark} and pass
+ * {@code -jvmArgsAppend "-XX:SharedArchiveFile=target/app.jsa -Dspring.aot.enabled=true"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark {
+
+  @Param({"h2"})
+  public String database;
+
+  @Param({"false", "true"})
+  public boolean lazy;
+
+  @Benchmark
+  public void startAndStop() {
+    ConfigurableApplicationContext context = BenchmarkContext.start(database,
+        Map.of("spring.main.lazy-initialization", String.valueOf(lazy)));
+    context.close();
+  }
+}
@@ -0,0 +1,48 @@
+package com.interviewsystem.benchmark.load;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Inserts rows with JDBC batches of a prepared {@code INSERT}, for databases without a bulk load
+ * API.
+ */
+final class BatchRowSink implements RowSink {
+
+  private final PreparedStatement statement;
+
+  private final int batchSize;
+
+  private int pending;
+
+  BatchRowSink(Connection connection, String table, List<String> columns, int batchSize)
+      throws SQLException {
+    this.statement = connection.prepareStatement("insert into " + table + " ("
+        + String.join(", ", columns) + ") values ("
+        + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")");
+    this.batchSize = batchSize;
+  }
+
+  @Override
+  public void add(Object... values) throws SQLException {
+    for (int i = 0; i < values.length; i++) {
+      statement.setObject(i + 1, values[i]);
+    }
+    statement.addBatch();
+    if (++pending >= batchSize) {
+      statement.executeBatch();
+      pending = 0;
+    }
+  }
+
+  @Override
+  public void close() throws SQLException {
+    if (pending > 0) {
+      statement.executeBatch();
+    }
+    statement.close();
+  }
+}
@@ -0,0 +1,59 @@
+package com.interviewsystem.benchmark.load;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code --key=value} arguments for the command-line tools in this package.
+ */
+final class CommandLine {
+
+  private final Map<String, String> values = new HashMap<>();
+
+  CommandLine(String[] args) {
+    for (String arg : args) {
+      if (!arg.startsWith("--") || !arg.contains("=")) {
+        throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+      }
+      int separator = arg.indexOf('=');
+      values.put(arg.substring(2, separator), arg.substring(separator + 1));
+    }
+  }
+
+  String get(String key, String defaultValue) {
+    return values.getOrDefault(key, defaultValue);
+  }
+
+  int getInt(String key, int defaultValue) {
+    return values.containsKey(key) ? Integer.parseInt(values.get(key)) : defaultValue;
+  }
+
+  long getLong(String key, long defaultValue) {
+    return values.containsKey(key) ? Long.parseLong(values.get(key)) : defaultValue;
+  }
+
+  boolean getBoolean(String key, boolean defaultValue) {
+    return values.containsKey(key) ? Boolean.parseBoolean(values.get(key)) : defaultValue;
+  }
+
+  /**
+   * Parse a duration such as {@code 90s}, {@code 5m} or an ISO-8601 value like {@code PT1H}.
+   */
+  Duration getDuration(String key, Duration defaultValue) {
+    String value = values.get(key);
+    if (value == null) {
+      return defaultValue;
+    }
+    if (value.startsWith("P") || value.startsWith("p")) {
+      return Duration.parse(value);
+    }
+    long amount = Long.parseLong(value.substring(0, value.length() - 1));
+    return switch (value.charAt(value.length() - 1)) {
+      case 's' -> Duration.ofSeconds(amount);
+      case 'm' -> Duration.ofMinutes(amount);
+      case 'h' -> Duration.ofHours(amount);
+      default -> throw new IllegalArgumentException("Unknown duration unit: " + value);
+    };
+  }
+}
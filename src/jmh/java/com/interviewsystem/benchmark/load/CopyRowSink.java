@@ -0,0 +1,71 @@
+package com.interviewsystem.benchmark.load;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+/**
+ * Streams rows into PostgreSQL with {@code COPY ... FROM STDIN} in CSV format.
+ *
+ * <p>Rows are encoded into a buffer that is handed to the driver about once per megabyte.
+ */
+final class CopyRowSink implements RowSink {
+
+  private static final int FLUSH_CHARS = 1 << 20;
+
+  private final CopyIn copyIn;
+
+  private final StringBuilder buffer = new StringBuilder(FLUSH_CHARS + 4096);
+
+  CopyRowSink(CopyManager copyManager, String table, List<String> columns) throws SQLException {
+    this.copyIn = copyManager.copyIn("COPY " + table + " (" + String.join(", ", columns)
+        + ") FROM STDIN WITH (FORMAT csv)");
+  }
+
+  @Override
+  public void add(Object... values) throws SQLException {
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        buffer.append(',');
+      }
+      appendCsv(values[i]);
+    }
+    buffer.append('\n');
+    if (buffer.length() >= FLUSH_CHARS) {
+      flush();
+    }
+  }
+
+  @Override
+  public void close() throws SQLException {
+    flush();
+    copyIn.endCopy();
+  }
+
+  private void flush() throws SQLException {
+    byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+    copyIn.writeToCopy(bytes, 0, bytes.length);
+    buffer.setLength(0);
+  }
+
+  private void appendCsv(Object value) {
+    if (value == null) {
+      return;
+    }
+    if (value instanceof String text) {
+      buffer.append('"');
+      for (int i = 0; i < text.length(); i++) {
+        char c = text.charAt(i);
+        if (c == '"') {
+          buffer.append('"');
+        }
+        buffer.append(c);
+      }
+      buffer.append('"');
+    } else {
+      buffer.append(value);
+    }
+  }
+}
@@ -0,0 +1,357 @@
+package com.interviewsystem.benchmark.load;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import org.postgresql.PGConnection;
+
+/**
+ * Bulk-populates a migrated database with synthetic interview data at target scale.
+ *
+ * <p>Output is fully determined by {@code --seed} and {@code --anchor}: the same arguments always
+ * produce the same rows. Candidate activity and problem popularity are skewed (a few candidates
+ * and problems account for most submissions), submissions cluster in working hours and grow
+ * towards the anchor, and evaluation status, scores and review delays follow problem difficulty
+ * and submission age.
+ *
+ * <p>Rows are loaded with {@code COPY} on PostgreSQL and JDBC batches elsewhere. The schema must
+ * already exist (start the application once, or run {@code mvn liquibase:update}); pass
+ * {@code --truncate=true} to empty the tables first. Restart the application after loading, since
+ * its in-memory indexes are built at startup.
+ *
+ * <pre>
+ * --url=jdbc:postgresql://localhost:5432/interview_system_dev --user=postgres --password=postgres
+ * --seed=42 --anchor=2026-01-01T00:00 --days=180
+ * --candidates=10000 --problems=1000 --interviewers=200 --submissions=1000000
+ * --batch-size=5000 --truncate=false
+ * </pre>
+ */
+public final class DataGenerator {
+
+  static final String[] CATEGORIES = {"ALGORITHMS", "DATA_STRUCTURES", "SYSTEM_DESIGN",
+      "API_DESIGN", "DATABASE", "CONCURRENCY", "FRONTEND", "TESTING"};
+
+  static final String[] TECH_STACKS = {"JAVA", "TYPESCRIPT"};
+
+  static final String[] TOPICS = {"cache", "queue", "graph", "tree", "parser", "scheduler",
+      "rate limiter", "leaderboard", "matrix", "interval", "string", "stream", "pagination",
+      "inventory", "booking", "ledger", "router", "index", "heap", "trie"};
+
+  static final String[] FEEDBACK = {"Clean solution with good test coverage.",
+      "Correct, but the complexity could be improved.", "Handles edge cases well.",
+      "Needs clearer naming and smaller methods.", "Missed null and empty input handling.",
+      "Strong approach; consider extracting the parsing logic."};
+
+  /** Share of submissions per hour of day, peaking during working hours. */
+  private static final int[] HOUR_WEIGHTS = {1, 1, 1, 1, 1, 2, 3, 5, 8, 10, 11, 11, 9, 10, 11, 11,
+      10, 8, 6, 5, 4, 3, 2, 1};
+
+  private static final int CHUNK = 50_000;
+
+  /**
+   * Tables cleared by {@code --truncate}, children before the tables their foreign keys reference.
+   */
+  private static final List<String> TABLES = List.of("evaluation", "evaluation_lease",
+      "submission_fingerprint", "submission", "attempt_source_base", "performance_input",
+      "test_case", "candidate", "problem", "interviewer", "outbox_event");
+
+  private final SplittableRandom random;
+
+  private final LocalDateTime anchor;
+
+  private final int days;
+
+  private final int candidates;
+
+  private final int problems;
+
+  private final int interviewers;
+
+  private final long submissions;
+
+  private final int batchSize;
+
+  private final int hourWeightTotal;
+
+  private String[] problemDifficulty;
+
+  private String[] candidateStack;
+
+  private DataGenerator(CommandLine args) {
+    this.random = new SplittableRandom(args.getLong("seed", 42));
+    this.anchor =
+        LocalDateTime.parse(args.get("anchor", LocalDate.now().atStartOfDay().toString()));
+    this.days = args.getInt("days", 180);
+    this.candidates = args.getInt("candidates", 10_000);
+    this.problems = args.getInt("problems", 1_000);
+    this.interviewers = args.getInt("interviewers", 200);
+    this.submissions = args.getLong("submissions", 1_000_000);
+    this.batchSize = args.getInt("batch-size", 5_000);
+    int total = 0;
+    for (int weight : HOUR_WEIGHTS) {
+      total += weight;
+    }
+    this.hourWeightTotal = total;
+  }
+
+  public static void main(String[] argv) throws SQLException {
+    CommandLine args = new CommandLine(argv);
+    try (Connection connection = DriverManager.getConnection(
+        args.get("url", "jdbc:postgresql://localhost:5432/interview_system_dev"),
+        args.get("user", "postgres"), args.get("password", "postgres"))) {
+      if (args.getBoolean("truncate", false)) {
+        truncate(connection);
+      }
+      new DataGenerator(args).generate(connection);
+    }
+  }
+
+  void generate(Connection connection) throws SQLException {
+    long started = System.nanoTime();
+    timed("interviewer", interviewers, () -> generateInterviewers(connection));
+    timed("problem + test_case", problems, () -> generateProblems(connection));
+    timed("candidate", candidates, () -> generateCandidates(connection));
+    timed("submission + evaluation", submissions, () -> generateSubmissions(connection));
+    finish(connection);
+    System.out.printf(Locale.ROOT, "Generated data in %d s%n",
+        Duration.ofNanos(System.nanoTime() - started).toSeconds());
+  }
+
+  private void generateInterviewers(Connection connection) throws SQLException {
+    try (RowSink sink = RowSink.open(connection, "interviewer", List.of("id", "email",
+        "first_name", "last_name", "role", "expertise_areas", "active", "created_at", "updated_at"),
+        batchSize)) {
+      for (int id = 1; id <= interviewers; id++) {
+        String expertise = TECH_STACKS[random.nextInt(TECH_STACKS.length)] + ","
+            + CATEGORIES[random.nextInt(CATEGORIES.length)];
+        LocalDateTime created = anchor.minusDays(days + random.nextInt(365));
+        sink.add((long) id, "interviewer-" + id + "@example.com", "Interviewer", "No. " + id,
+            random.nextInt(5) == 0 ? "SENIOR_ENGINEER" : "INTERVIEWER", expertise,
+            random.nextInt(20) != 0, created, created);
+      }
+    }
+  }
+
+  private void generateProblems(Connection connection) throws SQLException {
+    problemDifficulty = new String[problems + 1];
+    long testCaseId = 1;
+    try (RowSink problemSink = RowSink.open(connection, "problem", List.of("id", "title",
+        "description", "difficulty", "category", "primary_tech_stack", "estimated_minutes",
+        "max_score", "created_at", "updated_at"), batchSize)) {
+      for (int id = 1; id <= problems; id++) {
+        int roll = random.nextInt(10);
+        String difficulty = roll < 3 ? "EASY" : roll < 8 ? "MEDIUM" : "HARD";
+        problemDifficulty[id] = difficulty;
+        String topic = TOPICS[random.nextInt(TOPICS.length)];
+        String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+        LocalDateTime created = anchor.minusDays(days + random.nextInt(365));
+        problemSink.add((long) id, "Implement a " + topic + " (#" + id + ")",
+            "Design and implement a " + topic + " for the " + category.toLowerCase(Locale.ROOT)
+                + " track. Explain the trade-offs of your approach.",
+            difficulty, category, TECH_STACKS[random.nextInt(TECH_STACKS.length)],
+            switch (difficulty) {
+              case "EASY" -> 30;
+              case "MEDIUM" -> 60;
+              default -> 90;
+            }, 100, created, created);
+      }
+    }
+    try (RowSink testCaseSink = RowSink.open(connection, "test_case", List.of("id", "problem_id",
+        "input_description", "expected_output", "weight_percentage", "is_hidden",
+        "timeout_seconds", "created_at"), batchSize)) {
+      for (int problemId = 1; problemId <= problems; problemId++) {
+        int count = 5 + random.nextInt(8);
+        int remaining = 100;
+        for (int i = 0; i < count; i++) {
+          int weight = i == count - 1 ? remaining : Math.max(1, remaining / (count - i));
+          remaining -= weight;
+          testCaseSink.add(testCaseId++, (long) problemId, "case " + (i + 1) + ": n=" + (1 << i),
+              Integer.toString(random.nextInt(1_000_000)), weight, i >= count - 2,
+              1 + random.nextInt(5), anchor.minusDays(days));
+        }
+      }
+    }
+  }
+
+  private void generateCandidates(Connection connection) throws SQLException {
+    candidateStack = new String[candidates + 1];
+    try (RowSink sink = RowSink.open(connection, "candidate", List.of("id", "email",
+        "first_name", "last_name", "tech_stack", "created_at", "updated_at"), batchSize)) {
+      for (int id = 1; id <= candidates; id++) {
+        String stack = random.nextInt(10) < 6 ? "JAVA" : "TYPESCRIPT";
+        candidateStack[id] = stack;
+        LocalDateTime created = anchor.minusDays(random.nextInt(days + 30));
+        sink.add((long) id, "candidate-" + id + "@example.com", "Candidate", "No. " + id, stack,
+            created, created);
+      }
+    }
+  }
+
+  private void generateSubmissions(Connection connection) throws SQLException {
+    long evaluationId = 1;
+    List<Object[]> submissionRows = new ArrayList<>(CHUNK);
+    List<Object[]> evaluationRows = new ArrayList<>(CHUNK);
+    for (long id = 1; id <= submissions; id++) {
+      int candidateId = skewed(candidates, 2.0);
+      int problemId = skewed(problems, 3.0);
+      LocalDateTime submittedAt = submittedAt();
+      String language = "JAVA".equals(candidateStack[candidateId]) ? "JAVA" : "TYPESCRIPT";
+      Duration age = Duration.between(submittedAt, anchor);
+      String compilation = age.toMinutes() < 60 ? "PENDING"
+          : random.nextInt(100) < 85 ? "SUCCESS" : "FAILED";
+      submissionRows.add(new Object[] {id, (long) candidateId, (long) problemId, code(language),
+          language, submittedAt, compilation,
+          "FAILED".equals(compilation) ? "error: ';' expected" : null, submittedAt, submittedAt});
+      if (!"PENDING".equals(compilation)) {
+        evaluationRows.add(evaluation(evaluationId++, id, problemId, compilation, submittedAt,
+            age));
+      }
+      if (submissionRows.size() == CHUNK || id == submissions) {
+        flush(connection, submissionRows, evaluationRows);
+      }
+    }
+  }
+
+  private Object[] evaluation(long id, long submissionId, int problemId, String compilation,
+      LocalDateTime submittedAt, Duration age) {
+    int roll = random.nextInt(100);
+    String status = age.toDays() > 7
+        ? (roll < 97 ? "COMPLETED" : "IN_REVIEW")
+        : (roll < 60 ? "COMPLETED" : roll < 85 ? "IN_REVIEW" : "PENDING");
+    int totalTests = 5 + random.nextInt(8);
+    int mean = switch (problemDifficulty[problemId]) {
+      case "EASY" -> 80;
+      case "MEDIUM" -> 65;
+      default -> 50;
+    };
+    int execution = "FAILED".equals(compilation) ? 0 : clampScore(mean + gaussian(20));
+    int quality = clampScore(65 + gaussian(15));
+    boolean reviewed = "COMPLETED".equals(status);
+    LocalDateTime evaluatedAt = null;
+    if (reviewed) {
+      long delayMinutes = 5 + (long) (-Math.log(1 - random.nextDouble()) * 120);
+      evaluatedAt = submittedAt.plusMinutes(delayMinutes);
+      if (evaluatedAt.isAfter(anchor)) {
+        evaluatedAt = anchor;
+      }
+    }
+    Long interviewerId =
+        "PENDING".equals(status) ? null : (long) (1 + random.nextInt(interviewers));
+    return new Object[] {id, submissionId, interviewerId,
+        Math.round(execution / 100f * totalTests), totalTests, execution,
+        reviewed ? quality : 0, reviewed ? Math.round(0.6f * execution + 0.4f * quality) : 0,
+        reviewed ? FEEDBACK[random.nextInt(FEEDBACK.length)] : null, status, evaluatedAt,
+        submittedAt, evaluatedAt == null ? submittedAt : evaluatedAt};
+  }
+
+  private void flush(Connection connection, List<Object[]> submissionRows,
+      List<Object[]> evaluationRows) throws SQLException {
+    try (RowSink sink = RowSink.open(connection, "submission", List.of("id", "candidate_id",
+        "problem_id", "code_content", "language", "submitted_at", "compilation_status",
+        "compilation_error", "created_at", "updated_at"), batchSize)) {
+      for (Object[] row : submissionRows) {
+        sink.add(row);
+      }
+    }
+    try (RowSink sink = RowSink.open(connection, "evaluation", List.of("id", "submission_id",
+        "interviewer_id", "test_pass_count", "total_test_cases", "execution_score",
+        "code_quality_score", "overall_score", "feedback", "status", "evaluated_at", "created_at",
+        "updated_at"), batchSize)) {
+      for (Object[] row : evaluationRows) {
+        sink.add(row);
+      }
+    }
+    submissionRows.clear();
+    evaluationRows.clear();
+  }
+
+  private void finish(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      // Submission IDs come from a pooled sequence (allocation size 50) whose optimizer hands
+      // out the block below the value it reads, so restart a full block past the loaded rows.
+      statement.execute("alter sequence submission_id_seq restart with " + (submissions + 50));
+      if (connection.isWrapperFor(PGConnection.class)) {
+        statement.execute("analyze");
+      }
+    }
+  }
+
+  private static void truncate(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      if (connection.isWrapperFor(PGConnection.class)) {
+        statement.execute("truncate table " + String.join(", ", TABLES));
+      } else {
+        for (String table : TABLES) {
+          statement.execute("delete from " + table);
+        }
+      }
+    }
+  }
+
+  /**
+   * Pick an ID in {@code [1, n]} with a power-law skew towards low IDs; larger exponents skew
+   * harder.
+   */
+  private int skewed(int n, double exponent) {
+    return 1 + (int) (n * Math.pow(random.nextDouble(), exponent));
+  }
+
+  /**
+   * A submission time within the window, denser towards the anchor and in working hours.
+   */
+  private LocalDateTime submittedAt() {
+    int daysAgo = (int) (days * (1 - Math.sqrt(random.nextDouble())));
+    int pick = random.nextInt(hourWeightTotal);
+    int hour = 0;
+    while (pick >= HOUR_WEIGHTS[hour]) {
+      pick -= HOUR_WEIGHTS[hour++];
+    }
+    LocalDateTime at = anchor.toLocalDate().minusDays(daysAgo).atTime(hour, random.nextInt(60),
+        random.nextInt(60));
+    return at.isAfter(anchor) ? anchor.minusMinutes(random.nextInt(24 * 60)) : at;
+  }
+
+  private String code(String language) {
+    int methods = 1 + random.nextInt(6);
+    StringBuilder code = new StringBuilder("JAVA".equals(language)
+        ? "class Solution {\n" : "export class Solution {\n");
+    for (int i = 0; i < methods; i++) {
+      String name = TOPICS[random.nextInt(TOPICS.length)].replace(' ', '_') + i;
+      code.append("  ").append("JAVA".equals(language) ? "int " : "")
+          .append(name).append("(").append("JAVA".equals(language) ? "int n" : "n: number")
+          .append(") {\n    return n * ").append(random.nextInt(100)).append(";\n  }\n");
+    }
+    return code.append("}\n").toString();
+  }
+
+  private int gaussian(int stddev) {
+    double u1 = 1 - random.nextDouble();
+    double u2 = random.nextDouble();
+    return (int) Math.round(Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2) * stddev);
+  }
+
+  private static int clampScore(int score) {
+    return Math.max(0, Math.min(100, score));
+  }
+
+  private static void timed(String table, long rows, SqlStep step) throws SQLException {
+    long started = System.nanoTime();
+    step.run();
+    double seconds = Math.max(1e-9, (System.nanoTime() - started) / 1e9);
+    System.out.printf(Locale.ROOT, "%-24s %,12d rows  %8.1f s  %,12.0f rows/s%n", table, rows,
+        seconds, rows / seconds);
+  }
+
+  @FunctionalInterface
+  private interface SqlStep {
+    void run() throws SQLException;
+  }
+}
@@ -0,0 +1,319 @@
+package com.interviewsystem.benchmark.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Replays a weighted mix of read and write requests against a running instance and reports
+ * throughput and latency percentiles per operation.
+ *
+ * <p>Intended for a database populated by {@link DataGenerator}: candidate and problem IDs are
+ * drawn from the same skewed distributions. With {@code --rate} unset each worker sends requests
+ * back to back (closed model). With a target rate, requests are scheduled at fixed intervals and
+ * latency is measured from the scheduled start, so a stalled server is not hidden by the driver
+ * waiting for it (no coordinated omission). Requests started during {@code --warmup} are not
+ * recorded.
+ *
+ * <pre>
+ * --base-url=http://localhost:8080 --duration=60s --warmup=10s --concurrency=16 --rate=0
+ * --seed=42 --candidates=10000 --problems=1000 --submit-batch=5
+ * --mix=dossier:30,leaderboard:20,search:20,recommendations:10,activity:5,submit:15
+ * --report=target/load-report.json
+ * </pre>
+ */
+public final class LoadDriver {
+
+  enum Operation {
+    DOSSIER, LEADERBOARD, SEARCH, RECOMMENDATIONS, ACTIVITY, SUBMIT
+  }
+
+  private static final long MAX_LATENCY_MICROS = Duration.ofMinutes(5).toNanos() / 1000;
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final HttpClient client = HttpClient.newBuilder()
+      .connectTimeout(Duration.ofSeconds(5))
+      .build();
+
+  private final String baseUrl;
+
+  private final Duration duration;
+
+  private final Duration warmup;
+
+  private final int concurrency;
+
+  private final double rate;
+
+  private final long seed;
+
+  private final int candidates;
+
+  private final int problems;
+
+  private final int submitBatch;
+
+  private final Map<Operation, Integer> mix;
+
+  private final int mixTotal;
+
+  private LoadDriver(CommandLine args) {
+    this.baseUrl = args.get("base-url", "http://localhost:8080");
+    this.duration = args.getDuration("duration", Duration.ofSeconds(60));
+    this.warmup = args.getDuration("warmup", Duration.ofSeconds(10));
+    this.concurrency = args.getInt("concurrency", 16);
+    this.rate = Double.parseDouble(args.get("rate", "0"));
+    this.seed = args.getLong("seed", 42);
+    this.candidates = args.getInt("candidates", 10_000);
+    this.problems = args.getInt("problems", 1_000);
+    this.submitBatch = args.getInt("submit-batch", 5);
+    this.mix = parseMix(args.get("mix",
+        "dossier:30,leaderboard:20,search:20,recommendations:10,activity:5,submit:15"));
+    this.mixTotal = mix.values().stream().mapToInt(Integer::intValue).sum();
+  }
+
+  public static void main(String[] argv) throws Exception {
+    CommandLine args = new CommandLine(argv);
+    Map<String, Object> report = new LoadDriver(args).run();
+    Path path = Path.of(args.get("report", "target/load-report.json"));
+    if (path.getParent() != null) {
+      Files.createDirectories(path.getParent());
+    }
+    MAPPER.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), report);
+    System.out.println("Report written to " + path.toAbsolutePath());
+  }
+
+  Map<String, Object> run() throws Exception {
+    long start = System.nanoTime() + Duration.ofMillis(100).toNanos();
+    long measureFrom = start + warmup.toNanos();
+    long end = measureFrom + duration.toNanos();
+    ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+    List<Future<Worker>> futures = new ArrayList<>();
+    for (int i = 0; i < concurrency; i++) {
+      Worker worker = new Worker(new SplittableRandom(seed + i), start, measureFrom, end);
+      futures.add(executor.submit(() -> {
+        worker.run();
+        return worker;
+      }));
+    }
+    Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    Map<Operation, long[]> errors = new EnumMap<>(Operation.class);
+    for (Future<Worker> future : futures) {
+      Worker worker = future.get();
+      worker.latencies.forEach((operation, histogram) ->
+          latencies.computeIfAbsent(operation, o -> newHistogram()).add(histogram));
+      worker.errors.forEach((operation, count) ->
+          errors.computeIfAbsent(operation, o -> new long[1])[0] += count[0]);
+    }
+    executor.shutdown();
+    return report(latencies, errors);
+  }
+
+  private Map<String, Object> report(Map<Operation, Histogram> latencies,
+      Map<Operation, long[]> errors) {
+    double seconds = duration.toNanos() / 1e9;
+    Map<String, Object> operations = new LinkedHashMap<>();
+    Histogram total = newHistogram();
+    long totalErrors = 0;
+    System.out.printf(Locale.ROOT, "%-16s %9s %7s %9s %9s %9s %9s %9s %9s%n", "operation",
+        "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    for (Operation operation : Operation.values()) {
+      Histogram histogram = latencies.get(operation);
+      if (histogram == null) {
+        continue;
+      }
+      long errorCount = errors.getOrDefault(operation, new long[1])[0];
+      operations.put(operation.name().toLowerCase(Locale.ROOT),
+          summarize(operation.name().toLowerCase(Locale.ROOT), histogram, errorCount, seconds));
+      total.add(histogram);
+      totalErrors += errorCount;
+    }
+    Map<String, Object> config = new LinkedHashMap<>();
+    config.put("baseUrl", baseUrl);
+    config.put("durationSeconds", duration.toSeconds());
+    config.put("warmupSeconds", warmup.toSeconds());
+    config.put("concurrency", concurrency);
+    config.put("targetRate", rate);
+    config.put("seed", seed);
+    config.put("mix", mix);
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("config", config);
+    report.put("operations", operations);
+    report.put("total", summarize("total", total, totalErrors, seconds));
+    return report;
+  }
+
+  private static Map<String, Object> summarize(String name, Histogram histogram, long errors,
+      double seconds) {
+    Map<String, Object> summary = new LinkedHashMap<>();
+    summary.put("requests", histogram.getTotalCount());
+    summary.put("errors", errors);
+    summary.put("throughput", histogram.getTotalCount() / seconds);
+    summary.put("p50Ms", millis(histogram, 50));
+    summary.put("p90Ms", millis(histogram, 90));
+    summary.put("p99Ms", millis(histogram, 99));
+    summary.put("p999Ms", millis(histogram, 99.9));
+    summary.put("maxMs", histogram.getMaxValue() / 1000.0);
+    System.out.printf(Locale.ROOT, "%-16s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", name,
+        histogram.getTotalCount(), errors, histogram.getTotalCount() / seconds,
+        millis(histogram, 50), millis(histogram, 90), millis(histogram, 99),
+        millis(histogram, 99.9), histogram.getMaxValue() / 1000.0);
+    return summary;
+  }
+
+  private static double millis(Histogram histogram, double percentile) {
+    return histogram.getValueAtPercentile(percentile) / 1000.0;
+  }
+
+  private static Histogram newHistogram() {
+    return new Histogram(MAX_LATENCY_MICROS, 3);
+  }
+
+  private static Map<Operation, Integer> parseMix(String spec) {
+    Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+    for (String entry : spec.split(",")) {
+      String[] parts = entry.split(":");
+      weights.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)),
+          Integer.parseInt(parts[1].trim()));
+    }
+    return weights;
+  }
+
+  private final class Worker implements Runnable {
+
+    private final SplittableRandom random;
+
+    private final long start;
+
+    private final long measureFrom;
+
+    private final long end;
+
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+
+    private final Map<Operation, long[]> errors = new EnumMap<>(Operation.class);
+
+    private long sent;
+
+    Worker(SplittableRandom random, long start, long measureFrom, long end) {
+      this.random = random;
+      this.start = start;
+      this.measureFrom = measureFrom;
+      this.end = end;
+    }
+
+    @Override
+    public void run() {
+      long interval = rate > 0 ? (long) (concurrency * 1e9 / rate) : 0;
+      // Stagger workers across one interval so that an open-model run does not start in bursts.
+      long next = start + (interval > 0 ? random.nextLong(interval) : 0);
+      while (true) {
+        long intended = interval > 0 ? next : Math.max(System.nanoTime(), start);
+        if (intended >= end) {
+          return;
+        }
+        long wait = intended - System.nanoTime();
+        if (wait > 0) {
+          LockSupport.parkNanos(wait);
+        }
+        Operation operation = pick();
+        boolean ok = send(operation);
+        long latency = System.nanoTime() - intended;
+        if (intended >= measureFrom) {
+          latencies.computeIfAbsent(operation, o -> newHistogram())
+              .recordValue(Math.min(MAX_LATENCY_MICROS, latency / 1000));
+          if (!ok) {
+            errors.computeIfAbsent(operation, o -> new long[1])[0]++;
+          }
+        }
+        next += interval;
+      }
+    }
+
+    private Operation pick() {
+      int roll = random.nextInt(mixTotal);
+      for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+        roll -= entry.getValue();
+        if (roll < 0) {
+          return entry.getKey();
+        }
+      }
+      throw new IllegalStateException("Empty operation mix");
+    }
+
+    private boolean send(Operation operation) {
+      try {
+        HttpResponse<Void> response = client.send(request(operation),
+            HttpResponse.BodyHandlers.discarding());
+        return response.statusCode() < 400;
+      } catch (IOException e) {
+        return false;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+
+    private HttpRequest request(Operation operation) throws IOException {
+      int candidateId = 1 + (int) (candidates * Math.pow(random.nextDouble(), 2.0));
+      int problemId = 1 + (int) (problems * Math.pow(random.nextDouble(), 3.0));
+      return switch (operation) {
+        case DOSSIER -> get("/api/candidates/" + candidateId + "/dossier");
+        case LEADERBOARD -> get("/api/problems/" + problemId + "/leaderboard?limit=10");
+        case SEARCH -> get("/api/problems/search?q=" + URLEncoder.encode(
+            DataGenerator.TOPICS[random.nextInt(DataGenerator.TOPICS.length)],
+            StandardCharsets.UTF_8));
+        case RECOMMENDATIONS -> get("/api/candidates/" + candidateId + "/recommendations");
+        case ACTIVITY -> get("/api/activity/submissions?granularity=HOUR&problemId=" + problemId);
+        case SUBMIT -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/submissions/batch"))
+            .timeout(Duration.ofSeconds(30))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(submitBody(candidateId)))
+            .build();
+      };
+    }
+
+    private HttpRequest get(String path) {
+      return HttpRequest.newBuilder(URI.create(baseUrl + path))
+          .timeout(Duration.ofSeconds(30))
+          .GET()
+          .build();
+    }
+
+    private String submitBody(int candidateId) throws IOException {
+      List<Map<String, Object>> items = new ArrayList<>();
+      for (int i = 0; i < submitBatch; i++) {
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("idempotencyKey", "load-" + seed + "-" + random.nextLong());
+        item.put("candidateId", candidateId);
+        item.put("problemId", 1 + (int) (problems * Math.pow(random.nextDouble(), 3.0)));
+        item.put("codeContent", "class Solution { int solve(int n) { return n * " + sent++
+            + "; } }");
+        item.put("language", "JAVA");
+        items.add(item);
+      }
+      return MAPPER.writeValueAsString(Map.of("submissions", items));
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package com.interviewsystem.benchmark.load;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import org.postgresql.PGConnection;
+
+/**
+ * Bulk row writer for one table.
+ *
+ * <p>{@link #open} picks the fastest path the connection supports: PostgreSQL {@code COPY FROM
+ * STDIN}, otherwise batched prepared inserts.
+ */
+interface RowSink extends AutoCloseable {
+
+  /**
+   * Append one row; values must be in the column order the sink was opened with.
+   */
+  void add(Object... values) throws SQLException;
+
+  /**
+   * Flush buffered rows and finish the load.
+   */
+  @Override
+  void close() throws SQLException;
+
+  static RowSink open(Connection connection, String table, List<String> columns, int batchSize)
+      throws SQLException {
+    if (connection.isWrapperFor(PGConnection.class)) {
+      return new CopyRowSink(connection.unwrap(PGConnection.class).getCopyAPI(), table, columns);
+    }
+    return new BatchRowSink(connection, table, columns, batchSize);
+  }
+}
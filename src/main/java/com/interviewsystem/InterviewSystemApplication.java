@@ -1,7 +1,10 @@
 package com.interviewsystem;
 
+import com.interviewsystem.config.WorkerRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 /**
  * Main application class for Tech Interview System.
@@ -10,6 +13,8 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * candidates.
  */
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@ImportRuntimeHints(WorkerRuntimeHints.class)
 public class InterviewSystemApplication {
 
   public static void main(String[] args) {
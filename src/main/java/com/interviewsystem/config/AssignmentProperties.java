@@ -0,0 +1,44 @@
+package com.interviewsystem.config;
+
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for automatic interviewer assignment of pending evaluations.
+ */
+@Data
+@ConfigurationProperties(prefix = "interview.assignment")
+public class AssignmentProperties {
+
+  /**
+   * Whether the scheduled assignment run is enabled.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Maximum number of evaluations claimed per assignment batch.
+   */
+  private int batchSize = 200;
+
+  /**
+   * Maximum number of open (non-completed) evaluations per interviewer.
+   */
+  private int maxOpenPerInterviewer = 10;
+
+  /**
+   * Whether an evaluation may go to an interviewer without matching expertise when every
+   * interviewer who has it is at capacity. Off by default: such evaluations wait instead.
+   */
+  private boolean fallbackToAnyInterviewer = false;
+
+  /**
+   * Delay between scheduled assignment runs, in milliseconds.
+   */
+  private long intervalMs = 5000;
+
+  /**
+   * Interviewer roles eligible for assignment.
+   */
+  private List<String> roles = List.of("INTERVIEWER", "SENIOR_ENGINEER");
+}
@@ -0,0 +1,37 @@
+package com.interviewsystem.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for delta-encoded attempt storage and attempt diffs.
+ */
+@Data
+@ConfigurationProperties(prefix = "interview.attempts")
+public class AttemptProperties {
+
+  /**
+   * Whether ingested submissions are stored as a delta against a shared base source.
+   */
+  private boolean deltaEncoding = true;
+
+  /**
+   * Largest delta, as a fraction of the source size, stored before the source becomes a new base.
+   */
+  private double maxDeltaRatio = 0.5;
+
+  /**
+   * Maximum number of attempts encoded against one base before re-basing.
+   */
+  private int rebaseEvery = 16;
+
+  /**
+   * Largest number of changed lines a diff searches for before treating the texts as replaced.
+   */
+  private int maxDiffEdits = 2000;
+
+  /**
+   * Unchanged lines shown around each change in attempt diffs.
+   */
+  private int diffContext = 3;
+}
@@ -0,0 +1,40 @@
+package com.interviewsystem.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for bulk candidate imports from CSV and ATS exports.
+ */
+@Data
+@ConfigurationProperties(prefix = "interview.candidate-import")
+public class CandidateImportProperties {
+
+  /**
+   * Number of rows parsed, validated in parallel and committed together.
+   */
+  private int chunkSize = 5000;
+
+  /**
+   * Number of upserts sent to the database in one JDBC batch.
+   */
+  private int batchSize = 1000;
+
+  /**
+   * Directory the per-row error reports of imports are written to.
+   */
+  private Path reportDirectory =
+      Path.of(System.getProperty("java.io.tmpdir"), "interview-candidate-imports");
+
+  /**
+   * How long an error report stays available for download.
+   */
+  private Duration reportRetention = Duration.ofDays(7);
+
+  /**
+   * How often expired error reports are deleted.
+   */
+  private long cleanupIntervalMs = 3_600_000;
+}
@@ -0,0 +1,25 @@
+package com.interviewsystem.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Registers CBOR ({@code application/cbor}) as an alternative to JSON for every endpoint.
+ *
+ * <p>The CBOR mapper is built from the same customized builder as the JSON mapper, so both formats
+ * share the {@code spring.jackson.*} settings (date handling, unknown-property tolerance) and carry
+ * identical field names.
+ */
+@Configuration
+@ConditionalOnRole(DeploymentRole.API)
+public class CborConfig {
+
+  @Bean
+  public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+      Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+  }
+}
@@ -0,0 +1,23 @@
+package com.interviewsystem.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.context.annotation.Conditional;
+
+/**
+ * Loads the annotated bean only in processes whose {@link DeploymentRole} includes the given role.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Conditional(OnRoleCondition.class)
+public @interface ConditionalOnRole {
+
+  /**
+   * The role the bean belongs to.
+   */
+  DeploymentRole value();
+}
@@ -0,0 +1,29 @@
+package com.interviewsystem.config;
+
+/**
+ * What a process is deployed to do, set by {@code interview.role}.
+ *
+ * <p>API pods serve HTTP and keep the in-memory read models; worker pods drain the evaluation
+ * queue and run no web server. The two only share the database. {@link #ALL} runs both in one
+ * process, as in development and tests.
+ */
+public enum DeploymentRole {
+
+  API,
+
+  WORKER,
+
+  ALL;
+
+  static final String PROPERTY = "interview.role";
+
+  /**
+   * Whether a process in this role should load beans that belong to the given role.
+   *
+   * @param role the role the beans belong to
+   * @return {@code true} if this role is {@code role} or {@link #ALL}
+   */
+  public boolean includes(DeploymentRole role) {
+    return this == ALL || this == role;
+  }
+}
@@ -0,0 +1,45 @@
+package com.interviewsystem.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for per-request SQL diagnostics: statement counts, JDBC time and N+1 detection.
+ */
+@Data
+@ConfigurationProperties(prefix = "interview.diagnostics")
+public class DiagnosticsProperties {
+
+  /**
+   * Whether JDBC statements are recorded per request. Off unless turned on, as in the {@code dev}
+   * profile, since every statement is wrapped by the datasource proxy.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Whether SQL counts and timings are added to responses as {@code X-Sql-*} headers.
+   */
+  private boolean responseHeaders = false;
+
+  /**
+   * Statements slower than this are logged individually.
+   */
+  private Duration slowQueryThreshold = Duration.ofMillis(200);
+
+  /**
+   * Executions of the same statement shape in one request at which it is flagged as a probable
+   * N+1.
+   */
+  private int repeatedStatementThreshold = 5;
+
+  /**
+   * Number of slowest statement shapes kept in each request report.
+   */
+  private int slowestStatements = 5;
+
+  /**
+   * Number of recent request reports kept for the {@code sqlstats} Actuator endpoint.
+   */
+  private int recentRequests = 50;
+}
@@ -0,0 +1,28 @@
+package com.interviewsystem.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for candidate dossier caching.
+ */
+@Data
+@ConfigurationProperties(prefix = "interview.dossier")
+public class DossierProperties {
+
+  /**
+   * How long an assembled dossier is served from the cache.
+   */
+  private Duration cacheTtl = Duration.ofSeconds(30);
+
+  /**
+   * Maximum number of cached dossiers.
+   */
+  private int cacheMaxEntries = 1000;
+
+  /**
+   * Maximum length of the interviewer feedback summary.
+   */
+  private int feedbackSummaryLength = 280;
+}
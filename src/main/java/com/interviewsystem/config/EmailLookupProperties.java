@@ -0,0 +1,52 @@
+package com.interviewsystem.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the Bloom filter and cache in front of candidate and interviewer email
+ * lookups.
+ */
+@Data
+@ConfigurationProperties(prefix = "interview.email-lookup")
+public class EmailLookupProperties {
+
+  /**
+   * Whether lookups go through the filter and cache; when disabled every lookup hits the database.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Number of emails each filter is sized for when it holds fewer; a rebuild sizes it for twice
+   * the current count otherwise.
+   */
+  private int expectedEmails = 100_000;
+
+  /**
+   * Target false positive rate of each filter at its planned size.
+   */
+  private double falsePositiveRate = 0.01;
+
+  /**
+   * Maximum number of cached email-to-ID entries per directory, least recently used evicted first.
+   */
+  private int cacheMaxEntries = 10_000;
+
+  /**
+   * Maximum number of emails bound into one {@code IN} list when resolving in bulk.
+   */
+  private int batchSize = 1000;
+
+  /**
+   * How often to check whether a filter has outgrown its planned size or collected enough deleted
+   * emails to be rebuilt.
+   */
+  private long rebuildCheckIntervalMs = 60_000;
+
+  /**
+   * Maximum age of a filter before it is rebuilt from a full scan. Bounds how long an email
+   * written by hand in SQL, without a change event, can be missed.
+   */
+  private Duration rebuildInterval = Duration.ofMinutes(30);
+}
@@ -0,0 +1,35 @@
+package com.interviewsystem.config;
+
+import java.nio.file.Path;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration for the content-addressed store holding large test case inputs and outputs.
+ */
+@Data
+@ConfigurationProperties(prefix = "interview.fixtures")
+public class FixtureProperties {
+
+  /**
+   * Shared directory fixtures are stored in, typically a network volume mounted on every node.
+   */
+  private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "interview-fixtures");
+
+  /**
+   * Node-local directory fixtures are copied to before use. Unset to read the shared directory
+   * directly.
+   */
+  private Path cacheDirectory;
+
+  /**
+   * Size at which least recently used fixtures are evicted from the local cache.
+   */
+  private DataSize cacheMaxSize = DataSize.ofGigabytes(10);
+
+  /**
+   * Largest accepted fixture; fixtures are memory-mapped as a single buffer.
+   */
+  private DataSize maxFixtureSize = DataSize.ofMegabytes(512);
+}
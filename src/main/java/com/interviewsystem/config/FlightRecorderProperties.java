@@ -0,0 +1,51 @@
+package com.interviewsystem.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration for the always-on Java Flight Recorder ring buffer and its on-demand dumps.
+ */
+@Data
+@ConfigurationProperties(prefix = "interview.jfr")
+public class FlightRecorderProperties {
+
+  /**
+   * Whether the continuous recording runs.
+   */
+  private boolean enabled = true;
+
+  /**
+   * JFR settings to record with: {@code default} (about 1% overhead) or {@code profile}.
+   */
+  private String settings = "default";
+
+  /**
+   * How far back the ring buffer reaches.
+   */
+  private Duration maxAge = Duration.ofMinutes(30);
+
+  /**
+   * Upper bound on the ring buffer's size on disk.
+   */
+  private DataSize maxSize = DataSize.ofMegabytes(250);
+
+  /**
+   * Directory dumps are written to.
+   */
+  private Path dumpDirectory = Path.of(System.getProperty("java.io.tmpdir"), "interview-jfr");
+
+  /**
+   * How many dumps are kept in the dump directory; older ones are deleted after each dump.
+   */
+  private int maxDumps = 5;
+
+  /**
+   * Dumps requested sooner than this after the previous one return that dump instead of
+   * writing another.
+   */
+  private Duration minDumpInterval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,36 @@
+package com.interviewsystem.config;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Keeps beans that do background work eager when {@code spring.main.lazy-initialization} is on.
+ *
+ * <p>A lazy bean's {@code @Scheduled} methods are never registered and its event listeners only
+ * start receiving events once something else creates it, so any bean declaring either is excluded.
+ * Everything else (controllers, request-path services, export and search helpers) is created on
+ * first use.
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+  @Bean
+  static LazyInitializationExcludeFilter backgroundWorkExcludeFilter() {
+    return (beanName, beanDefinition, beanType) -> hasBackgroundWork(beanType);
+  }
+
+  static boolean hasBackgroundWork(Class<?> beanType) {
+    AtomicBoolean found = new AtomicBoolean();
+    ReflectionUtils.doWithMethods(beanType, method -> found.set(true),
+        method -> !found.get()
+            && (AnnotatedElementUtils.hasAnnotation(method, Scheduled.class)
+                || AnnotatedElementUtils.hasAnnotation(method, EventListener.class)));
+    return found.get();
+  }
+}
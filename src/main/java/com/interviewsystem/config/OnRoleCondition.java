@@ -0,0 +1,27 @@
+package com.interviewsystem.config;
+
+import java.util.Map;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * Matches {@link ConditionalOnRole} against the configured {@code interview.role}.
+ */
+class OnRoleCondition implements Condition {
+
+  @Override
+  public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+    Map<String, Object> attributes =
+        metadata.getAnnotationAttributes(ConditionalOnRole.class.getName());
+    DeploymentRole required = (DeploymentRole) attributes.get("value");
+    return configuredRole(context).includes(required);
+  }
+
+  static DeploymentRole configuredRole(ConditionContext context) {
+    return Binder.get(context.getEnvironment())
+        .bind(DeploymentRole.PROPERTY, DeploymentRole.class)
+        .orElse(DeploymentRole.ALL);
+  }
+}
@@ -0,0 +1,44 @@
+package com.interviewsystem.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the transactional outbox of submission and evaluation changes.
+ */
+@Data
+@ConfigurationProperties(prefix = "interview.outbox")
+public class OutboxProperties {
+
+  /**
+   * Whether submission and evaluation changes are recorded in the outbox.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Whether the scheduled relay run is enabled.
+   */
+  private boolean relayEnabled = true;
+
+  /**
+   * Delay between scheduled relay runs, in milliseconds.
+   */
+  private long intervalMs = 500;
+
+  /**
+   * Maximum number of events sequenced or delivered to one consumer per transaction.
+   */
+  private int batchSize = 500;
+
+  /**
+   * How long events every durable consumer has processed are kept before being deleted.
+   */
+  private Duration retention = Duration.ofDays(7);
+
+  /**
+   * File the local broker appends events to as JSON lines; the broker is off when unset.
+   */
+  private Path brokerFile;
+}
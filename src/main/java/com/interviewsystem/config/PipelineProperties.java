@@ -0,0 +1,110 @@
+package com.interviewsystem.config;
+
+import com.interviewsystem.service.evaluation.OutputComparison;
+import java.time.Duration;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the automated compile-and-test evaluation pipeline and its metrics.
+ */
+@Data
+@ConfigurationProperties(prefix = "interview.pipeline")
+public class PipelineProperties {
+
+  /**
+   * Whether the scheduled pipeline run is enabled.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Maximum number of pending submissions evaluated per pipeline run.
+   */
+  private int batchSize = 50;
+
+  /**
+   * Delay between scheduled pipeline runs, in milliseconds.
+   */
+  private long intervalMs = 2000;
+
+  /**
+   * How program output is compared with each test case's expected output.
+   */
+  private OutputComparison comparison = OutputComparison.TRIMMED;
+
+  /**
+   * Number of buckets problem IDs are hashed into for metric tags.
+   */
+  private int problemBuckets = 16;
+
+  /**
+   * Languages reported as their own metric tag value; anything else is tagged {@code other}.
+   */
+  private List<String> languages = List.of("java", "typescript", "javascript", "python");
+
+  /**
+   * Timing settings for problems graded on empirical complexity.
+   */
+  private Performance performance = new Performance();
+
+  /**
+   * How workers lease pending submissions, so that several can drain the queue together.
+   */
+  private Lease lease = new Lease();
+
+  /**
+   * How each performance input is timed and when a measurement is too noisy to grade.
+   */
+  @Data
+  public static class Performance {
+
+    /**
+     * Untimed runs per input before measuring, to warm up caches and JIT compilers.
+     */
+    private int warmupRuns = 2;
+
+    /**
+     * Timed runs per input; the median is used.
+     */
+    private int repetitions = 5;
+
+    /**
+     * Largest median absolute deviation, relative to the median, accepted for an input.
+     */
+    private double maxRelativeSpread = 0.25;
+
+    /**
+     * Times a noisy input is re-measured before the grade is reported as unstable.
+     */
+    private int maxAttempts = 3;
+  }
+
+  /**
+   * Lease timing and retry limits for submissions claimed by a worker.
+   */
+  @Data
+  public static class Lease {
+
+    /**
+     * Identifies this worker on its leases; defaults to the host name and process ID.
+     */
+    private String workerId;
+
+    /**
+     * How long a lease lasts without a heartbeat before another worker may take it over.
+     */
+    private Duration duration = Duration.ofSeconds(60);
+
+    /**
+     * Delay between heartbeats that extend the leases this worker holds, in milliseconds.
+     */
+    private long heartbeatIntervalMs = 15000;
+
+    /**
+     * Claims of one submission, including ones whose worker crashed or failed, before it is moved
+     * to {@code DEAD_LETTER}.
+     */
+    private int maxAttempts = 3;
+  }
+}
@@ -0,0 +1,86 @@
+package com.interviewsystem.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for per-candidate rate limits on submissions and API calls.
+ */
+@Data
+@ConfigurationProperties(prefix = "interview.rate-limit")
+public class RateLimitProperties {
+
+  /**
+   * Whether requests are rate limited.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Where bucket state is kept: {@code local} to this process, or in the shared {@code database}
+   * so that every API node enforces one limit per candidate.
+   */
+  private Store store = Store.LOCAL;
+
+  /**
+   * Default limit on submissions per candidate.
+   */
+  private Limit submissions = new Limit(10, Duration.ofSeconds(10));
+
+  /**
+   * Limit on API calls per authenticated user, or per client address for anonymous calls.
+   */
+  private Limit api = new Limit(120, Duration.ofMillis(100));
+
+  /**
+   * Submission limits overriding the default for candidates of a tech stack, e.g. {@code JAVA}.
+   */
+  private Map<String, Limit> techStacks = new HashMap<>();
+
+  /**
+   * Delay between sweeps that drop the state of buckets which have refilled, in milliseconds.
+   */
+  private long evictionIntervalMs = 60000;
+
+  /**
+   * Return the submission limit for a candidate's tech stack.
+   *
+   * @param techStack the candidate's tech stack, may be {@code null}
+   * @return the tech stack's limit, or the default
+   */
+  public Limit submissionLimit(String techStack) {
+    Limit limit = techStack == null ? null : techStacks.get(techStack);
+    return limit != null ? limit : submissions;
+  }
+
+  /**
+   * Where rate limit state is kept.
+   */
+  public enum Store {
+    LOCAL, DATABASE
+  }
+
+  /**
+   * A token bucket: up to {@code capacity} requests at once, regaining one every
+   * {@code refillInterval}.
+   */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Limit {
+
+    /**
+     * Burst size: requests allowed at once by a full bucket.
+     */
+    private int capacity;
+
+    /**
+     * Time to regain one request.
+     */
+    private Duration refillInterval;
+  }
+}
@@ -0,0 +1,38 @@
+package com.interviewsystem.config;
+
+import java.util.Map;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * Turns off the embedded web server in {@link DeploymentRole#WORKER} processes, unless
+ * {@code spring.main.web-application-type} is set explicitly.
+ *
+ * <p>Runs after the config files are loaded so that {@code interview.role} can come from any of
+ * them, and before {@code spring.main.*} is bound to the application.
+ */
+public class RoleEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+  static final String WEB_APPLICATION_TYPE = "spring.main.web-application-type";
+
+  @Override
+  public void postProcessEnvironment(ConfigurableEnvironment environment,
+      SpringApplication application) {
+    DeploymentRole role = Binder.get(environment)
+        .bind(DeploymentRole.PROPERTY, DeploymentRole.class)
+        .orElse(DeploymentRole.ALL);
+    if (role == DeploymentRole.WORKER && !environment.containsProperty(WEB_APPLICATION_TYPE)) {
+      environment.getPropertySources().addLast(
+          new MapPropertySource("deploymentRole", Map.of(WEB_APPLICATION_TYPE, "none")));
+    }
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.LOWEST_PRECEDENCE;
+  }
+}
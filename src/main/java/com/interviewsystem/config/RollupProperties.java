@@ -0,0 +1,33 @@
+package com.interviewsystem.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the time-series rollups of submission and evaluation activity.
+ */
+@Data
+@ConfigurationProperties(prefix = "interview.rollup")
+public class RollupProperties {
+
+  /**
+   * How long activity is kept at minute resolution before being compacted into hours.
+   */
+  private Duration minuteRetention = Duration.ofHours(6);
+
+  /**
+   * How long activity is kept at hour resolution before being compacted into days.
+   */
+  private Duration hourRetention = Duration.ofDays(7);
+
+  /**
+   * How far back the rollups are rebuilt from the base tables at startup.
+   */
+  private Duration rebuildWindow = Duration.ofDays(90);
+
+  /**
+   * Delay between compaction runs, in milliseconds.
+   */
+  private long compactionIntervalMs = 60000;
+}
@@ -0,0 +1,12 @@
+package com.interviewsystem.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables Spring's {@code @Scheduled} support for background jobs.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,143 @@
+package com.interviewsystem.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import liquibase.integration.spring.SpringLiquibase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Skips Liquibase and Hibernate schema validation at startup when neither the changelog nor the
+ * entity mappings have changed since the last successful start.
+ *
+ * <p>The checksum is a SHA-256 over every changelog file and every compiled entity class. It is
+ * stored in the single-row {@code schema_checksum} table once Liquibase has run and Hibernate has
+ * validated the schema, so a start that fails validation is never recorded. If the table is missing
+ * or unreadable, or the checksum differs, startup takes the normal path.
+ *
+ * <p>Enabled by {@code interview.startup.skip-unchanged-schema=true}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "interview.startup", name = "skip-unchanged-schema",
+    havingValue = "true")
+public class SchemaChecksumGuard
+    implements BeanPostProcessor, HibernatePropertiesCustomizer, EnvironmentAware {
+
+  static final String[] CHECKSUM_RESOURCES = {
+      "classpath*:db/changelog/**/*.xml",
+      "classpath*:com/interviewsystem/entity/**/*.class"};
+
+  private volatile boolean liquibaseEnabled = true;
+
+  private volatile DataSource dataSource;
+
+  private volatile String checksum;
+
+  private volatile boolean unchanged;
+
+  @Override
+  public void setEnvironment(Environment environment) {
+    liquibaseEnabled = environment.getProperty("spring.liquibase.enabled", Boolean.class, true);
+  }
+
+  @Override
+  public Object postProcessBeforeInitialization(Object bean, String beanName) {
+    if (bean instanceof SpringLiquibase liquibase && liquibaseEnabled) {
+      dataSource = liquibase.getDataSource();
+      checksum = computeChecksum();
+      unchanged = checksum.equals(storedChecksum());
+      if (unchanged) {
+        log.info("Schema checksum unchanged, skipping Liquibase and schema validation");
+        liquibase.setShouldRun(false);
+      }
+    }
+    return bean;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (bean instanceof EntityManagerFactory && checksum != null && !unchanged) {
+      storeChecksum();
+    }
+    return bean;
+  }
+
+  @Override
+  public void customize(Map<String, Object> hibernateProperties) {
+    if (unchanged) {
+      hibernateProperties.put("hibernate.hbm2ddl.auto", "none");
+    }
+  }
+
+  /**
+   * Hash the changelog files and entity classes, in file-name order.
+   *
+   * @return the hex-encoded SHA-256 digest
+   */
+  static String computeChecksum() {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+      List<Resource> resources = new ArrayList<>();
+      for (String pattern : CHECKSUM_RESOURCES) {
+        resources.addAll(List.of(resolver.getResources(pattern)));
+      }
+      resources.sort(Comparator.comparing(Resource::getFilename));
+      for (Resource resource : resources) {
+        digest.update(resource.getFilename().getBytes());
+        try (InputStream in = resource.getInputStream()) {
+          digest.update(in.readAllBytes());
+        }
+      }
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not read schema resources", e);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private String storedChecksum() {
+    try {
+      List<String> stored = new JdbcTemplate(dataSource)
+          .queryForList("select checksum from schema_checksum where id = 1", String.class);
+      return stored.isEmpty() ? null : stored.get(0);
+    } catch (DataAccessException e) {
+      log.debug("No stored schema checksum", e);
+      return null;
+    }
+  }
+
+  private void storeChecksum() {
+    JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+    try {
+      int updated = jdbc.update("update schema_checksum set checksum = ?, "
+          + "updated_at = current_timestamp where id = 1", checksum);
+      if (updated == 0) {
+        jdbc.update("insert into schema_checksum (id, checksum) values (1, ?)", checksum);
+      }
+    } catch (DataAccessException e) {
+      log.warn("Could not store schema checksum; the next start will run Liquibase again", e);
+    }
+  }
+}
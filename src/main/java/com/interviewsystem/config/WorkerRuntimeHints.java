@@ -0,0 +1,53 @@
+package com.interviewsystem.config;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Native-image hints for the evaluation worker.
+ *
+ * <p>Spring's AOT processing covers beans, repositories and the persistence unit, but not
+ * everything Hibernate and Jackson reach reflectively. This registers full reflection on the JPA
+ * entities, the DTOs and their Lombok-generated builders, and the event types, plus the Liquibase
+ * changelogs as resources. Runs at build time, so classpath scanning is safe here.
+ */
+public class WorkerRuntimeHints implements RuntimeHintsRegistrar {
+
+  static final String[] REFLECTIVE_PACKAGES = {
+      "com.interviewsystem.entity",
+      "com.interviewsystem.dto",
+      "com.interviewsystem.event"};
+
+  private static final MemberCategory[] ALL_MEMBERS = {
+      MemberCategory.DECLARED_FIELDS,
+      MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+      MemberCategory.INVOKE_DECLARED_METHODS,
+      MemberCategory.INVOKE_PUBLIC_METHODS};
+
+  @Override
+  public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+    ClassPathScanningCandidateComponentProvider scanner =
+        new ClassPathScanningCandidateComponentProvider(false);
+    scanner.addIncludeFilter(new AssignableTypeFilter(Object.class));
+    for (String basePackage : REFLECTIVE_PACKAGES) {
+      for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+        Class<?> type = ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader);
+        register(hints, type);
+      }
+    }
+    hints.resources().registerPattern("db/changelog/*.xml");
+  }
+
+  private static void register(RuntimeHints hints, Class<?> type) {
+    hints.reflection().registerType(type, ALL_MEMBERS);
+    // Lombok @Builder classes and nested enums.
+    for (Class<?> nested : type.getDeclaredClasses()) {
+      register(hints, nested);
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.interviewsystem.controller;
+
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.dto.ActivityRollupResponse;
+import com.interviewsystem.exception.ResourceNotFoundException;
+import com.interviewsystem.service.rollup.ActivityMetric;
+import com.interviewsystem.service.rollup.ActivityRollupService;
+import com.interviewsystem.service.rollup.Granularity;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST endpoint for submission and evaluation activity over time.
+ */
+@RestController
+@ConditionalOnRole(DeploymentRole.API)
+@RequestMapping("/api/activity")
+public class ActivityController {
+
+  private final ActivityRollupService rollupService;
+
+  public ActivityController(ActivityRollupService rollupService) {
+    this.rollupService = rollupService;
+  }
+
+  /**
+   * Return activity counts over a window, answered from the rollups.
+   *
+   * @param metric {@code submissions} or {@code evaluations}
+   * @param from the inclusive start of the window (defaults to 24 hours before {@code to})
+   * @param to the exclusive end of the window (defaults to now)
+   * @param granularity MINUTE, HOUR or DAY bucket width of the series
+   * @param problemId optional problem filter
+   * @param language optional language filter
+   * @param compilationStatus optional compilation status filter
+   * @return the totals and per-bucket series for the window
+   */
+  @GetMapping("/{metric}")
+  public ActivityRollupResponse getActivity(
+      @PathVariable String metric,
+      @RequestParam(required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+      @RequestParam(required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+      @RequestParam(defaultValue = "HOUR") Granularity granularity,
+      @RequestParam(required = false) Long problemId,
+      @RequestParam(required = false) String language,
+      @RequestParam(required = false) String compilationStatus) {
+    LocalDateTime end = to != null ? to : LocalDateTime.now();
+    LocalDateTime start = from != null ? from : end.minusDays(1);
+    return rollupService.query(metricOf(metric), start, end.isBefore(start) ? start : end,
+        granularity, problemId, language, compilationStatus);
+  }
+
+  private static ActivityMetric metricOf(String metric) {
+    try {
+      return ActivityMetric.valueOf(metric.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new ResourceNotFoundException("Unknown activity metric: " + metric);
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package com.interviewsystem.controller;
+
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.dto.AssignmentResult;
+import com.interviewsystem.dto.InterviewerWorkloadView;
+import com.interviewsystem.service.assignment.InterviewerAssignmentService;
+import java.util.List;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST endpoints for interviewer assignment of pending evaluations.
+ */
+@RestController
+@ConditionalOnRole(DeploymentRole.API)
+@RequestMapping("/api/assignments")
+public class AssignmentController {
+
+  private final InterviewerAssignmentService assignmentService;
+
+  public AssignmentController(InterviewerAssignmentService assignmentService) {
+    this.assignmentService = assignmentService;
+  }
+
+  /**
+   * Run an assignment batch immediately instead of waiting for the schedule.
+   *
+   * @return counts of claimed, assigned and deferred evaluations
+   */
+  @PostMapping("/run")
+  public AssignmentResult runAssignment() {
+    return assignmentService.assignPending();
+  }
+
+  /**
+   * Return the current open load of every assignable interviewer, least loaded first.
+   *
+   * @return interviewer workloads
+   */
+  @GetMapping("/workloads")
+  public List<InterviewerWorkloadView> getWorkloads() {
+    return assignmentService.getWorkloads();
+  }
+}
@@ -0,0 +1,71 @@
+package com.interviewsystem.controller;
+
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.dto.AttemptSummary;
+import com.interviewsystem.dto.CandidateDossier;
+import com.interviewsystem.exception.ResourceNotFoundException;
+import com.interviewsystem.service.attempt.AttemptHistoryService;
+import com.interviewsystem.service.dossier.CandidateDossierService;
+import java.util.List;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST endpoints for candidate review dossiers and attempt histories.
+ */
+@RestController
+@ConditionalOnRole(DeploymentRole.API)
+@RequestMapping("/api/candidates")
+public class CandidateDossierController {
+
+  private final CandidateDossierService dossierService;
+
+  private final AttemptHistoryService attemptHistoryService;
+
+  public CandidateDossierController(CandidateDossierService dossierService,
+      AttemptHistoryService attemptHistoryService) {
+    this.dossierService = dossierService;
+    this.attemptHistoryService = attemptHistoryService;
+  }
+
+  /**
+   * Return a candidate's dossier.
+   *
+   * @param candidateId the ID of the candidate
+   * @return the candidate's profile, attempts, scores and feedback summaries
+   */
+  @GetMapping("/{candidateId}/dossier")
+  public CandidateDossier getDossier(@PathVariable Long candidateId) {
+    return dossierService.getDossier(candidateId)
+        .orElseThrow(() -> new ResourceNotFoundException("Candidate not found: " + candidateId));
+  }
+
+  /**
+   * Return the dossier of the candidate with the given email address.
+   *
+   * @param email the candidate's email address
+   * @return the candidate's profile, attempts, scores and feedback summaries
+   */
+  @GetMapping("/dossier")
+  public CandidateDossier getDossierByEmail(@RequestParam String email) {
+    return dossierService.getDossierByEmail(email)
+        .orElseThrow(() -> new ResourceNotFoundException("Candidate not found: " + email));
+  }
+
+  /**
+   * List a candidate's attempts at a problem, with the lines each one changed.
+   *
+   * @param candidateId the ID of the candidate
+   * @param problemId the ID of the problem
+   * @return the attempts, oldest first, without their sources
+   */
+  @GetMapping("/{candidateId}/problems/{problemId}/attempts")
+  public List<AttemptSummary> getAttemptHistory(@PathVariable Long candidateId,
+      @PathVariable Long problemId) {
+    return attemptHistoryService.getHistory(candidateId, problemId);
+  }
+}
@@ -0,0 +1,73 @@
+package com.interviewsystem.controller;
+
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.dto.CandidateImportResult;
+import com.interviewsystem.exception.ResourceNotFoundException;
+import com.interviewsystem.service.importer.CandidateImportService;
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Bulk candidate import endpoints for recruiting exports.
+ *
+ * <p>The CSV is sent as the raw request body and streamed into the importer, so exports of any
+ * size are never buffered whole. The response carries the import's counts and, when some rows
+ * were not imported, the path of their error report.
+ */
+@RestController
+@ConditionalOnRole(DeploymentRole.API)
+@RequestMapping("/api/candidates/import")
+public class CandidateImportController {
+
+  static final String TEXT_CSV_VALUE = "text/csv";
+
+  private final CandidateImportService importService;
+
+  public CandidateImportController(CandidateImportService importService) {
+    this.importService = importService;
+  }
+
+  /**
+   * Import candidates from a CSV body, upserting on email.
+   *
+   * @param body the CSV, with a header row
+   * @return the counts of the import
+   * @throws IOException if the body cannot be read
+   */
+  @PostMapping(consumes = {TEXT_CSV_VALUE, MediaType.TEXT_PLAIN_VALUE,
+      MediaType.APPLICATION_OCTET_STREAM_VALUE})
+  public CandidateImportResult importCandidates(InputStream body) throws IOException {
+    return importService.importCsv(body);
+  }
+
+  /**
+   * Download the rows of an import that were not imported, with the reasons.
+   *
+   * @param importId the ID of the import
+   * @return the error report as CSV
+   */
+  @GetMapping(value = "/{importId}/errors", produces = TEXT_CSV_VALUE)
+  public ResponseEntity<Resource> getErrorReport(@PathVariable String importId) {
+    return importService.findErrorReport(importId)
+        .map(file -> ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("candidate-import-" + importId + "-errors.csv")
+                .build()
+                .toString())
+            .<Resource>body(new FileSystemResource(file)))
+        .orElseThrow(() -> new ResourceNotFoundException(
+            "No error report for import: " + importId));
+  }
+}
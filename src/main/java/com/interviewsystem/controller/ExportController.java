@@ -0,0 +1,175 @@
+package com.interviewsystem.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.dto.EvaluationExport;
+import com.interviewsystem.dto.SubmissionExport;
+import com.interviewsystem.dto.TestCaseExport;
+import com.interviewsystem.service.export.BulkExportService;
+import com.interviewsystem.service.export.ExportSink;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Bulk export endpoints for grading workers and analytics jobs.
+ *
+ * <p>Each endpoint returns one keyset page as an array, streamed row by row in JSON or, when the
+ * client prefers {@code application/cbor}, in CBOR. Clients page by passing the last ID they
+ * received as {@code afterId}; a page shorter than {@code limit} is the last one. The
+ * {@value #SCHEMA_VERSION_HEADER} header carries the export schema version, which only changes
+ * when fields are added.
+ */
+@RestController
+@ConditionalOnRole(DeploymentRole.API)
+@ConditionalOnWebApplication
+@RequestMapping("/api/export")
+public class ExportController {
+
+  static final String SCHEMA_VERSION_HEADER = "X-Export-Schema-Version";
+
+  static final String SCHEMA_VERSION = "1";
+
+  private static final int MAX_LIMIT = 5000;
+
+  private static final List<MediaType> PRODUCIBLE =
+      List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR);
+
+  private final BulkExportService exportService;
+
+  private final ContentNegotiationManager contentNegotiationManager;
+
+  private final ObjectMapper jsonMapper;
+
+  private final ObjectMapper cborMapper;
+
+  public ExportController(BulkExportService exportService,
+      ContentNegotiationManager contentNegotiationManager, ObjectMapper jsonMapper,
+      MappingJackson2CborHttpMessageConverter cborConverter) {
+    this.exportService = exportService;
+    this.contentNegotiationManager = contentNegotiationManager;
+    this.jsonMapper = jsonMapper;
+    this.cborMapper = cborConverter.getObjectMapper();
+  }
+
+  /**
+   * Export a page of submissions, including their source code.
+   *
+   * @param afterId the ID of the last submission already received
+   * @param limit the maximum number of submissions to return (capped at 5000)
+   * @param request the current request, used for content negotiation
+   * @return the streamed page
+   * @throws HttpMediaTypeNotAcceptableException if neither JSON nor CBOR is acceptable
+   */
+  @GetMapping(value = "/submissions",
+      produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+  public ResponseEntity<StreamingResponseBody> exportSubmissions(
+      @RequestParam(defaultValue = "0") long afterId,
+      @RequestParam(defaultValue = "1000") int limit,
+      NativeWebRequest request) throws HttpMediaTypeNotAcceptableException {
+    return stream(request, SubmissionExport.class,
+        sink -> exportService.exportSubmissions(afterId, clamp(limit), sink));
+  }
+
+  /**
+   * Export a page of evaluations.
+   *
+   * @param afterId the ID of the last evaluation already received
+   * @param limit the maximum number of evaluations to return (capped at 5000)
+   * @param request the current request, used for content negotiation
+   * @return the streamed page
+   * @throws HttpMediaTypeNotAcceptableException if neither JSON nor CBOR is acceptable
+   */
+  @GetMapping(value = "/evaluations",
+      produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+  public ResponseEntity<StreamingResponseBody> exportEvaluations(
+      @RequestParam(defaultValue = "0") long afterId,
+      @RequestParam(defaultValue = "1000") int limit,
+      NativeWebRequest request) throws HttpMediaTypeNotAcceptableException {
+    return stream(request, EvaluationExport.class,
+        sink -> exportService.exportEvaluations(afterId, clamp(limit), sink));
+  }
+
+  /**
+   * Export a page of test cases.
+   *
+   * @param afterId the ID of the last test case already received
+   * @param limit the maximum number of test cases to return (capped at 5000)
+   * @param request the current request, used for content negotiation
+   * @return the streamed page
+   * @throws HttpMediaTypeNotAcceptableException if neither JSON nor CBOR is acceptable
+   */
+  @GetMapping(value = "/test-cases",
+      produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+  public ResponseEntity<StreamingResponseBody> exportTestCases(
+      @RequestParam(defaultValue = "0") long afterId,
+      @RequestParam(defaultValue = "1000") int limit,
+      NativeWebRequest request) throws HttpMediaTypeNotAcceptableException {
+    return stream(request, TestCaseExport.class,
+        sink -> exportService.exportTestCases(afterId, clamp(limit), sink));
+  }
+
+  private <T> ResponseEntity<StreamingResponseBody> stream(NativeWebRequest request,
+      Class<T> type, Export<T> export) throws HttpMediaTypeNotAcceptableException {
+    MediaType mediaType = negotiate(request);
+    ObjectMapper mapper = MediaType.APPLICATION_CBOR.equalsTypeAndSubtype(mediaType)
+        ? cborMapper : jsonMapper;
+    ObjectWriter writer = mapper.writerFor(type)
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    StreamingResponseBody body = out -> write(mapper, writer, out, export);
+    return ResponseEntity.ok()
+        .contentType(mediaType)
+        .header(SCHEMA_VERSION_HEADER, SCHEMA_VERSION)
+        .body(body);
+  }
+
+  private static <T> void write(ObjectMapper mapper, ObjectWriter writer, OutputStream out,
+      Export<T> export) throws IOException {
+    try (JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+      generator.writeStartArray();
+      export.run(row -> writer.writeValue(generator, row));
+      generator.writeEndArray();
+    }
+  }
+
+  private MediaType negotiate(NativeWebRequest request)
+      throws HttpMediaTypeNotAcceptableException {
+    for (MediaType accepted : contentNegotiationManager.resolveMediaTypes(request)) {
+      for (MediaType producible : PRODUCIBLE) {
+        if (accepted.isCompatibleWith(producible)) {
+          return producible;
+        }
+      }
+    }
+    throw new HttpMediaTypeNotAcceptableException(PRODUCIBLE);
+  }
+
+  private static int clamp(int limit) {
+    return Math.min(Math.max(limit, 1), MAX_LIMIT);
+  }
+
+  /**
+   * One export run, writing its rows to the given sink.
+   */
+  @FunctionalInterface
+  private interface Export<T> {
+
+    void run(ExportSink<T> sink) throws IOException;
+  }
+}
@@ -0,0 +1,72 @@
+package com.interviewsystem.controller;
+
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.dto.FixtureReference;
+import com.interviewsystem.service.fixture.FixtureStore;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST endpoints for uploading and downloading large test case fixtures.
+ */
+@RestController
+@ConditionalOnRole(DeploymentRole.API)
+@RequestMapping("/api/fixtures")
+public class FixtureController {
+
+  private final FixtureStore fixtureStore;
+
+  public FixtureController(FixtureStore fixtureStore) {
+    this.fixtureStore = fixtureStore;
+  }
+
+  /**
+   * Store the raw request body as a fixture. Uploading the same bytes twice returns the same hash.
+   *
+   * @param body the fixture bytes
+   * @return the fixture's hash and size
+   */
+  @PostMapping(consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+  public ResponseEntity<FixtureReference> upload(InputStream body) {
+    String hash = fixtureStore.store(body);
+    return ResponseEntity.status(HttpStatus.CREATED).body(FixtureReference.builder()
+        .hash(hash)
+        .sizeBytes(size(fixtureStore.resolve(hash)))
+        .build());
+  }
+
+  /**
+   * Download a fixture.
+   *
+   * @param hash the fixture's content hash
+   * @return the fixture bytes
+   */
+  @GetMapping("/{hash}")
+  public ResponseEntity<Resource> download(@PathVariable String hash) {
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+        .body(new FileSystemResource(fixtureStore.resolve(hash)));
+  }
+
+  private static long size(Path file) {
+    try {
+      return Files.size(file);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package com.interviewsystem.controller;
+
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.dto.LeaderboardEntry;
+import com.interviewsystem.exception.ResourceNotFoundException;
+import com.interviewsystem.service.leaderboard.LeaderboardService;
+import java.util.List;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST endpoints for live per-problem leaderboards.
+ */
+@RestController
+@ConditionalOnRole(DeploymentRole.API)
+@RequestMapping("/api/problems/{problemId}/leaderboard")
+public class LeaderboardController {
+
+  private static final int MAX_LIMIT = 100;
+
+  private final LeaderboardService leaderboardService;
+
+  public LeaderboardController(LeaderboardService leaderboardService) {
+    this.leaderboardService = leaderboardService;
+  }
+
+  /**
+   * Return the top of a problem's leaderboard, or a later page of it.
+   *
+   * @param problemId the ID of the problem
+   * @param offset the number of leading entries to skip
+   * @param limit the maximum number of entries to return (capped at 100)
+   * @return the ranked entries, best first
+   */
+  @GetMapping
+  public List<LeaderboardEntry> getLeaderboard(@PathVariable Long problemId,
+      @RequestParam(defaultValue = "0") int offset,
+      @RequestParam(defaultValue = "10") int limit) {
+    return leaderboardService.getLeaderboard(problemId, Math.max(offset, 0),
+        Math.min(Math.max(limit, 0), MAX_LIMIT));
+  }
+
+  /**
+   * Return a single candidate's rank on a problem's leaderboard.
+   *
+   * @param problemId the ID of the problem
+   * @param candidateId the ID of the candidate
+   * @return the candidate's leaderboard entry
+   */
+  @GetMapping("/candidates/{candidateId}")
+  public LeaderboardEntry getCandidateEntry(@PathVariable Long problemId,
+      @PathVariable Long candidateId) {
+    return leaderboardService.getCandidateEntry(problemId, candidateId)
+        .orElseThrow(() -> new ResourceNotFoundException(
+            "Candidate " + candidateId + " is not ranked on problem " + problemId));
+  }
+}
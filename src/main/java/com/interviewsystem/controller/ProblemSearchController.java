@@ -0,0 +1,47 @@
+package com.interviewsystem.controller;
+
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.dto.ProblemSearchResponse;
+import com.interviewsystem.service.search.ProblemSearchService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST endpoint for keyword search over the problem catalog.
+ */
+@RestController
+@ConditionalOnRole(DeploymentRole.API)
+@RequestMapping("/api/problems/search")
+public class ProblemSearchController {
+
+  private static final int MAX_LIMIT = 100;
+
+  private final ProblemSearchService problemSearchService;
+
+  public ProblemSearchController(ProblemSearchService problemSearchService) {
+    this.problemSearchService = problemSearchService;
+  }
+
+  /**
+   * Search problems by keyword, returning ranked hits and facet counts in one call.
+   *
+   * @param q the free-text query; words ending in {@code *} are prefix matches
+   * @param difficulty optional difficulty filter
+   * @param category optional category filter
+   * @param primaryTechStack optional tech stack filter
+   * @param limit the maximum number of hits to return (capped at 100)
+   * @return the ranked hits and facet counts
+   */
+  @GetMapping
+  public ProblemSearchResponse search(@RequestParam(defaultValue = "") String q,
+      @RequestParam(required = false) String difficulty,
+      @RequestParam(required = false) String category,
+      @RequestParam(required = false) String primaryTechStack,
+      @RequestParam(defaultValue = "20") int limit) {
+    return problemSearchService.search(q, difficulty, category, primaryTechStack,
+        Math.min(Math.max(limit, 0), MAX_LIMIT));
+  }
+}
@@ -0,0 +1,47 @@
+package com.interviewsystem.controller;
+
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.dto.ProblemRecommendation;
+import com.interviewsystem.service.recommendation.ProblemRecommendationService;
+import java.util.List;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST endpoint for next-problem recommendations.
+ */
+@RestController
+@ConditionalOnRole(DeploymentRole.API)
+@RequestMapping("/api/candidates/{candidateId}/recommendations")
+public class RecommendationController {
+
+  private static final int MAX_COUNT = 50;
+
+  private final ProblemRecommendationService recommendationService;
+
+  public RecommendationController(ProblemRecommendationService recommendationService) {
+    this.recommendationService = recommendationService;
+  }
+
+  /**
+   * Recommend unattempted problems for a candidate, balanced across categories.
+   *
+   * @param candidateId the ID of the candidate
+   * @param difficulty optional difficulty filter
+   * @param techStack optional primary tech stack filter
+   * @param count the maximum number of problems to return (capped at 50)
+   * @return the recommended problems
+   */
+  @GetMapping
+  public List<ProblemRecommendation> recommend(@PathVariable Long candidateId,
+      @RequestParam(required = false) String difficulty,
+      @RequestParam(required = false) String techStack,
+      @RequestParam(defaultValue = "5") int count) {
+    return recommendationService.recommend(candidateId, difficulty, techStack,
+        Math.min(Math.max(count, 0), MAX_COUNT));
+  }
+}
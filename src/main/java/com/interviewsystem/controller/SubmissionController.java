@@ -0,0 +1,82 @@
+package com.interviewsystem.controller;
+
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.dto.AttemptDiff;
+import com.interviewsystem.dto.SimilarSubmission;
+import com.interviewsystem.dto.SubmissionBatchRequest;
+import com.interviewsystem.dto.SubmissionBatchResponse;
+import com.interviewsystem.service.attempt.AttemptHistoryService;
+import com.interviewsystem.service.ingestion.SubmissionIngestionService;
+import com.interviewsystem.service.similarity.SimilarityService;
+import jakarta.validation.Valid;
+import java.util.List;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST endpoints for submission ingestion, similarity and attempt diffs.
+ */
+@RestController
+@ConditionalOnRole(DeploymentRole.API)
+@RequestMapping("/api/submissions")
+public class SubmissionController {
+
+  private final SubmissionIngestionService ingestionService;
+
+  private final SimilarityService similarityService;
+
+  private final AttemptHistoryService attemptHistoryService;
+
+  public SubmissionController(SubmissionIngestionService ingestionService,
+      SimilarityService similarityService, AttemptHistoryService attemptHistoryService) {
+    this.ingestionService = ingestionService;
+    this.similarityService = similarityService;
+    this.attemptHistoryService = attemptHistoryService;
+  }
+
+  /**
+   * Ingest up to 500 submissions in one request.
+   *
+   * <p>Retrying a batch is safe: items whose idempotency key was already stored come back as
+   * {@code DUPLICATE} with the original submission ID.
+   *
+   * @param request the batch of submissions
+   * @return per-item results in request order
+   */
+  @PostMapping("/batch")
+  public SubmissionBatchResponse ingestBatch(@Valid @RequestBody SubmissionBatchRequest request) {
+    return ingestionService.ingest(request.getSubmissions());
+  }
+
+  /**
+   * Find near-duplicate submissions to the same problem, for plagiarism review.
+   *
+   * @param submissionId the ID of the reference submission
+   * @param threshold the minimum estimated Jaccard similarity (default 0.8)
+   * @return similar submissions, most similar first
+   */
+  @GetMapping("/{submissionId}/similar")
+  public List<SimilarSubmission> findSimilar(@PathVariable Long submissionId,
+      @RequestParam(defaultValue = "0.8") double threshold) {
+    return similarityService.findSimilar(submissionId, threshold);
+  }
+
+  /**
+   * Diff a submission against an earlier attempt at the same problem.
+   *
+   * @param submissionId the ID of the submission
+   * @param against the attempt to diff against (default: the previous attempt)
+   * @return the changed lines as unified hunks
+   */
+  @GetMapping("/{submissionId}/diff")
+  public AttemptDiff getDiff(@PathVariable Long submissionId,
+      @RequestParam(required = false) Long against) {
+    return attemptHistoryService.getDiff(submissionId, against);
+  }
+}
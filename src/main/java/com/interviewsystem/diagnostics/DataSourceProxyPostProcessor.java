@@ -0,0 +1,71 @@
+package com.interviewsystem.diagnostics;
+
+import java.util.List;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps the application {@link DataSource} in a JDBC proxy that reports every statement to
+ * {@link QueryDiagnostics}.
+ *
+ * <p>The listener is resolved lazily so that this post-processor does not force early creation of
+ * the diagnostics bean.
+ */
+@Component
+@ConditionalOnProperty(prefix = "interview.diagnostics", name = "enabled")
+public class DataSourceProxyPostProcessor implements BeanPostProcessor {
+
+  private final ObjectProvider<QueryDiagnostics> diagnostics;
+
+  public DataSourceProxyPostProcessor(ObjectProvider<QueryDiagnostics> diagnostics) {
+    this.diagnostics = diagnostics;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (!(bean instanceof DataSource dataSource)) {
+      return bean;
+    }
+    return ProxyDataSourceBuilder.create(dataSource)
+        .name(beanName)
+        .listener(new LazyListener(diagnostics))
+        .build();
+  }
+
+  private static final class LazyListener implements QueryExecutionListener {
+
+    private final ObjectProvider<QueryDiagnostics> diagnostics;
+
+    private volatile QueryDiagnostics delegate;
+
+    LazyListener(ObjectProvider<QueryDiagnostics> diagnostics) {
+      this.diagnostics = diagnostics;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+      delegate().beforeQuery(execInfo, queryInfoList);
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+      delegate().afterQuery(execInfo, queryInfoList);
+    }
+
+    private QueryDiagnostics delegate() {
+      QueryDiagnostics resolved = delegate;
+      if (resolved == null) {
+        resolved = diagnostics.getObject();
+        delegate = resolved;
+      }
+      return resolved;
+    }
+  }
+}
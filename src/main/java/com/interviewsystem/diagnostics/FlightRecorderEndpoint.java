@@ -0,0 +1,70 @@
+package com.interviewsystem.diagnostics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import jdk.jfr.Recording;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint ({@code /actuator/jfr}) showing the continuous flight recording and, on a
+ * {@code POST}, dumping its ring buffer to the configured dump directory.
+ *
+ * <p>The dump is written on the pod; the response gives its path and size for copying it off.
+ * Only the newest few dumps are kept and repeated requests are throttled (see
+ * {@link FlightRecording#dump()}). The endpoint is not in the default web exposure list, since a
+ * {@code POST} writes to disk; profiles that want it, such as {@code dev}, include it.
+ */
+@Component
+@Endpoint(id = "jfr")
+@ConditionalOnProperty(prefix = "interview.jfr", name = "enabled", matchIfMissing = true)
+public class FlightRecorderEndpoint {
+
+  private final FlightRecording flightRecording;
+
+  public FlightRecorderEndpoint(FlightRecording flightRecording) {
+    this.flightRecording = flightRecording;
+  }
+
+  /**
+   * Describe the continuous recording.
+   *
+   * @return its name, state, start time, size and limits
+   */
+  @ReadOperation
+  public Map<String, Object> recording() {
+    Map<String, Object> status = new LinkedHashMap<>();
+    Recording recording = flightRecording.recording();
+    status.put("running", flightRecording.isRunning());
+    if (recording != null) {
+      status.put("name", recording.getName());
+      status.put("startTime", recording.getStartTime());
+      status.put("sizeBytes", recording.getSize());
+      status.put("maxAge", recording.getMaxAge());
+      status.put("maxSizeBytes", recording.getMaxSize());
+    }
+    return status;
+  }
+
+  /**
+   * Dump the ring buffer.
+   *
+   * @return the dump file's path and size
+   */
+  @WriteOperation
+  public Map<String, Object> dump() {
+    Path file = flightRecording.dump();
+    try {
+      return Map.of("file", file.toString(), "sizeBytes", Files.size(file));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
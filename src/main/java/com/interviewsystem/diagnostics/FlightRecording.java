@@ -0,0 +1,156 @@
+package com.interviewsystem.diagnostics;
+
+import com.interviewsystem.config.FlightRecorderProperties;
+import com.interviewsystem.service.evaluation.CompileSubmissionEvent;
+import com.interviewsystem.service.evaluation.GradePerformanceEvent;
+import com.interviewsystem.service.evaluation.PersistEvaluationEvent;
+import com.interviewsystem.service.evaluation.RunTestCaseEvent;
+import com.interviewsystem.service.evaluation.ScoreEvaluationEvent;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Continuous Java Flight Recorder recording kept as a ring buffer on disk, including the
+ * evaluation stage events, which can be dumped on demand when a grading batch is slow.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "interview.jfr", name = "enabled", matchIfMissing = true)
+public class FlightRecording implements SmartLifecycle {
+
+  static final String RECORDING_NAME = "interview-continuous";
+
+  private static final String DUMP_PREFIX = "evaluation-";
+
+  private static final DateTimeFormatter DUMP_TIMESTAMP =
+      DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+  private final FlightRecorderProperties properties;
+
+  private volatile Recording recording;
+
+  private Path lastDump;
+
+  private Instant lastDumpAt;
+
+  public FlightRecording(FlightRecorderProperties properties) {
+    this.properties = properties;
+  }
+
+  @Override
+  public synchronized void start() {
+    try {
+      Recording continuous =
+          new Recording(Configuration.getConfiguration(properties.getSettings()));
+      continuous.setName(RECORDING_NAME);
+      continuous.setToDisk(true);
+      continuous.setMaxAge(properties.getMaxAge());
+      continuous.setMaxSize(properties.getMaxSize().toBytes());
+      continuous.enable(CompileSubmissionEvent.class);
+      continuous.enable(RunTestCaseEvent.class);
+      continuous.enable(ScoreEvaluationEvent.class);
+      continuous.enable(GradePerformanceEvent.class);
+      continuous.enable(PersistEvaluationEvent.class);
+      continuous.start();
+      recording = continuous;
+      log.info("Started continuous flight recording ({} settings, max age {})",
+          properties.getSettings(), properties.getMaxAge());
+    } catch (IOException | ParseException e) {
+      throw new IllegalStateException(
+          "Unknown JFR settings: " + properties.getSettings(), e);
+    }
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (recording != null) {
+      recording.close();
+      recording = null;
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    Recording current = recording;
+    return current != null && current.getState() == RecordingState.RUNNING;
+  }
+
+  /**
+   * Copy the current contents of the ring buffer to a new file in the dump directory, keeping
+   * only the newest {@code max-dumps} dumps there.
+   *
+   * <p>A dump requested within {@code min-dump-interval} of the previous one returns that
+   * previous file, so repeated requests cannot fill the disk.
+   *
+   * @return the file written, or the previous dump if it is recent enough
+   * @throws IllegalStateException if the recording is not running
+   */
+  public synchronized Path dump() {
+    if (!isRunning()) {
+      throw new IllegalStateException("Continuous flight recording is not running");
+    }
+    Instant now = Instant.now();
+    if (lastDump != null && Files.exists(lastDump)
+        && lastDumpAt.plus(properties.getMinDumpInterval()).isAfter(now)) {
+      log.info("Reusing flight recording dump {} from {}", lastDump, lastDumpAt);
+      return lastDump;
+    }
+    try {
+      Files.createDirectories(properties.getDumpDirectory());
+      Path file = properties.getDumpDirectory()
+          .resolve(DUMP_PREFIX + LocalDateTime.now().format(DUMP_TIMESTAMP) + ".jfr");
+      recording.dump(file);
+      log.info("Dumped flight recording to {}", file);
+      lastDump = file;
+      lastDumpAt = now;
+      pruneDumps();
+      return file;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not dump flight recording", e);
+    }
+  }
+
+  /**
+   * Delete all but the newest {@code max-dumps} dumps. The timestamped names sort by age.
+   */
+  private void pruneDumps() throws IOException {
+    List<Path> dumps;
+    try (Stream<Path> files = Files.list(properties.getDumpDirectory())) {
+      dumps = files
+          .filter(file -> {
+            String name = file.getFileName().toString();
+            return name.startsWith(DUMP_PREFIX) && name.endsWith(".jfr");
+          })
+          .sorted(Comparator.comparing(Path::getFileName).reversed())
+          .toList();
+    }
+    int keep = Math.max(1, properties.getMaxDumps());
+    for (Path old : dumps.subList(Math.min(keep, dumps.size()), dumps.size())) {
+      Files.deleteIfExists(old);
+      log.debug("Deleted old flight recording dump {}", old);
+    }
+  }
+
+  /**
+   * The running recording, or {@code null} when stopped.
+   */
+  Recording recording() {
+    return recording;
+  }
+}
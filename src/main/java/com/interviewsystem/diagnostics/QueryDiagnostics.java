@@ -0,0 +1,108 @@
+package com.interviewsystem.diagnostics;
+
+import com.interviewsystem.config.DiagnosticsProperties;
+import com.interviewsystem.dto.SqlRequestReport;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records every JDBC statement into the current {@link QueryScope} and keeps the most recent
+ * request reports.
+ *
+ * <p>Statements are timed around the driver call, so JDBC time excludes Hibernate's own
+ * processing. Slow statements and probable N+1 patterns are logged as warnings.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "interview.diagnostics", name = "enabled")
+public class QueryDiagnostics implements QueryExecutionListener {
+
+  private static final String START_NANOS = "startNanos";
+
+  private final DiagnosticsProperties properties;
+
+  private final Deque<SqlRequestReport> recentReports = new ArrayDeque<>();
+
+  public QueryDiagnostics(DiagnosticsProperties properties) {
+    this.properties = properties;
+  }
+
+  @Override
+  public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    execInfo.addCustomValue(START_NANOS, System.nanoTime());
+  }
+
+  @Override
+  public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+    long nanos = start == null
+        ? TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime())
+        : System.nanoTime() - start;
+    long perStatement = nanos / Math.max(1, queryInfoList.size());
+    QueryScope scope = QueryScope.current();
+    for (QueryInfo query : queryInfoList) {
+      String shape = SqlShapes.normalize(query.getQuery());
+      if (scope != null) {
+        scope.record(shape, perStatement);
+      }
+      if (perStatement >= properties.getSlowQueryThreshold().toNanos()) {
+        log.warn("Slow SQL ({} ms): {}", TimeUnit.NANOSECONDS.toMillis(perStatement), shape);
+      }
+    }
+  }
+
+  /**
+   * Close a scope and keep its report if it executed any statements.
+   *
+   * @param scope the scope, which must be the innermost open scope
+   * @param label what was measured
+   * @return the scope's report
+   */
+  public SqlRequestReport finish(QueryScope scope, String label) {
+    scope.close();
+    SqlRequestReport report = scope.report(label, properties.getRepeatedStatementThreshold(),
+        properties.getSlowestStatements());
+    if (report.getStatementCount() == 0) {
+      return report;
+    }
+    report.getProbableNPlusOne().forEach(stats ->
+        log.warn("Probable N+1 in {}: {} executions of {}", label, stats.getExecutions(),
+            stats.getShape()));
+    synchronized (recentReports) {
+      recentReports.addFirst(report);
+      while (recentReports.size() > properties.getRecentRequests()) {
+        recentReports.removeLast();
+      }
+    }
+    return report;
+  }
+
+  /**
+   * The most recent reports, newest first.
+   *
+   * @return a snapshot of the kept reports
+   */
+  public List<SqlRequestReport> recentReports() {
+    synchronized (recentReports) {
+      return new ArrayList<>(recentReports);
+    }
+  }
+
+  /**
+   * Discard the kept reports.
+   */
+  public void reset() {
+    synchronized (recentReports) {
+      recentReports.clear();
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package com.interviewsystem.diagnostics;
+
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Opens a {@link QueryScope} around each HTTP request and reports its SQL activity.
+ *
+ * <p>Work handed off to another thread, such as a streamed response body, is not attributed to the
+ * request.
+ */
+@Component
+@ConditionalOnRole(DeploymentRole.API)
+@ConditionalOnProperty(prefix = "interview.diagnostics", name = "enabled")
+public class QueryDiagnosticsFilter extends OncePerRequestFilter {
+
+  private final QueryDiagnostics diagnostics;
+
+  public QueryDiagnosticsFilter(QueryDiagnostics diagnostics) {
+    this.diagnostics = diagnostics;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    QueryScope scope = QueryScope.open();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      diagnostics.finish(scope, request.getMethod() + " " + request.getRequestURI());
+    }
+  }
+}
@@ -0,0 +1,159 @@
+package com.interviewsystem.diagnostics;
+
+import com.interviewsystem.dto.SqlRequestReport;
+import com.interviewsystem.dto.SqlStatementStats;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Accumulates the JDBC statements executed on the current thread while the scope is open.
+ *
+ * <p>Scopes nest: statements recorded in an inner scope also count towards every enclosing one.
+ * A scope must be closed on the thread that opened it, innermost first.
+ */
+public final class QueryScope implements AutoCloseable {
+
+  private static final ThreadLocal<QueryScope> CURRENT = new ThreadLocal<>();
+
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+  private final QueryScope parent;
+
+  private final Map<String, ShapeStats> shapes = new HashMap<>();
+
+  private int statementCount;
+
+  private long totalNanos;
+
+  private QueryScope(QueryScope parent) {
+    this.parent = parent;
+  }
+
+  /**
+   * Open a scope on the current thread.
+   *
+   * @return the new innermost scope
+   */
+  public static QueryScope open() {
+    QueryScope scope = new QueryScope(CURRENT.get());
+    CURRENT.set(scope);
+    return scope;
+  }
+
+  /**
+   * The innermost open scope on the current thread.
+   *
+   * @return the scope, or {@code null} if none is open
+   */
+  public static QueryScope current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Record one statement execution in this scope and its enclosing scopes.
+   *
+   * @param shape the normalized statement
+   * @param nanos the execution time
+   */
+  public void record(String shape, long nanos) {
+    for (QueryScope scope = this; scope != null; scope = scope.parent) {
+      scope.statementCount++;
+      scope.totalNanos += nanos;
+      scope.shapes.computeIfAbsent(shape, s -> new ShapeStats()).add(nanos);
+    }
+  }
+
+  public int getStatementCount() {
+    return statementCount;
+  }
+
+  public long getTotalNanos() {
+    return totalNanos;
+  }
+
+  /**
+   * Count the statement shapes executed at least {@code threshold} times.
+   *
+   * @param threshold the repeat count at which a shape is flagged
+   * @return the number of flagged shapes
+   */
+  public int repeatedShapes(int threshold) {
+    int repeated = 0;
+    for (ShapeStats stats : shapes.values()) {
+      if (stats.executions >= threshold) {
+        repeated++;
+      }
+    }
+    return repeated;
+  }
+
+  /**
+   * Summarize the statements recorded so far.
+   *
+   * @param label what was measured
+   * @param repeatThreshold executions of one shape at which it is flagged as a probable N+1
+   * @param slowest the number of slowest shapes to include
+   * @return the report
+   */
+  public SqlRequestReport report(String label, int repeatThreshold, int slowest) {
+    List<SqlStatementStats> all = shapes.entrySet().stream()
+        .map(entry -> entry.getValue().toStats(entry.getKey()))
+        .toList();
+    return SqlRequestReport.builder()
+        .label(label)
+        .completedAt(LocalDateTime.now())
+        .statementCount(statementCount)
+        .totalJdbcMillis(totalNanos / NANOS_PER_MILLI)
+        .slowest(all.stream()
+            .sorted(Comparator.comparingDouble(SqlStatementStats::getMaxMillis).reversed())
+            .limit(slowest)
+            .toList())
+        .probableNPlusOne(all.stream()
+            .filter(stats -> stats.getExecutions() >= repeatThreshold)
+            .sorted(Comparator.comparingInt(SqlStatementStats::getExecutions).reversed())
+            .toList())
+        .build();
+  }
+
+  /**
+   * Close this scope, making its parent the current scope again.
+   */
+  @Override
+  public void close() {
+    if (CURRENT.get() != this) {
+      throw new IllegalStateException("Query scopes must be closed innermost first");
+    }
+    if (parent == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(parent);
+    }
+  }
+
+  private static final class ShapeStats {
+
+    private int executions;
+
+    private long totalNanos;
+
+    private long maxNanos;
+
+    void add(long nanos) {
+      executions++;
+      totalNanos += nanos;
+      maxNanos = Math.max(maxNanos, nanos);
+    }
+
+    SqlStatementStats toStats(String shape) {
+      return SqlStatementStats.builder()
+          .shape(shape)
+          .executions(executions)
+          .totalMillis(totalNanos / NANOS_PER_MILLI)
+          .maxMillis(maxNanos / NANOS_PER_MILLI)
+          .build();
+    }
+  }
+}
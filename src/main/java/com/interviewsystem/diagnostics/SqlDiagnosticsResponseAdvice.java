@@ -0,0 +1,61 @@
+package com.interviewsystem.diagnostics;
+
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.config.DiagnosticsProperties;
+import java.util.Locale;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the request's SQL statement count, JDBC time and number of probable N+1 shapes as response
+ * headers, for use in development.
+ *
+ * <p>Headers are written just before the body is serialized, so statements triggered by
+ * serialization itself (lazy loading) are not included.
+ */
+@ControllerAdvice
+@ConditionalOnRole(DeploymentRole.API)
+@ConditionalOnProperty(prefix = "interview.diagnostics", name = "response-headers",
+    havingValue = "true")
+public class SqlDiagnosticsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+  static final String COUNT_HEADER = "X-Sql-Count";
+
+  static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+  static final String REPEATED_HEADER = "X-Sql-Repeated-Shapes";
+
+  private final DiagnosticsProperties properties;
+
+  public SqlDiagnosticsResponseAdvice(DiagnosticsProperties properties) {
+    this.properties = properties;
+  }
+
+  @Override
+  public boolean supports(MethodParameter returnType,
+      Class<? extends HttpMessageConverter<?>> converterType) {
+    return true;
+  }
+
+  @Override
+  public Object beforeBodyWrite(Object body, MethodParameter returnType,
+      MediaType selectedContentType, Class<? extends HttpMessageConverter<?>> selectedConverterType,
+      ServerHttpRequest request, ServerHttpResponse response) {
+    QueryScope scope = QueryScope.current();
+    if (scope != null) {
+      response.getHeaders().set(COUNT_HEADER, Integer.toString(scope.getStatementCount()));
+      response.getHeaders().set(TIME_HEADER,
+          String.format(Locale.ROOT, "%.3f", scope.getTotalNanos() / 1_000_000.0));
+      response.getHeaders().set(REPEATED_HEADER,
+          Integer.toString(scope.repeatedShapes(properties.getRepeatedStatementThreshold())));
+    }
+    return body;
+  }
+}
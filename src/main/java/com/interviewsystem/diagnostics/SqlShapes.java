@@ -0,0 +1,55 @@
+package com.interviewsystem.diagnostics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Reduces SQL statements to their shape so that executions differing only in literal values or
+ * IN-list length are grouped together.
+ *
+ * <p>Hibernate issues a small set of distinct statement strings, so normalized shapes are cached.
+ */
+public final class SqlShapes {
+
+  private static final int MAX_CACHED = 2048;
+
+  private static final Pattern COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+
+  private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+
+  private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+
+  private static final Pattern IN_LIST =
+      Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+  private SqlShapes() {
+  }
+
+  /**
+   * Normalize a statement: strip comments, replace literals with {@code ?}, collapse IN lists to a
+   * single placeholder and collapse whitespace.
+   *
+   * @param sql the statement as sent to the driver
+   * @return the statement shape
+   */
+  public static String normalize(String sql) {
+    String shape = CACHE.get(sql);
+    if (shape == null) {
+      shape = COMMENT.matcher(sql).replaceAll(" ");
+      shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+      shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+      shape = IN_LIST.matcher(shape).replaceAll("in (?)");
+      shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+      if (CACHE.size() >= MAX_CACHED) {
+        CACHE.clear();
+      }
+      CACHE.put(sql, shape);
+    }
+    return shape;
+  }
+}
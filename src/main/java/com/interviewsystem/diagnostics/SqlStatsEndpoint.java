@@ -0,0 +1,87 @@
+package com.interviewsystem.diagnostics;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint ({@code /actuator/sqlstats}) exposing recent per-request SQL reports and, when
+ * {@code hibernate.generate_statistics} is on, Hibernate's session-factory statistics.
+ *
+ * <p>Per-role collection fetch counts show which lazy associations are being initialized one owner
+ * at a time.
+ */
+@Component
+@Endpoint(id = "sqlstats")
+@ConditionalOnProperty(prefix = "interview.diagnostics", name = "enabled")
+public class SqlStatsEndpoint {
+
+  private final QueryDiagnostics diagnostics;
+
+  private final EntityManagerFactory entityManagerFactory;
+
+  public SqlStatsEndpoint(QueryDiagnostics diagnostics,
+      EntityManagerFactory entityManagerFactory) {
+    this.diagnostics = diagnostics;
+    this.entityManagerFactory = entityManagerFactory;
+  }
+
+  /**
+   * Report recent requests and Hibernate statistics.
+   *
+   * @return the report, keyed by section
+   */
+  @ReadOperation
+  public Map<String, Object> sqlStats() {
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("recentRequests", diagnostics.recentReports());
+    stats.put("hibernate", hibernateStatistics());
+    return stats;
+  }
+
+  /**
+   * Discard recent reports and reset Hibernate statistics.
+   */
+  @DeleteOperation
+  public void reset() {
+    diagnostics.reset();
+    statistics().clear();
+  }
+
+  private Map<String, Object> hibernateStatistics() {
+    Statistics statistics = statistics();
+    Map<String, Object> hibernate = new LinkedHashMap<>();
+    hibernate.put("enabled", statistics.isStatisticsEnabled());
+    if (!statistics.isStatisticsEnabled()) {
+      return hibernate;
+    }
+    hibernate.put("prepareStatementCount", statistics.getPrepareStatementCount());
+    hibernate.put("queryExecutionCount", statistics.getQueryExecutionCount());
+    hibernate.put("queryExecutionMaxTimeMs", statistics.getQueryExecutionMaxTime());
+    hibernate.put("slowestQuery", statistics.getQueryExecutionMaxTimeQueryString());
+    hibernate.put("entityLoadCount", statistics.getEntityLoadCount());
+    hibernate.put("entityFetchCount", statistics.getEntityFetchCount());
+    hibernate.put("collectionFetchCount", statistics.getCollectionFetchCount());
+    Map<String, Long> collectionFetches = new TreeMap<>();
+    for (String role : statistics.getCollectionRoleNames()) {
+      long fetches = statistics.getCollectionStatistics(role).getFetchCount();
+      if (fetches > 0) {
+        collectionFetches.put(role, fetches);
+      }
+    }
+    hibernate.put("collectionFetchesByRole", collectionFetches);
+    return hibernate;
+  }
+
+  private Statistics statistics() {
+    return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+}
@@ -0,0 +1,26 @@
+package com.interviewsystem.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Activity counted in one time bucket of a rollup query.
+ */
+@Value
+@Builder
+public class ActivityRollupPoint {
+
+  LocalDateTime bucketStart;
+
+  /** Width of the bucket; coarser than requested when the data has already been compacted. */
+  String granularity;
+
+  long count;
+
+  Double averageScore;
+
+  /** Scores in deciles (0-9, 10-19, ..., 90-100); only present for evaluations. */
+  List<Long> scoreHistogram;
+}
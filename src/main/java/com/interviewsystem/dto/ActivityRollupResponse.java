@@ -0,0 +1,31 @@
+package com.interviewsystem.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Activity over a time window, answered from the rollups.
+ */
+@Value
+@Builder
+public class ActivityRollupResponse {
+
+  String metric;
+
+  LocalDateTime from;
+
+  LocalDateTime to;
+
+  String granularity;
+
+  long totalCount;
+
+  Double averageScore;
+
+  /** Scores in deciles (0-9, 10-19, ..., 90-100); only present for evaluations. */
+  List<Long> scoreHistogram;
+
+  List<ActivityRollupPoint> points;
+}
@@ -0,0 +1,21 @@
+package com.interviewsystem.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Outcome of one interviewer assignment batch.
+ */
+@Value
+@Builder
+public class AssignmentResult {
+
+  int claimed;
+
+  int assigned;
+
+  /**
+   * Claimed evaluations left pending because every eligible interviewer was at capacity.
+   */
+  int deferred;
+}
@@ -0,0 +1,26 @@
+package com.interviewsystem.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Line diff between two attempts at a problem, in unified-diff hunks.
+ */
+@Value
+@Builder
+public class AttemptDiff {
+
+  Long submissionId;
+
+  /**
+   * The attempt diffed against; {@code null} for a first attempt, which diffs against nothing.
+   */
+  Long previousSubmissionId;
+
+  Integer linesAdded;
+
+  Integer linesRemoved;
+
+  List<DiffHunk> hunks;
+}
@@ -0,0 +1,32 @@
+package com.interviewsystem.dto;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * One attempt in a candidate's history for a problem, with its size of change from the previous
+ * attempt but without its source.
+ */
+@Value
+@Builder
+public class AttemptSummary {
+
+  Long submissionId;
+
+  Integer attemptNumber;
+
+  String language;
+
+  String compilationStatus;
+
+  LocalDateTime submittedAt;
+
+  String evaluationStatus;
+
+  Integer overallScore;
+
+  Integer linesAdded;
+
+  Integer linesRemoved;
+}
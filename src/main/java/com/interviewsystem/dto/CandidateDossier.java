@@ -0,0 +1,41 @@
+package com.interviewsystem.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Everything a reviewer needs about a candidate on one page: profile, per-problem best and latest
+ * attempts, scores and interviewer feedback summaries.
+ */
+@Value
+@Builder
+public class CandidateDossier {
+
+  Long candidateId;
+
+  String email;
+
+  String firstName;
+
+  String lastName;
+
+  String phoneNumber;
+
+  String techStack;
+
+  LocalDateTime createdAt;
+
+  long totalSubmissions;
+
+  int problemsAttempted;
+
+  int problemsEvaluated;
+
+  /** Mean of the best completed score per problem, or null if nothing has been evaluated. */
+  Double averageBestScore;
+
+  /** Problems ordered by most recent attempt first. */
+  List<DossierProblemSummary> problems;
+}
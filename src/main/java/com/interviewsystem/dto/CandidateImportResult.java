@@ -0,0 +1,37 @@
+package com.interviewsystem.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Outcome of a bulk candidate import.
+ */
+@Value
+@Builder
+public class CandidateImportResult {
+
+  String importId;
+
+  /**
+   * Data rows read, excluding the header and blank lines.
+   */
+  int rows;
+
+  int created;
+
+  int updated;
+
+  /**
+   * Rows skipped because a later row in the same chunk has the same email.
+   */
+  int superseded;
+
+  int rejected;
+
+  long elapsedMillis;
+
+  /**
+   * Where the per-row error report can be downloaded, or {@code null} if every row was imported.
+   */
+  String errorReport;
+}
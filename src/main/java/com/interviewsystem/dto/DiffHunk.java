@@ -0,0 +1,26 @@
+package com.interviewsystem.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A unified-diff hunk: a changed region with surrounding context.
+ *
+ * <p>Line numbers are 1-based. Each line is prefixed with {@code ' '} (context), {@code '-'}
+ * (removed) or {@code '+'} (added) and has its line terminator stripped.
+ */
+@Value
+@Builder
+public class DiffHunk {
+
+  Integer oldStart;
+
+  Integer oldLines;
+
+  Integer newStart;
+
+  Integer newLines;
+
+  List<String> lines;
+}
@@ -0,0 +1,41 @@
+package com.interviewsystem.dto;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A single submission shown on a candidate dossier, with its evaluation if there is one.
+ */
+@Value
+@Builder
+public class DossierAttempt {
+
+  Long submissionId;
+
+  String language;
+
+  String compilationStatus;
+
+  LocalDateTime submittedAt;
+
+  Long evaluationId;
+
+  String evaluationStatus;
+
+  Integer overallScore;
+
+  Integer executionScore;
+
+  Integer codeQualityScore;
+
+  Integer testPassCount;
+
+  Integer totalTestCases;
+
+  LocalDateTime evaluatedAt;
+
+  String interviewerName;
+
+  String feedbackSummary;
+}
@@ -0,0 +1,27 @@
+package com.interviewsystem.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A candidate's attempts at one problem: the best-scoring and the most recent submission.
+ */
+@Value
+@Builder
+public class DossierProblemSummary {
+
+  Long problemId;
+
+  String title;
+
+  String difficulty;
+
+  String category;
+
+  long attempts;
+
+  /** The highest-scoring completed attempt, or null if no attempt has been evaluated yet. */
+  DossierAttempt best;
+
+  DossierAttempt latest;
+}
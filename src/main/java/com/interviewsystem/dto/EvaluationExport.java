@@ -0,0 +1,41 @@
+package com.interviewsystem.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * An evaluation as exported to grading workers and analytics jobs.
+ *
+ * <p>Follows the same additive evolution rules as {@link SubmissionExport}.
+ */
+@Value
+@Builder
+@Jacksonized
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class EvaluationExport {
+
+  Long id;
+
+  Long submissionId;
+
+  Long interviewerId;
+
+  Integer testPassCount;
+
+  Integer totalTestCases;
+
+  Integer executionScore;
+
+  Integer codeQualityScore;
+
+  Integer overallScore;
+
+  String status;
+
+  LocalDateTime evaluatedAt;
+}
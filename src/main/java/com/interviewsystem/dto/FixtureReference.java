@@ -0,0 +1,20 @@
+package com.interviewsystem.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A stored fixture, as referenced from {@code TestCase.inputFixture} or
+ * {@code TestCase.expectedOutputFixture}.
+ */
+@Value
+@Builder
+public class FixtureReference {
+
+  /**
+   * SHA-256 of the fixture's bytes, in lower-case hex.
+   */
+  String hash;
+
+  long sizeBytes;
+}
@@ -0,0 +1,19 @@
+package com.interviewsystem.dto;
+
+import java.util.Set;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Snapshot of an interviewer's open evaluation load as tracked by the assignment engine.
+ */
+@Value
+@Builder
+public class InterviewerWorkloadView {
+
+  Long interviewerId;
+
+  Set<String> expertise;
+
+  int openEvaluations;
+}
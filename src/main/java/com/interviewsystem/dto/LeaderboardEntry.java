@@ -0,0 +1,25 @@
+package com.interviewsystem.dto;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A candidate's position on a problem leaderboard.
+ */
+@Value
+@Builder
+public class LeaderboardEntry {
+
+  int rank;
+
+  Long candidateId;
+
+  Long submissionId;
+
+  Long evaluationId;
+
+  Integer overallScore;
+
+  LocalDateTime submittedAt;
+}
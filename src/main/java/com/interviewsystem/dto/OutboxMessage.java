@@ -0,0 +1,51 @@
+package com.interviewsystem.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * An outbox event as delivered to subscribers and brokers.
+ *
+ * <p>Messages follow additive schema evolution: fields may be added but are never renamed,
+ * retyped or removed, and readers ignore fields they do not know.
+ */
+@Value
+@Builder
+@Jacksonized
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class OutboxMessage {
+
+  /**
+   * Gap-free position in the outbox stream; consumers resume after the last one they processed.
+   */
+  Long sequence;
+
+  /**
+   * {@code SUBMISSION} or {@code EVALUATION}.
+   */
+  String aggregateType;
+
+  Long aggregateId;
+
+  /**
+   * {@code CREATED}, {@code UPDATED} or {@code DELETED}.
+   */
+  String changeType;
+
+  /**
+   * JSON snapshot of the aggregate's columns when the change was made.
+   */
+  String payload;
+
+  /**
+   * The process that made the change.
+   */
+  String origin;
+
+  LocalDateTime createdAt;
+}
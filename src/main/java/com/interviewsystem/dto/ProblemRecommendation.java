@@ -0,0 +1,22 @@
+package com.interviewsystem.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A problem recommended to a candidate as their next attempt.
+ */
+@Value
+@Builder
+public class ProblemRecommendation {
+
+  Long problemId;
+
+  String title;
+
+  String difficulty;
+
+  String category;
+
+  String primaryTechStack;
+}
@@ -0,0 +1,24 @@
+package com.interviewsystem.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A single ranked problem in a search response.
+ */
+@Value
+@Builder
+public class ProblemSearchHit {
+
+  Long problemId;
+
+  String title;
+
+  String difficulty;
+
+  String category;
+
+  String primaryTechStack;
+
+  double score;
+}
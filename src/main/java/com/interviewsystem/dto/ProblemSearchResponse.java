@@ -0,0 +1,23 @@
+package com.interviewsystem.dto;
+
+import java.util.List;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Ranked problem search results together with facet counts over every matching problem.
+ */
+@Value
+@Builder
+public class ProblemSearchResponse {
+
+  int totalHits;
+
+  List<ProblemSearchHit> hits;
+
+  /**
+   * Facet name ({@code difficulty}, {@code category}, {@code primaryTechStack}) to value counts.
+   */
+  Map<String, Map<String, Integer>> facets;
+}
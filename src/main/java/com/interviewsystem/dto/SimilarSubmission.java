@@ -0,0 +1,19 @@
+package com.interviewsystem.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A submission whose normalized source is estimated to be similar to a reference submission.
+ */
+@Value
+@Builder
+public class SimilarSubmission {
+
+  Long submissionId;
+
+  /**
+   * Estimated Jaccard similarity of the normalized token shingles, between 0 and 1.
+   */
+  double similarity;
+}
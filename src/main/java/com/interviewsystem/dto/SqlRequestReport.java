@@ -0,0 +1,35 @@
+package com.interviewsystem.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * SQL activity recorded for one request or other unit of work.
+ */
+@Value
+@Builder
+public class SqlRequestReport {
+
+  /**
+   * What was measured, e.g. {@code GET /api/candidates/42/dossier}.
+   */
+  String label;
+
+  LocalDateTime completedAt;
+
+  int statementCount;
+
+  double totalJdbcMillis;
+
+  /**
+   * The statement shapes with the highest single execution time, slowest first.
+   */
+  List<SqlStatementStats> slowest;
+
+  /**
+   * Statement shapes executed often enough to be probable N+1 queries, most frequent first.
+   */
+  List<SqlStatementStats> probableNPlusOne;
+}
@@ -0,0 +1,23 @@
+package com.interviewsystem.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Executions and JDBC time for one statement shape within a request.
+ */
+@Value
+@Builder
+public class SqlStatementStats {
+
+  /**
+   * The statement with literals and IN-list lengths normalized away.
+   */
+  String shape;
+
+  int executions;
+
+  double totalMillis;
+
+  double maxMillis;
+}
@@ -0,0 +1,23 @@
+package com.interviewsystem.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A batch of submissions to ingest in one request.
+ *
+ * <p>Items are validated individually so that one bad item does not reject the whole batch.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubmissionBatchRequest {
+
+  @NotEmpty(message = "At least one submission is required")
+  @Size(max = 500, message = "At most 500 submissions per batch")
+  private List<SubmissionRequest> submissions;
+}
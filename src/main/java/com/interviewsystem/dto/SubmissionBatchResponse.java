@@ -0,0 +1,23 @@
+package com.interviewsystem.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Per-item results of a batch submission request, in request order.
+ */
+@Value
+@Builder
+public class SubmissionBatchResponse {
+
+  int created;
+
+  int duplicates;
+
+  int rejected;
+
+  int rateLimited;
+
+  List<SubmissionItemResult> results;
+}
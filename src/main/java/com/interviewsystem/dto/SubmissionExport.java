@@ -0,0 +1,49 @@
+package com.interviewsystem.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.interviewsystem.service.attempt.SourceDelta;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * A submission as exported to grading workers and analytics jobs.
+ *
+ * <p>Export records follow additive schema evolution: fields may be added but are never renamed,
+ * retyped or removed, and readers ignore fields they do not know.
+ */
+@Value
+@Builder
+@Jacksonized
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class SubmissionExport {
+
+  Long id;
+
+  Long candidateId;
+
+  Long problemId;
+
+  String language;
+
+  String compilationStatus;
+
+  LocalDateTime submittedAt;
+
+  String codeContent;
+
+  /**
+   * Export query constructor that rebuilds delta-encoded sources.
+   */
+  public SubmissionExport(Long id, Long candidateId, Long problemId, String language,
+      String compilationStatus, LocalDateTime submittedAt, String codeContent, String baseContent,
+      byte[] codeDelta) {
+    this(id, candidateId, problemId, language, compilationStatus, submittedAt,
+        codeContent == null && codeDelta != null
+            ? SourceDelta.apply(baseContent, codeDelta)
+            : codeContent);
+  }
+}
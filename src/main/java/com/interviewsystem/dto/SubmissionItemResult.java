@@ -0,0 +1,37 @@
+package com.interviewsystem.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Outcome of one item of a batch submission request.
+ */
+@Value
+@Builder
+public class SubmissionItemResult {
+
+  /**
+   * Per-item ingestion outcome.
+   */
+  public enum Status {
+    /** A new submission was stored. */
+    CREATED,
+    /** A submission with the same idempotency key already exists; nothing was stored. */
+    DUPLICATE,
+    /** The item failed validation; nothing was stored. */
+    REJECTED,
+    /** The candidate is submitting too fast; nothing was stored and the item may be retried. */
+    RATE_LIMITED
+  }
+
+  int index;
+
+  String idempotencyKey;
+
+  Status status;
+
+  Long submissionId;
+
+  List<String> errors;
+}
@@ -0,0 +1,42 @@
+package com.interviewsystem.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A single submission in a batch ingestion request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SubmissionRequest {
+
+  @NotBlank(message = "Idempotency key is required")
+  @Size(max = 100, message = "Idempotency key must be at most 100 characters")
+  private String idempotencyKey;
+
+  @NotNull(message = "Candidate ID is required")
+  private Long candidateId;
+
+  @NotNull(message = "Problem ID is required")
+  private Long problemId;
+
+  @NotBlank(message = "Code content is required")
+  private String codeContent;
+
+  @NotBlank(message = "Language is required")
+  @Size(max = 20, message = "Language must be at most 20 characters")
+  private String language;
+
+  /**
+   * When the candidate submitted; defaults to the ingestion time.
+   */
+  private LocalDateTime submittedAt;
+}
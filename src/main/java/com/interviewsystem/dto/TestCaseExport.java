@@ -0,0 +1,38 @@
+package com.interviewsystem.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * A test case as exported to grading workers.
+ *
+ * <p>Follows the same additive evolution rules as {@link SubmissionExport}.
+ */
+@Value
+@Builder
+@Jacksonized
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TestCaseExport {
+
+  Long id;
+
+  Long problemId;
+
+  String inputDescription;
+
+  String expectedOutput;
+
+  Integer weightPercentage;
+
+  Boolean hidden;
+
+  Integer timeoutSeconds;
+
+  String inputFixture;
+
+  String expectedOutputFixture;
+}
@@ -0,0 +1,60 @@
+package com.interviewsystem.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * AttemptSourceBase entity: a full source that a candidate's successive attempts at a problem are
+ * stored as deltas against.
+ *
+ * <p>The base belongs to the attempt sequence rather than to one submission, so submissions can be
+ * deleted in any order. A new base is started once the current one has served {@code attempts}
+ * submissions or has drifted too far from the latest attempt.
+ */
+@Entity
+@Table(name = "attempt_source_base", indexes = {
+    @Index(name = "idx_source_base_candidate_problem", columnList = "candidate_id, problem_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttemptSourceBase {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "candidate_id", nullable = false)
+  @NotNull(message = "Candidate ID is required")
+  private Long candidateId;
+
+  @Column(name = "problem_id", nullable = false)
+  @NotNull(message = "Problem ID is required")
+  private Long problemId;
+
+  @Column(nullable = false, columnDefinition = "TEXT")
+  @NotNull(message = "Content is required")
+  private String content;
+
+  @Column(nullable = false)
+  @Builder.Default
+  private Integer attempts = 0;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  @Builder.Default
+  private LocalDateTime createdAt = LocalDateTime.now();
+
+  /**
+   * Pre-persist hook to set creation timestamp.
+   */
+  @PrePersist
+  protected void onCreate() {
+    createdAt = LocalDateTime.now();
+  }
+}
@@ -1,5 +1,7 @@
 package com.interviewsystem.entity;
 
+import com.interviewsystem.event.EntityChangePublisher;
+import com.interviewsystem.service.outbox.OutboxRecorder;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -20,6 +22,7 @@ import lombok.ToString;
  * <p>Tracks candidate profile information including contact details and primary technology stack.
  */
 @Entity
+@EntityListeners({EntityChangePublisher.class, OutboxRecorder.class})
 @Table(name = "candidate", indexes = {@Index(name = "idx_email", columnList = "email"),
     @Index(name = "idx_tech_stack", columnList = "tech_stack")})
 @Data
@@ -1,5 +1,7 @@
 package com.interviewsystem.entity;
 
+import com.interviewsystem.event.EntityChangePublisher;
+import com.interviewsystem.service.outbox.OutboxRecorder;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
@@ -18,6 +20,7 @@ import lombok.ToString;
  * scores. Can include manual reviewer feedback from an interviewer.
  */
 @Entity
+@EntityListeners({EntityChangePublisher.class, OutboxRecorder.class})
 @Table(name = "evaluation", indexes = {
     @Index(name = "idx_submission_id", columnList = "submission_id"),
     @Index(name = "idx_interviewer_id", columnList = "interviewer_id"),
@@ -68,6 +71,12 @@ public class Evaluation {
   @Min(value = 0, message = "Overall score must be at least 0")
   private Integer overallScore = 0;
 
+  @Column(name = "complexity_class", length = 20)
+  private String complexityClass;
+
+  @Column(name = "performance_score")
+  private Integer performanceScore;
+
   @Column(name = "feedback", columnDefinition = "TEXT")
   private String feedback;
 
@@ -0,0 +1,86 @@
+package com.interviewsystem.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * EvaluationLease entity recording which worker is evaluating a pending submission, and until
+ * when.
+ *
+ * <p>A worker extends its leases with heartbeats while it runs them. A lease that expires is taken
+ * over by the next worker to claim the submission, and every claim counts as an attempt, so a
+ * submission that keeps crashing its workers is dead-lettered instead of retried forever. The ID
+ * is the submission ID, so the entity reports itself as new until it has been persisted or loaded.
+ */
+@Entity
+@Table(name = "evaluation_lease",
+    indexes = {@Index(name = "idx_lease_worker_id", columnList = "worker_id")})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EvaluationLease implements Persistable<Long> {
+
+  @Id
+  @Column(name = "submission_id")
+  private Long submissionId;
+
+  @Column(name = "worker_id", nullable = false, length = 100)
+  @NotBlank(message = "Worker ID is required")
+  private String workerId;
+
+  @Column(nullable = false)
+  @NotNull(message = "Attempts is required")
+  @Builder.Default
+  private Integer attempts = 1;
+
+  @Column(name = "expires_at", nullable = false)
+  @NotNull(message = "Expiry is required")
+  private LocalDateTime expiresAt;
+
+  @Column(name = "heartbeat_at", nullable = false)
+  @NotNull(message = "Heartbeat time is required")
+  private LocalDateTime heartbeatAt;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  @Builder.Default
+  private LocalDateTime createdAt = LocalDateTime.now();
+
+  @Transient
+  @Builder.Default
+  private boolean newEntity = true;
+
+  @Override
+  public Long getId() {
+    return submissionId;
+  }
+
+  @Override
+  public boolean isNew() {
+    return newEntity;
+  }
+
+  /**
+   * Pre-persist hook to set creation timestamp.
+   */
+  @PrePersist
+  protected void onCreate() {
+    createdAt = LocalDateTime.now();
+  }
+
+  /**
+   * Mark the entity as stored once it has been persisted or loaded.
+   */
+  @PostPersist
+  @PostLoad
+  protected void markStored() {
+    newEntity = false;
+  }
+}
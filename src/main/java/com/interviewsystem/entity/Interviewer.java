@@ -1,5 +1,7 @@
 package com.interviewsystem.entity;
 
+import com.interviewsystem.event.EntityChangePublisher;
+import com.interviewsystem.service.outbox.OutboxRecorder;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -21,6 +23,7 @@ import lombok.ToString;
  * Interviewers can perform manual code quality reviews and provide feedback on submissions.
  */
 @Entity
+@EntityListeners({EntityChangePublisher.class, OutboxRecorder.class})
 @Table(name = "interviewer", indexes = {
     @Index(name = "idx_email", columnList = "email"),
     @Index(name = "idx_active", columnList = "active"),
@@ -0,0 +1,59 @@
+package com.interviewsystem.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * OutboxEvent entity: a submission or evaluation change recorded in the transaction that made it.
+ *
+ * <p>Rows are inserted with plain JDBC just before commit and get their {@code sequence} later,
+ * from the relay, in the order they become visible. The ID only orders inserts; a transaction
+ * that commits late can carry a lower ID than events already relayed, which is why consumers
+ * follow {@code sequence} instead.
+ */
+@Entity
+@Table(name = "outbox_event", indexes = {
+    @Index(name = "uk_outbox_event_sequence", columnList = "sequence_number", unique = true)
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "sequence_number")
+  private Long sequence;
+
+  @Column(name = "aggregate_type", nullable = false, length = 30)
+  @NotBlank(message = "Aggregate type is required")
+  private String aggregateType;
+
+  @Column(name = "aggregate_id", nullable = false)
+  @NotNull(message = "Aggregate ID is required")
+  private Long aggregateId;
+
+  @Column(name = "change_type", nullable = false, length = 10)
+  @NotBlank(message = "Change type is required")
+  private String changeType;
+
+  @Column(nullable = false, columnDefinition = "TEXT")
+  @NotBlank(message = "Payload is required")
+  private String payload;
+
+  @Column(nullable = false, length = 64)
+  @NotBlank(message = "Origin is required")
+  private String origin;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+}
@@ -0,0 +1,46 @@
+package com.interviewsystem.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * OutboxOffset entity: the last outbox sequence a durable consumer has processed.
+ *
+ * <p>A consumer's offset is advanced in the transaction that delivers the batch, so a consumer
+ * whose side effects are in the same database sees every event exactly once. The relay's own
+ * sequence counter is kept as a row here too.
+ */
+@Entity
+@Table(name = "outbox_offset")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxOffset {
+
+  @Id
+  @Column(length = 100)
+  private String consumer;
+
+  @Column(name = "last_sequence", nullable = false)
+  @NotNull(message = "Last sequence is required")
+  @Builder.Default
+  private Long lastSequence = 0L;
+
+  @Column(name = "updated_at", nullable = false)
+  @Builder.Default
+  private LocalDateTime updatedAt = LocalDateTime.now();
+
+  /**
+   * Pre-update hook to update modification timestamp.
+   */
+  @PreUpdate
+  protected void onUpdate() {
+    updatedAt = LocalDateTime.now();
+  }
+}
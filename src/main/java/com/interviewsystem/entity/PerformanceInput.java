@@ -0,0 +1,69 @@
+package com.interviewsystem.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * PerformanceInput entity: one input of a given size for performance grading a problem.
+ *
+ * <p>The input itself lives in the fixture store, referenced by content hash. A problem needs at
+ * least three sizes, ideally spanning two orders of magnitude, for its growth curve to be fitted.
+ */
+@Entity
+@Table(name = "performance_input", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_performance_input_problem_size",
+        columnNames = {"problem_id", "input_size"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(exclude = "problem")
+@ToString(exclude = "problem")
+public class PerformanceInput {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "problem_id", nullable = false)
+  @NotNull(message = "Problem is required")
+  private Problem problem;
+
+  @Column(name = "input_size", nullable = false)
+  @NotNull(message = "Input size is required")
+  @Min(value = 1, message = "Input size must be at least 1")
+  private Long inputSize;
+
+  @Column(name = "input_fixture", nullable = false, length = 64)
+  @NotBlank(message = "Input fixture is required")
+  private String inputFixture;
+
+  @Column(name = "timeout_seconds", nullable = false)
+  @NotNull(message = "Timeout seconds is required")
+  @Min(value = 1, message = "Timeout must be at least 1 second")
+  @Builder.Default
+  private Integer timeoutSeconds = 10;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  @Builder.Default
+  private LocalDateTime createdAt = LocalDateTime.now();
+
+  /**
+   * Pre-persist hook to set creation timestamp.
+   */
+  @PrePersist
+  protected void onCreate() {
+    createdAt = LocalDateTime.now();
+  }
+}
@@ -1,5 +1,6 @@
 package com.interviewsystem.entity;
 
+import com.interviewsystem.event.EntityChangePublisher;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -20,8 +21,13 @@ import lombok.ToString;
  *
  * <p>Defines interview problems with difficulty, category, technology stack, and test cases. Each
  * problem can have multiple submissions from different candidates.
+ *
+ * <p>Algorithm problems can turn on performance grading, which times accepted submissions over the
+ * problem's {@link PerformanceInput}s and compares the fitted growth with
+ * {@code expectedComplexity} (a {@code ComplexityClass} name).
  */
 @Entity
+@EntityListeners(EntityChangePublisher.class)
 @Table(name = "problem", indexes = {
     @Index(name = "idx_difficulty", columnList = "difficulty"),
     @Index(name = "idx_category", columnList = "category"),
@@ -77,6 +83,13 @@ public class Problem {
   @Builder.Default
   private Integer maxScore = 100;
 
+  @Column(name = "performance_grading", nullable = false)
+  @Builder.Default
+  private Boolean performanceGrading = false;
+
+  @Column(name = "expected_complexity", length = 20)
+  private String expectedComplexity;
+
   @Column(name = "created_at", nullable = false, updatable = false)
   @Builder.Default
   private LocalDateTime createdAt = LocalDateTime.now();
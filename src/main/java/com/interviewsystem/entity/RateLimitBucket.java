@@ -0,0 +1,32 @@
+package com.interviewsystem.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * RateLimitBucket entity holding a rate limit bucket shared by every API node.
+ *
+ * <p>The bucket is stored as the epoch millisecond at which it will be full again. Rows whose time
+ * has passed describe full buckets and are swept away.
+ */
+@Entity
+@Table(name = "rate_limit_bucket",
+    indexes = {@Index(name = "idx_rate_limit_full_at", columnList = "full_at")})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RateLimitBucket {
+
+  @Id
+  @Column(name = "bucket_key", length = 200)
+  private String key;
+
+  @Column(name = "full_at", nullable = false)
+  @NotNull(message = "Full time is required")
+  private Long fullAt;
+}
@@ -1,5 +1,8 @@
 package com.interviewsystem.entity;
 
+import com.interviewsystem.event.EntityChangePublisher;
+import com.interviewsystem.service.attempt.SourceDelta;
+import com.interviewsystem.service.outbox.OutboxRecorder;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -16,25 +19,36 @@ import lombok.ToString;
  *
  * <p>Tracks the submitted code, programming language, compilation status, and submission
  * timestamp. Each submission is evaluated separately.
+ *
+ * <p>Ingested attempts are usually stored as a {@link SourceDelta} against an
+ * {@link AttemptSourceBase} shared with the candidate's other attempts at the problem, leaving
+ * {@code code_content} empty. {@link #getCodeContent()} rebuilds the source either way, so readers
+ * never see the encoding; queries selecting the column directly must join the base as well.
  */
 @Entity
+@EntityListeners({EntityChangePublisher.class, OutboxRecorder.class})
 @Table(name = "submission", indexes = {
     @Index(name = "idx_candidate_id", columnList = "candidate_id"),
     @Index(name = "idx_problem_id", columnList = "problem_id"),
     @Index(name = "idx_candidate_problem", columnList = "candidate_id, problem_id"),
     @Index(name = "idx_submitted_at", columnList = "submitted_at"),
-    @Index(name = "idx_compilation_status", columnList = "compilation_status")
+    @Index(name = "idx_compilation_status", columnList = "compilation_status"),
+    @Index(name = "idx_submission_source_base_id", columnList = "source_base_id"),
+    @Index(name = "uk_submission_idempotency_key", columnList = "idempotency_key", unique = true)
 })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@EqualsAndHashCode(exclude = {"candidate", "problem", "evaluation"})
-@ToString(exclude = {"candidate", "problem", "evaluation"})
+@EqualsAndHashCode(doNotUseGetters = true,
+    exclude = {"candidate", "problem", "evaluation", "sourceBase"})
+@ToString(doNotUseGetters = true, exclude = {"candidate", "problem", "evaluation", "sourceBase"})
 public class Submission {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "submission_id_seq")
+  @SequenceGenerator(name = "submission_id_seq", sequenceName = "submission_id_seq",
+      allocationSize = 50)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -47,10 +61,16 @@ public class Submission {
   @NotNull(message = "Problem is required")
   private Problem problem;
 
-  @Column(name = "code_content", nullable = false, columnDefinition = "TEXT")
-  @NotBlank(message = "Code content is required")
+  @Column(name = "code_content", columnDefinition = "TEXT")
   private String codeContent;
 
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "source_base_id")
+  private AttemptSourceBase sourceBase;
+
+  @Column(name = "code_delta", length = 1_048_576)
+  private byte[] codeDelta;
+
   @Column(nullable = false, length = 20)
   @NotBlank(message = "Language is required")
   private String language;
@@ -66,6 +86,9 @@ public class Submission {
   @Column(name = "compilation_error", columnDefinition = "TEXT")
   private String compilationError;
 
+  @Column(name = "idempotency_key", length = 100)
+  private String idempotencyKey;
+
   @Column(name = "created_at", nullable = false, updatable = false)
   @Builder.Default
   private LocalDateTime createdAt = LocalDateTime.now();
@@ -77,6 +100,28 @@ public class Submission {
   @OneToOne(mappedBy = "submission", cascade = CascadeType.ALL, orphanRemoval = true)
   private Evaluation evaluation;
 
+  /**
+   * The submitted source code, rebuilt from the attempt's base and delta when delta-encoded.
+   *
+   * @return the source code
+   */
+  @NotBlank(message = "Code content is required")
+  public String getCodeContent() {
+    if (codeContent == null && sourceBase != null && codeDelta != null) {
+      return SourceDelta.apply(sourceBase.getContent(), codeDelta);
+    }
+    return codeContent;
+  }
+
+  /**
+   * Whether the source is stored as a delta rather than in {@code code_content}.
+   *
+   * @return true if delta-encoded
+   */
+  public boolean isDeltaEncoded() {
+    return codeContent == null && codeDelta != null;
+  }
+
   /**
    * Pre-persist hook to set creation and submission timestamps.
    */
@@ -0,0 +1,74 @@
+package com.interviewsystem.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * SubmissionFingerprint entity storing the MinHash signature of a submission's normalized source.
+ *
+ * <p>Signatures are computed once at ingest so that the per-problem similarity index can be rebuilt
+ * after a restart without re-reading and re-tokenizing every submission. The ID is the submission
+ * ID, so the entity reports itself as new until it has been persisted or loaded.
+ */
+@Entity
+@Table(name = "submission_fingerprint",
+    indexes = {@Index(name = "idx_fingerprint_problem_id", columnList = "problem_id")})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SubmissionFingerprint implements Persistable<Long> {
+
+  @Id
+  @Column(name = "submission_id")
+  private Long submissionId;
+
+  @Column(name = "problem_id", nullable = false)
+  @NotNull(message = "Problem ID is required")
+  private Long problemId;
+
+  @Column(name = "minhash_signature", nullable = false, length = 512)
+  @NotNull(message = "Signature is required")
+  private byte[] signature;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  @Builder.Default
+  private LocalDateTime createdAt = LocalDateTime.now();
+
+  @Transient
+  @Builder.Default
+  private boolean newEntity = true;
+
+  @Override
+  public Long getId() {
+    return submissionId;
+  }
+
+  @Override
+  public boolean isNew() {
+    return newEntity;
+  }
+
+  /**
+   * Pre-persist hook to set creation timestamp.
+   */
+  @PrePersist
+  protected void onCreate() {
+    createdAt = LocalDateTime.now();
+  }
+
+  /**
+   * Mark the entity as stored once it has been persisted or loaded.
+   */
+  @PostPersist
+  @PostLoad
+  protected void markStored() {
+    newEntity = false;
+  }
+}
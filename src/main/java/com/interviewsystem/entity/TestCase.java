@@ -17,6 +17,9 @@ import lombok.ToString;
  *
  * <p>Defines input/output test cases used to evaluate candidate submissions. Test cases have a
  * weight and can be marked as hidden (not visible to candidates).
+ *
+ * <p>Inputs and outputs too large for the 1000-character columns live in the fixture store and are
+ * referenced by content hash; the text columns then hold a short description.
  */
 @Entity
 @Table(name = "test_case", indexes = {@Index(name = "idx_problem_id", columnList = "problem_id")})
@@ -45,6 +48,12 @@ public class TestCase {
   @NotBlank(message = "Expected output is required")
   private String expectedOutput;
 
+  @Column(name = "input_fixture", length = 64)
+  private String inputFixture;
+
+  @Column(name = "expected_output_fixture", length = 64)
+  private String expectedOutputFixture;
+
   @Column(name = "weight_percentage", nullable = false)
   @NotNull(message = "Weight percentage is required")
   @Min(value = 1, message = "Weight percentage must be at least 1")
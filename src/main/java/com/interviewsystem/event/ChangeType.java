@@ -0,0 +1,10 @@
+package com.interviewsystem.event;
+
+/**
+ * Kind of persistence change captured by an {@link EntityChangedEvent}.
+ */
+public enum ChangeType {
+  CREATED,
+  UPDATED,
+  DELETED
+}
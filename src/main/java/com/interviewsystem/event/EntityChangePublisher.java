@@ -0,0 +1,53 @@
+package com.interviewsystem.event;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that republishes lifecycle callbacks as {@link EntityChangedEvent}s.
+ *
+ * <p>Register it on an entity with {@code @EntityListeners(EntityChangePublisher.class)}. Hibernate
+ * resolves the listener through Spring's bean container, so the publisher is injected.
+ */
+@Component
+public class EntityChangePublisher {
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  public EntityChangePublisher(ApplicationEventPublisher eventPublisher) {
+    this.eventPublisher = eventPublisher;
+  }
+
+  /**
+   * Publish a creation event.
+   *
+   * @param entity the persisted entity
+   */
+  @PostPersist
+  public void onPersist(Object entity) {
+    eventPublisher.publishEvent(new EntityChangedEvent<>(entity, ChangeType.CREATED));
+  }
+
+  /**
+   * Publish an update event.
+   *
+   * @param entity the updated entity
+   */
+  @PostUpdate
+  public void onUpdate(Object entity) {
+    eventPublisher.publishEvent(new EntityChangedEvent<>(entity, ChangeType.UPDATED));
+  }
+
+  /**
+   * Publish a removal event.
+   *
+   * @param entity the removed entity
+   */
+  @PostRemove
+  public void onRemove(Object entity) {
+    eventPublisher.publishEvent(new EntityChangedEvent<>(entity, ChangeType.DELETED));
+  }
+}
@@ -0,0 +1,64 @@
+package com.interviewsystem.event;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+
+/**
+ * Application event published whenever a listened entity is persisted, updated or removed.
+ *
+ * <p>The event exposes its entity type as a generic parameter so that consumers can subscribe to a
+ * single entity, e.g. {@code @TransactionalEventListener void on(EntityChangedEvent<Problem> e)}.
+ * Events are published during flush, so consumers that need a consistent view of the database
+ * should listen after commit.
+ *
+ * @param <T> the entity type
+ */
+public class EntityChangedEvent<T> implements ResolvableTypeProvider {
+
+  private final T entity;
+
+  private final ChangeType changeType;
+
+  private final boolean remote;
+
+  /**
+   * Create a new change event.
+   *
+   * @param entity the changed entity
+   * @param changeType the kind of change
+   */
+  public EntityChangedEvent(T entity, ChangeType changeType) {
+    this(entity, changeType, false);
+  }
+
+  /**
+   * Create a new change event.
+   *
+   * @param entity the changed entity
+   * @param changeType the kind of change
+   * @param remote whether the change was committed by another process and replayed from the
+   *     outbox, in which case its side effects in the database have already happened
+   */
+  public EntityChangedEvent(T entity, ChangeType changeType, boolean remote) {
+    this.entity = entity;
+    this.changeType = changeType;
+    this.remote = remote;
+  }
+
+  public T getEntity() {
+    return entity;
+  }
+
+  public ChangeType getChangeType() {
+    return changeType;
+  }
+
+  public boolean isRemote() {
+    return remote;
+  }
+
+  @Override
+  public ResolvableType getResolvableType() {
+    return ResolvableType.forClassWithGenerics(getClass(), ResolvableType.forInstance(entity));
+  }
+}
@@ -0,0 +1,33 @@
+package com.interviewsystem.repository;
+
+import com.interviewsystem.entity.AttemptSourceBase;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for AttemptSourceBase entity.
+ */
+@Repository
+public interface AttemptSourceBaseRepository extends JpaRepository<AttemptSourceBase, Long> {
+
+  /**
+   * Find the newest base of every candidate-problem pair drawn from the given IDs.
+   *
+   * <p>The result may include pairs that combine a candidate and problem the caller did not ask
+   * for together; callers match on both IDs.
+   *
+   * @param candidateIds the candidate IDs
+   * @param problemIds the problem IDs
+   * @return at most one base per candidate-problem pair
+   */
+  @Query("select b from AttemptSourceBase b where b.id in ("
+      + "select max(c.id) from AttemptSourceBase c "
+      + "where c.candidateId in :candidateIds and c.problemId in :problemIds "
+      + "group by c.candidateId, c.problemId)")
+  List<AttemptSourceBase> findCurrent(@Param("candidateIds") Collection<Long> candidateIds,
+      @Param("problemIds") Collection<Long> problemIds);
+}
@@ -1,9 +1,16 @@
 package com.interviewsystem.repository;
 
 import com.interviewsystem.entity.Candidate;
+import com.interviewsystem.service.lookup.EmailId;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -37,4 +44,60 @@ public interface CandidateRepository extends JpaRepository<Candidate, Long> {
    * @return true if candidate exists, false otherwise
    */
   boolean existsByEmail(String email);
+
+  /**
+   * Find the ID of the candidate with an email address, without loading the entity.
+   *
+   * @param email the email to search for
+   * @return the ID, or empty if no candidate has that email
+   */
+  @Query("select c.id from Candidate c where c.email = :email")
+  Optional<Long> findIdByEmail(@Param("email") String email);
+
+  /**
+   * Find the IDs of the candidates with any of the given email addresses.
+   *
+   * @param emails the emails to search for
+   * @return the email and ID of each candidate found
+   */
+  @Query("select new com.interviewsystem.service.lookup.EmailId(c.email, c.id) "
+      + "from Candidate c where c.email in :emails")
+  List<EmailId> findIdsByEmailIn(@Param("emails") Collection<String> emails);
+
+  /**
+   * Stream every candidate email address. Must be consumed inside a transaction and closed.
+   *
+   * @return the email addresses
+   */
+  @Query("select c.email from Candidate c")
+  @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+  Stream<String> streamEmails();
+
+  /**
+   * Return which of the given IDs exist, without loading the entities.
+   *
+   * @param ids the IDs to check
+   * @return the subset of IDs that exist
+   */
+  @Query("select c.id from Candidate c where c.id in :ids")
+  List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Return the tech stacks of the given candidates, without loading the entities.
+   *
+   * @param ids the IDs of the candidates
+   * @return the ID and tech stack of each candidate that exists
+   */
+  @Query("select c.id as id, c.techStack as techStack from Candidate c where c.id in :ids")
+  List<TechStackView> findTechStacks(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Projection of a candidate's ID and tech stack.
+   */
+  interface TechStackView {
+
+    Long getId();
+
+    String getTechStack();
+  }
 }
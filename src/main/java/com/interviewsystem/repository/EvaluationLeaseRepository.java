@@ -0,0 +1,81 @@
+package com.interviewsystem.repository;
+
+import com.interviewsystem.entity.EvaluationLease;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for EvaluationLease entity.
+ */
+@Repository
+public interface EvaluationLeaseRepository extends JpaRepository<EvaluationLease, Long> {
+
+  /**
+   * Load a submission's lease and lock it until the transaction ends, so that only one worker at a
+   * time can take it over.
+   *
+   * @param submissionId the ID of the submission
+   * @return the locked lease, if the submission has one
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select l from EvaluationLease l where l.submissionId = :submissionId")
+  Optional<EvaluationLease> lockBySubmissionId(@Param("submissionId") Long submissionId);
+
+  /**
+   * Extend the leases a worker still holds.
+   *
+   * @param workerId the worker
+   * @param submissionIds the submissions the worker is evaluating
+   * @param expiresAt the new expiry
+   * @param now the heartbeat time
+   * @return the number of leases extended
+   */
+  @Modifying
+  @Query("update EvaluationLease l set l.expiresAt = :expiresAt, l.heartbeatAt = :now "
+      + "where l.workerId = :workerId and l.submissionId in :submissionIds")
+  int extend(@Param("workerId") String workerId,
+      @Param("submissionIds") Collection<Long> submissionIds,
+      @Param("expiresAt") LocalDateTime expiresAt, @Param("now") LocalDateTime now);
+
+  /**
+   * Let a lease expire now so that another worker can retry the submission straight away.
+   *
+   * @param submissionId the ID of the submission
+   * @param workerId the worker that should hold the lease
+   * @param now the current time
+   * @return {@code 1} if the worker held the lease, otherwise {@code 0}
+   */
+  @Modifying
+  @Query("update EvaluationLease l set l.expiresAt = :now "
+      + "where l.submissionId = :submissionId and l.workerId = :workerId")
+  int expire(@Param("submissionId") Long submissionId, @Param("workerId") String workerId,
+      @Param("now") LocalDateTime now);
+
+  /**
+   * Delete a lease once its submission has been evaluated.
+   *
+   * @param submissionId the ID of the submission
+   * @param workerId the worker that should hold the lease
+   * @return {@code 1} if the worker held the lease, otherwise {@code 0}
+   */
+  @Modifying
+  @Query("delete from EvaluationLease l "
+      + "where l.submissionId = :submissionId and l.workerId = :workerId")
+  int deleteHeld(@Param("submissionId") Long submissionId, @Param("workerId") String workerId);
+
+  /**
+   * Count leases that have expired without being taken over.
+   *
+   * @param now the current time
+   * @return the number of expired leases
+   */
+  long countByExpiresAtBefore(LocalDateTime now);
+}
@@ -1,10 +1,24 @@
 package com.interviewsystem.repository;
 
+import com.interviewsystem.dto.EvaluationExport;
 import com.interviewsystem.entity.Evaluation;
+import com.interviewsystem.service.assignment.OpenAssignment;
+import com.interviewsystem.service.evaluation.EvaluationTiming;
+import com.interviewsystem.service.leaderboard.LeaderboardScore;
+import com.interviewsystem.service.rollup.EvaluationActivity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -62,6 +76,17 @@ public interface EvaluationRepository extends JpaRepository<Evaluation, Long> {
    */
   long countByStatus(String status);
 
+  /**
+   * Load the timestamps needed to measure an evaluation's end-to-end latency.
+   *
+   * @param evaluationId the ID of the evaluation
+   * @return the submission and completion timestamps, if the evaluation exists
+   */
+  @Query("select e.id as evaluationId, s.problem.id as problemId, "
+      + "s.submittedAt as submittedAt, e.evaluatedAt as evaluatedAt "
+      + "from Evaluation e join e.submission s where e.id = :evaluationId")
+  Optional<EvaluationTiming> findTiming(@Param("evaluationId") Long evaluationId);
+
   /**
    * Count evaluations performed by a specific interviewer.
    *
@@ -69,4 +94,113 @@ public interface EvaluationRepository extends JpaRepository<Evaluation, Long> {
    * @return the count of evaluations by the interviewer
    */
   long countByInterviewerId(Long interviewerId);
+
+  /**
+   * Find evaluations assigned to an interviewer with a specific status.
+   *
+   * @param interviewerId the ID of the interviewer
+   * @param status the evaluation status
+   * @return a list of matching evaluations
+   */
+  List<Evaluation> findByInterviewerIdAndStatus(Long interviewerId, String status);
+
+  /**
+   * Claim the oldest unassigned pending evaluations for interviewer assignment.
+   *
+   * <p>Rows are locked for update and rows already locked by another node are skipped, so
+   * concurrent assigners never claim the same evaluation. Submission and problem are fetched in
+   * the same statement for expertise matching.
+   *
+   * @param pageable the batch size
+   * @return the claimed evaluations, oldest first
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query("select e from Evaluation e join fetch e.submission s join fetch s.problem "
+      + "where e.status = 'PENDING' and e.interviewer is null order by e.createdAt asc")
+  List<Evaluation> claimUnassignedPending(Pageable pageable);
+
+  /**
+   * Load every evaluation that is assigned to an interviewer and not yet completed.
+   *
+   * @return the open assignments
+   */
+  @Query("select new com.interviewsystem.service.assignment.OpenAssignment(e.id, e.interviewer.id) "
+      + "from Evaluation e where e.interviewer is not null and e.status <> 'COMPLETED'")
+  List<OpenAssignment> findOpenAssignments();
+
+  /**
+   * Load the leaderboard score of every completed evaluation.
+   *
+   * @return scores of all completed evaluations
+   */
+  @Query("select new com.interviewsystem.service.leaderboard.LeaderboardScore("
+      + "e.id, s.id, s.candidate.id, s.problem.id, e.overallScore, s.submittedAt) "
+      + "from Evaluation e join e.submission s where e.status = 'COMPLETED'")
+  List<LeaderboardScore> findCompletedLeaderboardScores();
+
+  /**
+   * Load the leaderboard score of a single evaluation, if it is completed.
+   *
+   * @param evaluationId the ID of the evaluation
+   * @return an Optional containing the score if the evaluation exists and is completed
+   */
+  @Query("select new com.interviewsystem.service.leaderboard.LeaderboardScore("
+      + "e.id, s.id, s.candidate.id, s.problem.id, e.overallScore, s.submittedAt) "
+      + "from Evaluation e join e.submission s "
+      + "where e.id = :evaluationId and e.status = 'COMPLETED'")
+  Optional<LeaderboardScore> findCompletedLeaderboardScore(
+      @Param("evaluationId") Long evaluationId);
+
+  /**
+   * Load the leaderboard scores of a candidate's completed evaluations for one problem.
+   *
+   * @param candidateId the ID of the candidate
+   * @param problemId the ID of the problem
+   * @return scores of the candidate's completed evaluations for the problem
+   */
+  @Query("select new com.interviewsystem.service.leaderboard.LeaderboardScore("
+      + "e.id, s.id, s.candidate.id, s.problem.id, e.overallScore, s.submittedAt) "
+      + "from Evaluation e join e.submission s "
+      + "where s.candidate.id = :candidateId and s.problem.id = :problemId "
+      + "and e.status = 'COMPLETED'")
+  List<LeaderboardScore> findCompletedLeaderboardScores(@Param("candidateId") Long candidateId,
+      @Param("problemId") Long problemId);
+
+  /**
+   * Load the rollup dimensions of a single evaluation, if it is completed.
+   *
+   * @param evaluationId the ID of the evaluation
+   * @return an Optional containing the activity if the evaluation exists and is completed
+   */
+  @Query("select new com.interviewsystem.service.rollup.EvaluationActivity("
+      + "e.id, s.problem.id, s.language, e.overallScore, e.evaluatedAt) "
+      + "from Evaluation e join e.submission s "
+      + "where e.id = :evaluationId and e.status = 'COMPLETED' and e.evaluatedAt is not null")
+  Optional<EvaluationActivity> findCompletedActivity(@Param("evaluationId") Long evaluationId);
+
+  /**
+   * Stream the rollup dimensions of every evaluation completed since a point in time.
+   *
+   * @param since the inclusive lower bound on evaluation time
+   * @return the evaluations' activity, in no particular order
+   */
+  @Query("select new com.interviewsystem.service.rollup.EvaluationActivity("
+      + "e.id, s.problem.id, s.language, e.overallScore, e.evaluatedAt) "
+      + "from Evaluation e join e.submission s "
+      + "where e.status = 'COMPLETED' and e.evaluatedAt >= :since")
+  Stream<EvaluationActivity> streamCompletedActivitySince(@Param("since") LocalDateTime since);
+
+  /**
+   * Stream a page of evaluations for bulk export, ordered by ID.
+   *
+   * @param afterId only evaluations with a greater ID are returned (keyset cursor)
+   * @param limit the maximum number of rows to return
+   * @return the export rows, in ascending ID order
+   */
+  @Query("select new com.interviewsystem.dto.EvaluationExport("
+      + "e.id, e.submission.id, i.id, e.testPassCount, e.totalTestCases, e.executionScore, "
+      + "e.codeQualityScore, e.overallScore, e.status, e.evaluatedAt) "
+      + "from Evaluation e left join e.interviewer i where e.id > :afterId order by e.id")
+  Stream<EvaluationExport> streamExport(@Param("afterId") Long afterId, Limit limit);
 }
@@ -1,9 +1,16 @@
 package com.interviewsystem.repository;
 
 import com.interviewsystem.entity.Interviewer;
+import com.interviewsystem.service.lookup.EmailId;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -60,6 +67,34 @@ public interface InterviewerRepository extends JpaRepository<Interviewer, Long>
    */
   boolean existsByEmail(String email);
 
+  /**
+   * Find the ID of the interviewer with an email address, without loading the entity.
+   *
+   * @param email the email to search for
+   * @return the ID, or empty if no interviewer has that email
+   */
+  @Query("select i.id from Interviewer i where i.email = :email")
+  Optional<Long> findIdByEmail(@Param("email") String email);
+
+  /**
+   * Find the IDs of the interviewers with any of the given email addresses.
+   *
+   * @param emails the emails to search for
+   * @return the email and ID of each interviewer found
+   */
+  @Query("select new com.interviewsystem.service.lookup.EmailId(i.email, i.id) "
+      + "from Interviewer i where i.email in :emails")
+  List<EmailId> findIdsByEmailIn(@Param("emails") Collection<String> emails);
+
+  /**
+   * Stream every interviewer email address. Must be consumed inside a transaction and closed.
+   *
+   * @return the email addresses
+   */
+  @Query("select i.email from Interviewer i")
+  @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+  Stream<String> streamEmails();
+
   /**
    * Count active interviewers.
    *
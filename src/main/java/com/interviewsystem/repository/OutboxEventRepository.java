@@ -0,0 +1,56 @@
+package com.interviewsystem.repository;
+
+import com.interviewsystem.entity.OutboxEvent;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for OutboxEvent entity.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+  /**
+   * Find committed events the relay has not sequenced yet, in insert order.
+   *
+   * @param pageable the maximum number of events to return
+   * @return the unsequenced events
+   */
+  @Query("select e from OutboxEvent e where e.sequence is null order by e.id")
+  List<OutboxEvent> findUnsequenced(Pageable pageable);
+
+  /**
+   * Find sequenced events after a consumer offset.
+   *
+   * @param after the last sequence already processed
+   * @param pageable the maximum number of events to return
+   * @return the events in sequence order
+   */
+  @Query("select e from OutboxEvent e where e.sequence > :after order by e.sequence")
+  List<OutboxEvent> findAfter(@Param("after") long after, Pageable pageable);
+
+  /**
+   * Find the highest sequence assigned so far.
+   *
+   * @return the head sequence, or {@code null} if nothing has been sequenced
+   */
+  @Query("select max(e.sequence) from OutboxEvent e")
+  Long findHeadSequence();
+
+  /**
+   * Delete events every durable consumer has processed, once they are old enough.
+   *
+   * @param upTo the lowest durable consumer offset
+   * @param before only events created before this time are deleted
+   * @return the number of events deleted
+   */
+  @Modifying
+  @Query("delete from OutboxEvent e where e.sequence <= :upTo and e.createdAt < :before")
+  int deleteProcessed(@Param("upTo") long upTo, @Param("before") LocalDateTime before);
+}
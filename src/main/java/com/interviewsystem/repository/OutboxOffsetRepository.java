@@ -0,0 +1,37 @@
+package com.interviewsystem.repository;
+
+import com.interviewsystem.entity.OutboxOffset;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for OutboxOffset entity.
+ */
+@Repository
+public interface OutboxOffsetRepository extends JpaRepository<OutboxOffset, String> {
+
+  /**
+   * Load a consumer's offset and lock it until the transaction ends, so that only one relay
+   * delivers to the consumer at a time.
+   *
+   * @param consumer the consumer name
+   * @return the locked offset, if the consumer has one
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select o from OutboxOffset o where o.consumer = :consumer")
+  Optional<OutboxOffset> lockByConsumer(@Param("consumer") String consumer);
+
+  /**
+   * Find the lowest offset among durable consumers.
+   *
+   * @param sequencer the name of the relay's sequence counter row, which is excluded
+   * @return the lowest offset, or {@code null} if there are no durable consumers
+   */
+  @Query("select min(o.lastSequence) from OutboxOffset o where o.consumer <> :sequencer")
+  Long findLowestOffset(@Param("sequencer") String sequencer);
+}
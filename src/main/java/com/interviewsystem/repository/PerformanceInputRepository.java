@@ -0,0 +1,21 @@
+package com.interviewsystem.repository;
+
+import com.interviewsystem.entity.PerformanceInput;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for PerformanceInput entity.
+ */
+@Repository
+public interface PerformanceInputRepository extends JpaRepository<PerformanceInput, Long> {
+
+  /**
+   * Find a problem's performance inputs, smallest first.
+   *
+   * @param problemId the ID of the problem
+   * @return the inputs in ascending size order
+   */
+  List<PerformanceInput> findByProblemIdOrderByInputSizeAsc(Long problemId);
+}
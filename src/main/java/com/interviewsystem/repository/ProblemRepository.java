@@ -1,9 +1,12 @@
 package com.interviewsystem.repository;
 
 import com.interviewsystem.entity.Problem;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -62,4 +65,13 @@ public interface ProblemRepository extends JpaRepository<Problem, Long> {
    * @return true if problem exists, false otherwise
    */
   boolean existsByTitle(String title);
+
+  /**
+   * Return which of the given IDs exist, without loading the entities.
+   *
+   * @param ids the IDs to check
+   * @return the subset of IDs that exist
+   */
+  @Query("select p.id from Problem p where p.id in :ids")
+  List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
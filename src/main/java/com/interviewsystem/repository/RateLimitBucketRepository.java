@@ -0,0 +1,38 @@
+package com.interviewsystem.repository;
+
+import com.interviewsystem.entity.RateLimitBucket;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for RateLimitBucket entity.
+ */
+@Repository
+public interface RateLimitBucketRepository extends JpaRepository<RateLimitBucket, String> {
+
+  /**
+   * Load a bucket and lock it until the transaction ends.
+   *
+   * @param key the bucket key
+   * @return the locked bucket, if the key has one
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select b from RateLimitBucket b where b.key = :key")
+  Optional<RateLimitBucket> lockByKey(@Param("key") String key);
+
+  /**
+   * Delete buckets that are full again.
+   *
+   * @param now the current epoch millisecond
+   * @return the number of buckets deleted
+   */
+  @Modifying
+  @Query("delete from RateLimitBucket b where b.fullAt <= :now")
+  int deleteFull(@Param("now") long now);
+}
@@ -0,0 +1,37 @@
+package com.interviewsystem.repository;
+
+import com.interviewsystem.entity.Submission;
+import com.interviewsystem.entity.SubmissionFingerprint;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for SubmissionFingerprint entity.
+ *
+ * <p>Provides CRUD operations and queries used to rebuild the similarity index.
+ */
+@Repository
+public interface SubmissionFingerprintRepository
+    extends JpaRepository<SubmissionFingerprint, Long> {
+
+  /**
+   * Find all fingerprints for a specific problem.
+   *
+   * @param problemId the ID of the problem
+   * @return a list of fingerprints for the problem
+   */
+  List<SubmissionFingerprint> findByProblemId(Long problemId);
+
+  /**
+   * Find submissions that have no fingerprint yet, for backfilling.
+   *
+   * @param pageable the batch size
+   * @return a batch of submissions without a fingerprint
+   */
+  @Query("select s from Submission s where not exists "
+      + "(select 1 from SubmissionFingerprint f where f.submissionId = s.id) order by s.id")
+  List<Submission> findSubmissionsWithoutFingerprint(Pageable pageable);
+}
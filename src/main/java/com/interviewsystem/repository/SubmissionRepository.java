@@ -1,9 +1,18 @@
 package com.interviewsystem.repository;
 
+import com.interviewsystem.dto.SubmissionExport;
 import com.interviewsystem.entity.Submission;
+import com.interviewsystem.service.dossier.DossierAttemptRow;
+import com.interviewsystem.service.rollup.SubmissionActivity;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -39,6 +48,20 @@ public interface SubmissionRepository extends JpaRepository<Submission, Long> {
    */
   List<Submission> findByCandidateIdAndProblemId(Long candidateId, Long problemId);
 
+  /**
+   * Load a candidate's attempts at a problem with their base sources and evaluations, oldest
+   * first, so that every attempt can be rebuilt without further queries.
+   *
+   * @param candidateId the ID of the candidate
+   * @param problemId the ID of the problem
+   * @return the attempts in submission order
+   */
+  @Query("select s from Submission s left join fetch s.sourceBase left join fetch s.evaluation "
+      + "where s.candidate.id = :candidateId and s.problem.id = :problemId "
+      + "order by s.submittedAt asc, s.id asc")
+  List<Submission> findAttemptHistory(@Param("candidateId") Long candidateId,
+      @Param("problemId") Long problemId);
+
   /**
    * Find all submissions with a specific compilation status.
    *
@@ -47,6 +70,43 @@ public interface SubmissionRepository extends JpaRepository<Submission, Long> {
    */
   List<Submission> findByCompilationStatus(String compilationStatus);
 
+  /**
+   * Find the IDs of the oldest submissions with a specific compilation status.
+   *
+   * @param compilationStatus the compilation status
+   * @param pageable the maximum number of IDs to return
+   * @return submission IDs in submission order
+   */
+  @Query("select s.id from Submission s where s.compilationStatus = :compilationStatus "
+      + "order by s.submittedAt asc, s.id asc")
+  List<Long> findIdsByCompilationStatus(@Param("compilationStatus") String compilationStatus,
+      Pageable pageable);
+
+  /**
+   * Count submissions with a specific compilation status.
+   *
+   * @param compilationStatus the compilation status
+   * @return the count of submissions with the given status
+   */
+  long countByCompilationStatus(String compilationStatus);
+
+  /**
+   * Find the IDs of the oldest submissions with a specific compilation status that no worker holds
+   * a live lease on.
+   *
+   * @param compilationStatus the compilation status
+   * @param now the current time; leases expiring before it are ignored
+   * @param pageable the maximum number of IDs to return
+   * @return submission IDs in submission order
+   */
+  @Query("select s.id from Submission s where s.compilationStatus = :compilationStatus "
+      + "and not exists (select l.submissionId from EvaluationLease l "
+      + "where l.submissionId = s.id and l.expiresAt > :now) "
+      + "order by s.submittedAt asc, s.id asc")
+  List<Long> findUnleasedIdsByCompilationStatus(
+      @Param("compilationStatus") String compilationStatus, @Param("now") LocalDateTime now,
+      Pageable pageable);
+
   /**
    * Find submissions submitted within a time range.
    *
@@ -71,4 +131,97 @@ public interface SubmissionRepository extends JpaRepository<Submission, Long> {
    * @return the count of submissions for the problem
    */
   long countByProblemId(Long problemId);
+
+  /**
+   * Find the IDs of every problem a candidate has submitted to, without loading submissions.
+   *
+   * @param candidateId the ID of the candidate
+   * @return the distinct problem IDs
+   */
+  @Query("select distinct s.problem.id from Submission s where s.candidate.id = :candidateId")
+  List<Long> findAttemptedProblemIds(@Param("candidateId") Long candidateId);
+
+  /**
+   * Find existing submissions by idempotency key, loading only the key and ID.
+   *
+   * @param idempotencyKeys the keys to look up
+   * @return the key and ID of each existing submission
+   */
+  List<IdempotencyKeyView> findByIdempotencyKeyIn(Collection<String> idempotencyKeys);
+
+  /**
+   * Stream the rollup dimensions of every submission made since a point in time.
+   *
+   * @param since the inclusive lower bound on submission time
+   * @return the submissions' activity, in no particular order
+   */
+  @Query("select new com.interviewsystem.service.rollup.SubmissionActivity("
+      + "s.id, s.problem.id, s.language, s.compilationStatus, s.submittedAt) "
+      + "from Submission s where s.submittedAt >= :since")
+  Stream<SubmissionActivity> streamActivitySince(@Param("since") LocalDateTime since);
+
+  /**
+   * Load a candidate's best and latest attempt at every problem they have submitted to, together
+   * with problem, evaluation and interviewer columns, in a single round trip.
+   *
+   * <p>Window functions rank each candidate's submissions per problem twice: by completed overall
+   * score (earliest submission first on ties) and by recency. Only rows ranked first by either
+   * ordering are returned, so a problem yields one row when its best attempt is also its latest.
+   *
+   * @param candidateId the ID of the candidate
+   * @param feedbackLength the number of feedback characters to return per evaluation
+   * @return the best and latest attempt rows, most recently attempted problem first
+   */
+  @Query(value = "select r.problem_id as problemId, p.title as problemTitle, "
+      + "p.difficulty as difficulty, p.category as category, r.attempts as attempts, "
+      + "r.best_rank as bestRank, r.latest_rank as latestRank, s.id as submissionId, "
+      + "s.language as language, s.compilation_status as compilationStatus, "
+      + "s.submitted_at as submittedAt, e.id as evaluationId, e.status as evaluationStatus, "
+      + "e.overall_score as overallScore, e.execution_score as executionScore, "
+      + "e.code_quality_score as codeQualityScore, e.test_pass_count as testPassCount, "
+      + "e.total_test_cases as totalTestCases, e.evaluated_at as evaluatedAt, "
+      + "i.first_name as interviewerFirstName, i.last_name as interviewerLastName, "
+      + "left(e.feedback, :feedbackLength) as feedback "
+      + "from (select s.id as submission_id, s.problem_id, "
+      + "count(*) over (partition by s.problem_id) as attempts, "
+      + "max(s.submitted_at) over (partition by s.problem_id) as last_submitted_at, "
+      + "row_number() over (partition by s.problem_id order by "
+      + "case when e.status = 'COMPLETED' then e.overall_score end desc nulls last, "
+      + "s.submitted_at, s.id) as best_rank, "
+      + "row_number() over (partition by s.problem_id order by s.submitted_at desc, s.id desc) "
+      + "as latest_rank "
+      + "from submission s left join evaluation e on e.submission_id = s.id "
+      + "where s.candidate_id = :candidateId) r "
+      + "join submission s on s.id = r.submission_id "
+      + "join problem p on p.id = r.problem_id "
+      + "left join evaluation e on e.submission_id = s.id "
+      + "left join interviewer i on i.id = e.interviewer_id "
+      + "where r.best_rank = 1 or r.latest_rank = 1 "
+      + "order by r.last_submitted_at desc, r.problem_id, r.latest_rank",
+      nativeQuery = true)
+  List<DossierAttemptRow> findDossierAttempts(@Param("candidateId") Long candidateId,
+      @Param("feedbackLength") int feedbackLength);
+
+  /**
+   * Projection of a submission's idempotency key and ID.
+   */
+  interface IdempotencyKeyView {
+
+    String getIdempotencyKey();
+
+    Long getId();
+  }
+
+  /**
+   * Stream a page of submissions for bulk export, ordered by ID.
+   *
+   * @param afterId only submissions with a greater ID are returned (keyset cursor)
+   * @param limit the maximum number of rows to return
+   * @return the export rows, in ascending ID order
+   */
+  @Query("select new com.interviewsystem.dto.SubmissionExport("
+      + "s.id, s.candidate.id, s.problem.id, s.language, s.compilationStatus, s.submittedAt, "
+      + "s.codeContent, b.content, s.codeDelta) "
+      + "from Submission s left join s.sourceBase b where s.id > :afterId order by s.id")
+  Stream<SubmissionExport> streamExport(@Param("afterId") Long afterId, Limit limit);
 }
@@ -1,8 +1,13 @@
 package com.interviewsystem.repository;
 
+import com.interviewsystem.dto.TestCaseExport;
 import com.interviewsystem.entity.TestCase;
 import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -37,4 +42,17 @@ public interface TestCaseRepository extends JpaRepository<TestCase, Long> {
    * @return the count of test cases for the problem
    */
   long countByProblemId(Long problemId);
+
+  /**
+   * Stream a page of test cases for bulk export, ordered by ID.
+   *
+   * @param afterId only test cases with a greater ID are returned (keyset cursor)
+   * @param limit the maximum number of rows to return
+   * @return the export rows, in ascending ID order
+   */
+  @Query("select new com.interviewsystem.dto.TestCaseExport("
+      + "t.id, t.problem.id, t.inputDescription, t.expectedOutput, t.weightPercentage, "
+      + "t.isHidden, t.timeoutSeconds, t.inputFixture, t.expectedOutputFixture) "
+      + "from TestCase t where t.id > :afterId order by t.id")
+  Stream<TestCaseExport> streamExport(@Param("afterId") Long afterId, Limit limit);
 }
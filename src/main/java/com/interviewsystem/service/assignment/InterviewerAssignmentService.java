@@ -0,0 +1,225 @@
+package com.interviewsystem.service.assignment;
+
+import com.interviewsystem.config.AssignmentProperties;
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.dto.AssignmentResult;
+import com.interviewsystem.dto.InterviewerWorkloadView;
+import com.interviewsystem.entity.Evaluation;
+import com.interviewsystem.entity.Interviewer;
+import com.interviewsystem.entity.Problem;
+import com.interviewsystem.event.ChangeType;
+import com.interviewsystem.event.EntityChangedEvent;
+import com.interviewsystem.repository.EvaluationRepository;
+import com.interviewsystem.repository.InterviewerRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Assigns pending evaluations to active interviewers in batches, balancing open load.
+ *
+ * <p>Interviewer loads live in a {@link WorkloadIndex} that is loaded once at startup and then
+ * maintained from evaluation and interviewer change events, so no per-interviewer counting queries
+ * are issued. Each evaluation is matched on the problem's primary tech stack first, then its
+ * category. Only when {@code interview.assignment.fallback-to-any-interviewer} is set does it fall
+ * back to any interviewer with spare capacity; otherwise it stays unassigned until a matching
+ * interviewer frees up. When an interviewer is deactivated, their in-review evaluations are
+ * released and reassigned.
+ */
+@Slf4j
+@Service
+@ConditionalOnRole(DeploymentRole.API)
+public class InterviewerAssignmentService {
+
+  static final String STATUS_PENDING = "PENDING";
+
+  static final String STATUS_IN_REVIEW = "IN_REVIEW";
+
+  static final String STATUS_COMPLETED = "COMPLETED";
+
+  private final EvaluationRepository evaluationRepository;
+
+  private final InterviewerRepository interviewerRepository;
+
+  private final AssignmentProperties properties;
+
+  private final WorkloadIndex index = new WorkloadIndex();
+
+  public InterviewerAssignmentService(EvaluationRepository evaluationRepository,
+      InterviewerRepository interviewerRepository, AssignmentProperties properties) {
+    this.evaluationRepository = evaluationRepository;
+    this.interviewerRepository = interviewerRepository;
+    this.properties = properties;
+  }
+
+  /**
+   * Load active interviewers and open assignments into the workload index.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public void rebuild() {
+    Map<Long, Set<String>> interviewers = new HashMap<>();
+    for (String role : properties.getRoles()) {
+      for (Interviewer interviewer : interviewerRepository.findByRoleAndActiveTrue(role)) {
+        interviewers.put(interviewer.getId(), expertiseOf(interviewer));
+      }
+    }
+    index.reset(interviewers, evaluationRepository.findOpenAssignments());
+    log.info("Loaded workloads for {} active interviewers", interviewers.size());
+  }
+
+  /**
+   * Run one assignment batch on the configured schedule.
+   */
+  @Scheduled(fixedDelayString = "${interview.assignment.interval-ms:5000}")
+  public void scheduledAssignment() {
+    if (properties.isEnabled()) {
+      AssignmentResult result = assignPending();
+      if (result.getClaimed() > 0) {
+        log.debug("Assignment batch: {}", result);
+      }
+    }
+  }
+
+  /**
+   * Claim a batch of unassigned pending evaluations and assign them to interviewers.
+   *
+   * <p>Assigned evaluations move to {@code IN_REVIEW}. Evaluations for which every interviewer
+   * with matching expertise is at capacity stay pending for a later batch, unless
+   * {@code interview.assignment.fallback-to-any-interviewer} is set.
+   *
+   * @return counts of claimed, assigned and deferred evaluations
+   */
+  @Transactional
+  public AssignmentResult assignPending() {
+    List<Evaluation> claimed = evaluationRepository.claimUnassignedPending(
+        PageRequest.of(0, properties.getBatchSize()));
+    List<Long> assigned = new ArrayList<>(claimed.size());
+    for (Evaluation evaluation : claimed) {
+      Optional<Long> interviewerId = index.assign(evaluation.getId(),
+          skillsFor(evaluation.getSubmission().getProblem()), properties.getMaxOpenPerInterviewer(),
+          properties.isFallbackToAnyInterviewer());
+      if (interviewerId.isPresent()) {
+        evaluation.setInterviewer(interviewerRepository.getReferenceById(interviewerId.get()));
+        evaluation.setStatus(STATUS_IN_REVIEW);
+        assigned.add(evaluation.getId());
+      }
+    }
+    forgetOnRollback(assigned);
+    return AssignmentResult.builder()
+        .claimed(claimed.size())
+        .assigned(assigned.size())
+        .deferred(claimed.size() - assigned.size())
+        .build();
+  }
+
+  /**
+   * Keep interviewer loads in step with committed evaluation changes.
+   *
+   * @param event the evaluation change
+   */
+  @TransactionalEventListener
+  public void onEvaluationChanged(EntityChangedEvent<Evaluation> event) {
+    Evaluation evaluation = event.getEntity();
+    boolean open = event.getChangeType() != ChangeType.DELETED
+        && evaluation.getInterviewer() != null
+        && !STATUS_COMPLETED.equals(evaluation.getStatus());
+    index.track(evaluation.getId(), open ? evaluation.getInterviewer().getId() : null);
+  }
+
+  /**
+   * Index new or changed interviewers and rebalance work away from deactivated ones. Changes
+   * replayed from another process only update the index; that process has already rebalanced.
+   *
+   * @param event the interviewer change
+   */
+  @TransactionalEventListener
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void onInterviewerChanged(EntityChangedEvent<Interviewer> event) {
+    Interviewer interviewer = event.getEntity();
+    boolean eligible = event.getChangeType() != ChangeType.DELETED
+        && Boolean.TRUE.equals(interviewer.getActive())
+        && properties.getRoles().contains(interviewer.getRole());
+    if (eligible) {
+      index.upsertInterviewer(interviewer.getId(), expertiseOf(interviewer));
+    } else if (index.removeInterviewer(interviewer.getId()) && !event.isRemote()) {
+      rebalance(interviewer.getId());
+    }
+  }
+
+  public List<InterviewerWorkloadView> getWorkloads() {
+    return index.snapshot();
+  }
+
+  private void rebalance(Long interviewerId) {
+    List<Evaluation> inReview =
+        evaluationRepository.findByInterviewerIdAndStatus(interviewerId, STATUS_IN_REVIEW);
+    for (Evaluation evaluation : inReview) {
+      evaluation.setInterviewer(null);
+      evaluation.setStatus(STATUS_PENDING);
+    }
+    evaluationRepository.flush();
+    log.info("Released {} evaluations from inactive interviewer {}", inReview.size(),
+        interviewerId);
+    if (!inReview.isEmpty()) {
+      assignPending();
+    }
+  }
+
+  private void forgetOnRollback(List<Long> assignedEvaluationIds) {
+    if (assignedEvaluationIds.isEmpty()
+        || !TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        if (status != STATUS_COMMITTED) {
+          assignedEvaluationIds.forEach(id -> index.track(id, null));
+        }
+      }
+    });
+  }
+
+  private static List<String> skillsFor(Problem problem) {
+    Problem unproxied = (Problem) Hibernate.unproxy(problem);
+    Set<String> skills = new LinkedHashSet<>();
+    if (unproxied.getPrimaryTechStack() != null) {
+      skills.add(unproxied.getPrimaryTechStack().toUpperCase(Locale.ROOT));
+    }
+    if (unproxied.getCategory() != null) {
+      skills.add(unproxied.getCategory().toUpperCase(Locale.ROOT));
+    }
+    return List.copyOf(skills);
+  }
+
+  private static Set<String> expertiseOf(Interviewer interviewer) {
+    Set<String> expertise = new LinkedHashSet<>();
+    if (interviewer.getExpertiseAreas() != null) {
+      for (String area : interviewer.getExpertiseAreas().split(",")) {
+        if (!area.isBlank()) {
+          expertise.add(area.trim().toUpperCase(Locale.ROOT));
+        }
+      }
+    }
+    return expertise;
+  }
+}
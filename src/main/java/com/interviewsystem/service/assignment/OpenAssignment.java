@@ -0,0 +1,14 @@
+package com.interviewsystem.service.assignment;
+
+import lombok.Value;
+
+/**
+ * An evaluation that is assigned to an interviewer and not yet completed.
+ */
+@Value
+public class OpenAssignment {
+
+  Long evaluationId;
+
+  Long interviewerId;
+}
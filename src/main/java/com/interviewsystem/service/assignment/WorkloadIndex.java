@@ -0,0 +1,206 @@
+package com.interviewsystem.service.assignment;
+
+import com.interviewsystem.dto.InterviewerWorkloadView;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * In-memory index of active interviewers ordered by open evaluation load, per expertise area.
+ *
+ * <p>Each interviewer appears in one load-ordered set per expertise area plus a global set, so the
+ * least-loaded interviewer for a skill is found in O(log n). The index also tracks which
+ * interviewer every open evaluation is assigned to, which lets it derive loads from evaluation
+ * changes without counting queries. All methods are synchronized.
+ */
+class WorkloadIndex {
+
+  private static final Comparator<Workload> BY_LOAD =
+      Comparator.comparingInt((Workload w) -> w.openEvaluations)
+          .thenComparing(w -> w.interviewerId);
+
+  private final Map<Long, Workload> workloads = new HashMap<>();
+
+  private final Map<String, NavigableSet<Workload>> bySkill = new HashMap<>();
+
+  private final NavigableSet<Workload> all = new TreeSet<>(BY_LOAD);
+
+  private final Map<Long, Long> openAssignments = new HashMap<>();
+
+  /**
+   * Replace the index contents.
+   *
+   * @param interviewers active interviewer IDs mapped to their expertise areas
+   * @param assignments every open assignment
+   */
+  synchronized void reset(Map<Long, Set<String>> interviewers,
+      Collection<OpenAssignment> assignments) {
+    workloads.clear();
+    bySkill.clear();
+    all.clear();
+    openAssignments.clear();
+    interviewers.forEach(this::upsertInterviewer);
+    for (OpenAssignment assignment : assignments) {
+      track(assignment.getEvaluationId(), assignment.getInterviewerId());
+    }
+  }
+
+  /**
+   * Add an interviewer or update their expertise areas.
+   *
+   * @param interviewerId the interviewer ID
+   * @param expertise the interviewer's expertise areas
+   */
+  synchronized void upsertInterviewer(Long interviewerId, Set<String> expertise) {
+    Workload existing = workloads.get(interviewerId);
+    int load = 0;
+    if (existing != null) {
+      unlink(existing);
+      load = existing.openEvaluations;
+    } else {
+      for (Long assigned : openAssignments.values()) {
+        if (assigned.equals(interviewerId)) {
+          load++;
+        }
+      }
+    }
+    Workload workload = new Workload(interviewerId, Set.copyOf(expertise), load);
+    workloads.put(interviewerId, workload);
+    link(workload);
+  }
+
+  /**
+   * Stop assigning work to an interviewer.
+   *
+   * @param interviewerId the interviewer ID
+   * @return true if the interviewer was indexed
+   */
+  synchronized boolean removeInterviewer(Long interviewerId) {
+    Workload workload = workloads.remove(interviewerId);
+    if (workload == null) {
+      return false;
+    }
+    unlink(workload);
+    return true;
+  }
+
+  /**
+   * Pick the least-loaded interviewer below the cap and record the assignment.
+   *
+   * <p>Skills are tried in order. If no interviewer with any of them has capacity, the evaluation
+   * is left unassigned unless {@code anyInterviewer} is set, in which case the globally
+   * least-loaded interviewer is used. Evaluations without skills can go to anyone.
+   *
+   * @param evaluationId the evaluation to assign
+   * @param skills the preferred expertise areas, most relevant first
+   * @param cap the maximum open evaluations per interviewer
+   * @param anyInterviewer whether to fall back to interviewers without a matching skill
+   * @return the chosen interviewer ID, or empty if no eligible interviewer has capacity
+   */
+  synchronized Optional<Long> assign(Long evaluationId, List<String> skills, int cap,
+      boolean anyInterviewer) {
+    Workload chosen = null;
+    for (String skill : skills) {
+      chosen = leastLoaded(bySkill.get(skill), cap);
+      if (chosen != null) {
+        break;
+      }
+    }
+    if (chosen == null && (anyInterviewer || skills.isEmpty())) {
+      chosen = leastLoaded(all, cap);
+    }
+    if (chosen == null) {
+      return Optional.empty();
+    }
+    track(evaluationId, chosen.interviewerId);
+    return Optional.of(chosen.interviewerId);
+  }
+
+  /**
+   * Record the current assignee of an evaluation, adjusting interviewer loads.
+   *
+   * @param evaluationId the evaluation ID
+   * @param interviewerId the assigned interviewer, or null if the evaluation is unassigned or
+   *     completed
+   */
+  synchronized void track(Long evaluationId, Long interviewerId) {
+    Long previous = interviewerId == null
+        ? openAssignments.remove(evaluationId)
+        : openAssignments.put(evaluationId, interviewerId);
+    if (previous != null && previous.equals(interviewerId)) {
+      return;
+    }
+    adjust(previous, -1);
+    adjust(interviewerId, 1);
+  }
+
+  synchronized List<InterviewerWorkloadView> snapshot() {
+    List<InterviewerWorkloadView> views = new ArrayList<>(all.size());
+    for (Workload workload : all) {
+      views.add(InterviewerWorkloadView.builder()
+          .interviewerId(workload.interviewerId)
+          .expertise(workload.expertise)
+          .openEvaluations(workload.openEvaluations)
+          .build());
+    }
+    return views;
+  }
+
+  private void adjust(Long interviewerId, int delta) {
+    Workload workload = interviewerId == null ? null : workloads.get(interviewerId);
+    if (workload == null) {
+      return;
+    }
+    unlink(workload);
+    workload.openEvaluations += delta;
+    link(workload);
+  }
+
+  private void link(Workload workload) {
+    all.add(workload);
+    for (String skill : workload.expertise) {
+      bySkill.computeIfAbsent(skill, s -> new TreeSet<>(BY_LOAD)).add(workload);
+    }
+  }
+
+  private void unlink(Workload workload) {
+    all.remove(workload);
+    for (String skill : workload.expertise) {
+      NavigableSet<Workload> candidates = bySkill.get(skill);
+      candidates.remove(workload);
+      if (candidates.isEmpty()) {
+        bySkill.remove(skill);
+      }
+    }
+  }
+
+  private static Workload leastLoaded(NavigableSet<Workload> candidates, int cap) {
+    if (candidates == null || candidates.isEmpty()) {
+      return null;
+    }
+    Workload first = candidates.first();
+    return first.openEvaluations < cap ? first : null;
+  }
+
+  private static final class Workload {
+
+    private final Long interviewerId;
+
+    private final Set<String> expertise;
+
+    private int openEvaluations;
+
+    private Workload(Long interviewerId, Set<String> expertise, int openEvaluations) {
+      this.interviewerId = interviewerId;
+      this.expertise = expertise;
+      this.openEvaluations = openEvaluations;
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package com.interviewsystem.service.attempt;
+
+import com.interviewsystem.config.AttemptProperties;
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.entity.AttemptSourceBase;
+import com.interviewsystem.entity.Submission;
+import com.interviewsystem.repository.AttemptSourceBaseRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores new submissions as deltas against their candidate's current base source for the problem.
+ *
+ * <p>Every delta is taken against the base, not the previous attempt, so rebuilding any attempt
+ * reads exactly one base and one delta. The cost is that deltas grow as attempts drift from the
+ * base; once a delta would exceed {@code maxDeltaRatio} of the source, or the base has served
+ * {@code rebaseEvery} attempts, the submission's source becomes the new base instead.
+ */
+@Component
+@ConditionalOnRole(DeploymentRole.API)
+public class AttemptDeltaEncoder {
+
+  private final AttemptSourceBaseRepository baseRepository;
+
+  private final AttemptProperties properties;
+
+  public AttemptDeltaEncoder(AttemptSourceBaseRepository baseRepository,
+      AttemptProperties properties) {
+    this.baseRepository = baseRepository;
+    this.properties = properties;
+  }
+
+  /**
+   * Delta-encode submissions about to be inserted, in the order given.
+   *
+   * <p>Looks up the current bases of all candidate-problem pairs in one query. Must run in the
+   * transaction that inserts the submissions; new and updated bases are saved here.
+   *
+   * @param submissions new submissions, oldest attempt first, with code content set
+   */
+  public void encode(List<Submission> submissions) {
+    if (!properties.isDeltaEncoding() || submissions.isEmpty()) {
+      return;
+    }
+    Set<Long> candidateIds = new HashSet<>();
+    Set<Long> problemIds = new HashSet<>();
+    for (Submission submission : submissions) {
+      candidateIds.add(submission.getCandidate().getId());
+      problemIds.add(submission.getProblem().getId());
+    }
+    Map<List<Long>, AttemptSourceBase> current = new HashMap<>();
+    for (AttemptSourceBase base : baseRepository.findCurrent(candidateIds, problemIds)) {
+      current.put(List.of(base.getCandidateId(), base.getProblemId()), base);
+    }
+    for (Submission submission : submissions) {
+      List<Long> pair = List.of(submission.getCandidate().getId(), submission.getProblem().getId());
+      String source = submission.getCodeContent();
+      AttemptSourceBase base = current.get(pair);
+      byte[] delta = base == null || base.getAttempts() >= properties.getRebaseEvery()
+          ? null
+          : SourceDelta.encode(base.getContent(), source, properties.getMaxDiffEdits());
+      if (delta == null || delta.length
+          > source.getBytes(StandardCharsets.UTF_8).length * properties.getMaxDeltaRatio()) {
+        base = baseRepository.save(AttemptSourceBase.builder()
+            .candidateId(pair.get(0))
+            .problemId(pair.get(1))
+            .content(source)
+            .build());
+        current.put(pair, base);
+        delta = SourceDelta.encode(source, source, properties.getMaxDiffEdits());
+      }
+      base.setAttempts(base.getAttempts() + 1);
+      submission.setSourceBase(base);
+      submission.setCodeDelta(delta);
+      submission.setCodeContent(null);
+    }
+  }
+}
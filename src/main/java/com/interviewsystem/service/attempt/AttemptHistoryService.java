@@ -0,0 +1,195 @@
+package com.interviewsystem.service.attempt;
+
+import com.interviewsystem.config.AttemptProperties;
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.dto.AttemptDiff;
+import com.interviewsystem.dto.AttemptSummary;
+import com.interviewsystem.dto.DiffHunk;
+import com.interviewsystem.entity.Evaluation;
+import com.interviewsystem.entity.Submission;
+import com.interviewsystem.exception.ResourceNotFoundException;
+import com.interviewsystem.repository.SubmissionRepository;
+import com.interviewsystem.service.attempt.LineDiff.Op;
+import com.interviewsystem.service.attempt.LineDiff.Run;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Serves a candidate's attempt history for a problem and diffs between attempts.
+ *
+ * <p>All attempts are loaded in one query together with their base sources; since each attempt is
+ * one base plus one delta, rebuilding the whole history is a linear pass over mostly shared
+ * bases. Responses carry line counts and diff hunks, never full sources.
+ */
+@Service
+@ConditionalOnRole(DeploymentRole.API)
+public class AttemptHistoryService {
+
+  private final SubmissionRepository submissionRepository;
+
+  private final AttemptProperties properties;
+
+  public AttemptHistoryService(SubmissionRepository submissionRepository,
+      AttemptProperties properties) {
+    this.submissionRepository = submissionRepository;
+    this.properties = properties;
+  }
+
+  /**
+   * List a candidate's attempts at a problem with the lines changed by each.
+   *
+   * @param candidateId the ID of the candidate
+   * @param problemId the ID of the problem
+   * @return the attempts, oldest first; empty if there are none
+   */
+  @Transactional(readOnly = true)
+  public List<AttemptSummary> getHistory(Long candidateId, Long problemId) {
+    List<Submission> attempts = submissionRepository.findAttemptHistory(candidateId, problemId);
+    List<AttemptSummary> history = new ArrayList<>(attempts.size());
+    List<String> previous = List.of();
+    for (int i = 0; i < attempts.size(); i++) {
+      Submission attempt = attempts.get(i);
+      List<String> lines = LineDiff.lines(attempt.getCodeContent());
+      int added = 0;
+      int removed = 0;
+      for (Run run : LineDiff.diff(previous, lines, properties.getMaxDiffEdits())) {
+        added += run.op() == Op.INSERT ? run.length() : 0;
+        removed += run.op() == Op.DELETE ? run.length() : 0;
+      }
+      Evaluation evaluation = attempt.getEvaluation();
+      history.add(AttemptSummary.builder()
+          .submissionId(attempt.getId())
+          .attemptNumber(i + 1)
+          .language(attempt.getLanguage())
+          .compilationStatus(attempt.getCompilationStatus())
+          .submittedAt(attempt.getSubmittedAt())
+          .evaluationStatus(evaluation != null ? evaluation.getStatus() : null)
+          .overallScore(evaluation != null ? evaluation.getOverallScore() : null)
+          .linesAdded(added)
+          .linesRemoved(removed)
+          .build());
+      previous = lines;
+    }
+    return history;
+  }
+
+  /**
+   * Diff an attempt against another attempt at the same problem by the same candidate.
+   *
+   * @param submissionId the ID of the attempt
+   * @param againstId the ID of the attempt to diff against, or {@code null} for the previous one
+   * @return the diff as unified hunks
+   * @throws ResourceNotFoundException if either submission does not exist, or {@code againstId}
+   *     is not an attempt at the same problem by the same candidate
+   */
+  @Transactional(readOnly = true)
+  public AttemptDiff getDiff(Long submissionId, Long againstId) {
+    Submission submission = submissionRepository.findById(submissionId)
+        .orElseThrow(() -> new ResourceNotFoundException(
+            "Submission not found: " + submissionId));
+    List<Submission> attempts = submissionRepository.findAttemptHistory(
+        submission.getCandidate().getId(), submission.getProblem().getId());
+    Submission previous = null;
+    for (int i = 0; i < attempts.size(); i++) {
+      Long id = attempts.get(i).getId();
+      if (againstId == null && id.equals(submissionId) && i > 0) {
+        previous = attempts.get(i - 1);
+      } else if (againstId != null && id.equals(againstId)) {
+        previous = attempts.get(i);
+      }
+    }
+    if (againstId != null && previous == null) {
+      throw new ResourceNotFoundException("Submission " + againstId
+          + " is not an attempt at the same problem as submission " + submissionId);
+    }
+    List<String> oldLines =
+        previous != null ? LineDiff.lines(previous.getCodeContent()) : List.of();
+    List<String> newLines = LineDiff.lines(submission.getCodeContent());
+    List<Run> runs = LineDiff.diff(oldLines, newLines, properties.getMaxDiffEdits());
+    int added = 0;
+    int removed = 0;
+    for (Run run : runs) {
+      added += run.op() == Op.INSERT ? run.length() : 0;
+      removed += run.op() == Op.DELETE ? run.length() : 0;
+    }
+    return AttemptDiff.builder()
+        .submissionId(submissionId)
+        .previousSubmissionId(previous != null ? previous.getId() : null)
+        .linesAdded(added)
+        .linesRemoved(removed)
+        .hunks(hunks(runs, oldLines, newLines, properties.getDiffContext()))
+        .build();
+  }
+
+  /**
+   * Group diff runs into hunks, merging changes separated by at most twice the context.
+   */
+  static List<DiffHunk> hunks(List<Run> runs, List<String> oldLines, List<String> newLines,
+      int context) {
+    List<DiffHunk> hunks = new ArrayList<>();
+    int i = 0;
+    while (i < runs.size()) {
+      if (runs.get(i).op() == Op.EQUAL) {
+        i++;
+        continue;
+      }
+      int first = i;
+      int last = i;
+      for (int j = i + 1; j < runs.size(); j++) {
+        Run run = runs.get(j);
+        if (run.op() != Op.EQUAL) {
+          last = j;
+        } else if (run.length() > 2 * context || j == runs.size() - 1) {
+          break;
+        }
+      }
+      int leading = first > 0 ? Math.min(context, runs.get(first - 1).length()) : 0;
+      int trailing = last < runs.size() - 1 ? Math.min(context, runs.get(last + 1).length()) : 0;
+      Run start = runs.get(first);
+      int oldStart = start.oldStart() - leading;
+      int newStart = start.newStart() - leading;
+      List<String> lines = new ArrayList<>();
+      int oldCount = 0;
+      int newCount = 0;
+      for (int k = 0; k < leading; k++) {
+        lines.add(' ' + strip(oldLines.get(oldStart + k)));
+      }
+      for (int j = first; j <= last; j++) {
+        Run run = runs.get(j);
+        for (int k = 0; k < run.length(); k++) {
+          switch (run.op()) {
+            case EQUAL -> lines.add(' ' + strip(oldLines.get(run.oldStart() + k)));
+            case DELETE -> lines.add('-' + strip(oldLines.get(run.oldStart() + k)));
+            case INSERT -> lines.add('+' + strip(newLines.get(run.newStart() + k)));
+          }
+        }
+        oldCount += run.op() != Op.INSERT ? run.length() : 0;
+        newCount += run.op() != Op.DELETE ? run.length() : 0;
+      }
+      Run end = last < runs.size() - 1 ? runs.get(last + 1) : null;
+      for (int k = 0; k < trailing; k++) {
+        lines.add(' ' + strip(oldLines.get(end.oldStart() + k)));
+      }
+      hunks.add(DiffHunk.builder()
+          .oldStart(oldStart + 1)
+          .oldLines(oldCount + leading + trailing)
+          .newStart(newStart + 1)
+          .newLines(newCount + leading + trailing)
+          .lines(lines)
+          .build());
+      i = last + 1;
+    }
+    return hunks;
+  }
+
+  private static String strip(String line) {
+    int end = line.length();
+    while (end > 0 && (line.charAt(end - 1) == '\n' || line.charAt(end - 1) == '\r')) {
+      end--;
+    }
+    return line.substring(0, end);
+  }
+}
@@ -0,0 +1,174 @@
+package com.interviewsystem.service.attempt;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Line-based diff of two texts using Myers' O(ND) algorithm.
+ *
+ * <p>Common leading and trailing lines are trimmed before the search, so successive attempts that
+ * differ by a few lines cost little more than a scan. The search keeps one trimmed copy of the
+ * frontier per edit distance, i.e. O(D²) memory; past {@code maxEdits} it gives up and the texts
+ * are reported as entirely replaced.
+ */
+public final class LineDiff {
+
+  private LineDiff() {
+  }
+
+  /**
+   * Kinds of diff run.
+   */
+  public enum Op {
+    EQUAL, DELETE, INSERT
+  }
+
+  /**
+   * A run of consecutive lines with the same operation.
+   *
+   * @param op the operation
+   * @param oldStart index of the first line in the old text ({@code INSERT}: insertion point)
+   * @param newStart index of the first line in the new text ({@code DELETE}: deletion point)
+   * @param length the number of lines
+   */
+  public record Run(Op op, int oldStart, int newStart, int length) {
+  }
+
+  /**
+   * Split a text into lines, keeping each line's terminator so that joining them gives the text
+   * back exactly.
+   *
+   * @param text the text
+   * @return the lines; empty for an empty text
+   */
+  public static List<String> lines(String text) {
+    List<String> lines = new ArrayList<>();
+    int start = 0;
+    for (int i = 0; i < text.length(); i++) {
+      if (text.charAt(i) == '\n') {
+        lines.add(text.substring(start, i + 1));
+        start = i + 1;
+      }
+    }
+    if (start < text.length()) {
+      lines.add(text.substring(start));
+    }
+    return lines;
+  }
+
+  /**
+   * Diff two line lists.
+   *
+   * @param a the old lines
+   * @param b the new lines
+   * @param maxEdits the largest number of inserted plus deleted lines searched for
+   * @return runs covering both lists in order, adjacent runs never sharing an operation
+   */
+  public static List<Run> diff(List<String> a, List<String> b, int maxEdits) {
+    int prefix = 0;
+    while (prefix < a.size() && prefix < b.size() && a.get(prefix).equals(b.get(prefix))) {
+      prefix++;
+    }
+    int suffix = 0;
+    while (suffix < a.size() - prefix && suffix < b.size() - prefix
+        && a.get(a.size() - 1 - suffix).equals(b.get(b.size() - 1 - suffix))) {
+      suffix++;
+    }
+    List<Run> runs = new ArrayList<>();
+    add(runs, Op.EQUAL, 0, 0, prefix);
+    List<String> midA = a.subList(prefix, a.size() - suffix);
+    List<String> midB = b.subList(prefix, b.size() - suffix);
+    List<Op> script = myers(midA, midB, maxEdits);
+    if (script == null) {
+      add(runs, Op.DELETE, prefix, prefix, midA.size());
+      add(runs, Op.INSERT, prefix + midA.size(), prefix, midB.size());
+    } else {
+      int x = prefix;
+      int y = prefix;
+      for (Op op : script) {
+        add(runs, op, x, y, 1);
+        x += op == Op.INSERT ? 0 : 1;
+        y += op == Op.DELETE ? 0 : 1;
+      }
+    }
+    add(runs, Op.EQUAL, a.size() - suffix, b.size() - suffix, suffix);
+    return runs;
+  }
+
+  /**
+   * The shortest edit script as one operation per line, or {@code null} past {@code maxEdits}.
+   */
+  private static List<Op> myers(List<String> a, List<String> b, int maxEdits) {
+    int n = a.size();
+    int m = b.size();
+    int max = Math.min(n + m, Math.max(0, maxEdits));
+    int offset = max + 1;
+    int[] v = new int[2 * max + 3];
+    List<int[]> trace = new ArrayList<>();
+    int distance = -1;
+    for (int d = 0; d <= max && distance < 0; d++) {
+      for (int k = -d; k <= d; k += 2) {
+        int x = k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])
+            ? v[offset + k + 1]
+            : v[offset + k - 1] + 1;
+        int y = x - k;
+        while (x < n && y < m && a.get(x).equals(b.get(y))) {
+          x++;
+          y++;
+        }
+        v[offset + k] = x;
+        if (x >= n && y >= m) {
+          distance = d;
+        }
+      }
+      trace.add(Arrays.copyOfRange(v, offset - d, offset + d + 1));
+    }
+    if (distance < 0) {
+      return null;
+    }
+
+    List<Op> script = new ArrayList<>(n + m);
+    int x = n;
+    int y = m;
+    for (int d = distance; d > 0; d--) {
+      int[] previous = trace.get(d - 1);
+      int k = x - y;
+      int previousK = k == -d || (k != d && at(previous, d - 1, k - 1) < at(previous, d - 1, k + 1))
+          ? k + 1
+          : k - 1;
+      int previousX = at(previous, d - 1, previousK);
+      int previousY = previousX - previousK;
+      while (x > previousX && y > previousY) {
+        script.add(Op.EQUAL);
+        x--;
+        y--;
+      }
+      script.add(x == previousX ? Op.INSERT : Op.DELETE);
+      x = previousX;
+      y = previousY;
+    }
+    for (; x > 0; x--) {
+      script.add(Op.EQUAL);
+    }
+    Collections.reverse(script);
+    return script;
+  }
+
+  private static int at(int[] frontier, int d, int k) {
+    return frontier[k + d];
+  }
+
+  private static void add(List<Run> runs, Op op, int oldStart, int newStart, int length) {
+    if (length == 0) {
+      return;
+    }
+    if (!runs.isEmpty() && runs.get(runs.size() - 1).op() == op) {
+      Run last = runs.remove(runs.size() - 1);
+      runs.add(new Run(op, last.oldStart(), last.newStart(), last.length() + length));
+    } else {
+      runs.add(new Run(op, oldStart, newStart, length));
+    }
+  }
+}
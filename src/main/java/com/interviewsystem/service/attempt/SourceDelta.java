@@ -0,0 +1,117 @@
+package com.interviewsystem.service.attempt;
+
+import com.interviewsystem.service.attempt.LineDiff.Run;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Binary line delta that rebuilds a source from a base source.
+ *
+ * <p>A delta is a sequence of instructions: copy a range of the base's lines, or insert literal
+ * text. Deleted lines cost nothing, so an attempt that changes a few lines of its base encodes to
+ * a few dozen bytes. Line indices and lengths are written as unsigned varints.
+ */
+public final class SourceDelta {
+
+  private static final int COPY = 1;
+
+  private static final int INSERT = 2;
+
+  private SourceDelta() {
+  }
+
+  /**
+   * Encode {@code source} as a delta against {@code base}.
+   *
+   * @param base the base source
+   * @param source the source to encode
+   * @param maxEdits the diff search limit; beyond it the delta holds the whole source
+   * @return the delta
+   */
+  public static byte[] encode(String base, String source, int maxEdits) {
+    List<String> sourceLines = LineDiff.lines(source);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      for (Run run : LineDiff.diff(LineDiff.lines(base), sourceLines, maxEdits)) {
+        switch (run.op()) {
+          case EQUAL -> {
+            out.writeByte(COPY);
+            writeVarint(out, run.oldStart());
+            writeVarint(out, run.length());
+          }
+          case INSERT -> {
+            byte[] text = String.join("", sourceLines.subList(run.newStart(),
+                run.newStart() + run.length())).getBytes(StandardCharsets.UTF_8);
+            out.writeByte(INSERT);
+            writeVarint(out, text.length);
+            out.write(text);
+          }
+          case DELETE -> {
+            // Lines absent from the source are simply not copied.
+          }
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Rebuild a source from its base and delta.
+   *
+   * @param base the base source
+   * @param delta a delta produced by {@link #encode} against the same base
+   * @return the source
+   * @throws IllegalArgumentException if the delta is malformed or does not fit the base
+   */
+  public static String apply(String base, byte[] delta) {
+    List<String> baseLines = LineDiff.lines(base);
+    StringBuilder source = new StringBuilder(base.length());
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(delta))) {
+      while (in.available() > 0) {
+        int instruction = in.readUnsignedByte();
+        if (instruction == COPY) {
+          int start = readVarint(in);
+          int length = readVarint(in);
+          for (String line : baseLines.subList(start, start + length)) {
+            source.append(line);
+          }
+        } else if (instruction == INSERT) {
+          source.append(new String(in.readNBytes(readVarint(in)), StandardCharsets.UTF_8));
+        } else {
+          throw new IllegalArgumentException("Unknown delta instruction " + instruction);
+        }
+      }
+    } catch (IOException | IndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("Delta does not fit its base", e);
+    }
+    return source.toString();
+  }
+
+  private static void writeVarint(DataOutputStream out, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      out.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+
+  private static int readVarint(DataInputStream in) throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      int b = in.readUnsignedByte();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Varint too long");
+  }
+}
@@ -0,0 +1,213 @@
+package com.interviewsystem.service.dossier;
+
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.config.DossierProperties;
+import com.interviewsystem.dto.CandidateDossier;
+import com.interviewsystem.dto.DossierAttempt;
+import com.interviewsystem.dto.DossierProblemSummary;
+import com.interviewsystem.entity.Candidate;
+import com.interviewsystem.entity.Submission;
+import com.interviewsystem.event.EntityChangedEvent;
+import com.interviewsystem.repository.CandidateRepository;
+import com.interviewsystem.repository.SubmissionRepository;
+import com.interviewsystem.service.lookup.EmailLookupService;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Assembles candidate dossiers in two queries: the candidate profile and a single window-function
+ * query for the best and latest attempt at each problem.
+ *
+ * <p>Assembled dossiers are cached for a short, configurable time. A candidate's entry is dropped
+ * as soon as one of their submissions is committed; evaluation and profile changes become visible
+ * when the entry expires.
+ */
+@Service
+@ConditionalOnRole(DeploymentRole.API)
+public class CandidateDossierService {
+
+  static final String STATUS_COMPLETED = "COMPLETED";
+
+  private final CandidateRepository candidateRepository;
+
+  private final SubmissionRepository submissionRepository;
+
+  private final DossierProperties properties;
+
+  private final ConcurrentMap<Long, CachedDossier> cache = new ConcurrentHashMap<>();
+
+  private final AtomicLong invalidations = new AtomicLong();
+
+  private final EmailLookupService emailLookup;
+
+  public CandidateDossierService(CandidateRepository candidateRepository,
+      SubmissionRepository submissionRepository, DossierProperties properties,
+      EmailLookupService emailLookup) {
+    this.candidateRepository = candidateRepository;
+    this.submissionRepository = submissionRepository;
+    this.properties = properties;
+    this.emailLookup = emailLookup;
+  }
+
+  /**
+   * Return a candidate's dossier, from the cache when a fresh copy is available.
+   *
+   * @param candidateId the ID of the candidate
+   * @return an Optional containing the dossier if the candidate exists
+   */
+  @Transactional(readOnly = true)
+  public Optional<CandidateDossier> getDossier(Long candidateId) {
+    CandidateDossier cached = cached(candidateId);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+    return candidateRepository.findById(candidateId).map(this::assemble);
+  }
+
+  /**
+   * Return the dossier of the candidate with the given email address.
+   *
+   * <p>The email is resolved through {@link EmailLookupService}, so an unknown email or a cached
+   * dossier of a recently looked-up candidate costs no query.
+   *
+   * @param email the candidate's email address
+   * @return an Optional containing the dossier if the candidate exists
+   */
+  @Transactional(readOnly = true)
+  public Optional<CandidateDossier> getDossierByEmail(String email) {
+    return emailLookup.findCandidateId(email).flatMap(this::getDossier);
+  }
+
+  /**
+   * Drop the cached dossier of a candidate whose submission was committed.
+   *
+   * @param event the submission change
+   */
+  @TransactionalEventListener
+  public void onSubmissionChanged(EntityChangedEvent<Submission> event) {
+    Candidate candidate = event.getEntity().getCandidate();
+    if (candidate != null) {
+      invalidations.incrementAndGet();
+      cache.remove(candidate.getId());
+    }
+  }
+
+  private CandidateDossier cached(Long candidateId) {
+    CachedDossier entry = cache.get(candidateId);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.expiresAt() - System.nanoTime() <= 0) {
+      cache.remove(candidateId, entry);
+      return null;
+    }
+    return entry.dossier();
+  }
+
+  private CandidateDossier assemble(Candidate candidate) {
+    long generation = invalidations.get();
+    int summaryLength = properties.getFeedbackSummaryLength();
+    Map<Long, DossierProblemSummary.DossierProblemSummaryBuilder> problems = new LinkedHashMap<>();
+    long totalSubmissions = 0;
+    int evaluated = 0;
+    long bestScoreSum = 0;
+    for (DossierAttemptRow row
+        : submissionRepository.findDossierAttempts(candidate.getId(), summaryLength + 1)) {
+      DossierProblemSummary.DossierProblemSummaryBuilder problem = problems.get(row.getProblemId());
+      if (problem == null) {
+        problem = DossierProblemSummary.builder()
+            .problemId(row.getProblemId())
+            .title(row.getProblemTitle())
+            .difficulty(row.getDifficulty())
+            .category(row.getCategory())
+            .attempts(row.getAttempts());
+        problems.put(row.getProblemId(), problem);
+        totalSubmissions += row.getAttempts();
+      }
+      DossierAttempt attempt = toAttempt(row, summaryLength);
+      if (row.getLatestRank() == 1) {
+        problem.latest(attempt);
+      }
+      if (row.getBestRank() == 1 && STATUS_COMPLETED.equals(row.getEvaluationStatus())) {
+        problem.best(attempt);
+        evaluated++;
+        bestScoreSum += row.getOverallScore();
+      }
+    }
+    List<DossierProblemSummary> summaries = new ArrayList<>(problems.size());
+    problems.values().forEach(problem -> summaries.add(problem.build()));
+    CandidateDossier dossier = CandidateDossier.builder()
+        .candidateId(candidate.getId())
+        .email(candidate.getEmail())
+        .firstName(candidate.getFirstName())
+        .lastName(candidate.getLastName())
+        .phoneNumber(candidate.getPhoneNumber())
+        .techStack(candidate.getTechStack())
+        .createdAt(candidate.getCreatedAt())
+        .totalSubmissions(totalSubmissions)
+        .problemsAttempted(summaries.size())
+        .problemsEvaluated(evaluated)
+        .averageBestScore(evaluated == 0 ? null : (double) bestScoreSum / evaluated)
+        .problems(summaries)
+        .build();
+    store(candidate.getId(), dossier, generation);
+    return dossier;
+  }
+
+  private void store(Long candidateId, CandidateDossier dossier, long generation) {
+    if (properties.getCacheTtl().isZero() || properties.getCacheMaxEntries() <= 0) {
+      return;
+    }
+    if (cache.size() >= properties.getCacheMaxEntries()) {
+      long now = System.nanoTime();
+      cache.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+      if (cache.size() >= properties.getCacheMaxEntries()) {
+        return;
+      }
+    }
+    cache.put(candidateId,
+        new CachedDossier(dossier, System.nanoTime() + properties.getCacheTtl().toNanos()));
+    if (invalidations.get() != generation) {
+      // A submission was committed while this dossier was being assembled; it may be stale.
+      cache.remove(candidateId);
+    }
+  }
+
+  private static DossierAttempt toAttempt(DossierAttemptRow row, int summaryLength) {
+    String interviewer = row.getInterviewerFirstName() == null ? null
+        : row.getInterviewerFirstName() + " " + row.getInterviewerLastName();
+    String feedback = row.getFeedback();
+    if (feedback != null && feedback.length() > summaryLength) {
+      feedback = feedback.substring(0, summaryLength).stripTrailing() + "...";
+    }
+    return DossierAttempt.builder()
+        .submissionId(row.getSubmissionId())
+        .language(row.getLanguage())
+        .compilationStatus(row.getCompilationStatus())
+        .submittedAt(row.getSubmittedAt())
+        .evaluationId(row.getEvaluationId())
+        .evaluationStatus(row.getEvaluationStatus())
+        .overallScore(row.getOverallScore())
+        .executionScore(row.getExecutionScore())
+        .codeQualityScore(row.getCodeQualityScore())
+        .testPassCount(row.getTestPassCount())
+        .totalTestCases(row.getTotalTestCases())
+        .evaluatedAt(row.getEvaluatedAt())
+        .interviewerName(interviewer)
+        .feedbackSummary(feedback)
+        .build();
+  }
+
+  private record CachedDossier(CandidateDossier dossier, long expiresAt) {
+  }
+}
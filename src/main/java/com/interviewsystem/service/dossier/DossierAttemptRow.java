@@ -0,0 +1,62 @@
+package com.interviewsystem.service.dossier;
+
+import java.time.LocalDateTime;
+
+/**
+ * One submission row of a candidate dossier: a candidate's best or latest attempt at a problem,
+ * with its problem, evaluation and interviewer columns flattened in.
+ *
+ * <p>Rows are produced by the native window-function query in
+ * {@link com.interviewsystem.repository.SubmissionRepository#findDossierAttempts(Long, int)}.
+ */
+public interface DossierAttemptRow {
+
+  Long getProblemId();
+
+  String getProblemTitle();
+
+  String getDifficulty();
+
+  String getCategory();
+
+  Long getAttempts();
+
+  Long getBestRank();
+
+  Long getLatestRank();
+
+  Long getSubmissionId();
+
+  String getLanguage();
+
+  String getCompilationStatus();
+
+  LocalDateTime getSubmittedAt();
+
+  Long getEvaluationId();
+
+  String getEvaluationStatus();
+
+  Integer getOverallScore();
+
+  Integer getExecutionScore();
+
+  Integer getCodeQualityScore();
+
+  Integer getTestPassCount();
+
+  Integer getTotalTestCases();
+
+  LocalDateTime getEvaluatedAt();
+
+  String getInterviewerFirstName();
+
+  String getInterviewerLastName();
+
+  /**
+   * Return the start of the interviewer feedback, truncated in the query.
+   *
+   * @return the feedback prefix, or null if there is no feedback
+   */
+  String getFeedback();
+}
@@ -0,0 +1,57 @@
+package com.interviewsystem.service.evaluation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Compiles and executes candidate code for the {@link EvaluationPipeline}.
+ *
+ * <p>Implementations wrap whatever sandbox runs untrusted code; the pipeline only handles
+ * orchestration, scoring and persistence. Until a runner bean is registered, pending submissions
+ * are left untouched.
+ */
+public interface CodeRunner {
+
+  /**
+   * Compile a submission.
+   *
+   * @param language the submission language
+   * @param code the submitted source code
+   * @return the compilation outcome, carrying the runnable program on success
+   */
+  CompileResult compile(String language, String code);
+
+  /**
+   * Run a compiled program against one test input.
+   *
+   * @param program a successful compilation result
+   * @param input the test case input
+   * @param timeout the maximum wall-clock time for the run
+   * @return the program output, or a timed-out result
+   */
+  TestRunResult run(CompileResult program, String input, Duration timeout);
+
+  /**
+   * Run a compiled program against a test input held in a fixture file.
+   *
+   * <p>Runners that start a process should override this and redirect the program's standard input
+   * from {@code inputFile} ({@code ProcessBuilder.Redirect.from}), so the kernel feeds the file to
+   * the process without it passing through the JVM. The default reads the file into memory and
+   * delegates to {@link #run(CompileResult, String, Duration)}.
+   *
+   * @param program a successful compilation result
+   * @param inputFile the test case input
+   * @param timeout the maximum wall-clock time for the run
+   * @return the program output, or a timed-out result
+   */
+  default TestRunResult run(CompileResult program, Path inputFile, Duration timeout) {
+    try {
+      return run(program, Files.readString(inputFile), timeout);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not read test input " + inputFile, e);
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package com.interviewsystem.service.evaluation;
+
+import lombok.Value;
+
+/**
+ * Outcome of compiling a submission with a {@link CodeRunner}.
+ */
+@Value
+public class CompileResult {
+
+  boolean success;
+
+  /**
+   * Compiler diagnostics when compilation failed.
+   */
+  String error;
+
+  /**
+   * Runner-specific handle to the compiled program when compilation succeeded.
+   */
+  Object program;
+
+  public static CompileResult success(Object program) {
+    return new CompileResult(true, null, program);
+  }
+
+  public static CompileResult failure(String error) {
+    return new CompileResult(false, error, null);
+  }
+}
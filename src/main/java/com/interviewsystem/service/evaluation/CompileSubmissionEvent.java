@@ -0,0 +1,17 @@
+package com.interviewsystem.service.evaluation;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for compiling one submission.
+ */
+@Name("com.interviewsystem.CompileSubmission")
+@Label("Compile Submission")
+@Description("Compilation of a candidate submission")
+public class CompileSubmissionEvent extends EvaluationStageEvent {
+
+  @Label("Succeeded")
+  boolean succeeded;
+}
@@ -0,0 +1,68 @@
+package com.interviewsystem.service.evaluation;
+
+/**
+ * Asymptotic running-time classes that empirical performance grading can distinguish, simplest
+ * first.
+ */
+public enum ComplexityClass {
+
+  CONSTANT("O(1)") {
+    @Override
+    double growth(double n) {
+      return 1;
+    }
+  },
+
+  LOGARITHMIC("O(log n)") {
+    @Override
+    double growth(double n) {
+      return Math.log(n);
+    }
+  },
+
+  LINEAR("O(n)") {
+    @Override
+    double growth(double n) {
+      return n;
+    }
+  },
+
+  LINEARITHMIC("O(n log n)") {
+    @Override
+    double growth(double n) {
+      return n * Math.log(n);
+    }
+  },
+
+  QUADRATIC("O(n^2)") {
+    @Override
+    double growth(double n) {
+      return n * n;
+    }
+  },
+
+  CUBIC("O(n^3)") {
+    @Override
+    double growth(double n) {
+      return n * n * n;
+    }
+  };
+
+  private final String notation;
+
+  ComplexityClass(String notation) {
+    this.notation = notation;
+  }
+
+  /**
+   * The class's big-O notation, for display.
+   */
+  public String notation() {
+    return notation;
+  }
+
+  /**
+   * The growth function {@code f(n)} fitted as {@code time = a + b * f(n)}.
+   */
+  abstract double growth(double n);
+}
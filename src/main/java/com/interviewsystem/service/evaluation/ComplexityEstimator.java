@@ -0,0 +1,132 @@
+package com.interviewsystem.service.evaluation;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Fits measured running times against each {@link ComplexityClass} and picks the best match.
+ *
+ * <p>Each class is fitted as {@code t = a + b * f(n)} with {@code b >= 0} by weighted least
+ * squares. Weighting by {@code 1 / t²} minimizes relative rather than absolute error, so the small
+ * sizes count as much as the large ones and the intercept soaks up fixed costs such as process
+ * start-up. Adjacent classes (n versus n log n in particular) are hard to tell apart on noisy
+ * timings, so a more complex class only wins if its relative error is clearly lower than every
+ * simpler class's.
+ */
+public final class ComplexityEstimator {
+
+  /**
+   * Factor by which a more complex class has to beat the best simpler fit.
+   */
+  static final double PREFER_SIMPLER = 0.8;
+
+  private ComplexityEstimator() {
+  }
+
+  /**
+   * One measured input size.
+   *
+   * @param size the input size {@code n}
+   * @param nanos the representative (median) running time
+   */
+  public record Sample(long size, double nanos) {
+  }
+
+  /**
+   * Estimate the complexity class of a series of timings.
+   *
+   * @param samples at least three samples at distinct sizes
+   * @return the best-fitting class
+   * @throws IllegalArgumentException with fewer than three distinct sizes
+   */
+  public static ComplexityClass estimate(List<Sample> samples) {
+    if (samples.stream().mapToLong(Sample::size).distinct().count() < 3) {
+      throw new IllegalArgumentException("At least three distinct input sizes are required");
+    }
+    ComplexityClass best = null;
+    double bestError = Double.POSITIVE_INFINITY;
+    for (ComplexityClass candidate : ComplexityClass.values()) {
+      double error = relativeError(candidate, samples);
+      if (best == null || error < bestError * PREFER_SIMPLER) {
+        best = candidate;
+        bestError = error;
+      } else {
+        bestError = Math.min(bestError, error);
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Root-mean-square relative error of the best non-decreasing fit of {@code complexity}.
+   */
+  static double relativeError(ComplexityClass complexity, List<Sample> samples) {
+    int count = samples.size();
+    double[] x = new double[count];
+    double[] y = new double[count];
+    double[] w = new double[count];
+    for (int i = 0; i < count; i++) {
+      Sample sample = samples.get(i);
+      x[i] = complexity.growth(Math.max(2, sample.size()));
+      y[i] = sample.nanos();
+      w[i] = 1 / Math.max(1, y[i] * y[i]);
+    }
+    double sw = 0;
+    double swx = 0;
+    double swy = 0;
+    double swxx = 0;
+    double swxy = 0;
+    for (int i = 0; i < count; i++) {
+      sw += w[i];
+      swx += w[i] * x[i];
+      swy += w[i] * y[i];
+      swxx += w[i] * x[i] * x[i];
+      swxy += w[i] * x[i] * y[i];
+    }
+    double denominator = sw * swxx - swx * swx;
+    double slope = denominator == 0 ? 0 : (sw * swxy - swx * swy) / denominator;
+    double intercept;
+    if (slope < 0 || denominator == 0) {
+      // Growth this class cannot explain; fall back to the best constant.
+      slope = 0;
+      intercept = swy / sw;
+    } else {
+      intercept = (swy - slope * swx) / sw;
+    }
+    double squared = 0;
+    for (int i = 0; i < count; i++) {
+      double residual = (y[i] - intercept - slope * x[i]) / y[i];
+      squared += residual * residual;
+    }
+    return Math.sqrt(squared / count);
+  }
+
+  /**
+   * Median of a set of timings, the representative value for one input size.
+   *
+   * @param nanos the timings; not modified
+   * @return the median
+   */
+  public static double median(long[] nanos) {
+    long[] sorted = nanos.clone();
+    Arrays.sort(sorted);
+    int middle = sorted.length / 2;
+    return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2.0;
+  }
+
+  /**
+   * Median absolute deviation relative to the median: a spread measure that a few preempted runs
+   * cannot inflate.
+   *
+   * @param nanos the timings; not modified
+   * @return the relative spread, {@code 0} when all timings agree
+   */
+  public static double relativeSpread(long[] nanos) {
+    double median = median(nanos);
+    long[] deviations = new long[nanos.length];
+    for (int i = 0; i < nanos.length; i++) {
+      deviations[i] = Math.round(Math.abs(nanos[i] - median));
+    }
+    return median == 0 ? 0 : median(deviations) / median;
+  }
+}
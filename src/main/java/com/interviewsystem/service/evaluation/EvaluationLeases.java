@@ -0,0 +1,269 @@
+package com.interviewsystem.service.evaluation;
+
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.config.PipelineProperties;
+import com.interviewsystem.entity.EvaluationLease;
+import com.interviewsystem.repository.EvaluationLeaseRepository;
+import com.interviewsystem.repository.SubmissionRepository;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+/**
+ * Database-backed leases that let several workers drain the submission queue without evaluating
+ * a submission twice.
+ *
+ * <p>A worker claims a pending submission by creating its lease, or by taking over a lease that
+ * has expired, under a row lock. While it evaluates the submission a heartbeat keeps extending the
+ * lease, and the evaluation only commits if the worker still holds it, so a worker that stalled
+ * past its lease cannot overwrite the result of the worker that took over. Every claim counts as
+ * an attempt; once a submission has used {@code maxAttempts} claims, the next claim moves it to
+ * {@code DEAD_LETTER} instead.
+ *
+ * <p>Heartbeats run on a thread of their own rather than on the shared task scheduler, whose
+ * threads the pipeline holds for a whole batch; a heartbeat queued behind the evaluation it is
+ * meant to keep alive would let the lease expire under any evaluation longer than the lease.
+ */
+@Slf4j
+@Component
+@ConditionalOnRole(DeploymentRole.WORKER)
+public class EvaluationLeases implements SmartLifecycle {
+
+  static final String STATUS_DEAD_LETTER = "DEAD_LETTER";
+
+  /**
+   * Candidates read per claim; more than one so that a worker losing a race moves on.
+   */
+  private static final int CLAIM_CANDIDATES = 8;
+
+  private final EvaluationLeaseRepository leaseRepository;
+
+  private final SubmissionRepository submissionRepository;
+
+  private final PipelineMetrics metrics;
+
+  private final PipelineProperties properties;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final String workerId;
+
+  private final Set<Long> held = ConcurrentHashMap.newKeySet();
+
+  private volatile ScheduledExecutorService heartbeats;
+
+  public EvaluationLeases(EvaluationLeaseRepository leaseRepository,
+      SubmissionRepository submissionRepository, PipelineMetrics metrics,
+      PipelineProperties properties, TransactionTemplate transactionTemplate) {
+    this.leaseRepository = leaseRepository;
+    this.submissionRepository = submissionRepository;
+    this.metrics = metrics;
+    this.properties = properties;
+    this.transactionTemplate = transactionTemplate;
+    this.workerId = StringUtils.hasText(properties.getLease().getWorkerId())
+        ? properties.getLease().getWorkerId()
+        : defaultWorkerId();
+  }
+
+  @Override
+  public synchronized void start() {
+    if (heartbeats != null) {
+      return;
+    }
+    long interval = properties.getLease().getHeartbeatIntervalMs();
+    heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "lease-heartbeat");
+      thread.setDaemon(true);
+      return thread;
+    });
+    heartbeats.scheduleWithFixedDelay(this::beat, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (heartbeats != null) {
+      heartbeats.shutdownNow();
+      heartbeats = null;
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return heartbeats != null;
+  }
+
+  /**
+   * The ID this worker records on its leases.
+   *
+   * @return the worker ID
+   */
+  public String workerId() {
+    return workerId;
+  }
+
+  /**
+   * Claim the oldest pending submission that no other worker holds a live lease on.
+   *
+   * @return the ID of the claimed submission, or empty if there is none
+   */
+  public Optional<Long> claimNext() {
+    List<Long> candidates = submissionRepository.findUnleasedIdsByCompilationStatus(
+        EvaluationPipeline.STATUS_PENDING, LocalDateTime.now(),
+        PageRequest.of(0, CLAIM_CANDIDATES));
+    for (Long submissionId : candidates) {
+      if (claim(submissionId)) {
+        return Optional.of(submissionId);
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Claim a submission unless another worker holds a live lease on it.
+   *
+   * <p>Taking over an expired lease whose submission has no attempts left dead-letters the
+   * submission and fails the claim.
+   *
+   * @param submissionId the ID of the submission
+   * @return whether this worker now holds the lease
+   */
+  public boolean claim(Long submissionId) {
+    boolean claimed;
+    try {
+      claimed = Boolean.TRUE.equals(transactionTemplate.execute(status -> take(submissionId)));
+    } catch (DataIntegrityViolationException e) {
+      // Another worker created the lease first.
+      return false;
+    }
+    if (claimed) {
+      held.add(submissionId);
+    }
+    return claimed;
+  }
+
+  /**
+   * Give up a lease after a failed evaluation, letting it expire now so that the next claim
+   * retries the submission.
+   *
+   * @param submissionId the ID of the submission
+   */
+  public void release(Long submissionId) {
+    held.remove(submissionId);
+    transactionTemplate.executeWithoutResult(
+        status -> leaseRepository.expire(submissionId, workerId, LocalDateTime.now()));
+  }
+
+  /**
+   * Delete the lease of an evaluated submission. Call inside the transaction that stores the
+   * evaluation, so that it only commits while this worker still holds the lease.
+   *
+   * @param submissionId the ID of the submission
+   * @throws IllegalStateException if the lease has been taken over by another worker
+   */
+  public void complete(Long submissionId) {
+    held.remove(submissionId);
+    if (leaseRepository.deleteHeld(submissionId, workerId) == 0) {
+      throw new IllegalStateException("Lease on submission " + submissionId
+          + " was lost by worker " + workerId);
+    }
+  }
+
+  /**
+   * Extend the leases this worker holds. Runs every {@code heartbeat-interval-ms} while the
+   * component is started.
+   */
+  public void heartbeat() {
+    if (held.isEmpty()) {
+      return;
+    }
+    List<Long> submissionIds = List.copyOf(held);
+    LocalDateTime now = LocalDateTime.now();
+    int extended = transactionTemplate.execute(status -> leaseRepository.extend(workerId,
+        submissionIds, now.plus(properties.getLease().getDuration()), now));
+    if (extended < submissionIds.size()) {
+      log.warn("Worker {} lost {} of its {} leases", workerId, submissionIds.size() - extended,
+          submissionIds.size());
+    }
+  }
+
+  /**
+   * One scheduled heartbeat; a failure is logged rather than thrown, which would cancel the
+   * schedule.
+   */
+  private void beat() {
+    try {
+      heartbeat();
+    } catch (RuntimeException e) {
+      log.warn("Worker {} could not extend its leases", workerId, e);
+    }
+  }
+
+  private boolean take(Long submissionId) {
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime expiresAt = now.plus(properties.getLease().getDuration());
+    Optional<EvaluationLease> existing = leaseRepository.lockBySubmissionId(submissionId);
+    if (existing.isEmpty()) {
+      leaseRepository.saveAndFlush(EvaluationLease.builder()
+          .submissionId(submissionId)
+          .workerId(workerId)
+          .expiresAt(expiresAt)
+          .heartbeatAt(now)
+          .build());
+      return true;
+    }
+    EvaluationLease lease = existing.get();
+    if (lease.getExpiresAt().isAfter(now)) {
+      return false;
+    }
+    if (lease.getAttempts() >= properties.getLease().getMaxAttempts()) {
+      deadLetter(lease);
+      return false;
+    }
+    log.info("Worker {} taking over submission {} from {} (attempt {})", workerId, submissionId,
+        lease.getWorkerId(), lease.getAttempts() + 1);
+    lease.setWorkerId(workerId);
+    lease.setAttempts(lease.getAttempts() + 1);
+    lease.setExpiresAt(expiresAt);
+    lease.setHeartbeatAt(now);
+    return true;
+  }
+
+  private void deadLetter(EvaluationLease lease) {
+    submissionRepository.findById(lease.getSubmissionId())
+        .filter(submission ->
+            EvaluationPipeline.STATUS_PENDING.equals(submission.getCompilationStatus()))
+        .ifPresent(submission -> {
+          log.warn("Dead-lettering submission {} after {} attempts, last by worker {}",
+              submission.getId(), lease.getAttempts(), lease.getWorkerId());
+          submission.setCompilationStatus(STATUS_DEAD_LETTER);
+          metrics.deadLettered(
+              metrics.tags(submission.getProblem().getId(), submission.getLanguage()));
+        });
+    leaseRepository.delete(lease);
+  }
+
+  private static String defaultWorkerId() {
+    String host;
+    try {
+      host = InetAddress.getLocalHost().getHostName();
+    } catch (UnknownHostException e) {
+      host = "unknown";
+    }
+    return host + ":" + ProcessHandle.current().pid();
+  }
+}
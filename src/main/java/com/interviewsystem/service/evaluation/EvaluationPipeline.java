@@ -0,0 +1,313 @@
+package com.interviewsystem.service.evaluation;
+
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.config.PipelineProperties;
+import com.interviewsystem.entity.Evaluation;
+import com.interviewsystem.entity.Submission;
+import com.interviewsystem.entity.TestCase;
+import com.interviewsystem.exception.ResourceNotFoundException;
+import com.interviewsystem.repository.EvaluationRepository;
+import com.interviewsystem.repository.SubmissionRepository;
+import com.interviewsystem.repository.TestCaseRepository;
+import com.interviewsystem.service.evaluation.PipelineMetrics.Stage;
+import com.interviewsystem.service.fixture.FixtureStore;
+import io.micrometer.core.instrument.Tags;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Compiles pending submissions, runs them against their problem's test cases and records the
+ * execution score on the submission's evaluation.
+ *
+ * <p>No transaction is held while a submission compiles, runs or is performance graded, since
+ * those stages take seconds and the worker's connection pool is small. The submission and its
+ * test cases are read in one short transaction and the result is written, together with the
+ * completion of the lease, in a second one. Every stage (queue wait, compile, each
+ * test run, scoring and persistence) is timed through {@link PipelineMetrics} and, except queue
+ * wait, emitted as a JFR event carrying the IDs involved. The evaluation stays
+ * {@code PENDING} so it still goes to an interviewer for review; only the execution columns are
+ * filled in here. For problems with performance grading on, a submission that passes every test
+ * is also timed over the problem's scaled inputs by the {@link PerformanceGrader}.
+ *
+ * <p>Submissions are claimed one at a time through {@link EvaluationLeases}, so any number of
+ * workers can run the pipeline against the same database. A submission whose evaluation throws,
+ * or whose worker dies, is retried by the next claim until its attempts run out.
+ */
+@Slf4j
+@Service
+@ConditionalOnRole(DeploymentRole.WORKER)
+public class EvaluationPipeline {
+
+  static final String STATUS_PENDING = "PENDING";
+
+  static final String STATUS_SUCCESS = "SUCCESS";
+
+  static final String STATUS_FAILED = "FAILED";
+
+  private final SubmissionRepository submissionRepository;
+
+  private final TestCaseRepository testCaseRepository;
+
+  private final EvaluationRepository evaluationRepository;
+
+  private final ObjectProvider<CodeRunner> codeRunner;
+
+  private final PipelineMetrics metrics;
+
+  private final PipelineProperties properties;
+
+  private final FixtureStore fixtureStore;
+
+  private final PerformanceGrader performanceGrader;
+
+  private final EvaluationLeases leases;
+
+  private final TransactionTemplate transactionTemplate;
+
+  public EvaluationPipeline(SubmissionRepository submissionRepository,
+      TestCaseRepository testCaseRepository, EvaluationRepository evaluationRepository,
+      ObjectProvider<CodeRunner> codeRunner, PipelineMetrics metrics,
+      PipelineProperties properties, FixtureStore fixtureStore,
+      PerformanceGrader performanceGrader, EvaluationLeases leases,
+      TransactionTemplate transactionTemplate) {
+    this.submissionRepository = submissionRepository;
+    this.testCaseRepository = testCaseRepository;
+    this.evaluationRepository = evaluationRepository;
+    this.codeRunner = codeRunner;
+    this.metrics = metrics;
+    this.properties = properties;
+    this.fixtureStore = fixtureStore;
+    this.performanceGrader = performanceGrader;
+    this.leases = leases;
+    this.transactionTemplate = transactionTemplate;
+  }
+
+  /**
+   * Run one pipeline batch on the configured schedule.
+   */
+  @Scheduled(fixedDelayString = "${interview.pipeline.interval-ms:2000}")
+  public void scheduledRun() {
+    if (properties.isEnabled() && codeRunner.getIfAvailable() != null) {
+      int processed = processPending();
+      if (processed > 0) {
+        log.debug("Evaluated {} pending submissions", processed);
+      }
+    }
+  }
+
+  /**
+   * Claim and evaluate up to a batch of the oldest submissions still waiting to be compiled.
+   *
+   * <p>A submission whose evaluation throws is logged and its lease released, so that a later
+   * claim retries it.
+   *
+   * @return the number of submissions evaluated
+   */
+  public int processPending() {
+    CodeRunner runner = codeRunner.getObject();
+    int processed = 0;
+    for (int i = 0; i < properties.getBatchSize(); i++) {
+      Optional<Long> claimed = leases.claimNext();
+      if (claimed.isEmpty()) {
+        break;
+      }
+      Long submissionId = claimed.get();
+      try {
+        if (evaluate(submissionId, runner)) {
+          processed++;
+        }
+      } catch (RuntimeException e) {
+        log.warn("Evaluation of submission {} failed, releasing it for retry", submissionId, e);
+        leases.release(submissionId);
+      }
+    }
+    return processed;
+  }
+
+  /**
+   * Claim, compile, test and score one submission.
+   *
+   * @param submissionId the ID of the submission
+   * @return the submission's evaluation
+   * @throws ResourceNotFoundException if the submission does not exist
+   * @throws IllegalStateException if another worker holds the submission's lease
+   */
+  public Evaluation evaluate(Long submissionId) {
+    CodeRunner runner = codeRunner.getObject();
+    if (!submissionRepository.existsById(submissionId)) {
+      throw new ResourceNotFoundException("Submission not found: " + submissionId);
+    }
+    if (!leases.claim(submissionId)) {
+      throw new IllegalStateException("Submission " + submissionId + " could not be leased");
+    }
+    try {
+      evaluate(submissionId, runner);
+    } catch (RuntimeException e) {
+      leases.release(submissionId);
+      throw e;
+    }
+    return evaluationRepository.findBySubmissionId(submissionId)
+        .orElseThrow(() -> new ResourceNotFoundException(
+            "Evaluation not found for submission: " + submissionId));
+  }
+
+  private boolean evaluate(Long submissionId, CodeRunner runner) {
+    PendingWork work = transactionTemplate.execute(status -> load(submissionId));
+    if (work == null) {
+      return false;
+    }
+    Submission submission = work.submission();
+    List<TestCase> testCases = work.testCases();
+    Long problemId = submission.getProblem().getId();
+    Tags tags = metrics.tags(problemId, submission.getLanguage());
+    metrics.recordStage(Stage.QUEUE_WAIT, tags, "success",
+        Duration.between(submission.getSubmittedAt(), LocalDateTime.now()).toNanos());
+
+    String language = submission.getLanguage();
+    long start = System.nanoTime();
+    CompileSubmissionEvent compileEvent = new CompileSubmissionEvent();
+    compileEvent.begin();
+    CompileResult compiled = runner.compile(language, submission.getCodeContent());
+    compileEvent.succeeded = compiled.isSuccess();
+    compileEvent.finish(submissionId, problemId, language);
+    metrics.recordStage(Stage.COMPILE, tags, compiled.isSuccess() ? "success" : "failure",
+        System.nanoTime() - start);
+
+    boolean[] passed = new boolean[testCases.size()];
+    if (compiled.isSuccess()) {
+      for (int i = 0; i < testCases.size(); i++) {
+        passed[i] = runTest(runner, compiled, submission, testCases.get(i), tags);
+      }
+    } else {
+      metrics.compileFailed(tags);
+    }
+
+    start = System.nanoTime();
+    ScoreEvaluationEvent scoreEvent = new ScoreEvaluationEvent();
+    scoreEvent.begin();
+    int score = ExecutionScorer.score(testCases, passed);
+    int passCount = 0;
+    for (boolean pass : passed) {
+      passCount += pass ? 1 : 0;
+    }
+    scoreEvent.testCases = testCases.size();
+    scoreEvent.passed = passCount;
+    scoreEvent.score = score;
+    scoreEvent.finish(submissionId, problemId, language);
+    metrics.recordStage(Stage.SCORE, tags, "success", System.nanoTime() - start);
+
+    PerformanceGrade grade = null;
+    if (passCount > 0 && passCount == testCases.size()
+        && Boolean.TRUE.equals(submission.getProblem().getPerformanceGrading())) {
+      GradePerformanceEvent gradeEvent = new GradePerformanceEvent();
+      gradeEvent.begin();
+      grade = performanceGrader.grade(submission.getProblem(), runner, compiled);
+      if (grade != null) {
+        gradeEvent.complexity = grade.getComplexity() == null ? null : grade.getComplexity().name();
+        gradeEvent.stable = grade.isStable();
+      }
+      gradeEvent.finish(submissionId, problemId, language);
+    }
+
+    start = System.nanoTime();
+    PersistEvaluationEvent persistEvent = new PersistEvaluationEvent();
+    persistEvent.begin();
+    int total = testCases.size();
+    int passes = passCount;
+    PerformanceGrade performance = grade;
+    transactionTemplate.executeWithoutResult(status ->
+        persist(submissionId, compiled, total, passes, score, performance));
+    persistEvent.finish(submissionId, problemId, language);
+    metrics.recordStage(Stage.PERSIST, tags, "success", System.nanoTime() - start);
+    return true;
+  }
+
+  /**
+   * Read a claimed submission, its problem and the problem's test cases, or complete the lease
+   * and return {@code null} if the submission has already been evaluated.
+   */
+  private PendingWork load(Long submissionId) {
+    Submission submission = submissionRepository.findById(submissionId)
+        .orElseThrow(() -> new ResourceNotFoundException(
+            "Submission not found: " + submissionId));
+    if (!STATUS_PENDING.equals(submission.getCompilationStatus())) {
+      leases.complete(submissionId);
+      return null;
+    }
+    Hibernate.initialize(submission.getProblem());
+    return new PendingWork(submission,
+        testCaseRepository.findByProblemId(submission.getProblem().getId()));
+  }
+
+  /**
+   * Store the execution results on the submission's evaluation and complete its lease.
+   */
+  private void persist(Long submissionId, CompileResult compiled, int totalTestCases,
+      int passCount, int score, PerformanceGrade grade) {
+    Submission submission = submissionRepository.findById(submissionId)
+        .orElseThrow(() -> new ResourceNotFoundException(
+            "Submission not found: " + submissionId));
+    submission.setCompilationStatus(compiled.isSuccess() ? STATUS_SUCCESS : STATUS_FAILED);
+    submission.setCompilationError(compiled.getError());
+    Evaluation evaluation = submission.getEvaluation();
+    if (evaluation == null) {
+      evaluation = Evaluation.builder().submission(submission).build();
+      submission.setEvaluation(evaluation);
+    }
+    evaluation.setTotalTestCases(totalTestCases);
+    evaluation.setTestPassCount(passCount);
+    evaluation.setExecutionScore(score);
+    if (grade != null) {
+      evaluation.setComplexityClass(
+          grade.getComplexity() == null ? null : grade.getComplexity().name());
+      evaluation.setPerformanceScore(grade.getScore());
+    }
+    evaluationRepository.save(evaluation);
+    leases.complete(submissionId);
+    submissionRepository.flush();
+  }
+
+  private boolean runTest(CodeRunner runner, CompileResult compiled, Submission submission,
+      TestCase testCase, Tags tags) {
+    long start = System.nanoTime();
+    RunTestCaseEvent event = new RunTestCaseEvent();
+    event.begin();
+    Duration timeout = Duration.ofSeconds(testCase.getTimeoutSeconds());
+    TestRunResult result = testCase.getInputFixture() == null
+        ? runner.run(compiled, testCase.getInputDescription(), timeout)
+        : runner.run(compiled, fixtureStore.resolve(testCase.getInputFixture()), timeout);
+    boolean pass = !result.isTimedOut()
+        && result.getOutput() != null
+        && properties.getComparison().matches(expectedOutput(testCase), result.getOutput());
+    String outcome = result.isTimedOut() ? "timeout" : pass ? "pass" : "fail";
+    event.testCaseId = testCase.getId();
+    event.outcome = outcome;
+    event.finish(submission.getId(), submission.getProblem().getId(), submission.getLanguage());
+    metrics.recordStage(Stage.TEST_RUN, tags, outcome, System.nanoTime() - start);
+    if (result.isTimedOut()) {
+      metrics.testTimedOut(tags);
+    }
+    return pass;
+  }
+
+  private CharSequence expectedOutput(TestCase testCase) {
+    return testCase.getExpectedOutputFixture() == null
+        ? testCase.getExpectedOutput()
+        : fixtureStore.readText(testCase.getExpectedOutputFixture());
+  }
+
+  /**
+   * A claimed submission and its test cases, detached once the read transaction ends.
+   */
+  private record PendingWork(Submission submission, List<TestCase> testCases) {
+  }
+}
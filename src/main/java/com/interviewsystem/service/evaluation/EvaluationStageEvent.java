@@ -0,0 +1,46 @@
+package com.interviewsystem.service.evaluation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base for the JFR events emitted by {@link EvaluationPipeline}, one per stage, so that a slow
+ * batch in a flight recording can be traced to the submission, problem and test case responsible.
+ *
+ * <p>Stack traces are off, which keeps a disabled event at a few nanoseconds. Only the base fields
+ * are deferred until {@link #shouldCommit()} says the event will be recorded; subclass fields are
+ * plain assignments of values the pipeline already holds, so callers set them unconditionally and
+ * then call {@link #finish(long, long, String)}.
+ */
+@Category({"Interview System", "Evaluation"})
+@StackTrace(false)
+public abstract class EvaluationStageEvent extends Event {
+
+  @Label("Submission ID")
+  long submissionId;
+
+  @Label("Problem ID")
+  long problemId;
+
+  @Label("Language")
+  String language;
+
+  /**
+   * End the event and record it if the recording wants it.
+   *
+   * @param submissionId the submission being evaluated
+   * @param problemId the submission's problem
+   * @param language the submission's language
+   */
+  public void finish(long submissionId, long problemId, String language) {
+    end();
+    if (shouldCommit()) {
+      this.submissionId = submissionId;
+      this.problemId = problemId;
+      this.language = language;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,20 @@
+package com.interviewsystem.service.evaluation;
+
+import java.time.LocalDateTime;
+
+/**
+ * The timestamps bounding an evaluation's end-to-end latency, from submission to completion.
+ *
+ * <p>Rows are produced by
+ * {@link com.interviewsystem.repository.EvaluationRepository#findTiming(Long)}.
+ */
+public interface EvaluationTiming {
+
+  Long getEvaluationId();
+
+  Long getProblemId();
+
+  LocalDateTime getSubmittedAt();
+
+  LocalDateTime getEvaluatedAt();
+}
@@ -0,0 +1,48 @@
+package com.interviewsystem.service.evaluation;
+
+import com.interviewsystem.entity.TestCase;
+import java.util.List;
+
+/**
+ * Turns per-test-case pass/fail results into an execution score.
+ *
+ * <p>Each test case contributes its {@link TestCase#getWeightPercentage() weight percentage}. The
+ * weights of a problem should sum to 100, but the score is normalized by the actual total so that a
+ * problem whose weights do not add up still scores 0-100. If every weight is zero, test cases are
+ * weighted equally.
+ */
+public final class ExecutionScorer {
+
+  private ExecutionScorer() {
+  }
+
+  /**
+   * Compute the execution score of a run.
+   *
+   * @param testCases the problem's test cases
+   * @param passed whether each test case passed, in the same order as {@code testCases}
+   * @return the weighted percentage of passed tests, rounded to the nearest integer (0-100)
+   */
+  public static int score(List<TestCase> testCases, boolean[] passed) {
+    if (testCases.size() != passed.length) {
+      throw new IllegalArgumentException("Expected " + testCases.size() + " results but got "
+          + passed.length);
+    }
+    long totalWeight = 0;
+    long passedWeight = 0;
+    int passedCount = 0;
+    for (int i = 0; i < passed.length; i++) {
+      Integer weight = testCases.get(i).getWeightPercentage();
+      int w = weight == null ? 0 : Math.max(weight, 0);
+      totalWeight += w;
+      if (passed[i]) {
+        passedWeight += w;
+        passedCount++;
+      }
+    }
+    if (totalWeight == 0) {
+      return passed.length == 0 ? 0 : Math.round(100f * passedCount / passed.length);
+    }
+    return (int) ((passedWeight * 100 + totalWeight / 2) / totalWeight);
+  }
+}
@@ -0,0 +1,20 @@
+package com.interviewsystem.service.evaluation;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for timing a submission over its problem's performance inputs.
+ */
+@Name("com.interviewsystem.GradePerformance")
+@Label("Grade Performance")
+@Description("Empirical complexity measurement of an accepted submission")
+public class GradePerformanceEvent extends EvaluationStageEvent {
+
+  @Label("Complexity")
+  String complexity;
+
+  @Label("Stable")
+  boolean stable;
+}
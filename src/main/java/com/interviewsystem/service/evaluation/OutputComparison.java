@@ -0,0 +1,174 @@
+package com.interviewsystem.service.evaluation;
+
+import java.util.Arrays;
+
+/**
+ * Strategies for deciding whether a program's output matches a test case's expected output.
+ *
+ * <p>The exact, trimmed and token-based modes scan both outputs in place rather than splitting
+ * them, since outputs can be large and are compared once per test case per submission. They take
+ * any {@link CharSequence}, so an expected output can be compared straight from its fixture's
+ * mapping (see {@code FixtureStore#readText}); only {@link #UNORDERED_LINES} copies its inputs, to
+ * sort their lines.
+ */
+public enum OutputComparison {
+
+  /** Byte-for-byte equality. */
+  EXACT {
+    @Override
+    public boolean matches(CharSequence expected, CharSequence actual) {
+      return CharSequence.compare(expected, actual) == 0;
+    }
+  },
+
+  /** Equality after removing trailing whitespace from every line and trailing blank lines. */
+  TRIMMED {
+    @Override
+    public boolean matches(CharSequence expected, CharSequence actual) {
+      int e = 0;
+      int a = 0;
+      int expectedEnd = trimmedEnd(expected);
+      int actualEnd = trimmedEnd(actual);
+      while (e < expectedEnd && a < actualEnd) {
+        int expectedLineEnd = lineEnd(expected, e, expectedEnd);
+        int actualLineEnd = lineEnd(actual, a, actualEnd);
+        int expectedLength = trimmedEnd(expected, e, expectedLineEnd) - e;
+        if (expectedLength != trimmedEnd(actual, a, actualLineEnd) - a
+            || !regionMatches(expected, e, actual, a, expectedLength)) {
+          return false;
+        }
+        e = expectedLineEnd + 1;
+        a = actualLineEnd + 1;
+      }
+      return e >= expectedEnd && a >= actualEnd;
+    }
+  },
+
+  /** Equality of the whitespace-separated token sequences. */
+  TOKENS {
+    @Override
+    public boolean matches(CharSequence expected, CharSequence actual) {
+      return compareTokens(expected, actual, false);
+    }
+  },
+
+  /**
+   * Equality of the token sequences, treating tokens that both parse as numbers as equal when they
+   * are within {@value #NUMERIC_TOLERANCE} absolute or relative difference.
+   */
+  NUMERIC {
+    @Override
+    public boolean matches(CharSequence expected, CharSequence actual) {
+      return compareTokens(expected, actual, true);
+    }
+  },
+
+  /** Equality of the sets of lines, with trailing whitespace ignored and order disregarded. */
+  UNORDERED_LINES {
+    @Override
+    public boolean matches(CharSequence expected, CharSequence actual) {
+      String[] expectedLines = sortedLines(expected);
+      String[] actualLines = sortedLines(actual);
+      return Arrays.equals(expectedLines, actualLines);
+    }
+  };
+
+  static final double NUMERIC_TOLERANCE = 1e-6;
+
+  /**
+   * Compare a program's output with the expected output.
+   *
+   * @param expected the expected output
+   * @param actual the program's output
+   * @return true if the output is accepted
+   */
+  public abstract boolean matches(CharSequence expected, CharSequence actual);
+
+  private static boolean compareTokens(CharSequence expected, CharSequence actual,
+      boolean numeric) {
+    int e = skipWhitespace(expected, 0);
+    int a = skipWhitespace(actual, 0);
+    while (e < expected.length() && a < actual.length()) {
+      int expectedEnd = tokenEnd(expected, e);
+      int actualEnd = tokenEnd(actual, a);
+      int length = expectedEnd - e;
+      boolean same = length == actualEnd - a && regionMatches(expected, e, actual, a, length);
+      if (!same && !(numeric && numbersMatch(expected.subSequence(e, expectedEnd).toString(),
+          actual.subSequence(a, actualEnd).toString()))) {
+        return false;
+      }
+      e = skipWhitespace(expected, expectedEnd);
+      a = skipWhitespace(actual, actualEnd);
+    }
+    return e >= expected.length() && a >= actual.length();
+  }
+
+  private static boolean numbersMatch(String expected, String actual) {
+    double x;
+    double y;
+    try {
+      x = Double.parseDouble(expected);
+      y = Double.parseDouble(actual);
+    } catch (NumberFormatException e) {
+      return false;
+    }
+    double difference = Math.abs(x - y);
+    return difference <= NUMERIC_TOLERANCE
+        || difference <= NUMERIC_TOLERANCE * Math.max(Math.abs(x), Math.abs(y));
+  }
+
+  private static boolean regionMatches(CharSequence left, int leftFrom, CharSequence right,
+      int rightFrom, int length) {
+    for (int i = 0; i < length; i++) {
+      if (left.charAt(leftFrom + i) != right.charAt(rightFrom + i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String[] sortedLines(CharSequence text) {
+    String[] lines = text.toString().stripTrailing().split("\r?\n", -1);
+    for (int i = 0; i < lines.length; i++) {
+      lines[i] = lines[i].stripTrailing();
+    }
+    Arrays.sort(lines);
+    return lines;
+  }
+
+  private static int skipWhitespace(CharSequence text, int from) {
+    int i = from;
+    while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+      i++;
+    }
+    return i;
+  }
+
+  private static int tokenEnd(CharSequence text, int from) {
+    int i = from;
+    while (i < text.length() && !Character.isWhitespace(text.charAt(i))) {
+      i++;
+    }
+    return i;
+  }
+
+  private static int lineEnd(CharSequence text, int from, int limit) {
+    int i = from;
+    while (i < limit && text.charAt(i) != '\n') {
+      i++;
+    }
+    return i;
+  }
+
+  private static int trimmedEnd(CharSequence text) {
+    return trimmedEnd(text, 0, text.length());
+  }
+
+  private static int trimmedEnd(CharSequence text, int from, int to) {
+    int i = to;
+    while (i > from && Character.isWhitespace(text.charAt(i - 1))) {
+      i--;
+    }
+    return i;
+  }
+}
@@ -0,0 +1,32 @@
+package com.interviewsystem.service.evaluation;
+
+import lombok.Value;
+
+/**
+ * Outcome of timing an accepted submission over its problem's performance inputs.
+ *
+ * <p>{@code complexity} is {@code null} when no class could be fitted: a run timed out, or the
+ * timings stayed too noisy to trust. {@code score} is {@code null} when there is nothing to compare
+ * against, i.e. the problem declares no expected complexity or the measurement was unstable.
+ */
+@Value
+public class PerformanceGrade {
+
+  ComplexityClass complexity;
+
+  Integer score;
+
+  boolean stable;
+
+  public static PerformanceGrade measured(ComplexityClass complexity, Integer score) {
+    return new PerformanceGrade(complexity, score, true);
+  }
+
+  public static PerformanceGrade timedOut() {
+    return new PerformanceGrade(null, 0, true);
+  }
+
+  public static PerformanceGrade unstable() {
+    return new PerformanceGrade(null, null, false);
+  }
+}
@@ -0,0 +1,137 @@
+package com.interviewsystem.service.evaluation;
+
+import com.interviewsystem.config.PipelineProperties;
+import com.interviewsystem.entity.PerformanceInput;
+import com.interviewsystem.entity.Problem;
+import com.interviewsystem.repository.PerformanceInputRepository;
+import com.interviewsystem.service.evaluation.ComplexityEstimator.Sample;
+import com.interviewsystem.service.fixture.FixtureStore;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Grades an accepted submission on how its running time grows with input size.
+ *
+ * <p>The program is run over each of the problem's {@link PerformanceInput}s, smallest first:
+ * {@code warmupRuns} untimed runs, then {@code repetitions} timed ones whose median stands for
+ * that size. An input whose timings spread more than {@code maxRelativeSpread} (a neighbour
+ * stealing the CPU, a GC pause) is measured again, up to {@code maxAttempts} times; if it never
+ * settles the grade is reported as unstable rather than guessed. The medians are then fitted by
+ * {@link ComplexityEstimator}.
+ *
+ * <p>The score compares the fitted class with the problem's expected one: 100 at or below it, 50
+ * one class above, 0 beyond that or if any run times out.
+ */
+@Slf4j
+@Component
+public class PerformanceGrader {
+
+  static final int MIN_INPUTS = 3;
+
+  private final PerformanceInputRepository performanceInputRepository;
+
+  private final FixtureStore fixtureStore;
+
+  private final PipelineProperties.Performance properties;
+
+  public PerformanceGrader(PerformanceInputRepository performanceInputRepository,
+      FixtureStore fixtureStore, PipelineProperties properties) {
+    this.performanceInputRepository = performanceInputRepository;
+    this.fixtureStore = fixtureStore;
+    this.properties = properties.getPerformance();
+  }
+
+  /**
+   * Time a compiled submission over the problem's performance inputs and grade the result.
+   *
+   * @param problem the problem, with performance grading enabled
+   * @param runner the runner that compiled {@code program}
+   * @param program a successful compilation result
+   * @return the grade, or {@code null} if the problem has fewer than three inputs
+   */
+  public PerformanceGrade grade(Problem problem, CodeRunner runner, CompileResult program) {
+    List<PerformanceInput> inputs =
+        performanceInputRepository.findByProblemIdOrderByInputSizeAsc(problem.getId());
+    if (inputs.size() < MIN_INPUTS) {
+      log.warn("Problem {} has {} performance inputs, at least {} are needed to grade",
+          problem.getId(), inputs.size(), MIN_INPUTS);
+      return null;
+    }
+    List<Sample> samples = new ArrayList<>(inputs.size());
+    for (PerformanceInput input : inputs) {
+      Path inputFile = fixtureStore.resolve(input.getInputFixture());
+      Duration timeout = Duration.ofSeconds(input.getTimeoutSeconds());
+      Double median = measure(runner, program, inputFile, timeout);
+      if (median == null) {
+        return PerformanceGrade.timedOut();
+      }
+      if (median.isNaN()) {
+        log.info("Timings for problem {} at size {} stayed too noisy to grade",
+            problem.getId(), input.getInputSize());
+        return PerformanceGrade.unstable();
+      }
+      samples.add(new Sample(input.getInputSize(), median));
+    }
+    ComplexityClass measured = ComplexityEstimator.estimate(samples);
+    return PerformanceGrade.measured(measured, score(measured, expected(problem)));
+  }
+
+  /**
+   * Median running time at one input size: {@code null} on timeout, {@code NaN} if too noisy.
+   */
+  private Double measure(CodeRunner runner, CompileResult program, Path inputFile,
+      Duration timeout) {
+    for (int i = 0; i < properties.getWarmupRuns(); i++) {
+      if (runner.run(program, inputFile, timeout).isTimedOut()) {
+        return null;
+      }
+    }
+    long[] nanos = new long[Math.max(1, properties.getRepetitions())];
+    for (int attempt = 0; attempt < Math.max(1, properties.getMaxAttempts()); attempt++) {
+      for (int i = 0; i < nanos.length; i++) {
+        long start = System.nanoTime();
+        TestRunResult result = runner.run(program, inputFile, timeout);
+        nanos[i] = System.nanoTime() - start;
+        if (result.isTimedOut()) {
+          return null;
+        }
+      }
+      if (ComplexityEstimator.relativeSpread(nanos) <= properties.getMaxRelativeSpread()) {
+        return ComplexityEstimator.median(nanos);
+      }
+    }
+    return Double.NaN;
+  }
+
+  private static ComplexityClass expected(Problem problem) {
+    if (problem.getExpectedComplexity() == null) {
+      return null;
+    }
+    try {
+      return ComplexityClass.valueOf(problem.getExpectedComplexity());
+    } catch (IllegalArgumentException e) {
+      log.warn("Problem {} has unknown expected complexity '{}'", problem.getId(),
+          problem.getExpectedComplexity());
+      return null;
+    }
+  }
+
+  /**
+   * Score a measured class against the expected one.
+   *
+   * @param measured the fitted class
+   * @param expected the problem's expected class, may be {@code null}
+   * @return 100, 50 or 0, or {@code null} without an expected class
+   */
+  static Integer score(ComplexityClass measured, ComplexityClass expected) {
+    if (expected == null) {
+      return null;
+    }
+    int excess = measured.ordinal() - expected.ordinal();
+    return excess <= 0 ? 100 : excess == 1 ? 50 : 0;
+  }
+}
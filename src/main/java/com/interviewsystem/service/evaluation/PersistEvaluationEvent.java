@@ -0,0 +1,14 @@
+package com.interviewsystem.service.evaluation;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for writing the evaluation and compilation status back to the database.
+ */
+@Name("com.interviewsystem.PersistEvaluation")
+@Label("Persist Evaluation")
+@Description("Saving the evaluation and flushing the submission")
+public class PersistEvaluationEvent extends EvaluationStageEvent {
+}
@@ -0,0 +1,206 @@
+package com.interviewsystem.service.evaluation;
+
+import com.interviewsystem.config.PipelineProperties;
+import com.interviewsystem.entity.Evaluation;
+import com.interviewsystem.event.ChangeType;
+import com.interviewsystem.event.EntityChangedEvent;
+import com.interviewsystem.repository.EvaluationRepository;
+import com.interviewsystem.repository.SubmissionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Micrometer meters for the evaluation pipeline.
+ *
+ * <p>Stage timings share one timer, {@code evaluation.pipeline.stage}, tagged by stage, outcome,
+ * language and problem bucket. Tag cardinality is bounded: problem IDs are hashed into a fixed
+ * number of buckets and languages outside the configured list are reported as {@code other}.
+ * Backlog gauges query status counts when scraped, and {@code evaluation.end-to-end} measures the
+ * time from submission to the evaluation reaching {@code COMPLETED}.
+ */
+@Component
+public class PipelineMetrics {
+
+  static final String STAGE_TIMER = "evaluation.pipeline.stage";
+
+  static final String END_TO_END_TIMER = "evaluation.end-to-end";
+
+  static final String COMPILE_FAILURES = "evaluation.pipeline.compile.failures";
+
+  static final String TEST_TIMEOUTS = "evaluation.pipeline.test.timeouts";
+
+  static final String DEAD_LETTERS = "evaluation.pipeline.dead-letters";
+
+  static final String OTHER = "other";
+
+  private static final List<String> EVALUATION_STATUSES =
+      List.of("PENDING", "IN_REVIEW", "COMPLETED");
+
+  private static final int MAX_TRACKED_COMPLETIONS = 10_000;
+
+  /**
+   * Stages of the pipeline, used as the {@code stage} tag.
+   */
+  public enum Stage {
+    QUEUE_WAIT, COMPILE, TEST_RUN, SCORE, PERSIST;
+
+    String tagValue() {
+      return name().toLowerCase(Locale.ROOT);
+    }
+  }
+
+  private final MeterRegistry registry;
+
+  private final EvaluationRepository evaluationRepository;
+
+  private final PipelineProperties properties;
+
+  private final Map<Long, LocalDateTime> recordedCompletions = new ConcurrentHashMap<>();
+
+  public PipelineMetrics(MeterRegistry registry, EvaluationRepository evaluationRepository,
+      SubmissionRepository submissionRepository, PipelineProperties properties) {
+    this.registry = registry;
+    this.evaluationRepository = evaluationRepository;
+    this.properties = properties;
+    for (String status : EVALUATION_STATUSES) {
+      Gauge.builder("evaluation.backlog", evaluationRepository, repo -> repo.countByStatus(status))
+          .description("Evaluations by status")
+          .tag("status", status.toLowerCase(Locale.ROOT))
+          .strongReference(true)
+          .register(registry);
+    }
+    Gauge.builder("evaluation.pipeline.queue.depth", submissionRepository,
+            repo -> repo.countByCompilationStatus(EvaluationPipeline.STATUS_PENDING))
+        .description("Submissions waiting to be compiled and tested")
+        .strongReference(true)
+        .register(registry);
+  }
+
+  /**
+   * Build the bounded tag set shared by a submission's pipeline meters.
+   *
+   * @param problemId the submission's problem
+   * @param language the submission language
+   * @return the language and problem bucket tags
+   */
+  public Tags tags(Long problemId, String language) {
+    return Tags.of("language", languageTag(language), "problem_bucket", problemBucket(problemId));
+  }
+
+  /**
+   * Record the duration of one pipeline stage.
+   *
+   * @param stage the stage
+   * @param tags the submission tags
+   * @param outcome the stage outcome, such as {@code success} or {@code timeout}
+   * @param nanos the stage duration in nanoseconds
+   */
+  public void recordStage(Stage stage, Tags tags, String outcome, long nanos) {
+    Timer.builder(STAGE_TIMER)
+        .description("Time spent in each evaluation pipeline stage")
+        .tags(tags)
+        .tag("stage", stage.tagValue())
+        .tag("outcome", outcome)
+        .register(registry)
+        .record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Count a submission that failed to compile.
+   *
+   * @param tags the submission tags
+   */
+  public void compileFailed(Tags tags) {
+    Counter.builder(COMPILE_FAILURES).tags(tags).register(registry).increment();
+  }
+
+  /**
+   * Count a test case run that exceeded its timeout.
+   *
+   * @param tags the submission tags
+   */
+  public void testTimedOut(Tags tags) {
+    Counter.builder(TEST_TIMEOUTS).tags(tags).register(registry).increment();
+  }
+
+  /**
+   * Count a submission moved to {@code DEAD_LETTER} after using up its attempts.
+   *
+   * @param tags the submission tags
+   */
+  public void deadLettered(Tags tags) {
+    Counter.builder(DEAD_LETTERS).tags(tags).register(registry).increment();
+  }
+
+  /**
+   * Record end-to-end latency once an evaluation is committed as completed.
+   *
+   * <p>Each completion is recorded once; an evaluation is only counted again if it is completed
+   * again with a new completion time.
+   *
+   * @param event the evaluation change
+   */
+  @TransactionalEventListener
+  @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+  public void onEvaluationChanged(EntityChangedEvent<Evaluation> event) {
+    Evaluation evaluation = event.getEntity();
+    if (event.getChangeType() == ChangeType.DELETED) {
+      recordedCompletions.remove(evaluation.getId());
+      return;
+    }
+    if (!"COMPLETED".equals(evaluation.getStatus()) || evaluation.getEvaluatedAt() == null
+        || completionKey(evaluation.getEvaluatedAt())
+            .equals(recordedCompletions.get(evaluation.getId()))) {
+      return;
+    }
+    evaluationRepository.findTiming(evaluation.getId()).ifPresent(timing -> {
+      if (recordedCompletions.size() >= MAX_TRACKED_COMPLETIONS) {
+        recordedCompletions.clear();
+      }
+      recordedCompletions.put(timing.getEvaluationId(), completionKey(timing.getEvaluatedAt()));
+      Timer.builder(END_TO_END_TIMER)
+          .description("Time from submission to completed evaluation")
+          .tag("problem_bucket", problemBucket(timing.getProblemId()))
+          .register(registry)
+          .record(Duration.between(timing.getSubmittedAt(), timing.getEvaluatedAt()));
+    });
+  }
+
+  /**
+   * Timestamps are compared at millisecond precision, since the database may store fewer
+   * fractional digits than the in-memory entity carries.
+   */
+  private static LocalDateTime completionKey(LocalDateTime evaluatedAt) {
+    return evaluatedAt.truncatedTo(ChronoUnit.MILLIS);
+  }
+
+  String problemBucket(Long problemId) {
+    if (problemId == null) {
+      return OTHER;
+    }
+    return Long.toString(Math.floorMod(problemId, properties.getProblemBuckets()));
+  }
+
+  String languageTag(String language) {
+    if (language == null) {
+      return OTHER;
+    }
+    String normalized = language.toLowerCase(Locale.ROOT);
+    return properties.getLanguages().contains(normalized) ? normalized : OTHER;
+  }
+}
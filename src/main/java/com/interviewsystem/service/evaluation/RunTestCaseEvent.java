@@ -0,0 +1,21 @@
+package com.interviewsystem.service.evaluation;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for running a compiled submission against one test case.
+ */
+@Name("com.interviewsystem.RunTestCase")
+@Label("Run Test Case")
+@Description("Execution of a submission against one test case")
+public class RunTestCaseEvent extends EvaluationStageEvent {
+
+  @Label("Test Case ID")
+  long testCaseId;
+
+  @Label("Outcome")
+  @Description("pass, fail or timeout")
+  String outcome;
+}
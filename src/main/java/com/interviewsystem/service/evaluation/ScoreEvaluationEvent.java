@@ -0,0 +1,23 @@
+package com.interviewsystem.service.evaluation;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for computing a submission's weighted execution score.
+ */
+@Name("com.interviewsystem.ScoreEvaluation")
+@Label("Score Evaluation")
+@Description("Weighted scoring of test case results")
+public class ScoreEvaluationEvent extends EvaluationStageEvent {
+
+  @Label("Test Cases")
+  int testCases;
+
+  @Label("Passed")
+  int passed;
+
+  @Label("Score")
+  int score;
+}
@@ -0,0 +1,22 @@
+package com.interviewsystem.service.evaluation;
+
+import lombok.Value;
+
+/**
+ * Outcome of running a compiled submission against one test case.
+ */
+@Value
+public class TestRunResult {
+
+  String output;
+
+  boolean timedOut;
+
+  public static TestRunResult completed(String output) {
+    return new TestRunResult(output, false);
+  }
+
+  public static TestRunResult timedOut() {
+    return new TestRunResult(null, true);
+  }
+}
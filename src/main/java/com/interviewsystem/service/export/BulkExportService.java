@@ -0,0 +1,95 @@
+package com.interviewsystem.service.export;
+
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.dto.EvaluationExport;
+import com.interviewsystem.dto.SubmissionExport;
+import com.interviewsystem.dto.TestCaseExport;
+import com.interviewsystem.repository.EvaluationRepository;
+import com.interviewsystem.repository.SubmissionRepository;
+import com.interviewsystem.repository.TestCaseRepository;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Streams submissions, evaluations and test cases to bulk consumers in keyset-paged batches.
+ *
+ * <p>Rows are read as constructor projections straight from a database cursor and handed to the
+ * sink one at a time, so a page is never materialized as entities or as a complete document.
+ */
+@Service
+@ConditionalOnRole(DeploymentRole.API)
+public class BulkExportService {
+
+  private final SubmissionRepository submissionRepository;
+
+  private final EvaluationRepository evaluationRepository;
+
+  private final TestCaseRepository testCaseRepository;
+
+  public BulkExportService(SubmissionRepository submissionRepository,
+      EvaluationRepository evaluationRepository, TestCaseRepository testCaseRepository) {
+    this.submissionRepository = submissionRepository;
+    this.evaluationRepository = evaluationRepository;
+    this.testCaseRepository = testCaseRepository;
+  }
+
+  /**
+   * Export the submissions following a cursor.
+   *
+   * @param afterId the ID of the last submission already received
+   * @param limit the maximum number of submissions to export
+   * @param sink the destination of the rows
+   * @return the number of rows exported
+   * @throws IOException if the sink fails
+   */
+  @Transactional(readOnly = true)
+  public int exportSubmissions(long afterId, int limit, ExportSink<SubmissionExport> sink)
+      throws IOException {
+    return drain(submissionRepository.streamExport(afterId, Limit.of(limit)), sink);
+  }
+
+  /**
+   * Export the evaluations following a cursor.
+   *
+   * @param afterId the ID of the last evaluation already received
+   * @param limit the maximum number of evaluations to export
+   * @param sink the destination of the rows
+   * @return the number of rows exported
+   * @throws IOException if the sink fails
+   */
+  @Transactional(readOnly = true)
+  public int exportEvaluations(long afterId, int limit, ExportSink<EvaluationExport> sink)
+      throws IOException {
+    return drain(evaluationRepository.streamExport(afterId, Limit.of(limit)), sink);
+  }
+
+  /**
+   * Export the test cases following a cursor.
+   *
+   * @param afterId the ID of the last test case already received
+   * @param limit the maximum number of test cases to export
+   * @param sink the destination of the rows
+   * @return the number of rows exported
+   * @throws IOException if the sink fails
+   */
+  @Transactional(readOnly = true)
+  public int exportTestCases(long afterId, int limit, ExportSink<TestCaseExport> sink)
+      throws IOException {
+    return drain(testCaseRepository.streamExport(afterId, Limit.of(limit)), sink);
+  }
+
+  private static <T> int drain(Stream<T> rows, ExportSink<T> sink) throws IOException {
+    int count = 0;
+    try (rows) {
+      for (Iterator<T> it = rows.iterator(); it.hasNext(); count++) {
+        sink.write(it.next());
+      }
+    }
+    return count;
+  }
+}
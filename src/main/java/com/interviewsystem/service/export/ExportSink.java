@@ -0,0 +1,14 @@
+package com.interviewsystem.service.export;
+
+import java.io.IOException;
+
+/**
+ * Receives export rows one at a time as they are read from the database.
+ *
+ * @param <T> the export row type
+ */
+@FunctionalInterface
+public interface ExportSink<T> {
+
+  void write(T row) throws IOException;
+}
@@ -0,0 +1,54 @@
+package com.interviewsystem.service.fixture;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Read-only view of ASCII bytes as characters, one per byte, without decoding them into a copy.
+ */
+final class AsciiSequence implements CharSequence {
+
+  private final ByteBuffer bytes;
+
+  AsciiSequence(ByteBuffer bytes) {
+    this.bytes = bytes;
+  }
+
+  /**
+   * Whether every byte from the buffer's position to its limit is ASCII.
+   */
+  static boolean isAscii(ByteBuffer bytes) {
+    for (int i = bytes.position(); i < bytes.limit(); i++) {
+      if (bytes.get(i) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int length() {
+    return bytes.remaining();
+  }
+
+  @Override
+  public char charAt(int index) {
+    if (index < 0 || index >= bytes.remaining()) {
+      throw new IndexOutOfBoundsException(index);
+    }
+    return (char) bytes.get(bytes.position() + index);
+  }
+
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    if (start < 0 || end > bytes.remaining() || start > end) {
+      throw new IndexOutOfBoundsException("[" + start + ", " + end + ")");
+    }
+    return new AsciiSequence(bytes.slice(bytes.position() + start, end - start));
+  }
+
+  @Override
+  public String toString() {
+    return StandardCharsets.US_ASCII.decode(bytes.duplicate()).toString();
+  }
+}
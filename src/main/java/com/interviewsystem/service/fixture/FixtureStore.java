@@ -0,0 +1,244 @@
+package com.interviewsystem.service.fixture;
+
+import com.interviewsystem.config.FixtureProperties;
+import com.interviewsystem.exception.ResourceNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Content-addressed file store for test case inputs and outputs too large for the database.
+ *
+ * <p>A fixture is named by the SHA-256 of its bytes and stored as {@code ab/abcdef...} under the
+ * shared directory, so identical fixtures are stored once and a file never changes once written.
+ * That makes the optional node-local cache trivially coherent: a cached copy is valid forever and
+ * only has to be evicted for space, least recently used first.
+ *
+ * <p>Workers hand the resolved file straight to the candidate process as its standard input and
+ * compare against expected outputs through their memory mapping ({@link #readText}), so for ASCII
+ * fixtures neither passes through the heap as a copy of the file. Uploads are streamed to disk and
+ * abandoned as soon as they exceed the maximum fixture size.
+ */
+@Slf4j
+@Component
+public class FixtureStore {
+
+  private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+  private static final String TEMP_PREFIX = ".incoming-";
+
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+  private final FixtureProperties properties;
+
+  public FixtureStore(FixtureProperties properties) {
+    this.properties = properties;
+  }
+
+  /**
+   * Store a fixture, streaming it to disk while hashing it. The upload is abandoned and its
+   * partial file deleted as soon as it passes the maximum fixture size.
+   *
+   * @param content the fixture bytes; not closed
+   * @return the fixture's content hash
+   * @throws IllegalArgumentException if the fixture exceeds the maximum fixture size
+   */
+  public String store(InputStream content) {
+    Path root = properties.getDirectory();
+    Path temp = null;
+    try {
+      Files.createDirectories(root);
+      temp = Files.createTempFile(root, TEMP_PREFIX, ".tmp");
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      long maxSize = properties.getMaxFixtureSize().toBytes();
+      InputStream in = new DigestInputStream(content, digest);
+      byte[] buffer = new byte[COPY_BUFFER_SIZE];
+      long size = 0;
+      try (OutputStream out = Files.newOutputStream(temp)) {
+        for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+          size += read;
+          if (size > maxSize) {
+            throw new IllegalArgumentException(
+                "Fixture exceeds the maximum of " + maxSize + " bytes");
+          }
+          out.write(buffer, 0, read);
+        }
+      }
+      String hash = HexFormat.of().formatHex(digest.digest());
+      moveIntoPlace(temp, location(root, hash));
+      temp = null;
+      return hash;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not store fixture", e);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    } finally {
+      deleteQuietly(temp);
+    }
+  }
+
+  /**
+   * Local path of a fixture, copying it into the node cache first if one is configured.
+   *
+   * @param hash the fixture's content hash
+   * @return a readable file holding the fixture
+   * @throws ResourceNotFoundException if no such fixture is stored
+   */
+  public Path resolve(String hash) {
+    Path source = location(properties.getDirectory(), checkHash(hash));
+    Path cacheDirectory = properties.getCacheDirectory();
+    if (cacheDirectory == null) {
+      if (!Files.isRegularFile(source)) {
+        throw new ResourceNotFoundException("Fixture not found: " + hash);
+      }
+      return source;
+    }
+    Path cached = location(cacheDirectory, hash);
+    try {
+      if (Files.isRegularFile(cached)) {
+        Files.setLastModifiedTime(cached, FileTime.fromMillis(System.currentTimeMillis()));
+        return cached;
+      }
+      if (!Files.isRegularFile(source)) {
+        throw new ResourceNotFoundException("Fixture not found: " + hash);
+      }
+      Files.createDirectories(cacheDirectory);
+      Path temp = Files.createTempFile(cacheDirectory, TEMP_PREFIX, ".tmp");
+      try {
+        Files.copy(source, temp, StandardCopyOption.REPLACE_EXISTING);
+        moveIntoPlace(temp, cached);
+      } finally {
+        deleteQuietly(temp);
+      }
+      evictCache();
+      return cached;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not cache fixture " + hash, e);
+    }
+  }
+
+  /**
+   * Memory-map a fixture read-only.
+   *
+   * @param hash the fixture's content hash
+   * @return the fixture's bytes, backed by the page cache
+   * @throws ResourceNotFoundException if no such fixture is stored
+   */
+  public ByteBuffer map(String hash) {
+    try (FileChannel channel = FileChannel.open(resolve(hash), StandardOpenOption.READ)) {
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not map fixture " + hash, e);
+    }
+  }
+
+  /**
+   * A fixture's text for comparison. An ASCII fixture is read in place from its mapping, one
+   * character per byte; any other fixture is decoded from UTF-8 into a heap buffer.
+   *
+   * @param hash the fixture's content hash
+   * @return the fixture's text
+   * @throws ResourceNotFoundException if no such fixture is stored
+   */
+  public CharSequence readText(String hash) {
+    ByteBuffer mapped = map(hash);
+    return AsciiSequence.isAscii(mapped)
+        ? new AsciiSequence(mapped)
+        : StandardCharsets.UTF_8.decode(mapped);
+  }
+
+  /**
+   * Decode a fixture as UTF-8 text into a string. Copies the whole fixture onto the heap; prefer
+   * {@link #readText} for large fixtures.
+   *
+   * @param hash the fixture's content hash
+   * @return the fixture's text
+   * @throws ResourceNotFoundException if no such fixture is stored
+   */
+  public String readString(String hash) {
+    return StandardCharsets.UTF_8.decode(map(hash)).toString();
+  }
+
+  /**
+   * Evict least recently used fixtures until the local cache fits its size limit.
+   */
+  synchronized void evictCache() throws IOException {
+    Path cacheDirectory = properties.getCacheDirectory();
+    List<Path> files;
+    try (Stream<Path> walk = Files.walk(cacheDirectory)) {
+      files = walk.filter(Files::isRegularFile)
+          .filter(file -> !file.getFileName().toString().startsWith(TEMP_PREFIX))
+          .sorted(Comparator.comparing(FixtureStore::lastModified))
+          .toList();
+    }
+    long total = 0;
+    for (Path file : files) {
+      total += Files.size(file);
+    }
+    long limit = properties.getCacheMaxSize().toBytes();
+    for (int i = 0; total > limit && i < files.size() - 1; i++) {
+      total -= Files.size(files.get(i));
+      Files.deleteIfExists(files.get(i));
+      log.debug("Evicted fixture {} from the local cache", files.get(i).getFileName());
+    }
+  }
+
+  private static Path location(Path root, String hash) {
+    return root.resolve(hash.substring(0, 2)).resolve(hash);
+  }
+
+  private static String checkHash(String hash) {
+    if (hash == null || !HASH.matcher(hash).matches()) {
+      throw new ResourceNotFoundException("Fixture not found: " + hash);
+    }
+    return hash;
+  }
+
+  private static void moveIntoPlace(Path temp, Path target) throws IOException {
+    Files.createDirectories(target.getParent());
+    try {
+      Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+    } catch (FileAlreadyExistsException e) {
+      // Same hash, same content: another writer got there first.
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  private static FileTime lastModified(Path file) {
+    try {
+      return Files.getLastModifiedTime(file);
+    } catch (IOException e) {
+      return FileTime.fromMillis(0);
+    }
+  }
+
+  private static void deleteQuietly(Path file) {
+    if (file != null) {
+      try {
+        Files.deleteIfExists(file);
+      } catch (IOException e) {
+        log.debug("Could not delete {}", file, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,386 @@
+package com.interviewsystem.service.importer;
+
+import com.interviewsystem.config.CandidateImportProperties;
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.dto.CandidateImportResult;
+import com.interviewsystem.entity.Candidate;
+import com.interviewsystem.event.ChangeType;
+import com.interviewsystem.exception.InvalidRequestException;
+import com.interviewsystem.repository.CandidateRepository;
+import com.interviewsystem.service.lookup.EmailId;
+import com.interviewsystem.service.lookup.EmailLookupService;
+import com.interviewsystem.service.outbox.OutboxRecorder;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Bulk candidate import from CSV files and ATS exports.
+ *
+ * <p>The input is parsed as a stream and handled in chunks: each chunk is validated in parallel
+ * against the {@link Candidate} constraints, then its valid rows are upserted on email in JDBC
+ * batches and committed together. A chunk the database rejects is retried row by row so that
+ * only the offending rows fail. Rows that could not be imported are written to an error report,
+ * kept for download for the configured retention.
+ *
+ * <p>The upsert bypasses the JPA entity listeners, so each chunk records its candidates in the
+ * outbox itself, in the transaction that writes them. Other API instances replay those events
+ * and learn the imported emails within a relay interval, as they do for single registrations.
+ *
+ * <p>An import is not atomic: the chunks committed before a failure stay committed, and running
+ * the same file again is safe because rows are upserted.
+ */
+@Slf4j
+@Service
+@ConditionalOnRole(DeploymentRole.API)
+public class CandidateImportService {
+
+  private static final int MAX_PHONE_LENGTH = 20;
+
+  private static final int MAX_TECH_STACK_LENGTH = 20;
+
+  private static final String DEFAULT_TECH_STACK = "JAVA";
+
+  /**
+   * Accepted header names per column, compared in lower case without punctuation or spaces.
+   */
+  private static final Map<String, Column> HEADERS = Map.ofEntries(
+      Map.entry("email", Column.EMAIL),
+      Map.entry("emailaddress", Column.EMAIL),
+      Map.entry("candidateemail", Column.EMAIL),
+      Map.entry("firstname", Column.FIRST_NAME),
+      Map.entry("givenname", Column.FIRST_NAME),
+      Map.entry("lastname", Column.LAST_NAME),
+      Map.entry("surname", Column.LAST_NAME),
+      Map.entry("familyname", Column.LAST_NAME),
+      Map.entry("phone", Column.PHONE_NUMBER),
+      Map.entry("phonenumber", Column.PHONE_NUMBER),
+      Map.entry("mobile", Column.PHONE_NUMBER),
+      Map.entry("techstack", Column.TECH_STACK),
+      Map.entry("stack", Column.TECH_STACK));
+
+  private enum Column {
+    EMAIL, FIRST_NAME, LAST_NAME, PHONE_NUMBER, TECH_STACK
+  }
+
+  private final CandidateImportProperties properties;
+
+  private final EmailLookupService emailLookup;
+
+  private final Validator validator;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final CandidateRepository candidateRepository;
+
+  private final OutboxRecorder outboxRecorder;
+
+  private final CandidateUpsert upsert;
+
+  public CandidateImportService(CandidateImportProperties properties,
+      EmailLookupService emailLookup, Validator validator, TransactionTemplate transactionTemplate,
+      CandidateRepository candidateRepository, OutboxRecorder outboxRecorder,
+      JdbcTemplate jdbcTemplate) {
+    this.properties = properties;
+    this.emailLookup = emailLookup;
+    this.validator = validator;
+    this.transactionTemplate = transactionTemplate;
+    this.candidateRepository = candidateRepository;
+    this.outboxRecorder = outboxRecorder;
+    this.upsert = new CandidateUpsert(jdbcTemplate, properties.getBatchSize());
+  }
+
+  /**
+   * Import candidates from CSV.
+   *
+   * <p>The first record is the header. It must name the email, first name and last name columns
+   * and may name phone number and tech stack columns; other columns are ignored. Rows with an
+   * email that is already registered update that candidate.
+   *
+   * @param input UTF-8 CSV, read to the end but not closed
+   * @return the counts of the import and, if any row failed, where to download the error report
+   * @throws IOException if the input cannot be read
+   * @throws InvalidRequestException if the input is empty or its header lacks a required column
+   */
+  public CandidateImportResult importCsv(InputStream input) throws IOException {
+    long started = System.nanoTime();
+    String importId = UUID.randomUUID().toString();
+    CsvReader csv = new CsvReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    List<String> header = csv.next();
+    if (header == null) {
+      throw new InvalidRequestException("Import is empty, expected a CSV header");
+    }
+    Map<Column, Integer> columns = columns(header);
+
+    Tally tally = new Tally();
+    try (ImportErrorReport report = new ImportErrorReport(reportFile(importId))) {
+      List<ImportRow> chunk = new ArrayList<>(properties.getChunkSize());
+      while (true) {
+        List<String> fields;
+        try {
+          fields = csv.next();
+        } catch (EOFException e) {
+          tally.rows++;
+          report.add(csv.recordLine(), null, e.getMessage());
+          break;
+        }
+        if (fields == null) {
+          break;
+        }
+        if (fields.size() == 1 && fields.get(0).isBlank()) {
+          continue;
+        }
+        tally.rows++;
+        chunk.add(new ImportRow(csv.recordLine(), candidate(fields, columns)));
+        if (chunk.size() >= properties.getChunkSize()) {
+          importChunk(chunk, tally, report);
+          chunk.clear();
+        }
+      }
+      importChunk(chunk, tally, report);
+      tally.rejected = report.count() - tally.superseded;
+
+      long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+      log.info("Imported {} candidate rows in {} ms: {} created, {} updated, {} superseded, "
+          + "{} rejected", tally.rows, elapsedMillis, tally.created, tally.updated,
+          tally.superseded, tally.rejected);
+      return CandidateImportResult.builder()
+          .importId(importId)
+          .rows(tally.rows)
+          .created(tally.created)
+          .updated(tally.updated)
+          .superseded(tally.superseded)
+          .rejected(tally.rejected)
+          .elapsedMillis(elapsedMillis)
+          .errorReport(report.count() > 0
+              ? "/api/candidates/import/" + importId + "/errors"
+              : null)
+          .build();
+    }
+  }
+
+  /**
+   * Find the error report of an import.
+   *
+   * @param importId the ID returned by {@link #importCsv}
+   * @return the report file, or empty if the import had no errors, expired or never existed
+   */
+  public Optional<Path> findErrorReport(String importId) {
+    try {
+      UUID.fromString(importId);
+    } catch (IllegalArgumentException e) {
+      return Optional.empty();
+    }
+    Path file = reportFile(importId);
+    return Files.isRegularFile(file) ? Optional.of(file) : Optional.empty();
+  }
+
+  /**
+   * Delete the error reports older than the retention.
+   */
+  @Scheduled(fixedDelayString = "${interview.candidate-import.cleanup-interval-ms:3600000}")
+  public void deleteExpiredReports() {
+    Path directory = properties.getReportDirectory();
+    if (!Files.isDirectory(directory)) {
+      return;
+    }
+    FileTime cutoff = FileTime.from(Instant.now().minus(properties.getReportRetention()));
+    try (DirectoryStream<Path> reports = Files.newDirectoryStream(directory, "*.csv")) {
+      for (Path report : reports) {
+        if (Files.getLastModifiedTime(report).compareTo(cutoff) < 0) {
+          Files.deleteIfExists(report);
+        }
+      }
+    } catch (IOException e) {
+      log.warn("Could not delete expired import error reports from {}", directory, e);
+    }
+  }
+
+  private void importChunk(List<ImportRow> chunk, Tally tally, ImportErrorReport report) {
+    if (chunk.isEmpty()) {
+      return;
+    }
+    List<List<String>> errors = chunk.parallelStream()
+        .map(row -> validate(row.candidate()))
+        .toList();
+
+    // Later rows win over earlier rows with the same email, as they would across chunks.
+    Map<String, ImportRow> latest = new LinkedHashMap<>();
+    for (int i = 0; i < chunk.size(); i++) {
+      ImportRow row = chunk.get(i);
+      if (!errors.get(i).isEmpty()) {
+        report.add(row.line(), row.candidate().getEmail(), String.join("; ", errors.get(i)));
+        continue;
+      }
+      ImportRow previous = latest.remove(row.candidate().getEmail());
+      if (previous != null) {
+        report.add(previous.line(), previous.candidate().getEmail(),
+            "Superseded by line " + row.line() + " with the same email");
+        tally.superseded++;
+      }
+      latest.put(row.candidate().getEmail(), row);
+    }
+    if (latest.isEmpty()) {
+      return;
+    }
+
+    Set<String> registered = emailLookup.resolveCandidates(latest.keySet()).keySet();
+    List<ImportRow> rows = new ArrayList<>(latest.values());
+    LocalDateTime now = LocalDateTime.now();
+    emailLookup.candidatesWritten(latest.keySet());
+    try {
+      transactionTemplate.executeWithoutResult(status -> write(
+          rows.stream().map(ImportRow::candidate).toList(), registered, now));
+      for (ImportRow row : rows) {
+        count(tally, registered.contains(row.candidate().getEmail()));
+      }
+    } catch (DataAccessException e) {
+      log.debug("Batch upsert of {} candidates failed, retrying row by row", rows.size(), e);
+      for (ImportRow row : rows) {
+        try {
+          transactionTemplate.executeWithoutResult(
+              status -> write(List.of(row.candidate()), registered, now));
+          count(tally, registered.contains(row.candidate().getEmail()));
+        } catch (DataAccessException rowFailure) {
+          report.add(row.line(), row.candidate().getEmail(),
+              NestedExceptionUtils.getMostSpecificCause(rowFailure).getMessage());
+        }
+      }
+    } finally {
+      emailLookup.candidatesWritten(latest.keySet());
+    }
+  }
+
+  /**
+   * Upsert candidates and record them in the outbox, in the caller's transaction.
+   */
+  private void write(List<Candidate> candidates, Set<String> registered, LocalDateTime now) {
+    upsert.write(candidates, now);
+    List<String> emails = candidates.stream().map(Candidate::getEmail).toList();
+    for (EmailId written : candidateRepository.findIdsByEmailIn(emails)) {
+      Candidate stub = new Candidate();
+      stub.setId(written.getId());
+      outboxRecorder.recordWritten(stub, registered.contains(written.getEmail())
+          ? ChangeType.UPDATED
+          : ChangeType.CREATED);
+    }
+  }
+
+  private List<String> validate(Candidate candidate) {
+    List<String> errors = new ArrayList<>();
+    for (ConstraintViolation<Candidate> violation : validator.validate(candidate)) {
+      errors.add(violation.getMessage());
+    }
+    if (candidate.getPhoneNumber() != null
+        && candidate.getPhoneNumber().length() > MAX_PHONE_LENGTH) {
+      errors.add("Phone number must be at most " + MAX_PHONE_LENGTH + " characters");
+    }
+    if (candidate.getTechStack().length() > MAX_TECH_STACK_LENGTH) {
+      errors.add("Tech stack must be at most " + MAX_TECH_STACK_LENGTH + " characters");
+    }
+    errors.sort(null);
+    return errors;
+  }
+
+  private static Map<Column, Integer> columns(List<String> header) {
+    Map<Column, Integer> columns = new HashMap<>();
+    for (int i = 0; i < header.size(); i++) {
+      String name = header.get(i).toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+      Column column = HEADERS.get(name);
+      if (column != null) {
+        columns.putIfAbsent(column, i);
+      }
+    }
+    for (Column required : List.of(Column.EMAIL, Column.FIRST_NAME, Column.LAST_NAME)) {
+      if (!columns.containsKey(required)) {
+        throw new InvalidRequestException("Import header has no "
+            + required.name().toLowerCase(Locale.ROOT) + " column: " + String.join(",", header));
+      }
+    }
+    return columns;
+  }
+
+  private static Candidate candidate(List<String> fields, Map<Column, Integer> columns) {
+    String techStack = field(fields, columns, Column.TECH_STACK);
+    return Candidate.builder()
+        .email(field(fields, columns, Column.EMAIL))
+        .firstName(field(fields, columns, Column.FIRST_NAME))
+        .lastName(field(fields, columns, Column.LAST_NAME))
+        .phoneNumber(field(fields, columns, Column.PHONE_NUMBER))
+        .techStack(techStack != null ? techStack.toUpperCase(Locale.ROOT) : DEFAULT_TECH_STACK)
+        .build();
+  }
+
+  /**
+   * The trimmed value of a column, or {@code null} if the column or the value is absent.
+   */
+  private static String field(List<String> fields, Map<Column, Integer> columns, Column column) {
+    Integer index = columns.get(column);
+    if (index == null || index >= fields.size()) {
+      return null;
+    }
+    String value = fields.get(index).trim();
+    return value.isEmpty() ? null : value;
+  }
+
+  private static void count(Tally tally, boolean registered) {
+    if (registered) {
+      tally.updated++;
+    } else {
+      tally.created++;
+    }
+  }
+
+  private Path reportFile(String importId) {
+    return properties.getReportDirectory().resolve(importId + ".csv");
+  }
+
+  /**
+   * A parsed row and the line of the input it started on.
+   */
+  private record ImportRow(int line, Candidate candidate) {
+  }
+
+  /**
+   * Running counts of an import.
+   */
+  private static final class Tally {
+
+    int rows;
+
+    int created;
+
+    int updated;
+
+    int superseded;
+
+    int rejected;
+  }
+}
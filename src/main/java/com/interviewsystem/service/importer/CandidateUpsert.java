@@ -0,0 +1,86 @@
+package com.interviewsystem.service.importer;
+
+import com.interviewsystem.entity.Candidate;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Batched insert-or-update of candidates keyed by email, in plain JDBC.
+ *
+ * <p>PostgreSQL uses {@code INSERT ... ON CONFLICT (email) DO UPDATE}, which is atomic against
+ * concurrent inserts of the same email. Other databases, H2 among them, get the equivalent
+ * standard {@code MERGE}. A new row takes its ID from {@code candidate_id_seq}, explicitly on
+ * PostgreSQL and through the column default elsewhere; an update keeps the row's ID and
+ * {@code created_at}.
+ *
+ * <p>With the PostgreSQL driver's {@code reWriteBatchedInserts} option a batch is sent as one
+ * multi-row statement, which {@code ON CONFLICT} only accepts if no email repeats within it;
+ * callers pass distinct emails for that reason.
+ */
+final class CandidateUpsert {
+
+  private static final String ON_CONFLICT = "insert into candidate "
+      + "(id, email, first_name, last_name, phone_number, tech_stack, created_at, updated_at) "
+      + "values (nextval('candidate_id_seq'), ?, ?, ?, ?, ?, ?, ?) "
+      + "on conflict (email) do update set first_name = excluded.first_name, "
+      + "last_name = excluded.last_name, phone_number = excluded.phone_number, "
+      + "tech_stack = excluded.tech_stack, updated_at = excluded.updated_at";
+
+  private static final String MERGE = "merge into candidate c using (values ("
+      + "cast(? as varchar(255)), cast(? as varchar(100)), cast(? as varchar(100)), "
+      + "cast(? as varchar(20)), cast(? as varchar(20)), cast(? as timestamp), "
+      + "cast(? as timestamp))) "
+      + "s (email, first_name, last_name, phone_number, tech_stack, created_at, updated_at) "
+      + "on c.email = s.email "
+      + "when matched then update set first_name = s.first_name, last_name = s.last_name, "
+      + "phone_number = s.phone_number, tech_stack = s.tech_stack, updated_at = s.updated_at "
+      + "when not matched then insert "
+      + "(email, first_name, last_name, phone_number, tech_stack, created_at, updated_at) "
+      + "values (s.email, s.first_name, s.last_name, s.phone_number, s.tech_stack, s.created_at, "
+      + "s.updated_at)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final int batchSize;
+
+  private volatile String sql;
+
+  CandidateUpsert(JdbcTemplate jdbcTemplate, int batchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.batchSize = Math.max(1, batchSize);
+  }
+
+  /**
+   * Insert or update candidates in JDBC batches, in the caller's transaction.
+   *
+   * @param candidates the candidates, with distinct emails
+   * @param now the creation time of new rows and the update time of all rows
+   */
+  void write(List<Candidate> candidates, LocalDateTime now) {
+    Timestamp timestamp = Timestamp.valueOf(now);
+    jdbcTemplate.batchUpdate(sql(), candidates, batchSize, (statement, candidate) -> {
+      statement.setString(1, candidate.getEmail());
+      statement.setString(2, candidate.getFirstName());
+      statement.setString(3, candidate.getLastName());
+      statement.setString(4, candidate.getPhoneNumber());
+      statement.setString(5, candidate.getTechStack());
+      statement.setTimestamp(6, timestamp);
+      statement.setTimestamp(7, timestamp);
+    });
+  }
+
+  private String sql() {
+    String current = sql;
+    if (current == null) {
+      String product = jdbcTemplate.execute(
+          (ConnectionCallback<String>) connection -> connection.getMetaData()
+              .getDatabaseProductName());
+      current = "PostgreSQL".equalsIgnoreCase(product) ? ON_CONFLICT : MERGE;
+      sql = current;
+    }
+    return current;
+  }
+}
@@ -0,0 +1,127 @@
+package com.interviewsystem.service.importer;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming RFC 4180 CSV parser.
+ *
+ * <p>Fields are separated by commas and records by LF or CRLF. A field in double quotes may
+ * contain commas, line breaks and doubled quotes. A leading byte order mark is skipped. Records
+ * are read one at a time through an internal buffer, so input of any size is parsed in constant
+ * memory.
+ */
+final class CsvReader {
+
+  private static final int EOF = -1;
+
+  private final Reader reader;
+
+  private final char[] buffer = new char[64 * 1024];
+
+  private final StringBuilder field = new StringBuilder();
+
+  private int position;
+
+  private int limit;
+
+  private int line = 1;
+
+  private int recordLine;
+
+  CsvReader(Reader reader) throws IOException {
+    this.reader = reader;
+    if (peek() == '\uFEFF') {
+      position++;
+    }
+  }
+
+  /**
+   * Read the next record.
+   *
+   * @return the record's fields, or {@code null} at the end of the input
+   * @throws EOFException if the input ends inside a quoted field
+   * @throws IOException if the input cannot be read
+   */
+  List<String> next() throws IOException {
+    if (peek() == EOF) {
+      return null;
+    }
+    recordLine = line;
+    List<String> fields = new ArrayList<>();
+    while (true) {
+      int c = read();
+      if (c == '"' && field.isEmpty()) {
+        readQuoted();
+        continue;
+      }
+      if (c == ',') {
+        fields.add(take());
+      } else if (c == '\n' || c == EOF) {
+        fields.add(take());
+        return fields;
+      } else if (c == '\r' && peek() == '\n') {
+        read();
+        fields.add(take());
+        return fields;
+      } else {
+        field.append((char) c);
+      }
+    }
+  }
+
+  /**
+   * The line of the input the last record returned by {@link #next} started on, counting from 1.
+   */
+  int recordLine() {
+    return recordLine;
+  }
+
+  private void readQuoted() throws IOException {
+    while (true) {
+      int c = read();
+      if (c == EOF) {
+        throw new EOFException("Unterminated quoted field starting on line " + recordLine);
+      }
+      if (c == '"') {
+        if (peek() != '"') {
+          return;
+        }
+        read();
+      }
+      field.append((char) c);
+    }
+  }
+
+  private String take() {
+    String value = field.toString();
+    field.setLength(0);
+    return value;
+  }
+
+  private int read() throws IOException {
+    int c = peek();
+    if (c != EOF) {
+      position++;
+      if (c == '\n') {
+        line++;
+      }
+    }
+    return c;
+  }
+
+  private int peek() throws IOException {
+    if (position == limit) {
+      limit = reader.read(buffer, 0, buffer.length);
+      position = 0;
+      if (limit <= 0) {
+        limit = 0;
+        return EOF;
+      }
+    }
+    return buffer[position];
+  }
+}
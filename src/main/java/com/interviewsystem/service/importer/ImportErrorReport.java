@@ -0,0 +1,77 @@
+package com.interviewsystem.service.importer;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * CSV file of the rows an import could not take, one line per row: the input line number, the
+ * email and the reasons.
+ *
+ * <p>The file is only created once the first error is added, so clean imports leave nothing
+ * behind.
+ */
+final class ImportErrorReport implements Closeable {
+
+  private final Path file;
+
+  private BufferedWriter writer;
+
+  private int count;
+
+  ImportErrorReport(Path file) {
+    this.file = file;
+  }
+
+  /**
+   * Add a row.
+   *
+   * @param line the line of the input the row started on
+   * @param email the row's email, may be {@code null}
+   * @param error why the row was not imported
+   */
+  void add(int line, String email, String error) {
+    try {
+      if (writer == null) {
+        Files.createDirectories(file.getParent());
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        writer.write("line,email,error\n");
+      }
+      writer.write(Integer.toString(line));
+      writer.write(',');
+      writer.write(quote(email));
+      writer.write(',');
+      writer.write(quote(error));
+      writer.write('\n');
+      count++;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not write import error report " + file, e);
+    }
+  }
+
+  int count() {
+    return count;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (writer != null) {
+      writer.close();
+    }
+  }
+
+  private static String quote(String value) {
+    if (value == null) {
+      return "";
+    }
+    if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+        && value.indexOf('\r') < 0) {
+      return value;
+    }
+    return '"' + value.replace("\"", "\"\"") + '"';
+  }
+}
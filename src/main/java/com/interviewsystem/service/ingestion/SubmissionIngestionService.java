@@ -0,0 +1,269 @@
+package com.interviewsystem.service.ingestion;
+
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.dto.SubmissionBatchResponse;
+import com.interviewsystem.dto.SubmissionItemResult;
+import com.interviewsystem.dto.SubmissionItemResult.Status;
+import com.interviewsystem.dto.SubmissionRequest;
+import com.interviewsystem.entity.Submission;
+import com.interviewsystem.repository.CandidateRepository;
+import com.interviewsystem.repository.CandidateRepository.TechStackView;
+import com.interviewsystem.repository.ProblemRepository;
+import com.interviewsystem.repository.SubmissionRepository;
+import com.interviewsystem.repository.SubmissionRepository.IdempotencyKeyView;
+import com.interviewsystem.service.attempt.AttemptDeltaEncoder;
+import com.interviewsystem.service.ratelimit.CandidateRateLimiter;
+import com.interviewsystem.service.ratelimit.CandidateRateLimiter.Kind;
+import com.interviewsystem.service.ratelimit.RateLimitDecision;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Ingests batches of submissions with per-item validation and idempotency-key deduplication.
+ *
+ * <p>Items are bean-validated in parallel, then a batch costs three lookups (candidate IDs,
+ * problem IDs, existing idempotency keys) and one batched insert. An item whose key already
+ * exists, in the database or earlier in the same batch, is reported as a duplicate of the stored
+ * submission instead of being inserted again. If a concurrent request inserts the same key first,
+ * the unique constraint rejects the batch and it is retried once, at which point the conflicting
+ * items resolve as duplicates. New submissions are delta-encoded by the
+ * {@link AttemptDeltaEncoder} before the insert.
+ *
+ * <p>Items that would create a submission are charged to their candidate's submission rate limit
+ * before the transaction, so a retried transaction does not charge twice. Items that reuse a
+ * stored or earlier idempotency key, or name an unknown candidate or problem, are not charged, so
+ * retrying a batch that was already stored reports its duplicates again instead of emptying the
+ * bucket. Items over the limit come back as {@code RATE_LIMITED} and can be retried with the same
+ * idempotency key.
+ */
+@Slf4j
+@Service
+@ConditionalOnRole(DeploymentRole.API)
+public class SubmissionIngestionService {
+
+  private static final int MAX_ATTEMPTS = 2;
+
+  private final SubmissionRepository submissionRepository;
+
+  private final CandidateRepository candidateRepository;
+
+  private final ProblemRepository problemRepository;
+
+  private final AttemptDeltaEncoder deltaEncoder;
+
+  private final CandidateRateLimiter rateLimiter;
+
+  private final Validator validator;
+
+  private final TransactionTemplate transactionTemplate;
+
+  public SubmissionIngestionService(SubmissionRepository submissionRepository,
+      CandidateRepository candidateRepository, ProblemRepository problemRepository,
+      AttemptDeltaEncoder deltaEncoder, CandidateRateLimiter rateLimiter, Validator validator,
+      TransactionTemplate transactionTemplate) {
+    this.submissionRepository = submissionRepository;
+    this.candidateRepository = candidateRepository;
+    this.problemRepository = problemRepository;
+    this.deltaEncoder = deltaEncoder;
+    this.rateLimiter = rateLimiter;
+    this.validator = validator;
+    this.transactionTemplate = transactionTemplate;
+  }
+
+  /**
+   * Ingest a batch of submissions.
+   *
+   * @param requests the submissions to ingest
+   * @return per-item results in request order
+   */
+  public SubmissionBatchResponse ingest(List<SubmissionRequest> requests) {
+    List<List<String>> validationErrors = requests.parallelStream()
+        .map(this::validate)
+        .toList();
+    String[] rateLimited = rateLimit(requests, validationErrors);
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return transactionTemplate.execute(
+            status -> store(requests, validationErrors, rateLimited));
+      } catch (DataIntegrityViolationException e) {
+        if (attempt >= MAX_ATTEMPTS) {
+          throw e;
+        }
+        log.debug("Idempotency key conflict while ingesting {} submissions, retrying",
+            requests.size(), e);
+      }
+    }
+  }
+
+  /**
+   * Charge each item that would create a submission to its candidate's submission bucket.
+   *
+   * <p>Items naming an unknown candidate or problem, or reusing an idempotency key that is stored
+   * or appears earlier in the batch, do no work and are not charged. A repeated key shares the
+   * outcome of its first occurrence, so it cannot slip past a limit its first occurrence hit.
+   *
+   * @return per item, the rate limit error, or {@code null} if the item may proceed
+   */
+  private String[] rateLimit(List<SubmissionRequest> requests,
+      List<List<String>> validationErrors) {
+    String[] rateLimited = new String[requests.size()];
+    if (!rateLimiter.isEnabled()) {
+      return rateLimited;
+    }
+    Set<Long> candidateIds = new HashSet<>();
+    Set<Long> problemIds = new HashSet<>();
+    Set<String> keys = new HashSet<>();
+    for (int i = 0; i < requests.size(); i++) {
+      if (validationErrors.get(i).isEmpty()) {
+        candidateIds.add(requests.get(i).getCandidateId());
+        problemIds.add(requests.get(i).getProblemId());
+        keys.add(requests.get(i).getIdempotencyKey());
+      }
+    }
+    if (candidateIds.isEmpty()) {
+      return rateLimited;
+    }
+    Map<Long, String> techStacks = new HashMap<>();
+    for (TechStackView view : candidateRepository.findTechStacks(candidateIds)) {
+      techStacks.put(view.getId(), view.getTechStack());
+    }
+    Set<Long> knownProblems = new HashSet<>(problemRepository.findExistingIds(problemIds));
+    Set<String> existingKeys = new HashSet<>();
+    for (IdempotencyKeyView view : submissionRepository.findByIdempotencyKeyIn(keys)) {
+      existingKeys.add(view.getIdempotencyKey());
+    }
+
+    Map<String, Integer> firstByKey = new HashMap<>();
+    for (int i = 0; i < requests.size(); i++) {
+      SubmissionRequest request = requests.get(i);
+      Long candidateId = request.getCandidateId();
+      if (!validationErrors.get(i).isEmpty()
+          || !techStacks.containsKey(candidateId)
+          || !knownProblems.contains(request.getProblemId())
+          || existingKeys.contains(request.getIdempotencyKey())) {
+        continue;
+      }
+      Integer first = firstByKey.putIfAbsent(request.getIdempotencyKey(), i);
+      if (first != null) {
+        rateLimited[i] = rateLimited[first];
+        continue;
+      }
+      RateLimitDecision decision = rateLimiter.tryAcquire(Kind.SUBMISSION,
+          "candidate:" + candidateId, techStacks.get(candidateId));
+      if (!decision.allowed()) {
+        rateLimited[i] = "Submission rate limit exceeded, retry in "
+            + decision.retryAfterSeconds() + "s";
+      }
+    }
+    return rateLimited;
+  }
+
+  private SubmissionBatchResponse store(List<SubmissionRequest> requests,
+      List<List<String>> validationErrors, String[] rateLimited) {
+    Set<Long> candidateIds = new HashSet<>();
+    Set<Long> problemIds = new HashSet<>();
+    Set<String> keys = new HashSet<>();
+    for (int i = 0; i < requests.size(); i++) {
+      if (validationErrors.get(i).isEmpty()) {
+        candidateIds.add(requests.get(i).getCandidateId());
+        problemIds.add(requests.get(i).getProblemId());
+        keys.add(requests.get(i).getIdempotencyKey());
+      }
+    }
+    Set<Long> knownCandidates = new HashSet<>(candidateRepository.findExistingIds(candidateIds));
+    Set<Long> knownProblems = new HashSet<>(problemRepository.findExistingIds(problemIds));
+    Map<String, Long> existingKeys = new HashMap<>();
+    for (IdempotencyKeyView view : submissionRepository.findByIdempotencyKeyIn(keys)) {
+      existingKeys.put(view.getIdempotencyKey(), view.getId());
+    }
+
+    Status[] statuses = new Status[requests.size()];
+    List<List<String>> errors = new ArrayList<>(validationErrors);
+    Map<String, Submission> pending = new LinkedHashMap<>();
+    LocalDateTime now = LocalDateTime.now();
+    for (int i = 0; i < requests.size(); i++) {
+      SubmissionRequest request = requests.get(i);
+      if (!errors.get(i).isEmpty()) {
+        statuses[i] = Status.REJECTED;
+      } else if (!knownCandidates.contains(request.getCandidateId())) {
+        statuses[i] = Status.REJECTED;
+        errors.set(i, List.of("Candidate " + request.getCandidateId() + " not found"));
+      } else if (!knownProblems.contains(request.getProblemId())) {
+        statuses[i] = Status.REJECTED;
+        errors.set(i, List.of("Problem " + request.getProblemId() + " not found"));
+      } else if (existingKeys.containsKey(request.getIdempotencyKey())
+          || pending.containsKey(request.getIdempotencyKey())) {
+        statuses[i] = Status.DUPLICATE;
+      } else if (rateLimited[i] != null) {
+        statuses[i] = Status.RATE_LIMITED;
+        errors.set(i, List.of(rateLimited[i]));
+      } else {
+        statuses[i] = Status.CREATED;
+        pending.put(request.getIdempotencyKey(), toSubmission(request, now));
+      }
+    }
+
+    deltaEncoder.encode(new ArrayList<>(pending.values()));
+    submissionRepository.saveAll(pending.values());
+    submissionRepository.flush();
+    pending.forEach((key, submission) -> existingKeys.put(key, submission.getId()));
+
+    List<SubmissionItemResult> results = new ArrayList<>(requests.size());
+    for (int i = 0; i < requests.size(); i++) {
+      String key = requests.get(i).getIdempotencyKey();
+      results.add(SubmissionItemResult.builder()
+          .index(i)
+          .idempotencyKey(key)
+          .status(statuses[i])
+          .submissionId(statuses[i] == Status.REJECTED || statuses[i] == Status.RATE_LIMITED
+              ? null
+              : existingKeys.get(key))
+          .errors(errors.get(i))
+          .build());
+    }
+    return SubmissionBatchResponse.builder()
+        .created(count(statuses, Status.CREATED))
+        .duplicates(count(statuses, Status.DUPLICATE))
+        .rejected(count(statuses, Status.REJECTED))
+        .rateLimited(count(statuses, Status.RATE_LIMITED))
+        .results(results)
+        .build();
+  }
+
+  private List<String> validate(SubmissionRequest request) {
+    if (request == null) {
+      return List.of("Submission is required");
+    }
+    Set<ConstraintViolation<SubmissionRequest>> violations = validator.validate(request);
+    return violations.stream().map(ConstraintViolation::getMessage).sorted().toList();
+  }
+
+  private Submission toSubmission(SubmissionRequest request, LocalDateTime now) {
+    return Submission.builder()
+        .idempotencyKey(request.getIdempotencyKey())
+        .candidate(candidateRepository.getReferenceById(request.getCandidateId()))
+        .problem(problemRepository.getReferenceById(request.getProblemId()))
+        .codeContent(request.getCodeContent())
+        .language(request.getLanguage())
+        .submittedAt(request.getSubmittedAt() != null ? request.getSubmittedAt() : now)
+        .build();
+  }
+
+  private static int count(Status[] statuses, Status status) {
+    return (int) Arrays.stream(statuses).filter(status::equals).count();
+  }
+}
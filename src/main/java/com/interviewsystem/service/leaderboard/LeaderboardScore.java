@@ -0,0 +1,46 @@
+package com.interviewsystem.service.leaderboard;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import lombok.Value;
+
+/**
+ * A completed evaluation reduced to the fields needed to rank it on a problem leaderboard.
+ *
+ * <p>Instances are produced directly by JPQL constructor expressions in
+ * {@link com.interviewsystem.repository.EvaluationRepository}.
+ */
+@Value
+public class LeaderboardScore {
+
+  /**
+   * Leaderboard order: highest overall score first, then earliest submission, then candidate ID so
+   * that every candidate has a distinct position.
+   */
+  public static final Comparator<LeaderboardScore> RANKING = Comparator
+      .comparing(LeaderboardScore::getOverallScore, Comparator.reverseOrder())
+      .thenComparing(LeaderboardScore::getSubmittedAt)
+      .thenComparing(LeaderboardScore::getCandidateId);
+
+  Long evaluationId;
+
+  Long submissionId;
+
+  Long candidateId;
+
+  Long problemId;
+
+  Integer overallScore;
+
+  LocalDateTime submittedAt;
+
+  /**
+   * Check whether this score ranks ahead of another score by the same candidate.
+   *
+   * @param other the score to compare against
+   * @return true if this score should replace the other on the leaderboard
+   */
+  public boolean beats(LeaderboardScore other) {
+    return RANKING.compare(this, other) < 0;
+  }
+}
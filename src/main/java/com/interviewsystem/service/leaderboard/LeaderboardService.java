@@ -0,0 +1,172 @@
+package com.interviewsystem.service.leaderboard;
+
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.dto.LeaderboardEntry;
+import com.interviewsystem.entity.Evaluation;
+import com.interviewsystem.event.ChangeType;
+import com.interviewsystem.event.EntityChangedEvent;
+import com.interviewsystem.repository.EvaluationRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Maintains an in-memory leaderboard per problem, ranking each candidate's best completed
+ * evaluation by overall score with the earlier submission winning ties.
+ *
+ * <p>The leaderboards are rebuilt from the database once the application is ready and are then kept
+ * current from committed {@link Evaluation} changes, so top-K and rank lookups never touch the
+ * database.
+ */
+@Slf4j
+@Service
+@ConditionalOnRole(DeploymentRole.API)
+public class LeaderboardService {
+
+  private final EvaluationRepository evaluationRepository;
+
+  private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+
+  private volatile ConcurrentMap<Long, ProblemLeaderboard> leaderboards = new ConcurrentHashMap<>();
+
+  public LeaderboardService(EvaluationRepository evaluationRepository) {
+    this.evaluationRepository = evaluationRepository;
+  }
+
+  /**
+   * Rebuild every leaderboard from the completed evaluations in the database.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public void rebuild() {
+    rebuildLock.writeLock().lock();
+    try {
+      ConcurrentMap<Long, ProblemLeaderboard> rebuilt = new ConcurrentHashMap<>();
+      List<LeaderboardScore> scores = evaluationRepository.findCompletedLeaderboardScores();
+      for (LeaderboardScore score : scores) {
+        rebuilt.computeIfAbsent(score.getProblemId(), id -> new ProblemLeaderboard()).offer(score);
+      }
+      leaderboards = rebuilt;
+      log.info("Rebuilt {} problem leaderboards from {} completed evaluations", rebuilt.size(),
+          scores.size());
+    } finally {
+      rebuildLock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Apply a committed evaluation change to the affected leaderboard.
+   *
+   * @param event the evaluation change
+   */
+  @TransactionalEventListener
+  @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+  public void onEvaluationChanged(EntityChangedEvent<Evaluation> event) {
+    Long evaluationId = event.getEntity().getId();
+    rebuildLock.readLock().lock();
+    try {
+      Optional<LeaderboardScore> score = event.getChangeType() == ChangeType.DELETED
+          ? Optional.empty()
+          : evaluationRepository.findCompletedLeaderboardScore(evaluationId);
+      if (score.isPresent()) {
+        ProblemLeaderboard leaderboard = leaderboardFor(score.get().getProblemId());
+        if (leaderboard.removeEvaluation(evaluationId).isPresent()) {
+          reloadCandidate(score.get().getProblemId(), score.get().getCandidateId());
+        } else {
+          leaderboard.offer(score.get());
+        }
+        return;
+      }
+      for (ProblemLeaderboard leaderboard : leaderboards.values()) {
+        leaderboard.removeEvaluation(evaluationId).ifPresent(
+            removed -> reloadCandidate(removed.getProblemId(), removed.getCandidateId()));
+      }
+    } finally {
+      rebuildLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Return a window of a problem's leaderboard.
+   *
+   * @param problemId the ID of the problem
+   * @param offset the number of leading entries to skip
+   * @param limit the maximum number of entries to return
+   * @return the ranked entries, best first
+   */
+  public List<LeaderboardEntry> getLeaderboard(Long problemId, int offset, int limit) {
+    ProblemLeaderboard leaderboard = leaderboards.get(problemId);
+    if (leaderboard == null) {
+      return List.of();
+    }
+    List<LeaderboardScore> scores = leaderboard.range(offset, limit);
+    List<LeaderboardEntry> entries = new ArrayList<>(scores.size());
+    for (int i = 0; i < scores.size(); i++) {
+      entries.add(toEntry(offset + i + 1, scores.get(i)));
+    }
+    return entries;
+  }
+
+  /**
+   * Find a candidate's position on a problem's leaderboard.
+   *
+   * @param problemId the ID of the problem
+   * @param candidateId the ID of the candidate
+   * @return an Optional containing the entry if the candidate has a completed evaluation
+   */
+  public Optional<LeaderboardEntry> getCandidateEntry(Long problemId, Long candidateId) {
+    ProblemLeaderboard leaderboard = leaderboards.get(problemId);
+    if (leaderboard == null) {
+      return Optional.empty();
+    }
+    return leaderboard.lookup(candidateId, LeaderboardService::toEntry);
+  }
+
+  /**
+   * Count the candidates ranked on a problem's leaderboard.
+   *
+   * @param problemId the ID of the problem
+   * @return the number of ranked candidates
+   */
+  public int countRanked(Long problemId) {
+    ProblemLeaderboard leaderboard = leaderboards.get(problemId);
+    return leaderboard == null ? 0 : leaderboard.size();
+  }
+
+  private void reloadCandidate(Long problemId, Long candidateId) {
+    ProblemLeaderboard leaderboard = leaderboardFor(problemId);
+    for (LeaderboardScore score
+        : evaluationRepository.findCompletedLeaderboardScores(candidateId, problemId)) {
+      leaderboard.offer(score);
+    }
+  }
+
+  private ProblemLeaderboard leaderboardFor(Long problemId) {
+    Map<Long, ProblemLeaderboard> current = leaderboards;
+    return current.computeIfAbsent(problemId, id -> new ProblemLeaderboard());
+  }
+
+  private static LeaderboardEntry toEntry(int rank, LeaderboardScore score) {
+    return LeaderboardEntry.builder()
+        .rank(rank)
+        .candidateId(score.getCandidateId())
+        .submissionId(score.getSubmissionId())
+        .evaluationId(score.getEvaluationId())
+        .overallScore(score.getOverallScore())
+        .submittedAt(score.getSubmittedAt())
+        .build();
+  }
+}
@@ -0,0 +1,115 @@
+package com.interviewsystem.service.leaderboard;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+
+/**
+ * Ranked view of the best completed evaluation of each candidate for a single problem.
+ *
+ * <p>Reads (top-K, rank lookups) share a read lock; offers and removals take the write lock.
+ */
+class ProblemLeaderboard {
+
+  private final RankedSkipList<LeaderboardScore> ranking =
+      new RankedSkipList<>(LeaderboardScore.RANKING);
+
+  private final Map<Long, LeaderboardScore> bestByCandidate = new HashMap<>();
+
+  private final Map<Long, LeaderboardScore> bestByEvaluation = new HashMap<>();
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  /**
+   * Offer a score, keeping it only if it beats the candidate's current best.
+   *
+   * @param score the completed evaluation score
+   * @return true if the leaderboard changed
+   */
+  boolean offer(LeaderboardScore score) {
+    lock.writeLock().lock();
+    try {
+      LeaderboardScore current = bestByCandidate.get(score.getCandidateId());
+      if (current != null) {
+        boolean sameEvaluation = current.getEvaluationId().equals(score.getEvaluationId());
+        if (!sameEvaluation && !score.beats(current)) {
+          return false;
+        }
+        unlink(current);
+      }
+      ranking.insert(score);
+      bestByCandidate.put(score.getCandidateId(), score);
+      bestByEvaluation.put(score.getEvaluationId(), score);
+      return true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Remove an evaluation if it is currently some candidate's ranked best.
+   *
+   * @param evaluationId the evaluation ID
+   * @return the removed score, if the evaluation was ranked
+   */
+  Optional<LeaderboardScore> removeEvaluation(Long evaluationId) {
+    lock.writeLock().lock();
+    try {
+      LeaderboardScore current = bestByEvaluation.get(evaluationId);
+      if (current != null) {
+        unlink(current);
+      }
+      return Optional.ofNullable(current);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Look up a candidate's best score together with its 1-based rank.
+   *
+   * @param candidateId the candidate ID
+   * @param mapper maps the rank and score to the result type
+   * @param <R> the result type
+   * @return the mapped result, if the candidate is ranked
+   */
+  <R> Optional<R> lookup(Long candidateId, BiFunction<Integer, LeaderboardScore, R> mapper) {
+    lock.readLock().lock();
+    try {
+      LeaderboardScore current = bestByCandidate.get(candidateId);
+      return current == null
+          ? Optional.empty()
+          : Optional.of(mapper.apply(ranking.rank(current), current));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  List<LeaderboardScore> range(int offset, int limit) {
+    lock.readLock().lock();
+    try {
+      return ranking.range(offset, limit);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  int size() {
+    lock.readLock().lock();
+    try {
+      return ranking.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void unlink(LeaderboardScore score) {
+    ranking.remove(score);
+    bestByCandidate.remove(score.getCandidateId());
+    bestByEvaluation.remove(score.getEvaluationId());
+  }
+}
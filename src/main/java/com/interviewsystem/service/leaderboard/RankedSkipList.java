@@ -0,0 +1,190 @@
+package com.interviewsystem.service.leaderboard;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Indexable skip list that keeps its elements sorted and answers rank queries in O(log n).
+ *
+ * <p>Every forward link stores its span (the number of level-0 nodes it jumps over), so the rank
+ * of an element is the sum of spans walked while searching for it. Elements must be unique under
+ * the comparator. The class is not thread-safe; callers guard it externally.
+ *
+ * @param <K> the element type
+ */
+public class RankedSkipList<K> {
+
+  private static final int MAX_LEVEL = 32;
+
+  private static final double PROMOTION_PROBABILITY = 0.25;
+
+  private final Comparator<? super K> comparator;
+
+  private final Node<K> head = new Node<>(null, MAX_LEVEL);
+
+  private int level = 1;
+
+  private int size;
+
+  public RankedSkipList(Comparator<? super K> comparator) {
+    this.comparator = comparator;
+  }
+
+  /**
+   * Insert an element. The element must not already be present.
+   *
+   * @param key the element to insert
+   */
+  @SuppressWarnings("unchecked")
+  public void insert(K key) {
+    Node<K>[] update = new Node[MAX_LEVEL];
+    int[] rank = new int[MAX_LEVEL];
+    Node<K> x = head;
+    for (int i = level - 1; i >= 0; i--) {
+      rank[i] = i == level - 1 ? 0 : rank[i + 1];
+      while (x.next[i] != null && comparator.compare(x.next[i].key, key) < 0) {
+        rank[i] += x.span[i];
+        x = x.next[i];
+      }
+      update[i] = x;
+    }
+
+    int nodeLevel = randomLevel();
+    if (nodeLevel > level) {
+      for (int i = level; i < nodeLevel; i++) {
+        rank[i] = 0;
+        update[i] = head;
+        head.span[i] = size;
+      }
+      level = nodeLevel;
+    }
+
+    Node<K> node = new Node<>(key, nodeLevel);
+    for (int i = 0; i < nodeLevel; i++) {
+      node.next[i] = update[i].next[i];
+      update[i].next[i] = node;
+      node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+      update[i].span[i] = rank[0] - rank[i] + 1;
+    }
+    for (int i = nodeLevel; i < level; i++) {
+      update[i].span[i]++;
+    }
+    size++;
+  }
+
+  /**
+   * Remove an element.
+   *
+   * @param key the element to remove
+   * @return true if the element was present
+   */
+  @SuppressWarnings("unchecked")
+  public boolean remove(K key) {
+    Node<K>[] update = new Node[MAX_LEVEL];
+    Node<K> x = head;
+    for (int i = level - 1; i >= 0; i--) {
+      while (x.next[i] != null && comparator.compare(x.next[i].key, key) < 0) {
+        x = x.next[i];
+      }
+      update[i] = x;
+    }
+
+    Node<K> target = x.next[0];
+    if (target == null || comparator.compare(target.key, key) != 0) {
+      return false;
+    }
+    for (int i = 0; i < level; i++) {
+      if (update[i].next[i] == target) {
+        update[i].span[i] += target.span[i] - 1;
+        update[i].next[i] = target.next[i];
+      } else {
+        update[i].span[i]--;
+      }
+    }
+    while (level > 1 && head.next[level - 1] == null) {
+      level--;
+    }
+    size--;
+    return true;
+  }
+
+  /**
+   * Find the 1-based rank of an element.
+   *
+   * @param key the element to look up
+   * @return the rank, or 0 if the element is not present
+   */
+  public int rank(K key) {
+    Node<K> x = head;
+    int traversed = 0;
+    for (int i = level - 1; i >= 0; i--) {
+      while (x.next[i] != null && comparator.compare(x.next[i].key, key) <= 0) {
+        traversed += x.span[i];
+        x = x.next[i];
+      }
+      if (x != head && comparator.compare(x.key, key) == 0) {
+        return traversed;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Return up to {@code limit} elements starting at the given 0-based offset, in order.
+   *
+   * @param offset the number of leading elements to skip
+   * @param limit the maximum number of elements to return
+   * @return the elements in the requested window
+   */
+  public List<K> range(int offset, int limit) {
+    if (offset < 0 || offset >= size || limit <= 0) {
+      return Collections.emptyList();
+    }
+    Node<K> x = head;
+    int traversed = 0;
+    for (int i = level - 1; i >= 0; i--) {
+      while (x.next[i] != null && traversed + x.span[i] <= offset + 1) {
+        traversed += x.span[i];
+        x = x.next[i];
+      }
+    }
+    List<K> result = new ArrayList<>(Math.min(limit, size - offset));
+    while (x != null && result.size() < limit) {
+      result.add(x.key);
+      x = x.next[0];
+    }
+    return result;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  private static int randomLevel() {
+    int nodeLevel = 1;
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    while (nodeLevel < MAX_LEVEL && random.nextDouble() < PROMOTION_PROBABILITY) {
+      nodeLevel++;
+    }
+    return nodeLevel;
+  }
+
+  private static final class Node<K> {
+
+    private final K key;
+
+    private final Node<K>[] next;
+
+    private final int[] span;
+
+    @SuppressWarnings("unchecked")
+    private Node(K key, int level) {
+      this.key = key;
+      this.next = new Node[level];
+      this.span = new int[level];
+    }
+  }
+}
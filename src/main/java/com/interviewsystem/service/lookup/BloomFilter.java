@@ -0,0 +1,123 @@
+package com.interviewsystem.service.lookup;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free Bloom filter over strings.
+ *
+ * <p>Bits live in an {@link AtomicLongArray}, so concurrent {@link #put} and
+ * {@link #mightContain} calls need no lock. Probe positions come from one 64-bit hash split into
+ * two halves and combined as {@code h1 + i * h2} (Kirsch and Mitzenmacher), which keeps the false
+ * positive rate of {@code k} independent hashes. Entries cannot be removed.
+ */
+final class BloomFilter {
+
+  private final AtomicLongArray words;
+
+  private final long bitCount;
+
+  private final int hashCount;
+
+  private final long expectedInsertions;
+
+  private final LongAdder insertions = new LongAdder();
+
+  /**
+   * Create a filter sized for an expected number of entries.
+   *
+   * @param expectedInsertions the number of entries the filter is planned for
+   * @param falsePositiveRate the false positive rate wanted at that size, between 0 and 1
+   */
+  BloomFilter(long expectedInsertions, double falsePositiveRate) {
+    if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+    }
+    this.expectedInsertions = Math.max(1, expectedInsertions);
+    double ln2 = Math.log(2);
+    long bits = (long) Math.ceil(
+        -this.expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+    int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) >>> 6));
+    this.words = new AtomicLongArray(wordCount);
+    this.bitCount = (long) wordCount << 6;
+    this.hashCount = Math.max(1,
+        (int) Math.round((double) bitCount / this.expectedInsertions * ln2));
+  }
+
+  /**
+   * Add an entry.
+   *
+   * @param value the entry
+   */
+  void put(String value) {
+    long hash = hash(value);
+    long h1 = hash;
+    long h2 = (hash >>> 32 | hash << 32) | 1;
+    for (int i = 0; i < hashCount; i++) {
+      long bit = Math.floorMod(h1 + i * h2, bitCount);
+      int word = (int) (bit >>> 6);
+      long mask = 1L << bit;
+      long current = words.get(word);
+      while ((current & mask) == 0) {
+        long witness = words.compareAndExchange(word, current, current | mask);
+        if (witness == current) {
+          break;
+        }
+        current = witness;
+      }
+    }
+    insertions.increment();
+  }
+
+  /**
+   * Whether an entry may have been added.
+   *
+   * @param value the entry
+   * @return {@code false} only if the entry was certainly never added
+   */
+  boolean mightContain(String value) {
+    long hash = hash(value);
+    long h1 = hash;
+    long h2 = (hash >>> 32 | hash << 32) | 1;
+    for (int i = 0; i < hashCount; i++) {
+      long bit = Math.floorMod(h1 + i * h2, bitCount);
+      if ((words.get((int) (bit >>> 6)) & 1L << bit) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Number of {@link #put} calls, counting repeats of the same entry.
+   */
+  long insertions() {
+    return insertions.sum();
+  }
+
+  long expectedInsertions() {
+    return expectedInsertions;
+  }
+
+  int hashCount() {
+    return hashCount;
+  }
+
+  /**
+   * FNV-1a over the UTF-16 code units, finished with the MurmurHash3 64-bit mix so that both
+   * halves are well distributed.
+   */
+  private static long hash(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < value.length(); i++) {
+      hash ^= value.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
@@ -0,0 +1,18 @@
+package com.interviewsystem.service.lookup;
+
+import lombok.Value;
+
+/**
+ * An email address and the ID of the candidate or interviewer registered under it.
+ *
+ * <p>Instances are produced directly by JPQL constructor expressions in
+ * {@link com.interviewsystem.repository.CandidateRepository} and
+ * {@link com.interviewsystem.repository.InterviewerRepository}.
+ */
+@Value
+public class EmailId {
+
+  String email;
+
+  Long id;
+}
@@ -0,0 +1,278 @@
+package com.interviewsystem.service.lookup;
+
+import com.interviewsystem.config.EmailLookupProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Bloom filter and LRU cache in front of the email column of one table.
+ *
+ * <p>The filter answers "certainly not registered" without a query; emails it may contain are
+ * looked up in a bounded, access-ordered cache of email-to-ID entries and only then in the
+ * database. Until the first {@link #rebuild} the filter is absent and every email may exist.
+ *
+ * <p>Emails are added to the filter when an entity is flushed and again once its transaction
+ * completes, so an email committed while a rebuild is scanning reaches the replacement filter.
+ * Deleted emails stay in the filter as false positives and are only counted, so that enough of
+ * them trigger a rebuild, as does the filter reaching the configured age. Cache entries are
+ * dropped by ID, which also covers changed emails, and a lookup that raced an eviction does not
+ * cache what it read.
+ */
+final class EmailIndex {
+
+  static final String LOOKUPS = "email-lookup.lookups";
+
+  private final EmailLookupProperties properties;
+
+  private final Function<String, Optional<Long>> finder;
+
+  private final Function<Collection<String>, List<EmailId>> batchFinder;
+
+  private final Map<String, Long> cache;
+
+  private long evictions;
+
+  private final LongAdder removals = new LongAdder();
+
+  private final Counter filtered;
+
+  private final Counter cached;
+
+  private final Counter queried;
+
+  private volatile BloomFilter filter;
+
+  private volatile long builtAtNanos;
+
+  private BloomFilter staging;
+
+  /**
+   * Create an index.
+   *
+   * @param directory the name used to tag the lookup metrics, e.g. {@code candidate}
+   * @param properties the filter and cache configuration
+   * @param finder finds the ID registered under one email
+   * @param batchFinder finds the IDs registered under a batch of emails
+   * @param registry the registry for the lookup metrics
+   */
+  EmailIndex(String directory, EmailLookupProperties properties,
+      Function<String, Optional<Long>> finder,
+      Function<Collection<String>, List<EmailId>> batchFinder, MeterRegistry registry) {
+    this.properties = properties;
+    this.finder = finder;
+    this.batchFinder = batchFinder;
+    int maxEntries = properties.getCacheMaxEntries();
+    this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+        return size() > maxEntries;
+      }
+    };
+    this.filtered = lookups(registry, directory, "filtered");
+    this.cached = lookups(registry, directory, "cached");
+    this.queried = lookups(registry, directory, "queried");
+  }
+
+  /**
+   * Find the ID registered under an email.
+   *
+   * @param email the email, matched exactly
+   * @return the ID, or empty if no row has that email
+   */
+  Optional<Long> findId(String email) {
+    if (!properties.isEnabled()) {
+      return finder.apply(email);
+    }
+    if (!mightExist(email)) {
+      filtered.increment();
+      return Optional.empty();
+    }
+    Long id = cacheGet(email);
+    if (id != null) {
+      cached.increment();
+      return Optional.of(id);
+    }
+    queried.increment();
+    long generation = evictions();
+    Optional<Long> found = finder.apply(email);
+    found.ifPresent(value -> cachePut(email, value, generation));
+    return found;
+  }
+
+  /**
+   * Find the IDs registered under many emails, querying the database in batches for the emails
+   * neither the filter nor the cache can answer.
+   *
+   * @param emails the emails, matched exactly; duplicates and {@code null}s are ignored
+   * @return the ID of each email that is registered, in the order first given
+   */
+  Map<String, Long> resolve(Collection<String> emails) {
+    Map<String, Long> resolved = new LinkedHashMap<>();
+    List<String> misses = new ArrayList<>();
+    for (String email : new LinkedHashSet<>(emails)) {
+      if (email == null) {
+        continue;
+      }
+      if (properties.isEnabled() && !mightExist(email)) {
+        filtered.increment();
+        continue;
+      }
+      Long id = properties.isEnabled() ? cacheGet(email) : null;
+      if (id != null) {
+        cached.increment();
+        resolved.put(email, id);
+      } else {
+        resolved.put(email, null);
+        misses.add(email);
+      }
+    }
+    int batchSize = Math.max(1, properties.getBatchSize());
+    long generation = evictions();
+    for (int from = 0; from < misses.size(); from += batchSize) {
+      List<String> batch = misses.subList(from, Math.min(misses.size(), from + batchSize));
+      queried.increment(batch.size());
+      for (EmailId row : batchFinder.apply(batch)) {
+        resolved.put(row.getEmail(), row.getId());
+        if (properties.isEnabled()) {
+          cachePut(row.getEmail(), row.getId(), generation);
+        }
+      }
+    }
+    resolved.values().removeIf(id -> id == null);
+    return resolved;
+  }
+
+  /**
+   * Record that an email is, or is about to be, registered.
+   *
+   * @param email the email
+   */
+  synchronized void added(String email) {
+    BloomFilter current = filter;
+    if (current != null) {
+      current.put(email);
+    }
+    if (staging != null) {
+      staging.put(email);
+    }
+  }
+
+  /**
+   * Drop the cached email of a row whose email may have changed.
+   *
+   * @param id the row's ID
+   */
+  void evict(Long id) {
+    synchronized (cache) {
+      cache.values().removeIf(id::equals);
+      evictions++;
+    }
+  }
+
+  /**
+   * Drop the cached email of a deleted row and count it towards the next rebuild.
+   *
+   * @param id the row's ID
+   */
+  void removed(Long id) {
+    evict(id);
+    removals.increment();
+  }
+
+  /**
+   * Whether the filter is missing, has taken more insertions than it was sized for, holds enough
+   * deleted emails that its false positive rate is worth restoring, or is older than the rebuild
+   * interval and so may lack emails written without any change event.
+   *
+   * @return whether {@link #rebuild} should run
+   */
+  boolean needsRebuild() {
+    BloomFilter current = filter;
+    return current == null
+        || current.insertions() > current.expectedInsertions()
+        || removals.sum() > current.expectedInsertions() / 10
+        || System.nanoTime() - builtAtNanos >= properties.getRebuildInterval().toNanos();
+  }
+
+  /**
+   * Replace the filter with one built from a full scan of the registered emails.
+   *
+   * @param count the current number of rows, used to size the new filter
+   * @param scan feeds every registered email to the given sink
+   */
+  void rebuild(long count, Consumer<Consumer<String>> scan) {
+    BloomFilter next = new BloomFilter(Math.max(properties.getExpectedEmails(), 2 * count),
+        properties.getFalsePositiveRate());
+    long startedAtNanos = System.nanoTime();
+    synchronized (this) {
+      staging = next;
+    }
+    removals.reset();
+    try {
+      scan.accept(next::put);
+    } catch (RuntimeException e) {
+      synchronized (this) {
+        staging = null;
+      }
+      throw e;
+    }
+    synchronized (this) {
+      filter = next;
+      staging = null;
+      builtAtNanos = startedAtNanos;
+    }
+  }
+
+  int cacheSize() {
+    synchronized (cache) {
+      return cache.size();
+    }
+  }
+
+  private boolean mightExist(String email) {
+    BloomFilter current = filter;
+    return current == null || current.mightContain(email);
+  }
+
+  private Long cacheGet(String email) {
+    synchronized (cache) {
+      return cache.get(email);
+    }
+  }
+
+  private long evictions() {
+    synchronized (cache) {
+      return evictions;
+    }
+  }
+
+  /**
+   * Cache a looked-up ID unless an eviction happened since the lookup started, in which case the
+   * row read may already be stale.
+   */
+  private void cachePut(String email, Long id, long generation) {
+    synchronized (cache) {
+      if (evictions == generation) {
+        cache.put(email, id);
+      }
+    }
+  }
+
+  private static Counter lookups(MeterRegistry registry, String directory, String outcome) {
+    return Counter.builder(LOOKUPS)
+        .description("Email lookups by how they were answered")
+        .tag("directory", directory)
+        .tag("outcome", outcome)
+        .register(registry);
+  }
+}
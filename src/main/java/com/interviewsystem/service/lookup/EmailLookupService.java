@@ -0,0 +1,281 @@
+package com.interviewsystem.service.lookup;
+
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.config.EmailLookupProperties;
+import com.interviewsystem.entity.Candidate;
+import com.interviewsystem.entity.Interviewer;
+import com.interviewsystem.event.ChangeType;
+import com.interviewsystem.event.EntityChangedEvent;
+import com.interviewsystem.repository.CandidateRepository;
+import com.interviewsystem.repository.InterviewerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Candidate and interviewer lookups by email, for registration, invites and login.
+ *
+ * <p>Each directory sits behind an {@link EmailIndex}: a Bloom filter rules out unregistered
+ * emails without a query, an LRU cache answers recently seen registered ones, and bulk paths
+ * resolve the rest with batched {@code IN} queries. Both are fed from entity change events.
+ *
+ * <p>A negative answer from a filter is only as fresh as the changes it has been told about.
+ * Candidates and interviewers saved by other processes, through JPA or the bulk import, are
+ * recorded in the outbox and replayed here by the relay, so they reach the filters within about
+ * one relay interval ({@code interview.outbox.interval-ms}). Rows written by hand in SQL are only
+ * picked up when a filter is rebuilt, which happens at least every
+ * {@code interview.email-lookup.rebuild-interval}; until then a lookup of such an email can
+ * wrongly come back empty. The unique constraint on {@code email} therefore remains the guard
+ * against duplicate registrations.
+ */
+@Slf4j
+@Service
+@ConditionalOnRole(DeploymentRole.API)
+public class EmailLookupService {
+
+  private final CandidateRepository candidateRepository;
+
+  private final InterviewerRepository interviewerRepository;
+
+  private final TransactionTemplate readOnly;
+
+  private final EmailIndex candidates;
+
+  private final EmailIndex interviewers;
+
+  public EmailLookupService(CandidateRepository candidateRepository,
+      InterviewerRepository interviewerRepository, EmailLookupProperties properties,
+      PlatformTransactionManager transactionManager, MeterRegistry registry) {
+    this.candidateRepository = candidateRepository;
+    this.interviewerRepository = interviewerRepository;
+    this.readOnly = new TransactionTemplate(transactionManager);
+    this.readOnly.setReadOnly(true);
+    this.candidates = new EmailIndex("candidate", properties, candidateRepository::findIdByEmail,
+        candidateRepository::findIdsByEmailIn, registry);
+    this.interviewers = new EmailIndex("interviewer", properties,
+        interviewerRepository::findIdByEmail, interviewerRepository::findIdsByEmailIn, registry);
+  }
+
+  /**
+   * Check if a candidate is registered under an email.
+   *
+   * @param email the email, matched exactly
+   * @return true if a candidate has that email
+   */
+  public boolean candidateExists(String email) {
+    return candidates.findId(email).isPresent();
+  }
+
+  /**
+   * Find the ID of the candidate registered under an email.
+   *
+   * @param email the email, matched exactly
+   * @return the candidate ID, or empty if none has that email
+   */
+  public Optional<Long> findCandidateId(String email) {
+    return candidates.findId(email);
+  }
+
+  /**
+   * Find the candidate registered under an email.
+   *
+   * @param email the email, matched exactly
+   * @return the candidate, or empty if none has that email
+   */
+  public Optional<Candidate> findCandidate(String email) {
+    return candidates.findId(email).flatMap(id -> {
+      Optional<Candidate> candidate = candidateRepository.findById(id);
+      if (candidate.isEmpty()) {
+        candidates.evict(id);
+      }
+      return candidate;
+    });
+  }
+
+  /**
+   * Find the IDs of the candidates registered under many emails.
+   *
+   * @param emails the emails, matched exactly
+   * @return the candidate ID of each registered email, in the order first given
+   */
+  public Map<String, Long> resolveCandidates(Collection<String> emails) {
+    return candidates.resolve(emails);
+  }
+
+  /**
+   * Record candidate emails written without going through JPA, such as by a bulk upsert. Call it
+   * before the write and again once its transaction is over, like the entity change listeners.
+   *
+   * @param emails the emails inserted or updated
+   */
+  public void candidatesWritten(Collection<String> emails) {
+    emails.forEach(candidates::added);
+  }
+
+  /**
+   * Check if an interviewer is registered under an email.
+   *
+   * @param email the email, matched exactly
+   * @return true if an interviewer has that email
+   */
+  public boolean interviewerExists(String email) {
+    return interviewers.findId(email).isPresent();
+  }
+
+  /**
+   * Find the ID of the interviewer registered under an email.
+   *
+   * @param email the email, matched exactly
+   * @return the interviewer ID, or empty if none has that email
+   */
+  public Optional<Long> findInterviewerId(String email) {
+    return interviewers.findId(email);
+  }
+
+  /**
+   * Find the interviewer registered under an email.
+   *
+   * @param email the email, matched exactly
+   * @return the interviewer, or empty if none has that email
+   */
+  public Optional<Interviewer> findInterviewer(String email) {
+    return interviewers.findId(email).flatMap(id -> {
+      Optional<Interviewer> interviewer = interviewerRepository.findById(id);
+      if (interviewer.isEmpty()) {
+        interviewers.evict(id);
+      }
+      return interviewer;
+    });
+  }
+
+  /**
+   * Find the IDs of the interviewers registered under many emails.
+   *
+   * @param emails the emails, matched exactly
+   * @return the interviewer ID of each registered email, in the order first given
+   */
+  public Map<String, Long> resolveInterviewers(Collection<String> emails) {
+    return interviewers.resolve(emails);
+  }
+
+  /**
+   * Build both filters from the registered emails.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    rebuildCandidates();
+    rebuildInterviewers();
+  }
+
+  /**
+   * Rebuild the filters that have outgrown their planned size, collected many deleted emails or
+   * reached the rebuild interval.
+   */
+  @Scheduled(fixedDelayString = "${interview.email-lookup.rebuild-check-interval-ms:60000}")
+  public void rebuildIfNeeded() {
+    if (candidates.needsRebuild()) {
+      rebuildCandidates();
+    }
+    if (interviewers.needsRebuild()) {
+      rebuildInterviewers();
+    }
+  }
+
+  /**
+   * Add a flushed candidate's email to the filter and drop its cached entry.
+   *
+   * @param event the candidate change
+   */
+  @EventListener
+  public void onCandidateChanged(EntityChangedEvent<Candidate> event) {
+    apply(candidates, event.getChangeType(), event.getEntity().getId(),
+        event.getEntity().getEmail(), false);
+  }
+
+  /**
+   * Repeat {@link #onCandidateChanged} once the transaction is over, for rebuilds and lookups
+   * that ran in between.
+   *
+   * @param event the candidate change
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+  public void afterCandidateChanged(EntityChangedEvent<Candidate> event) {
+    apply(candidates, event.getChangeType(), event.getEntity().getId(),
+        event.getEntity().getEmail(), true);
+  }
+
+  /**
+   * Add a flushed interviewer's email to the filter and drop its cached entry.
+   *
+   * @param event the interviewer change
+   */
+  @EventListener
+  public void onInterviewerChanged(EntityChangedEvent<Interviewer> event) {
+    apply(interviewers, event.getChangeType(), event.getEntity().getId(),
+        event.getEntity().getEmail(), false);
+  }
+
+  /**
+   * Repeat {@link #onInterviewerChanged} once the transaction is over, for rebuilds and lookups
+   * that ran in between.
+   *
+   * @param event the interviewer change
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+  public void afterInterviewerChanged(EntityChangedEvent<Interviewer> event) {
+    apply(interviewers, event.getChangeType(), event.getEntity().getId(),
+        event.getEntity().getEmail(), true);
+  }
+
+  private static void apply(EmailIndex index, ChangeType changeType, Long id, String email,
+      boolean completed) {
+    if (changeType == ChangeType.DELETED) {
+      if (completed) {
+        index.evict(id);
+      } else {
+        index.removed(id);
+      }
+      return;
+    }
+    if (email != null) {
+      index.added(email);
+    }
+    index.evict(id);
+  }
+
+  private void rebuildCandidates() {
+    readOnly.executeWithoutResult(status -> {
+      long count = candidateRepository.count();
+      candidates.rebuild(count, sink -> {
+        try (Stream<String> emails = candidateRepository.streamEmails()) {
+          emails.forEach(sink);
+        }
+      });
+      log.debug("Rebuilt candidate email filter from {} candidates", count);
+    });
+  }
+
+  private void rebuildInterviewers() {
+    readOnly.executeWithoutResult(status -> {
+      long count = interviewerRepository.count();
+      interviewers.rebuild(count, sink -> {
+        try (Stream<String> emails = interviewerRepository.streamEmails()) {
+          emails.forEach(sink);
+        }
+      });
+      log.debug("Rebuilt interviewer email filter from {} interviewers", count);
+    });
+  }
+}
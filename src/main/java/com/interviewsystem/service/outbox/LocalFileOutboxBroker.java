@@ -0,0 +1,68 @@
+package com.interviewsystem.service.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewsystem.config.OutboxProperties;
+import com.interviewsystem.dto.OutboxMessage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Outbox broker that appends events to a local file as JSON lines, one event per line.
+ *
+ * <p>A stand-in for a message broker in single-host deployments and a tap for external tools,
+ * enabled by setting {@code interview.outbox.broker-file}. Each batch is forced to disk before the
+ * broker's offset advances, so a crash may repeat the tail of the file but never loses events;
+ * readers deduplicate on {@code sequence}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "interview.outbox", name = "broker-file")
+public class LocalFileOutboxBroker implements OutboxBroker {
+
+  private final Path file;
+
+  private final ObjectMapper objectMapper;
+
+  public LocalFileOutboxBroker(OutboxProperties properties, ObjectMapper objectMapper) {
+    this.file = properties.getBrokerFile();
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public String name() {
+    return "file";
+  }
+
+  @Override
+  public synchronized void publish(List<OutboxMessage> events) {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    try {
+      for (OutboxMessage event : events) {
+        buffer.write(objectMapper.writeValueAsBytes(event));
+        buffer.write('\n');
+      }
+      Path parent = file.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+          StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+        ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+        while (bytes.hasRemaining()) {
+          channel.write(bytes);
+        }
+        channel.force(false);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not append outbox events to " + file, e);
+    }
+  }
+}
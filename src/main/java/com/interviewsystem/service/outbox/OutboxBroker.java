@@ -0,0 +1,28 @@
+package com.interviewsystem.service.outbox;
+
+import com.interviewsystem.dto.OutboxMessage;
+import java.util.List;
+
+/**
+ * Publishes outbox events to a message broker outside the application.
+ *
+ * <p>Each broker bean is a durable consumer named {@code broker:} plus {@link #name()}. Its offset
+ * only advances once {@link #publish} returns, so a broker sees every event at least once;
+ * the sequence number lets downstream readers drop redeliveries.
+ */
+public interface OutboxBroker {
+
+  /**
+   * Short name of the broker, used in its consumer name.
+   *
+   * @return the broker name
+   */
+  String name();
+
+  /**
+   * Publish a batch of events, returning only once the broker has accepted all of them.
+   *
+   * @param events the events, in sequence order
+   */
+  void publish(List<OutboxMessage> events);
+}
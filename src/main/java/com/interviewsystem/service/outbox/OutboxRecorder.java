@@ -0,0 +1,216 @@
+package com.interviewsystem.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewsystem.config.OutboxProperties;
+import com.interviewsystem.entity.Candidate;
+import com.interviewsystem.entity.Evaluation;
+import com.interviewsystem.entity.Interviewer;
+import com.interviewsystem.entity.Submission;
+import com.interviewsystem.event.ChangeType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener that records submission, evaluation, candidate and interviewer changes in
+ * the outbox table, in the transaction that makes them. Candidate and interviewer payloads carry
+ * only the ID, keeping contact details out of brokers; consumers load the row.
+ *
+ * <p>Register it on an entity with {@code @EntityListeners(OutboxRecorder.class)}. Rows cannot be
+ * persisted from inside a flush, so each transaction's changes are buffered and written as one
+ * JDBC batch from a Hibernate before-completion hook, which runs after the final flush and before
+ * commit. A rolled-back transaction leaves no outbox rows; a committed one always does.
+ */
+@Component
+public class OutboxRecorder {
+
+  static final String SUBMISSION = "SUBMISSION";
+
+  static final String EVALUATION = "EVALUATION";
+
+  static final String CANDIDATE = "CANDIDATE";
+
+  static final String INTERVIEWER = "INTERVIEWER";
+
+  private static final String INSERT = "insert into outbox_event "
+      + "(aggregate_type, aggregate_id, change_type, payload, origin, created_at) "
+      + "values (?, ?, ?, ?, ?, ?)";
+
+  /**
+   * Identifies this process as the origin of the events it records.
+   */
+  private final String origin = UUID.randomUUID().toString();
+
+  private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+  private final ObjectMapper objectMapper;
+
+  private final OutboxProperties properties;
+
+  public OutboxRecorder(ObjectProvider<EntityManagerFactory> entityManagerFactory,
+      ObjectMapper objectMapper, OutboxProperties properties) {
+    this.entityManagerFactory = entityManagerFactory;
+    this.objectMapper = objectMapper;
+    this.properties = properties;
+  }
+
+  /**
+   * The origin stamped on events recorded by this process.
+   *
+   * @return the origin
+   */
+  public String origin() {
+    return origin;
+  }
+
+  /**
+   * Record a creation.
+   *
+   * @param entity the persisted entity
+   */
+  @PostPersist
+  public void onPersist(Object entity) {
+    record(entity, ChangeType.CREATED);
+  }
+
+  /**
+   * Record an update.
+   *
+   * @param entity the updated entity
+   */
+  @PostUpdate
+  public void onUpdate(Object entity) {
+    record(entity, ChangeType.UPDATED);
+  }
+
+  /**
+   * Record a removal.
+   *
+   * @param entity the removed entity
+   */
+  @PostRemove
+  public void onRemove(Object entity) {
+    record(entity, ChangeType.DELETED);
+  }
+
+  /**
+   * Record a change written without JPA, such as by a bulk upsert. Call it inside the transaction
+   * that wrote the row; the row is buffered and written with that transaction's other changes.
+   *
+   * @param entity the changed entity, with at least the fields its payload carries
+   * @param changeType the kind of change
+   */
+  public void recordWritten(Object entity, ChangeType changeType) {
+    record(entity, changeType);
+  }
+
+  private void record(Object entity, ChangeType changeType) {
+    if (!properties.isEnabled() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    EntityManager entityManager =
+        EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory.getObject());
+    if (entityManager == null) {
+      return;
+    }
+    SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+    @SuppressWarnings("unchecked")
+    List<Object[]> pending =
+        (List<Object[]>) TransactionSynchronizationManager.getResource(session);
+    if (pending == null) {
+      List<Object[]> rows = new ArrayList<>();
+      pending = rows;
+      TransactionSynchronizationManager.bindResource(session, rows);
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          TransactionSynchronizationManager.unbindResourceIfPossible(session);
+        }
+      });
+      session.getActionQueue().registerProcess(current -> write(current, rows));
+    }
+    pending.add(row(entity, changeType));
+  }
+
+  private Object[] row(Object entity, ChangeType changeType) {
+    Map<String, Object> payload = new LinkedHashMap<>();
+    String aggregateType;
+    Long aggregateId;
+    if (entity instanceof Submission submission) {
+      aggregateType = SUBMISSION;
+      aggregateId = submission.getId();
+      payload.put("id", submission.getId());
+      payload.put("candidateId", submission.getCandidate().getId());
+      payload.put("problemId", submission.getProblem().getId());
+      payload.put("language", submission.getLanguage());
+      payload.put("compilationStatus", submission.getCompilationStatus());
+      payload.put("submittedAt", submission.getSubmittedAt());
+    } else if (entity instanceof Evaluation evaluation) {
+      aggregateType = EVALUATION;
+      aggregateId = evaluation.getId();
+      payload.put("id", evaluation.getId());
+      payload.put("submissionId", evaluation.getSubmission().getId());
+      payload.put("interviewerId",
+          evaluation.getInterviewer() != null ? evaluation.getInterviewer().getId() : null);
+      payload.put("status", evaluation.getStatus());
+      payload.put("testPassCount", evaluation.getTestPassCount());
+      payload.put("totalTestCases", evaluation.getTotalTestCases());
+      payload.put("executionScore", evaluation.getExecutionScore());
+      payload.put("codeQualityScore", evaluation.getCodeQualityScore());
+      payload.put("overallScore", evaluation.getOverallScore());
+      payload.put("evaluatedAt", evaluation.getEvaluatedAt());
+    } else if (entity instanceof Candidate candidate) {
+      aggregateType = CANDIDATE;
+      aggregateId = candidate.getId();
+      payload.put("id", candidate.getId());
+    } else if (entity instanceof Interviewer interviewer) {
+      aggregateType = INTERVIEWER;
+      aggregateId = interviewer.getId();
+      payload.put("id", interviewer.getId());
+    } else {
+      throw new IllegalArgumentException(
+          "No outbox mapping for " + entity.getClass().getSimpleName());
+    }
+    try {
+      return new Object[] {aggregateType, aggregateId, changeType.name(),
+          objectMapper.writeValueAsString(payload)};
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not serialize outbox payload", e);
+    }
+  }
+
+  private void write(SessionImplementor session, List<Object[]> rows) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    session.doWork(connection -> {
+      try (PreparedStatement insert = connection.prepareStatement(INSERT)) {
+        for (Object[] row : rows) {
+          insert.setString(1, (String) row[0]);
+          insert.setLong(2, (Long) row[1]);
+          insert.setString(3, (String) row[2]);
+          insert.setString(4, (String) row[3]);
+          insert.setString(5, origin);
+          insert.setTimestamp(6, now);
+          insert.addBatch();
+        }
+        insert.executeBatch();
+      }
+    });
+  }
+}
@@ -0,0 +1,227 @@
+package com.interviewsystem.service.outbox;
+
+import com.interviewsystem.config.OutboxProperties;
+import com.interviewsystem.dto.OutboxMessage;
+import com.interviewsystem.entity.OutboxEvent;
+import com.interviewsystem.entity.OutboxOffset;
+import com.interviewsystem.repository.OutboxEventRepository;
+import com.interviewsystem.repository.OutboxOffsetRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Relays committed outbox events to in-process subscribers and external brokers.
+ *
+ * <p>Each run first stamps a gap-free {@code sequence} on newly visible events, in insert order,
+ * while holding the sequencer's offset row lock, so concurrent relays in other processes take
+ * turns. It then delivers every consumer the events after its offset, batch by batch, advancing
+ * the offset in the delivering transaction. Durable consumers keep their offset in the
+ * {@code outbox_offset} table; in-memory ones start at the head when the process starts. Events
+ * that every durable consumer has processed are deleted once past the retention period.
+ */
+@Slf4j
+@Service
+public class OutboxRelay {
+
+  static final String SEQUENCER = "$sequencer";
+
+  static final String BROKER_PREFIX = "broker:";
+
+  private final OutboxEventRepository eventRepository;
+
+  private final OutboxOffsetRepository offsetRepository;
+
+  private final ObjectProvider<OutboxSubscriber> subscribers;
+
+  private final ObjectProvider<OutboxBroker> brokers;
+
+  private final OutboxProperties properties;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final Map<String, Long> memoryOffsets = new ConcurrentHashMap<>();
+
+  public OutboxRelay(OutboxEventRepository eventRepository,
+      OutboxOffsetRepository offsetRepository, ObjectProvider<OutboxSubscriber> subscribers,
+      ObjectProvider<OutboxBroker> brokers, OutboxProperties properties,
+      TransactionTemplate transactionTemplate) {
+    this.eventRepository = eventRepository;
+    this.offsetRepository = offsetRepository;
+    this.subscribers = subscribers;
+    this.brokers = brokers;
+    this.properties = properties;
+    this.transactionTemplate = transactionTemplate;
+  }
+
+  /**
+   * Start in-memory subscribers at the current head, before read models rebuild from the
+   * database on {@code ApplicationReadyEvent}, so that no change falls between the two.
+   */
+  @EventListener(ApplicationStartedEvent.class)
+  public void startInMemorySubscribers() {
+    if (properties.isEnabled()) {
+      long head = head();
+      subscribers.orderedStream()
+          .filter(subscriber -> !subscriber.durable())
+          .forEach(subscriber -> memoryOffsets.putIfAbsent(subscriber.consumerName(), head));
+    }
+  }
+
+  /**
+   * Run the relay on the configured schedule.
+   */
+  @Scheduled(fixedDelayString = "${interview.outbox.interval-ms:500}")
+  public void scheduledRelay() {
+    if (properties.isEnabled() && properties.isRelayEnabled()) {
+      relay();
+    }
+  }
+
+  /**
+   * Sequence newly committed events, deliver them to every consumer and prune processed ones.
+   *
+   * <p>A consumer that fails is logged and retried from the same offset on the next run.
+   *
+   * @return the number of events sequenced
+   */
+  public int relay() {
+    int sequenced = 0;
+    int batch;
+    do {
+      batch = transactionTemplate.execute(status -> sequence());
+      sequenced += batch;
+    } while (batch == properties.getBatchSize());
+
+    for (OutboxSubscriber subscriber : consumers()) {
+      try {
+        while (deliver(subscriber) == properties.getBatchSize()) {
+          // Keep going until the consumer has caught up.
+        }
+      } catch (RuntimeException e) {
+        log.warn("Outbox consumer {} failed, retrying on the next run",
+            subscriber.consumerName(), e);
+      }
+    }
+    transactionTemplate.executeWithoutResult(status -> prune());
+    return sequenced;
+  }
+
+  /**
+   * Return the offset of a consumer.
+   *
+   * @param consumerName the consumer name
+   * @return the last sequence it processed, or {@code 0} if it has processed none
+   */
+  public long offsetOf(String consumerName) {
+    Long memory = memoryOffsets.get(consumerName);
+    if (memory != null) {
+      return memory;
+    }
+    return offsetRepository.findById(consumerName).map(OutboxOffset::getLastSequence).orElse(0L);
+  }
+
+  private int sequence() {
+    OutboxOffset sequencer = lockOrCreate(SEQUENCER);
+    List<OutboxEvent> events =
+        eventRepository.findUnsequenced(PageRequest.of(0, properties.getBatchSize()));
+    long next = sequencer.getLastSequence();
+    for (OutboxEvent event : events) {
+      event.setSequence(++next);
+    }
+    sequencer.setLastSequence(next);
+    return events.size();
+  }
+
+  private int deliver(OutboxSubscriber subscriber) {
+    String consumer = subscriber.consumerName();
+    if (!subscriber.durable()) {
+      long after = memoryOffsets.computeIfAbsent(consumer, name -> head());
+      List<OutboxMessage> events = transactionTemplate.execute(status -> {
+        List<OutboxMessage> batch = messages(after);
+        if (!batch.isEmpty()) {
+          subscriber.onEvents(batch);
+        }
+        return batch;
+      });
+      if (!events.isEmpty()) {
+        memoryOffsets.put(consumer, events.get(events.size() - 1).getSequence());
+      }
+      return events.size();
+    }
+    return transactionTemplate.execute(status -> {
+      OutboxOffset offset = lockOrCreate(consumer);
+      List<OutboxMessage> batch = messages(offset.getLastSequence());
+      if (!batch.isEmpty()) {
+        subscriber.onEvents(batch);
+        offset.setLastSequence(batch.get(batch.size() - 1).getSequence());
+      }
+      return batch.size();
+    });
+  }
+
+  private void prune() {
+    Long lowest = offsetRepository.findLowestOffset(SEQUENCER);
+    long upTo = lowest != null ? lowest : head();
+    int deleted = eventRepository.deleteProcessed(upTo,
+        LocalDateTime.now().minus(properties.getRetention()));
+    if (deleted > 0) {
+      log.debug("Pruned {} processed outbox events", deleted);
+    }
+  }
+
+  private List<OutboxMessage> messages(long after) {
+    List<OutboxEvent> events =
+        eventRepository.findAfter(after, PageRequest.of(0, properties.getBatchSize()));
+    List<OutboxMessage> messages = new ArrayList<>(events.size());
+    for (OutboxEvent event : events) {
+      messages.add(OutboxMessage.builder()
+          .sequence(event.getSequence())
+          .aggregateType(event.getAggregateType())
+          .aggregateId(event.getAggregateId())
+          .changeType(event.getChangeType())
+          .payload(event.getPayload())
+          .origin(event.getOrigin())
+          .createdAt(event.getCreatedAt())
+          .build());
+    }
+    return messages;
+  }
+
+  private OutboxOffset lockOrCreate(String consumer) {
+    return offsetRepository.lockByConsumer(consumer)
+        .orElseGet(() -> offsetRepository.saveAndFlush(
+            OutboxOffset.builder().consumer(consumer).build()));
+  }
+
+  private long head() {
+    Long head = eventRepository.findHeadSequence();
+    return head != null ? head : 0;
+  }
+
+  private List<OutboxSubscriber> consumers() {
+    List<OutboxSubscriber> consumers = new ArrayList<>(subscribers.orderedStream().toList());
+    brokers.orderedStream().forEach(broker -> consumers.add(new OutboxSubscriber() {
+      @Override
+      public String consumerName() {
+        return BROKER_PREFIX + broker.name();
+      }
+
+      @Override
+      public void onEvents(List<OutboxMessage> events) {
+        broker.publish(events);
+      }
+    }));
+    return consumers;
+  }
+}
@@ -0,0 +1,37 @@
+package com.interviewsystem.service.outbox;
+
+import com.interviewsystem.dto.OutboxMessage;
+import java.util.List;
+
+/**
+ * In-process consumer of the outbox event stream, registered as a bean.
+ *
+ * <p>Batches are delivered in sequence order inside a transaction that also advances the
+ * consumer's offset. A subscriber that throws gets the same batch again on the next relay run.
+ */
+public interface OutboxSubscriber {
+
+  /**
+   * Name under which the consumer's offset is tracked.
+   *
+   * @return a name unique among consumers
+   */
+  String consumerName();
+
+  /**
+   * Whether the offset is stored in the database. Subscribers that only feed in-memory state,
+   * which is rebuilt on startup anyway, keep their offset in memory and start at the head.
+   *
+   * @return true for a database-backed offset
+   */
+  default boolean durable() {
+    return true;
+  }
+
+  /**
+   * Process a batch of events.
+   *
+   * @param events the events, in sequence order
+   */
+  void onEvents(List<OutboxMessage> events);
+}
@@ -0,0 +1,159 @@
+package com.interviewsystem.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.dto.OutboxMessage;
+import com.interviewsystem.entity.Candidate;
+import com.interviewsystem.entity.Evaluation;
+import com.interviewsystem.entity.Interviewer;
+import com.interviewsystem.entity.Problem;
+import com.interviewsystem.entity.Submission;
+import com.interviewsystem.event.ChangeType;
+import com.interviewsystem.event.EntityChangedEvent;
+import com.interviewsystem.repository.CandidateRepository;
+import com.interviewsystem.repository.EvaluationRepository;
+import com.interviewsystem.repository.InterviewerRepository;
+import com.interviewsystem.repository.SubmissionRepository;
+import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Replays submission, evaluation, candidate and interviewer changes committed by other processes
+ * as local {@link EntityChangedEvent}s, so that in-memory read models such as the leaderboard and
+ * the activity rollups see evaluations written by worker processes, and the email lookup filters
+ * see candidates and interviewers registered through other API instances.
+ *
+ * <p>Changes recorded by this process were already published during its own flush and are
+ * skipped. The bridge is not durable: read models rebuild from the database on startup, so it
+ * only needs the events committed while the process is running.
+ */
+@Component
+@ConditionalOnRole(DeploymentRole.API)
+public class ReadModelOutboxBridge implements OutboxSubscriber {
+
+  private final OutboxRecorder recorder;
+
+  private final SubmissionRepository submissionRepository;
+
+  private final EvaluationRepository evaluationRepository;
+
+  private final CandidateRepository candidateRepository;
+
+  private final InterviewerRepository interviewerRepository;
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  private final ObjectMapper objectMapper;
+
+  public ReadModelOutboxBridge(OutboxRecorder recorder, SubmissionRepository submissionRepository,
+      EvaluationRepository evaluationRepository, CandidateRepository candidateRepository,
+      InterviewerRepository interviewerRepository, ApplicationEventPublisher eventPublisher,
+      ObjectMapper objectMapper) {
+    this.recorder = recorder;
+    this.submissionRepository = submissionRepository;
+    this.evaluationRepository = evaluationRepository;
+    this.candidateRepository = candidateRepository;
+    this.interviewerRepository = interviewerRepository;
+    this.eventPublisher = eventPublisher;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public String consumerName() {
+    return "read-models";
+  }
+
+  @Override
+  public boolean durable() {
+    return false;
+  }
+
+  /**
+   * Publish each foreign event inside the relay's transaction, so that transactional listeners
+   * run once it commits.
+   *
+   * @param events the events, in sequence order
+   */
+  @Override
+  public void onEvents(List<OutboxMessage> events) {
+    for (OutboxMessage event : events) {
+      if (recorder.origin().equals(event.getOrigin())) {
+        continue;
+      }
+      ChangeType changeType = ChangeType.valueOf(event.getChangeType());
+      if (OutboxRecorder.SUBMISSION.equals(event.getAggregateType())) {
+        Submission submission = changeType == ChangeType.DELETED
+            ? null
+            : submissionRepository.findById(event.getAggregateId()).orElse(null);
+        publish(submission != null ? submission : submissionStub(event), changeType, submission);
+      } else if (OutboxRecorder.EVALUATION.equals(event.getAggregateType())) {
+        Evaluation evaluation = changeType == ChangeType.DELETED
+            ? null
+            : evaluationRepository.findById(event.getAggregateId()).orElse(null);
+        publish(evaluation != null ? evaluation : evaluationStub(event), changeType, evaluation);
+      } else if (OutboxRecorder.CANDIDATE.equals(event.getAggregateType())) {
+        Candidate candidate = changeType == ChangeType.DELETED
+            ? null
+            : candidateRepository.findById(event.getAggregateId()).orElse(null);
+        publish(candidate != null ? candidate : candidateStub(event), changeType, candidate);
+      } else if (OutboxRecorder.INTERVIEWER.equals(event.getAggregateType())) {
+        Interviewer interviewer = changeType == ChangeType.DELETED
+            ? null
+            : interviewerRepository.findById(event.getAggregateId()).orElse(null);
+        publish(interviewer != null ? interviewer : interviewerStub(event), changeType,
+            interviewer);
+      }
+    }
+  }
+
+  /**
+   * Publish a change, reporting entities that no longer exist as deleted.
+   */
+  private void publish(Object entity, ChangeType changeType, Object loaded) {
+    ChangeType effective = loaded == null ? ChangeType.DELETED : changeType;
+    eventPublisher.publishEvent(new EntityChangedEvent<>(entity, effective, true));
+  }
+
+  private Submission submissionStub(OutboxMessage event) {
+    JsonNode payload = payload(event);
+    Candidate candidate = new Candidate();
+    candidate.setId(payload.path("candidateId").asLong());
+    Problem problem = new Problem();
+    problem.setId(payload.path("problemId").asLong());
+    Submission submission = new Submission();
+    submission.setId(event.getAggregateId());
+    submission.setCandidate(candidate);
+    submission.setProblem(problem);
+    return submission;
+  }
+
+  private Evaluation evaluationStub(OutboxMessage event) {
+    Evaluation evaluation = new Evaluation();
+    evaluation.setId(event.getAggregateId());
+    return evaluation;
+  }
+
+  private Candidate candidateStub(OutboxMessage event) {
+    Candidate candidate = new Candidate();
+    candidate.setId(event.getAggregateId());
+    return candidate;
+  }
+
+  private Interviewer interviewerStub(OutboxMessage event) {
+    Interviewer interviewer = new Interviewer();
+    interviewer.setId(event.getAggregateId());
+    return interviewer;
+  }
+
+  private JsonNode payload(OutboxMessage event) {
+    try {
+      return objectMapper.readTree(event.getPayload());
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Malformed outbox payload for " + event.getSequence(), e);
+    }
+  }
+}
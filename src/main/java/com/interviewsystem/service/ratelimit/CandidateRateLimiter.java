@@ -0,0 +1,101 @@
+package com.interviewsystem.service.ratelimit;
+
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.config.RateLimitProperties;
+import com.interviewsystem.config.RateLimitProperties.Limit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Token bucket rate limits per candidate, for submissions and for API calls.
+ *
+ * <p>Submissions and API calls draw on separate buckets. The submission limit can be set per
+ * candidate tech stack; state lives in the configured {@link RateLimitStore}. Rejections are
+ * counted in {@code rate-limit.rejections}, tagged by kind and by tech stack, which is
+ * {@code default} unless the stack has its own limit so that tag values stay bounded.
+ */
+@Slf4j
+@Component
+@ConditionalOnRole(DeploymentRole.API)
+public class CandidateRateLimiter {
+
+  static final String REJECTIONS = "rate-limit.rejections";
+
+  private static final String DEFAULT_TIER = "default";
+
+  /**
+   * What a request is charged to.
+   */
+  public enum Kind {
+    SUBMISSION, API;
+
+    String tagValue() {
+      return name().toLowerCase(Locale.ROOT);
+    }
+  }
+
+  private final RateLimitStore store;
+
+  private final RateLimitProperties properties;
+
+  private final MeterRegistry registry;
+
+  public CandidateRateLimiter(RateLimitStore store, RateLimitProperties properties,
+      MeterRegistry registry) {
+    this.store = store;
+    this.properties = properties;
+    this.registry = registry;
+  }
+
+  public boolean isEnabled() {
+    return properties.isEnabled();
+  }
+
+  /**
+   * Charge one request to a subject's bucket.
+   *
+   * @param kind what the request is
+   * @param subject who makes it, e.g. {@code candidate:42} or {@code ip:10.0.0.7}
+   * @param techStack the candidate's tech stack for submission limits, may be {@code null}
+   * @return whether the request is allowed, and if not, when it would be
+   */
+  public RateLimitDecision tryAcquire(Kind kind, String subject, String techStack) {
+    if (!properties.isEnabled()) {
+      return RateLimitDecision.ALLOWED;
+    }
+    Limit limit = kind == Kind.SUBMISSION
+        ? properties.submissionLimit(techStack)
+        : properties.getApi();
+    RateLimitDecision decision = store.acquire(kind.tagValue() + ":" + subject, limit);
+    if (!decision.allowed()) {
+      String tier = kind == Kind.SUBMISSION && techStack != null
+          && properties.getTechStacks().containsKey(techStack) ? techStack : DEFAULT_TIER;
+      Counter.builder(REJECTIONS)
+          .description("Requests rejected by per-candidate rate limits")
+          .tag("kind", kind.tagValue())
+          .tag("tech_stack", tier)
+          .register(registry)
+          .increment();
+      log.debug("Rate limited {} {} for {}", kind.tagValue(), subject, decision.retryAfter());
+    }
+    return decision;
+  }
+
+  /**
+   * Drop the state of refilled buckets on the configured schedule.
+   */
+  @Scheduled(fixedDelayString = "${interview.rate-limit.eviction-interval-ms:60000}")
+  public void evictIdle() {
+    if (properties.isEnabled()) {
+      int evicted = store.evictIdle();
+      if (evicted > 0) {
+        log.debug("Evicted {} idle rate limit buckets", evicted);
+      }
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package com.interviewsystem.service.ratelimit;
+
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.config.RateLimitProperties.Limit;
+import com.interviewsystem.entity.RateLimitBucket;
+import com.interviewsystem.repository.RateLimitBucketRepository;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Rate limit state in the shared database, so that a candidate spreading requests over several API
+ * nodes still gets one limit.
+ *
+ * <p>Each request locks its bucket row in a short transaction of its own. Buckets of different
+ * candidates are different rows, so only requests of the same candidate serialize. A bucket that
+ * two nodes create at once fails one insert, which is retried as an update.
+ */
+@Component
+@ConditionalOnRole(DeploymentRole.API)
+@ConditionalOnProperty(prefix = "interview.rate-limit", name = "store", havingValue = "database")
+public class DatabaseRateLimitStore implements RateLimitStore {
+
+  private static final int MAX_ATTEMPTS = 2;
+
+  private final RateLimitBucketRepository bucketRepository;
+
+  private final TransactionTemplate transactionTemplate;
+
+  public DatabaseRateLimitStore(RateLimitBucketRepository bucketRepository,
+      PlatformTransactionManager transactionManager) {
+    this.bucketRepository = bucketRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(
+        TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  @Override
+  public RateLimitDecision acquire(String key, Limit limit) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return transactionTemplate.execute(status -> take(key, limit));
+      } catch (DataIntegrityViolationException e) {
+        if (attempt >= MAX_ATTEMPTS) {
+          throw e;
+        }
+      }
+    }
+  }
+
+  @Override
+  public int evictIdle() {
+    return transactionTemplate.execute(
+        status -> bucketRepository.deleteFull(System.currentTimeMillis()));
+  }
+
+  private RateLimitDecision take(String key, Limit limit) {
+    long interval = limit.getRefillInterval().toMillis();
+    long tolerance = interval * (limit.getCapacity() - 1);
+    long now = System.currentTimeMillis();
+    Optional<RateLimitBucket> existing = bucketRepository.lockByKey(key);
+    long base = Math.max(existing.map(RateLimitBucket::getFullAt).orElse(now), now);
+    long wait = RateLimitStore.wait(base, now, tolerance);
+    if (wait > 0) {
+      return RateLimitDecision.rejected(Duration.ofMillis(wait));
+    }
+    if (existing.isPresent()) {
+      existing.get().setFullAt(base + interval);
+    } else {
+      bucketRepository.saveAndFlush(
+          RateLimitBucket.builder().key(key).fullAt(base + interval).build());
+    }
+    return RateLimitDecision.ALLOWED;
+  }
+}
@@ -0,0 +1,79 @@
+package com.interviewsystem.service.ratelimit;
+
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.config.RateLimitProperties.Limit;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process rate limit state, without locks.
+ *
+ * <p>Each key's bucket is one {@link AtomicLong} updated by compare-and-set, and buckets live in a
+ * {@link ConcurrentHashMap}, whose reads do not lock and whose inserts lock only one bin. Threads
+ * limiting different candidates never contend; threads limiting the same candidate retry a CAS at
+ * worst. A bucket dropped by the idle sweep while a request is using it may let that one request
+ * through uncounted.
+ */
+@Component
+@ConditionalOnRole(DeploymentRole.API)
+@ConditionalOnProperty(prefix = "interview.rate-limit", name = "store", havingValue = "local",
+    matchIfMissing = true)
+public class LocalRateLimitStore implements RateLimitStore {
+
+  private final ConcurrentMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+  private final LongSupplier nanoClock;
+
+  public LocalRateLimitStore() {
+    this(System::nanoTime);
+  }
+
+  LocalRateLimitStore(LongSupplier nanoClock) {
+    this.nanoClock = nanoClock;
+  }
+
+  @Override
+  public RateLimitDecision acquire(String key, Limit limit) {
+    long interval = limit.getRefillInterval().toNanos();
+    long tolerance = interval * (limit.getCapacity() - 1);
+    AtomicLong bucket = buckets.get(key);
+    if (bucket == null) {
+      bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(nanoClock.getAsLong()));
+    }
+    while (true) {
+      long arrival = bucket.get();
+      long now = nanoClock.getAsLong();
+      long base = Math.max(arrival, now);
+      long wait = RateLimitStore.wait(base, now, tolerance);
+      if (wait > 0) {
+        return RateLimitDecision.rejected(Duration.ofNanos(wait));
+      }
+      if (bucket.compareAndSet(arrival, base + interval)) {
+        return RateLimitDecision.ALLOWED;
+      }
+    }
+  }
+
+  @Override
+  public int evictIdle() {
+    long now = nanoClock.getAsLong();
+    int before = buckets.size();
+    buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+    return Math.max(0, before - buckets.size());
+  }
+
+  /**
+   * Number of buckets currently held.
+   *
+   * @return the bucket count
+   */
+  public int size() {
+    return buckets.size();
+  }
+}
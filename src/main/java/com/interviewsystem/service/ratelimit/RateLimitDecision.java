@@ -0,0 +1,28 @@
+package com.interviewsystem.service.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Outcome of asking a rate limiter for one request.
+ *
+ * @param allowed whether the request may proceed
+ * @param retryAfter how long until the request would be allowed, zero if it is
+ */
+public record RateLimitDecision(boolean allowed, Duration retryAfter) {
+
+  static final RateLimitDecision ALLOWED = new RateLimitDecision(true, Duration.ZERO);
+
+  static RateLimitDecision rejected(Duration retryAfter) {
+    return new RateLimitDecision(false, retryAfter);
+  }
+
+  /**
+   * The wait in whole seconds, rounded up, as sent in a {@code Retry-After} header.
+   *
+   * @return the seconds to wait, at least one for a rejected request
+   */
+  public long retryAfterSeconds() {
+    long seconds = retryAfter.toSeconds();
+    return retryAfter.equals(Duration.ofSeconds(seconds)) ? seconds : seconds + 1;
+  }
+}
@@ -0,0 +1,68 @@
+package com.interviewsystem.service.ratelimit;
+
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.service.ratelimit.CandidateRateLimiter.Kind;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.security.Principal;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Applies the per-candidate API rate limit to {@code /api/**} calls, answering
+ * {@code 429 Too Many Requests} with a {@code Retry-After} header once a bucket is empty.
+ *
+ * <p>Calls are charged to the authenticated principal when the server has verified one, and
+ * otherwise to the client address (behind a proxy, set {@code server.forward-headers-strategy} so
+ * that this is the client's rather than the proxy's). Client-supplied identity headers such as
+ * {@code X-Candidate-Id} are deliberately ignored: trusting them would let a client dodge its
+ * limit by varying them, drain another candidate's bucket, or create buckets without bound.
+ */
+@Component
+@ConditionalOnRole(DeploymentRole.API)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  /**
+   * Longest principal name used as a bucket key; longer names are charged to the address.
+   */
+  static final int MAX_PRINCIPAL_LENGTH = 100;
+
+  private final CandidateRateLimiter rateLimiter;
+
+  public RateLimitFilter(CandidateRateLimiter rateLimiter) {
+    this.rateLimiter = rateLimiter;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !rateLimiter.isEnabled() || !request.getRequestURI().startsWith("/api/");
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    RateLimitDecision decision = rateLimiter.tryAcquire(Kind.API, subject(request), null);
+    if (!decision.allowed()) {
+      response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(decision.retryAfterSeconds()));
+      response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Rate limit exceeded");
+      return;
+    }
+    filterChain.doFilter(request, response);
+  }
+
+  private static String subject(HttpServletRequest request) {
+    Principal principal = request.getUserPrincipal();
+    if (principal != null && StringUtils.hasText(principal.getName())
+        && principal.getName().length() <= MAX_PRINCIPAL_LENGTH) {
+      return "user:" + principal.getName();
+    }
+    return "ip:" + request.getRemoteAddr();
+  }
+}
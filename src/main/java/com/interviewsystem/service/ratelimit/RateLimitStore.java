@@ -0,0 +1,42 @@
+package com.interviewsystem.service.ratelimit;
+
+import com.interviewsystem.config.RateLimitProperties.Limit;
+
+/**
+ * Keeps token bucket state per key.
+ *
+ * <p>Buckets are stored as a single "theoretical arrival time" (the generic cell rate algorithm):
+ * the time at which the bucket will be full again. A request is allowed if that time is at most
+ * {@code (capacity - 1) * refillInterval} in the future, and moves it one refill interval later.
+ * One number per key makes an update a single compare-and-set, or a single row update.
+ */
+public interface RateLimitStore {
+
+  /**
+   * Take one request from a key's bucket, if it has one.
+   *
+   * @param key the bucket key
+   * @param limit the bucket's capacity and refill rate
+   * @return whether the request is allowed, and if not, when it would be
+   */
+  RateLimitDecision acquire(String key, Limit limit);
+
+  /**
+   * Drop the state of buckets that have refilled completely, which is the same as having none.
+   *
+   * @return the number of buckets dropped
+   */
+  int evictIdle();
+
+  /**
+   * Compute the wait before a request is allowed.
+   *
+   * @param arrival the bucket's theoretical arrival time, or the current time if it is earlier
+   * @param now the current time
+   * @param tolerance how far in the future the arrival time may be, in the same unit
+   * @return zero if the request is allowed, otherwise the time to wait
+   */
+  static long wait(long arrival, long now, long tolerance) {
+    return Math.max(0, arrival - now - tolerance);
+  }
+}
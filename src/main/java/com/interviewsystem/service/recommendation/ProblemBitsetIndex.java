@@ -0,0 +1,191 @@
+package com.interviewsystem.service.recommendation;
+
+import com.interviewsystem.dto.ProblemRecommendation;
+import com.interviewsystem.entity.Problem;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bitset index over the problem catalog keyed by difficulty, category and primary tech stack.
+ *
+ * <p>Every problem gets a dense slot number; each attribute value maps to a bitset of the slots
+ * that carry it, so filtering is a handful of word-wise {@code and}/{@code andNot} operations.
+ * Slots of removed problems are never reused, which keeps per-candidate attempted sets built on
+ * the same slot numbers valid.
+ */
+class ProblemBitsetIndex {
+
+  private final Map<Long, Integer> slotsByProblemId = new HashMap<>();
+
+  private final List<ProblemRecommendation> problemsBySlot = new ArrayList<>();
+
+  private final BitSet live = new BitSet();
+
+  private final Map<String, BitSet> byDifficulty = new HashMap<>();
+
+  private final Map<String, BitSet> byCategory = new TreeMap<>();
+
+  private final Map<String, BitSet> byTechStack = new HashMap<>();
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  void reindex(Collection<Problem> problems) {
+    lock.writeLock().lock();
+    try {
+      slotsByProblemId.clear();
+      problemsBySlot.clear();
+      live.clear();
+      byDifficulty.clear();
+      byCategory.clear();
+      byTechStack.clear();
+      problems.forEach(this::index);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Add or re-index a problem.
+   *
+   * @param problem the problem
+   */
+  void index(Problem problem) {
+    lock.writeLock().lock();
+    try {
+      Integer slot = slotsByProblemId.get(problem.getId());
+      if (slot == null) {
+        slot = problemsBySlot.size();
+        slotsByProblemId.put(problem.getId(), slot);
+        problemsBySlot.add(null);
+      } else {
+        clearSlot(slot);
+      }
+      ProblemRecommendation summary = ProblemRecommendation.builder()
+          .problemId(problem.getId())
+          .title(problem.getTitle())
+          .difficulty(key(problem.getDifficulty()))
+          .category(key(problem.getCategory()))
+          .primaryTechStack(key(problem.getPrimaryTechStack()))
+          .build();
+      problemsBySlot.set(slot, summary);
+      live.set(slot);
+      byDifficulty.computeIfAbsent(summary.getDifficulty(), k -> new BitSet()).set(slot);
+      byCategory.computeIfAbsent(summary.getCategory(), k -> new BitSet()).set(slot);
+      byTechStack.computeIfAbsent(summary.getPrimaryTechStack(), k -> new BitSet()).set(slot);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  void remove(Long problemId) {
+    lock.writeLock().lock();
+    try {
+      Integer slot = slotsByProblemId.get(problemId);
+      if (slot != null) {
+        clearSlot(slot);
+        problemsBySlot.set(slot, null);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Map a problem ID to its slot, assigning one if the problem has not been indexed yet.
+   *
+   * @param problemId the problem ID
+   * @return the slot number
+   */
+  int slotOf(Long problemId) {
+    lock.readLock().lock();
+    try {
+      Integer slot = slotsByProblemId.get(problemId);
+      if (slot != null) {
+        return slot;
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    lock.writeLock().lock();
+    try {
+      return slotsByProblemId.computeIfAbsent(problemId, id -> {
+        problemsBySlot.add(null);
+        return problemsBySlot.size() - 1;
+      });
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Select up to {@code count} matching problems outside the excluded set, taking them
+   * round-robin across categories so no single category dominates.
+   *
+   * @param difficulty optional difficulty filter
+   * @param techStack optional primary tech stack filter
+   * @param excluded slots to skip, e.g. problems the candidate already attempted
+   * @param count the maximum number of problems to return
+   * @return the selected problems
+   */
+  List<ProblemRecommendation> select(String difficulty, String techStack, BitSet excluded,
+      int count) {
+    lock.readLock().lock();
+    try {
+      BitSet candidates = (BitSet) live.clone();
+      if (difficulty != null) {
+        candidates.and(byDifficulty.getOrDefault(key(difficulty), new BitSet()));
+      }
+      if (techStack != null) {
+        candidates.and(byTechStack.getOrDefault(key(techStack), new BitSet()));
+      }
+      candidates.andNot(excluded);
+
+      List<BitSet> perCategory = new ArrayList<>();
+      for (BitSet categorySlots : byCategory.values()) {
+        BitSet slots = (BitSet) categorySlots.clone();
+        slots.and(candidates);
+        if (!slots.isEmpty()) {
+          perCategory.add(slots);
+        }
+      }
+      int[] cursors = new int[perCategory.size()];
+      List<ProblemRecommendation> selected = new ArrayList<>(count);
+      boolean progressed = true;
+      while (selected.size() < count && progressed) {
+        progressed = false;
+        for (int i = 0; i < perCategory.size() && selected.size() < count; i++) {
+          int slot = cursors[i] < 0 ? -1 : perCategory.get(i).nextSetBit(cursors[i]);
+          if (slot >= 0) {
+            selected.add(problemsBySlot.get(slot));
+            cursors[i] = slot + 1;
+            progressed = true;
+          } else {
+            cursors[i] = -1;
+          }
+        }
+      }
+      return selected;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void clearSlot(int slot) {
+    live.clear(slot);
+    byDifficulty.values().forEach(bits -> bits.clear(slot));
+    byCategory.values().forEach(bits -> bits.clear(slot));
+    byTechStack.values().forEach(bits -> bits.clear(slot));
+  }
+
+  private static String key(String value) {
+    return value == null ? "" : value.toUpperCase(Locale.ROOT);
+  }
+}
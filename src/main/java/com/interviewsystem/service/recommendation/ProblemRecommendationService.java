@@ -0,0 +1,122 @@
+package com.interviewsystem.service.recommendation;
+
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.dto.ProblemRecommendation;
+import com.interviewsystem.entity.Problem;
+import com.interviewsystem.entity.Submission;
+import com.interviewsystem.event.ChangeType;
+import com.interviewsystem.event.EntityChangedEvent;
+import com.interviewsystem.repository.ProblemRepository;
+import com.interviewsystem.repository.SubmissionRepository;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Recommends unattempted problems to candidates using in-memory bitsets.
+ *
+ * <p>The catalog is held in a {@link ProblemBitsetIndex}. Each candidate's attempted problems are
+ * loaded once as a bitset over the same slots (a single ID-only query) and then kept current from
+ * committed submissions, so a recommendation is a few bitset intersections.
+ */
+@Slf4j
+@Service
+@ConditionalOnRole(DeploymentRole.API)
+public class ProblemRecommendationService {
+
+  private final ProblemRepository problemRepository;
+
+  private final SubmissionRepository submissionRepository;
+
+  private final ProblemBitsetIndex index = new ProblemBitsetIndex();
+
+  private final ConcurrentMap<Long, BitSet> attemptedByCandidate = new ConcurrentHashMap<>();
+
+  public ProblemRecommendationService(ProblemRepository problemRepository,
+      SubmissionRepository submissionRepository) {
+    this.problemRepository = problemRepository;
+    this.submissionRepository = submissionRepository;
+  }
+
+  /**
+   * Rebuild the catalog bitsets and drop cached attempted sets.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public void rebuild() {
+    attemptedByCandidate.clear();
+    List<Problem> problems = problemRepository.findAll();
+    index.reindex(problems);
+    log.info("Indexed {} problems for recommendations", problems.size());
+  }
+
+  /**
+   * Apply a committed problem change to the catalog bitsets.
+   *
+   * @param event the problem change
+   */
+  @TransactionalEventListener
+  public void onProblemChanged(EntityChangedEvent<Problem> event) {
+    if (event.getChangeType() == ChangeType.DELETED) {
+      index.remove(event.getEntity().getId());
+    } else {
+      index.index(event.getEntity());
+    }
+  }
+
+  /**
+   * Mark a problem as attempted when a candidate's submission is committed.
+   *
+   * @param event the submission change
+   */
+  @TransactionalEventListener
+  public void onSubmissionChanged(EntityChangedEvent<Submission> event) {
+    Submission submission = event.getEntity();
+    if (event.getChangeType() == ChangeType.DELETED) {
+      attemptedByCandidate.remove(submission.getCandidate().getId());
+      return;
+    }
+    int slot = index.slotOf(submission.getProblem().getId());
+    attemptedByCandidate.computeIfPresent(submission.getCandidate().getId(), (id, attempted) -> {
+      synchronized (attempted) {
+        attempted.set(slot);
+      }
+      return attempted;
+    });
+  }
+
+  /**
+   * Recommend problems the candidate has not attempted yet, balanced across categories.
+   *
+   * @param candidateId the ID of the candidate
+   * @param difficulty optional difficulty filter
+   * @param techStack optional primary tech stack filter
+   * @param count the maximum number of problems to return
+   * @return the recommended problems
+   */
+  public List<ProblemRecommendation> recommend(Long candidateId, String difficulty,
+      String techStack, int count) {
+    BitSet attempted = attemptedByCandidate.computeIfAbsent(candidateId, this::loadAttempted);
+    BitSet excluded;
+    synchronized (attempted) {
+      excluded = (BitSet) attempted.clone();
+    }
+    return index.select(difficulty, techStack, excluded, count);
+  }
+
+  private BitSet loadAttempted(Long candidateId) {
+    BitSet attempted = new BitSet();
+    for (Long problemId : submissionRepository.findAttemptedProblemIds(candidateId)) {
+      attempted.set(index.slotOf(problemId));
+    }
+    return attempted;
+  }
+}
@@ -0,0 +1,12 @@
+package com.interviewsystem.service.rollup;
+
+/**
+ * Activity streams tracked by the rollups.
+ */
+public enum ActivityMetric {
+  /** Submissions by problem, language and compilation status, bucketed by submission time. */
+  SUBMISSIONS,
+  /** Completed evaluations by problem and language with a score histogram, bucketed by
+   *  evaluation time. */
+  EVALUATIONS
+}
@@ -0,0 +1,235 @@
+package com.interviewsystem.service.rollup;
+
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.config.RollupProperties;
+import com.interviewsystem.dto.ActivityRollupPoint;
+import com.interviewsystem.dto.ActivityRollupResponse;
+import com.interviewsystem.entity.Evaluation;
+import com.interviewsystem.entity.Submission;
+import com.interviewsystem.event.ChangeType;
+import com.interviewsystem.event.EntityChangedEvent;
+import com.interviewsystem.repository.EvaluationRepository;
+import com.interviewsystem.repository.SubmissionRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Maintains per-minute, per-hour and per-day rollups of submission and evaluation activity and
+ * answers windowed queries from them instead of scanning the base tables.
+ *
+ * <p>The rollups are rebuilt from the base tables for the configured window once the application
+ * is ready, then kept current from committed {@link Submission} and {@link Evaluation} changes.
+ * Activity still at minute resolution is remembered per entity, so a compilation status change,
+ * a re-scored evaluation or a deletion moves or retracts the original count rather than adding a
+ * second one. Changes to older activity are picked up by the next rebuild.
+ */
+@Slf4j
+@Service
+@ConditionalOnRole(DeploymentRole.API)
+public class ActivityRollupService {
+
+  static final String STATUS_COMPLETED = "COMPLETED";
+
+  private final SubmissionRepository submissionRepository;
+
+  private final EvaluationRepository evaluationRepository;
+
+  private final RollupProperties properties;
+
+  private volatile RollupStore store;
+
+  private Map<Long, SubmissionActivity> recentSubmissions = new HashMap<>();
+
+  private Map<Long, EvaluationActivity> recentEvaluations = new HashMap<>();
+
+  public ActivityRollupService(SubmissionRepository submissionRepository,
+      EvaluationRepository evaluationRepository, RollupProperties properties) {
+    this.submissionRepository = submissionRepository;
+    this.evaluationRepository = evaluationRepository;
+    this.properties = properties;
+    this.store = newStore();
+  }
+
+  /**
+   * Rebuild the rollups from the submissions and completed evaluations in the rebuild window.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public synchronized void rebuild() {
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime since = now.minus(properties.getRebuildWindow());
+    RollupStore rebuilt = newStore();
+    Map<Long, SubmissionActivity> submissions = new HashMap<>();
+    Map<Long, EvaluationActivity> evaluations = new HashMap<>();
+    try (Stream<SubmissionActivity> activity = submissionRepository.streamActivitySince(since)) {
+      activity.forEach(submission -> {
+        rebuilt.add(submission.getSubmittedAt(), submission.key(), 1, null, now);
+        if (isRecent(submission.getSubmittedAt(), now)) {
+          submissions.put(submission.getSubmissionId(), submission);
+        }
+      });
+    }
+    try (Stream<EvaluationActivity> activity =
+        evaluationRepository.streamCompletedActivitySince(since)) {
+      activity.forEach(evaluation -> {
+        rebuilt.add(evaluation.getEvaluatedAt(), evaluation.key(), 1, evaluation.getOverallScore(),
+            now);
+        if (isRecent(evaluation.getEvaluatedAt(), now)) {
+          evaluations.put(evaluation.getEvaluationId(), evaluation);
+        }
+      });
+    }
+    store = rebuilt;
+    recentSubmissions = submissions;
+    recentEvaluations = evaluations;
+    log.info("Rebuilt activity rollups: {} minute, {} hour and {} day buckets",
+        rebuilt.bucketCount(Granularity.MINUTE), rebuilt.bucketCount(Granularity.HOUR),
+        rebuilt.bucketCount(Granularity.DAY));
+  }
+
+  /**
+   * Count a committed submission, or move its count when its compilation status changes.
+   *
+   * @param event the submission change
+   */
+  @TransactionalEventListener
+  public synchronized void onSubmissionChanged(EntityChangedEvent<Submission> event) {
+    Submission submission = event.getEntity();
+    LocalDateTime now = LocalDateTime.now();
+    SubmissionActivity previous = recentSubmissions.remove(submission.getId());
+    if (previous != null) {
+      store.add(previous.getSubmittedAt(), previous.key(), -1, null, now);
+    }
+    if (event.getChangeType() == ChangeType.DELETED
+        || (previous == null && event.getChangeType() != ChangeType.CREATED)) {
+      return;
+    }
+    SubmissionActivity current = new SubmissionActivity(submission.getId(),
+        submission.getProblem() == null ? null : submission.getProblem().getId(),
+        submission.getLanguage(), submission.getCompilationStatus(), submission.getSubmittedAt());
+    store.add(current.getSubmittedAt(), current.key(), 1, null, now);
+    if (isRecent(current.getSubmittedAt(), now)) {
+      recentSubmissions.put(current.getSubmissionId(), current);
+    }
+  }
+
+  /**
+   * Count a committed evaluation once it is completed, or move its count when it is re-scored.
+   *
+   * @param event the evaluation change
+   */
+  @TransactionalEventListener
+  @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+  public synchronized void onEvaluationChanged(EntityChangedEvent<Evaluation> event) {
+    Evaluation evaluation = event.getEntity();
+    LocalDateTime now = LocalDateTime.now();
+    EvaluationActivity previous = recentEvaluations.get(evaluation.getId());
+    boolean completed = event.getChangeType() != ChangeType.DELETED
+        && STATUS_COMPLETED.equals(evaluation.getStatus())
+        && evaluation.getEvaluatedAt() != null;
+    if (previous == null && (!completed || !isRecent(evaluation.getEvaluatedAt(), now))) {
+      return;
+    }
+    Optional<EvaluationActivity> current = completed
+        ? evaluationRepository.findCompletedActivity(evaluation.getId())
+        : Optional.empty();
+    if (current.isPresent() && current.get().equals(previous)) {
+      return;
+    }
+    if (previous != null) {
+      recentEvaluations.remove(evaluation.getId());
+      store.add(previous.getEvaluatedAt(), previous.key(), -1, previous.getOverallScore(), now);
+    }
+    current.ifPresent(activity -> {
+      store.add(activity.getEvaluatedAt(), activity.key(), 1, activity.getOverallScore(), now);
+      if (isRecent(activity.getEvaluatedAt(), now)) {
+        recentEvaluations.put(activity.getEvaluationId(), activity);
+      }
+    });
+  }
+
+  /**
+   * Fold expired minute and hour buckets into coarser ones on the configured schedule.
+   */
+  @Scheduled(fixedDelayString = "${interview.rollup.compaction-interval-ms:60000}")
+  public synchronized void compact() {
+    LocalDateTime now = LocalDateTime.now();
+    int folded = store.compact(now);
+    LocalDateTime horizon = now.minus(properties.getMinuteRetention());
+    recentSubmissions.values().removeIf(activity -> activity.getSubmittedAt().isBefore(horizon));
+    recentEvaluations.values().removeIf(activity -> activity.getEvaluatedAt().isBefore(horizon));
+    if (folded > 0) {
+      log.debug("Compacted {} activity rollup buckets", folded);
+    }
+  }
+
+  /**
+   * Sum activity over a window, optionally narrowed by problem, language and compilation status.
+   *
+   * @param metric the activity stream to query
+   * @param from the inclusive start of the window
+   * @param to the exclusive end of the window
+   * @param granularity the bucket width of the returned series
+   * @param problemId optional problem filter
+   * @param language optional language filter
+   * @param compilationStatus optional compilation status filter; only applies to submissions
+   * @return the totals and per-bucket series for the window
+   */
+  public ActivityRollupResponse query(ActivityMetric metric, LocalDateTime from, LocalDateTime to,
+      Granularity granularity, Long problemId, String language, String compilationStatus) {
+    NavigableMap<Long, RollupStore.Bucket> buckets = store.query(from, to, granularity,
+        key -> key.matches(metric, problemId, language, compilationStatus));
+    boolean scored = metric == ActivityMetric.EVALUATIONS;
+    RollupCell total = new RollupCell();
+    List<ActivityRollupPoint> points = new ArrayList<>(buckets.size());
+    for (Map.Entry<Long, RollupStore.Bucket> bucket : buckets.entrySet()) {
+      RollupCell cell = bucket.getValue().getCell();
+      total.merge(cell);
+      points.add(ActivityRollupPoint.builder()
+          .bucketStart(RollupStore.fromEpoch(bucket.getKey()))
+          .granularity(bucket.getValue().getGranularity().name())
+          .count(cell.getCount())
+          .averageScore(cell.getAverageScore())
+          .scoreHistogram(scored ? histogramOf(cell) : null)
+          .build());
+    }
+    return ActivityRollupResponse.builder()
+        .metric(metric.name())
+        .from(from)
+        .to(to)
+        .granularity(granularity.name())
+        .totalCount(total.getCount())
+        .averageScore(total.getAverageScore())
+        .scoreHistogram(scored ? histogramOf(total) : null)
+        .points(points)
+        .build();
+  }
+
+  private boolean isRecent(LocalDateTime at, LocalDateTime now) {
+    return !at.isBefore(now.minus(properties.getMinuteRetention()));
+  }
+
+  private RollupStore newStore() {
+    return new RollupStore(properties.getMinuteRetention(), properties.getHourRetention());
+  }
+
+  private static List<Long> histogramOf(RollupCell cell) {
+    return Arrays.stream(cell.getHistogram()).boxed().toList();
+  }
+}
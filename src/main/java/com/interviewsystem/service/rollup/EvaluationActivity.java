@@ -0,0 +1,28 @@
+package com.interviewsystem.service.rollup;
+
+import java.time.LocalDateTime;
+import lombok.Value;
+
+/**
+ * A completed evaluation reduced to the dimensions tracked by the activity rollups.
+ *
+ * <p>Instances are produced directly by JPQL constructor expressions in
+ * {@link com.interviewsystem.repository.EvaluationRepository}.
+ */
+@Value
+public class EvaluationActivity {
+
+  Long evaluationId;
+
+  Long problemId;
+
+  String language;
+
+  Integer overallScore;
+
+  LocalDateTime evaluatedAt;
+
+  RollupKey key() {
+    return new RollupKey(ActivityMetric.EVALUATIONS, problemId, language, null);
+  }
+}
@@ -0,0 +1,28 @@
+package com.interviewsystem.service.rollup;
+
+import java.time.Duration;
+
+/**
+ * Bucket widths of the activity rollups, finest first.
+ */
+public enum Granularity {
+  MINUTE(Duration.ofMinutes(1)),
+  HOUR(Duration.ofHours(1)),
+  DAY(Duration.ofDays(1));
+
+  private final long seconds;
+
+  Granularity(Duration width) {
+    this.seconds = width.getSeconds();
+  }
+
+  /**
+   * Align an epoch second to the start of its bucket.
+   *
+   * @param epochSecond the instant, in UTC epoch seconds
+   * @return the bucket start, in UTC epoch seconds
+   */
+  long bucketStart(long epochSecond) {
+    return epochSecond - Math.floorMod(epochSecond, seconds);
+  }
+}
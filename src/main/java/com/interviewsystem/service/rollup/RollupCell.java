@@ -0,0 +1,58 @@
+package com.interviewsystem.service.rollup;
+
+import java.util.Arrays;
+
+/**
+ * Mutable counters of one rollup bucket: an event count plus, for scored metrics, a score sum and
+ * a histogram of scores in deciles (0-9, 10-19, ..., 90-100).
+ */
+class RollupCell {
+
+  static final int HISTOGRAM_BINS = 10;
+
+  private long count;
+
+  private long scoreSum;
+
+  private long scoredCount;
+
+  private final long[] histogram = new long[HISTOGRAM_BINS];
+
+  void add(long delta, Integer score) {
+    count += delta;
+    if (score != null) {
+      scoreSum += delta * score;
+      scoredCount += delta;
+      histogram[bin(score)] += delta;
+    }
+  }
+
+  void merge(RollupCell other) {
+    count += other.count;
+    scoreSum += other.scoreSum;
+    scoredCount += other.scoredCount;
+    for (int i = 0; i < HISTOGRAM_BINS; i++) {
+      histogram[i] += other.histogram[i];
+    }
+  }
+
+  boolean isEmpty() {
+    return count == 0 && scoredCount == 0;
+  }
+
+  long getCount() {
+    return count;
+  }
+
+  Double getAverageScore() {
+    return scoredCount == 0 ? null : (double) scoreSum / scoredCount;
+  }
+
+  long[] getHistogram() {
+    return Arrays.copyOf(histogram, HISTOGRAM_BINS);
+  }
+
+  private static int bin(int score) {
+    return Math.min(HISTOGRAM_BINS - 1, Math.max(0, score / 10));
+  }
+}
@@ -0,0 +1,26 @@
+package com.interviewsystem.service.rollup;
+
+import lombok.Value;
+
+/**
+ * Dimensions of a rollup cell. Dimensions that do not apply to a metric are null.
+ */
+@Value
+class RollupKey {
+
+  ActivityMetric metric;
+
+  Long problemId;
+
+  String language;
+
+  String compilationStatus;
+
+  boolean matches(ActivityMetric metricFilter, Long problemFilter, String languageFilter,
+      String statusFilter) {
+    return metric == metricFilter
+        && (problemFilter == null || problemFilter.equals(problemId))
+        && (languageFilter == null || languageFilter.equalsIgnoreCase(language))
+        && (statusFilter == null || statusFilter.equalsIgnoreCase(compilationStatus));
+  }
+}
@@ -0,0 +1,192 @@
+package com.interviewsystem.service.rollup;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Tiered time-series counters of activity.
+ *
+ * <p>Every event lives in exactly one tier. Recent events are counted in minute buckets; once a
+ * minute bucket is older than the minute retention, {@link #compact} folds it into its hour bucket,
+ * and hour buckets older than the hour retention are folded into day buckets, which are kept
+ * indefinitely. Events that arrive late are routed straight to the tier their timestamp belongs to,
+ * so a query only ever has to sum the buckets that start inside its window.
+ *
+ * <p>Timestamps are the application's local date-times and are bucketed as if they were UTC.
+ */
+class RollupStore {
+
+  private final Duration minuteRetention;
+
+  private final Duration hourRetention;
+
+  private final Map<Granularity, NavigableMap<Long, Map<RollupKey, RollupCell>>> tiers =
+      new EnumMap<>(Granularity.class);
+
+  RollupStore(Duration minuteRetention, Duration hourRetention) {
+    this.minuteRetention = minuteRetention;
+    this.hourRetention = hourRetention;
+    for (Granularity granularity : Granularity.values()) {
+      tiers.put(granularity, new TreeMap<>());
+    }
+  }
+
+  /**
+   * Count an event, or retract a previously counted one with a negative delta.
+   *
+   * @param at when the event happened
+   * @param key the event's dimensions
+   * @param delta the amount to add to the bucket's count
+   * @param score the event's score, or null if the metric is not scored
+   * @param now the current time, used to pick the tier
+   */
+  synchronized void add(LocalDateTime at, RollupKey key, long delta, Integer score,
+      LocalDateTime now) {
+    Granularity granularity = tierFor(at, now);
+    long bucket = granularity.bucketStart(toEpoch(at));
+    Map<RollupKey, RollupCell> cells =
+        tiers.get(granularity).computeIfAbsent(bucket, b -> new HashMap<>());
+    RollupCell cell = cells.computeIfAbsent(key, k -> new RollupCell());
+    cell.add(delta, score);
+    if (cell.isEmpty()) {
+      cells.remove(key);
+      if (cells.isEmpty()) {
+        tiers.get(granularity).remove(bucket);
+      }
+    }
+  }
+
+  /**
+   * Fold minute buckets past the minute retention into hours, and hour buckets past the hour
+   * retention into days.
+   *
+   * @param now the current time
+   * @return the number of buckets folded into a coarser tier
+   */
+  synchronized int compact(LocalDateTime now) {
+    return fold(Granularity.MINUTE, Granularity.HOUR, toEpoch(now.minus(minuteRetention)))
+        + fold(Granularity.HOUR, Granularity.DAY, toEpoch(now.minus(hourRetention)));
+  }
+
+  /**
+   * Sum the buckets starting inside a window, grouped by bucket at the requested granularity.
+   *
+   * <p>Buckets that have been compacted to a coarser tier than requested are reported at their own
+   * start and width, so windows whose edges fall inside a compacted bucket include it whole when it
+   * starts inside the window and exclude it otherwise.
+   *
+   * @param from the inclusive start of the window
+   * @param to the exclusive end of the window
+   * @param granularity the requested bucket width of the result
+   * @param filter the cells to include
+   * @return the summed cells by bucket start, each with the width it was summed at
+   */
+  synchronized NavigableMap<Long, Bucket> query(LocalDateTime from, LocalDateTime to,
+      Granularity granularity, Filter filter) {
+    NavigableMap<Long, Bucket> result = new TreeMap<>();
+    long fromEpoch = toEpoch(from);
+    long toEpoch = toEpoch(to);
+    for (Map.Entry<Granularity, NavigableMap<Long, Map<RollupKey, RollupCell>>> tier
+        : tiers.entrySet()) {
+      Granularity width = tier.getKey().compareTo(granularity) > 0 ? tier.getKey() : granularity;
+      for (Map.Entry<Long, Map<RollupKey, RollupCell>> bucket
+          : tier.getValue().subMap(fromEpoch, true, toEpoch, false).entrySet()) {
+        for (Map.Entry<RollupKey, RollupCell> cell : bucket.getValue().entrySet()) {
+          if (filter.matches(cell.getKey())) {
+            long start = Math.max(width.bucketStart(bucket.getKey()), fromEpoch);
+            result.computeIfAbsent(start, s -> new Bucket(width)).merge(width, cell.getValue());
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Count the buckets currently held in a tier.
+   *
+   * @param granularity the tier
+   * @return the number of non-empty buckets
+   */
+  synchronized int bucketCount(Granularity granularity) {
+    return tiers.get(granularity).size();
+  }
+
+  private int fold(Granularity source, Granularity target, long cutoff) {
+    NavigableMap<Long, Map<RollupKey, RollupCell>> expired =
+        tiers.get(source).headMap(cutoff, false);
+    int folded = 0;
+    for (Iterator<Map.Entry<Long, Map<RollupKey, RollupCell>>> it = expired.entrySet().iterator();
+        it.hasNext(); ) {
+      Map.Entry<Long, Map<RollupKey, RollupCell>> bucket = it.next();
+      Map<RollupKey, RollupCell> coarse = tiers.get(target)
+          .computeIfAbsent(target.bucketStart(bucket.getKey()), b -> new HashMap<>());
+      for (Map.Entry<RollupKey, RollupCell> cell : bucket.getValue().entrySet()) {
+        coarse.computeIfAbsent(cell.getKey(), k -> new RollupCell()).merge(cell.getValue());
+      }
+      it.remove();
+      folded++;
+    }
+    return folded;
+  }
+
+  private Granularity tierFor(LocalDateTime at, LocalDateTime now) {
+    if (!at.isBefore(now.minus(minuteRetention))) {
+      return Granularity.MINUTE;
+    }
+    return at.isBefore(now.minus(hourRetention)) ? Granularity.DAY : Granularity.HOUR;
+  }
+
+  static long toEpoch(LocalDateTime time) {
+    return time.toEpochSecond(ZoneOffset.UTC);
+  }
+
+  static LocalDateTime fromEpoch(long epochSecond) {
+    return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+  }
+
+  /**
+   * Summed counters of one result bucket and the width they cover.
+   */
+  static final class Bucket {
+
+    private Granularity granularity;
+
+    private final RollupCell cell = new RollupCell();
+
+    Bucket(Granularity granularity) {
+      this.granularity = granularity;
+    }
+
+    void merge(Granularity width, RollupCell other) {
+      if (width.compareTo(granularity) > 0) {
+        granularity = width;
+      }
+      cell.merge(other);
+    }
+
+    Granularity getGranularity() {
+      return granularity;
+    }
+
+    RollupCell getCell() {
+      return cell;
+    }
+  }
+
+  /**
+   * Selects the cells of one metric, optionally narrowed by dimension.
+   */
+  @FunctionalInterface
+  interface Filter {
+
+    boolean matches(RollupKey key);
+  }
+}
@@ -0,0 +1,28 @@
+package com.interviewsystem.service.rollup;
+
+import java.time.LocalDateTime;
+import lombok.Value;
+
+/**
+ * A submission reduced to the dimensions tracked by the activity rollups.
+ *
+ * <p>Instances are produced directly by JPQL constructor expressions in
+ * {@link com.interviewsystem.repository.SubmissionRepository}.
+ */
+@Value
+public class SubmissionActivity {
+
+  Long submissionId;
+
+  Long problemId;
+
+  String language;
+
+  String compilationStatus;
+
+  LocalDateTime submittedAt;
+
+  RollupKey key() {
+    return new RollupKey(ActivityMetric.SUBMISSIONS, problemId, language, compilationStatus);
+  }
+}
@@ -0,0 +1,301 @@
+package com.interviewsystem.service.search;
+
+import com.interviewsystem.dto.ProblemSearchHit;
+import com.interviewsystem.dto.ProblemSearchResponse;
+import com.interviewsystem.entity.Problem;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over the problem catalog with BM25 ranking, prefix terms and facets.
+ *
+ * <p>Title, description, solution approach, category and tech stack are indexed into a single
+ * term space; title terms are weighted higher than body terms. Postings are kept in a sorted map
+ * so a prefix term ({@code "graph*"}) expands to every indexed term sharing the prefix.
+ */
+public class ProblemSearchIndex {
+
+  static final String FACET_DIFFICULTY = "difficulty";
+
+  static final String FACET_CATEGORY = "category";
+
+  static final String FACET_TECH_STACK = "primaryTechStack";
+
+  private static final double K1 = 1.2;
+
+  private static final double B = 0.75;
+
+  private static final int TITLE_WEIGHT = 3;
+
+  private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+  private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+
+  private final Map<Long, IndexedProblem> documents = new HashMap<>();
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private long totalLength;
+
+  /**
+   * Add a problem to the index, replacing any previously indexed version.
+   *
+   * @param problem the problem to index
+   */
+  public void index(Problem problem) {
+    IndexedProblem document = IndexedProblem.of(problem);
+    lock.writeLock().lock();
+    try {
+      removeLocked(problem.getId());
+      documents.put(document.id, document);
+      totalLength += document.length;
+      for (Map.Entry<String, Integer> term : document.termFrequencies.entrySet()) {
+        postings.computeIfAbsent(term.getKey(), t -> new HashMap<>())
+            .put(document.id, term.getValue());
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Remove a problem from the index.
+   *
+   * @param problemId the ID of the problem
+   */
+  public void remove(Long problemId) {
+    lock.writeLock().lock();
+    try {
+      removeLocked(problemId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Replace the whole index contents.
+   *
+   * @param problems every problem in the catalog
+   */
+  public void reindex(Collection<Problem> problems) {
+    lock.writeLock().lock();
+    try {
+      postings.clear();
+      documents.clear();
+      totalLength = 0;
+      problems.forEach(this::index);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return documents.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Search the index.
+   *
+   * <p>Query words are OR-ed and ranked by BM25; a word ending in {@code *} matches every term
+   * starting with it. A blank query matches every problem that passes the filters. Facet counts
+   * cover all matching problems, not only the returned page.
+   *
+   * @param query the free-text query
+   * @param difficulty optional difficulty filter
+   * @param category optional category filter
+   * @param primaryTechStack optional tech stack filter
+   * @param limit the maximum number of hits to return
+   * @return the ranked hits and facet counts
+   */
+  public ProblemSearchResponse search(String query, String difficulty, String category,
+      String primaryTechStack, int limit) {
+    List<QueryTerm> terms = parse(query);
+    lock.readLock().lock();
+    try {
+      Map<Long, Double> scores = new HashMap<>();
+      if (terms.isEmpty()) {
+        for (IndexedProblem document : documents.values()) {
+          if (document.matches(difficulty, category, primaryTechStack)) {
+            scores.put(document.id, 0.0);
+          }
+        }
+      } else {
+        double averageLength = documents.isEmpty() ? 1.0 : (double) totalLength / documents.size();
+        for (QueryTerm term : terms) {
+          for (Map.Entry<String, Map<Long, Integer>> posting : expand(term)) {
+            accumulate(posting.getValue(), averageLength, scores, difficulty, category,
+                primaryTechStack);
+          }
+        }
+      }
+      return toResponse(scores, limit);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void accumulate(Map<Long, Integer> posting, double averageLength,
+      Map<Long, Double> scores, String difficulty, String category, String primaryTechStack) {
+    int documentCount = documents.size();
+    double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+    for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+      IndexedProblem document = documents.get(entry.getKey());
+      if (!document.matches(difficulty, category, primaryTechStack)) {
+        continue;
+      }
+      double tf = entry.getValue();
+      double norm = K1 * (1 - B + B * document.length / averageLength);
+      scores.merge(document.id, idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+    }
+  }
+
+  private List<Map.Entry<String, Map<Long, Integer>>> expand(QueryTerm term) {
+    if (!term.prefix) {
+      Map<Long, Integer> posting = postings.get(term.text);
+      return posting == null ? List.of() : List.of(Map.entry(term.text, posting));
+    }
+    List<Map.Entry<String, Map<Long, Integer>>> expanded = new ArrayList<>();
+    for (Map.Entry<String, Map<Long, Integer>> entry
+        : postings.subMap(term.text, true, term.text + Character.MAX_VALUE, false).entrySet()) {
+      expanded.add(entry);
+      if (expanded.size() == MAX_PREFIX_EXPANSIONS) {
+        break;
+      }
+    }
+    return expanded;
+  }
+
+  private ProblemSearchResponse toResponse(Map<Long, Double> scores, int limit) {
+    Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+    facets.put(FACET_DIFFICULTY, new TreeMap<>());
+    facets.put(FACET_CATEGORY, new TreeMap<>());
+    facets.put(FACET_TECH_STACK, new TreeMap<>());
+    List<IndexedProblem> matches = new ArrayList<>(scores.size());
+    for (Long id : scores.keySet()) {
+      IndexedProblem document = documents.get(id);
+      matches.add(document);
+      facets.get(FACET_DIFFICULTY).merge(document.difficulty, 1, Integer::sum);
+      facets.get(FACET_CATEGORY).merge(document.category, 1, Integer::sum);
+      facets.get(FACET_TECH_STACK).merge(document.primaryTechStack, 1, Integer::sum);
+    }
+    matches.sort(Comparator.<IndexedProblem>comparingDouble(d -> -scores.get(d.id))
+        .thenComparing(d -> d.title));
+
+    List<ProblemSearchHit> hits = new ArrayList<>(Math.min(limit, matches.size()));
+    for (IndexedProblem document : matches.subList(0, Math.min(limit, matches.size()))) {
+      hits.add(ProblemSearchHit.builder()
+          .problemId(document.id)
+          .title(document.title)
+          .difficulty(document.difficulty)
+          .category(document.category)
+          .primaryTechStack(document.primaryTechStack)
+          .score(scores.get(document.id))
+          .build());
+    }
+    return ProblemSearchResponse.builder()
+        .totalHits(matches.size())
+        .hits(hits)
+        .facets(facets)
+        .build();
+  }
+
+  private void removeLocked(Long problemId) {
+    IndexedProblem previous = documents.remove(problemId);
+    if (previous == null) {
+      return;
+    }
+    totalLength -= previous.length;
+    for (String term : previous.termFrequencies.keySet()) {
+      Map<Long, Integer> posting = postings.get(term);
+      posting.remove(problemId);
+      if (posting.isEmpty()) {
+        postings.remove(term);
+      }
+    }
+  }
+
+  private static List<QueryTerm> parse(String query) {
+    List<QueryTerm> terms = new ArrayList<>();
+    if (query == null) {
+      return terms;
+    }
+    for (String word : query.trim().split("\\s+")) {
+      List<String> tokens = Tokenizer.tokenize(word);
+      for (int i = 0; i < tokens.size(); i++) {
+        boolean prefix = i == tokens.size() - 1 && word.endsWith("*");
+        terms.add(new QueryTerm(tokens.get(i), prefix));
+      }
+    }
+    return terms;
+  }
+
+  private record QueryTerm(String text, boolean prefix) {
+  }
+
+  private static final class IndexedProblem {
+
+    private final Long id;
+
+    private final String title;
+
+    private final String difficulty;
+
+    private final String category;
+
+    private final String primaryTechStack;
+
+    private final Map<String, Integer> termFrequencies;
+
+    private final int length;
+
+    private IndexedProblem(Problem problem, Map<String, Integer> termFrequencies, int length) {
+      this.id = problem.getId();
+      this.title = problem.getTitle();
+      this.difficulty = problem.getDifficulty();
+      this.category = problem.getCategory();
+      this.primaryTechStack = problem.getPrimaryTechStack();
+      this.termFrequencies = termFrequencies;
+      this.length = length;
+    }
+
+    static IndexedProblem of(Problem problem) {
+      Map<String, Integer> frequencies = new HashMap<>();
+      int length = 0;
+      for (String term : Tokenizer.tokenize(problem.getTitle())) {
+        frequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+        length += TITLE_WEIGHT;
+      }
+      for (String field : List.of(Objects.toString(problem.getDescription(), ""),
+          Objects.toString(problem.getSolutionApproach(), ""),
+          Objects.toString(problem.getCategory(), ""),
+          Objects.toString(problem.getPrimaryTechStack(), ""))) {
+        for (String term : Tokenizer.tokenize(field)) {
+          frequencies.merge(term, 1, Integer::sum);
+          length++;
+        }
+      }
+      return new IndexedProblem(problem, frequencies, length);
+    }
+
+    boolean matches(String difficultyFilter, String categoryFilter, String techStackFilter) {
+      return (difficultyFilter == null || difficultyFilter.equalsIgnoreCase(difficulty))
+          && (categoryFilter == null || categoryFilter.equalsIgnoreCase(category))
+          && (techStackFilter == null || techStackFilter.equalsIgnoreCase(primaryTechStack));
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package com.interviewsystem.service.search;
+
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.dto.ProblemSearchResponse;
+import com.interviewsystem.entity.Problem;
+import com.interviewsystem.event.ChangeType;
+import com.interviewsystem.event.EntityChangedEvent;
+import com.interviewsystem.repository.ProblemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keyword search over the problem catalog backed by an embedded {@link ProblemSearchIndex}.
+ *
+ * <p>The index is loaded once the application is ready and updated incrementally from committed
+ * {@link Problem} changes.
+ */
+@Slf4j
+@Service
+@ConditionalOnRole(DeploymentRole.API)
+public class ProblemSearchService {
+
+  private final ProblemRepository problemRepository;
+
+  private final ProblemSearchIndex index = new ProblemSearchIndex();
+
+  public ProblemSearchService(ProblemRepository problemRepository) {
+    this.problemRepository = problemRepository;
+  }
+
+  /**
+   * Rebuild the index from every problem in the database.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public void rebuild() {
+    index.reindex(problemRepository.findAll());
+    log.info("Indexed {} problems for search", index.size());
+  }
+
+  /**
+   * Apply a committed problem change to the index.
+   *
+   * @param event the problem change
+   */
+  @TransactionalEventListener
+  public void onProblemChanged(EntityChangedEvent<Problem> event) {
+    if (event.getChangeType() == ChangeType.DELETED) {
+      index.remove(event.getEntity().getId());
+    } else {
+      index.index(event.getEntity());
+    }
+  }
+
+  /**
+   * Search problems by keyword with optional facet filters.
+   *
+   * @param query the free-text query; words ending in {@code *} are prefix matches
+   * @param difficulty optional difficulty filter
+   * @param category optional category filter
+   * @param primaryTechStack optional tech stack filter
+   * @param limit the maximum number of hits to return
+   * @return the ranked hits and facet counts
+   */
+  public ProblemSearchResponse search(String query, String difficulty, String category,
+      String primaryTechStack, int limit) {
+    return index.search(query, difficulty, category, primaryTechStack, limit);
+  }
+}
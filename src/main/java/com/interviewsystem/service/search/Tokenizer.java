@@ -0,0 +1,51 @@
+package com.interviewsystem.service.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Splits free text into lower-cased index terms, dropping punctuation and common English stop
+ * words.
+ */
+final class Tokenizer {
+
+  private static final Set<String> STOP_WORDS = Set.of(
+      "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it", "of",
+      "on", "or", "that", "the", "this", "to", "with");
+
+  private Tokenizer() {
+  }
+
+  /**
+   * Tokenize text into index terms.
+   *
+   * @param text the text to tokenize, may be null
+   * @return the terms in order of appearance
+   */
+  static List<String> tokenize(String text) {
+    List<String> terms = new ArrayList<>();
+    if (text == null) {
+      return terms;
+    }
+    int start = -1;
+    for (int i = 0; i <= text.length(); i++) {
+      boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+      if (wordChar && start < 0) {
+        start = i;
+      } else if (!wordChar && start >= 0) {
+        addTerm(terms, text.substring(start, i));
+        start = -1;
+      }
+    }
+    return terms;
+  }
+
+  private static void addTerm(List<String> terms, String token) {
+    String term = token.toLowerCase(Locale.ROOT);
+    if (!STOP_WORDS.contains(term)) {
+      terms.add(term);
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package com.interviewsystem.service.similarity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Locality-sensitive hashing index over MinHash signatures for the submissions of one problem.
+ *
+ * <p>Signatures are split into {@link #BANDS} bands of {@link #ROWS} rows; two submissions become
+ * candidates when any band hashes identically. With 16 bands of 8 rows, a pair at Jaccard 0.8 is a
+ * candidate with probability about 0.95 while a pair at 0.4 almost never is, so a query inspects
+ * only a small bucket population instead of every submission. Candidates are then filtered by
+ * their estimated similarity. All methods are synchronized.
+ */
+class LshIndex {
+
+  static final int BANDS = 16;
+
+  static final int ROWS = MinHasher.SIGNATURE_LENGTH / BANDS;
+
+  private final Map<Long, int[]> signatures = new HashMap<>();
+
+  private final List<Map<Integer, List<Long>>> buckets = new ArrayList<>(BANDS);
+
+  LshIndex() {
+    for (int band = 0; band < BANDS; band++) {
+      buckets.add(new HashMap<>());
+    }
+  }
+
+  synchronized void add(Long submissionId, int[] signature) {
+    remove(submissionId);
+    signatures.put(submissionId, signature);
+    for (int band = 0; band < BANDS; band++) {
+      buckets.get(band).computeIfAbsent(bandHash(signature, band), h -> new ArrayList<>())
+          .add(submissionId);
+    }
+  }
+
+  synchronized void remove(Long submissionId) {
+    int[] signature = signatures.remove(submissionId);
+    if (signature == null) {
+      return;
+    }
+    for (int band = 0; band < BANDS; band++) {
+      Map<Integer, List<Long>> bandBuckets = buckets.get(band);
+      int hash = bandHash(signature, band);
+      List<Long> bucket = bandBuckets.get(hash);
+      bucket.remove(submissionId);
+      if (bucket.isEmpty()) {
+        bandBuckets.remove(hash);
+      }
+    }
+  }
+
+  /**
+   * Find submissions whose estimated similarity to the given one meets the threshold.
+   *
+   * @param submissionId the submission to compare against
+   * @param threshold the minimum estimated Jaccard similarity
+   * @return matching submission IDs with their estimated similarity, most similar first
+   */
+  synchronized List<Map.Entry<Long, Double>> findSimilar(Long submissionId, double threshold) {
+    int[] signature = signatures.get(submissionId);
+    if (signature == null) {
+      return List.of();
+    }
+    Set<Long> candidates = new HashSet<>();
+    for (int band = 0; band < BANDS; band++) {
+      candidates.addAll(buckets.get(band).getOrDefault(bandHash(signature, band), List.of()));
+    }
+    candidates.remove(submissionId);
+    List<Map.Entry<Long, Double>> matches = new ArrayList<>();
+    for (Long candidate : candidates) {
+      double similarity = MinHasher.similarity(signature, signatures.get(candidate));
+      if (similarity >= threshold) {
+        matches.add(Map.entry(candidate, similarity));
+      }
+    }
+    matches.sort(Map.Entry.<Long, Double>comparingByValue().reversed()
+        .thenComparing(Map.Entry.comparingByKey()));
+    return matches;
+  }
+
+  synchronized int size() {
+    return signatures.size();
+  }
+
+  private static int bandHash(int[] signature, int band) {
+    return Arrays.hashCode(Arrays.copyOfRange(signature, band * ROWS, (band + 1) * ROWS));
+  }
+}
@@ -0,0 +1,88 @@
+package com.interviewsystem.service.similarity;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Computes MinHash signatures over k-token shingles of normalized source.
+ *
+ * <p>The hash seeds come from a fixed-seed generator, so signatures persisted in
+ * {@code submission_fingerprint} remain comparable across restarts. Changing
+ * {@link #SIGNATURE_LENGTH}, {@link #SHINGLE_SIZE} or the seed invalidates stored signatures.
+ */
+final class MinHasher {
+
+  static final int SIGNATURE_LENGTH = 128;
+
+  static final int SHINGLE_SIZE = 5;
+
+  private static final long[] SEEDS = new SplittableRandom(0x5EEDL)
+      .longs(SIGNATURE_LENGTH)
+      .toArray();
+
+  private MinHasher() {
+  }
+
+  /**
+   * Compute the MinHash signature of a token stream.
+   *
+   * @param tokens the normalized tokens
+   * @return the signature, {@link #SIGNATURE_LENGTH} values long
+   */
+  static int[] signature(List<String> tokens) {
+    int[] signature = new int[SIGNATURE_LENGTH];
+    Arrays.fill(signature, Integer.MAX_VALUE);
+    int shingles = Math.max(1, tokens.size() - SHINGLE_SIZE + 1);
+    for (int start = 0; start < shingles; start++) {
+      long shingle = 0;
+      for (int j = start; j < Math.min(start + SHINGLE_SIZE, tokens.size()); j++) {
+        shingle = shingle * 31 + tokens.get(j).hashCode();
+      }
+      for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+        int value = (int) (mix(shingle ^ SEEDS[i]) >>> 33);
+        if (value < signature[i]) {
+          signature[i] = value;
+        }
+      }
+    }
+    return signature;
+  }
+
+  /**
+   * Estimate the Jaccard similarity of two shingle sets from their signatures.
+   *
+   * @param a the first signature
+   * @param b the second signature
+   * @return the fraction of matching signature positions
+   */
+  static double similarity(int[] a, int[] b) {
+    int matches = 0;
+    for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+      if (a[i] == b[i]) {
+        matches++;
+      }
+    }
+    return (double) matches / SIGNATURE_LENGTH;
+  }
+
+  static byte[] toBytes(int[] signature) {
+    ByteBuffer buffer = ByteBuffer.allocate(signature.length * Integer.BYTES);
+    buffer.asIntBuffer().put(signature);
+    return buffer.array();
+  }
+
+  static int[] fromBytes(byte[] bytes) {
+    int[] signature = new int[bytes.length / Integer.BYTES];
+    ByteBuffer.wrap(bytes).asIntBuffer().get(signature);
+    return signature;
+  }
+
+  private static long mix(long value) {
+    long z = value;
+    z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+    z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+    return z ^ (z >>> 33);
+  }
+}
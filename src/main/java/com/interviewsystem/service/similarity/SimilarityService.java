@@ -0,0 +1,220 @@
+package com.interviewsystem.service.similarity;
+
+import com.interviewsystem.config.ConditionalOnRole;
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.dto.SimilarSubmission;
+import com.interviewsystem.entity.Submission;
+import com.interviewsystem.entity.SubmissionFingerprint;
+import com.interviewsystem.event.ChangeType;
+import com.interviewsystem.event.EntityChangedEvent;
+import com.interviewsystem.exception.ResourceNotFoundException;
+import com.interviewsystem.repository.SubmissionFingerprintRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Detects near-duplicate submissions to the same problem with MinHash signatures and LSH.
+ *
+ * <p>New submissions are normalized, fingerprinted and stored in {@code submission_fingerprint}
+ * once their transaction commits, all of a transaction's submissions together in one further
+ * transaction, so a batch ingest costs one extra transaction rather than one per item. A
+ * problem's {@link LshIndex} is loaded from stored fingerprints the first time that problem is
+ * queried and kept current from then on, so memory is only spent on problems that are actually
+ * being reviewed. Submission source is treated as immutable, so updates do not recompute
+ * fingerprints.
+ */
+@Slf4j
+@Service
+@ConditionalOnRole(DeploymentRole.API)
+public class SimilarityService {
+
+  private static final int BACKFILL_BATCH_SIZE = 200;
+
+  private static final int MAX_BACKFILL_CONFLICTS = 5;
+
+  private final SubmissionFingerprintRepository fingerprintRepository;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final TransactionTemplate afterCommit;
+
+  private final ConcurrentMap<Long, LshIndex> indexesByProblem = new ConcurrentHashMap<>();
+
+  public SimilarityService(SubmissionFingerprintRepository fingerprintRepository,
+      PlatformTransactionManager transactionManager) {
+    this.fingerprintRepository = fingerprintRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.afterCommit = new TransactionTemplate(transactionManager);
+    this.afterCommit.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /**
+   * Fingerprint any submissions stored before fingerprinting was enabled.
+   *
+   * <p>Every API node runs this on startup. When another node stores a fingerprint of the same
+   * batch first, the batch rolls back and is read again without the submissions now covered; after
+   * repeated conflicts the remainder is left to the other nodes.
+   *
+   * @return the number of submissions fingerprinted
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public int backfill() {
+    int total = 0;
+    int conflicts = 0;
+    int batch = BACKFILL_BATCH_SIZE;
+    while (batch == BACKFILL_BATCH_SIZE) {
+      try {
+        batch = transactionTemplate.execute(status -> {
+          List<SubmissionFingerprint> fingerprints = new ArrayList<>();
+          for (Submission submission : fingerprintRepository.findSubmissionsWithoutFingerprint(
+              PageRequest.of(0, BACKFILL_BATCH_SIZE))) {
+            fingerprints.add(fingerprint(submission));
+          }
+          fingerprintRepository.saveAll(fingerprints);
+          return fingerprints.size();
+        });
+        total += batch;
+      } catch (DataIntegrityViolationException e) {
+        if (++conflicts >= MAX_BACKFILL_CONFLICTS) {
+          log.warn("Stopped fingerprint backfill after {} conflicts with concurrent writers",
+              conflicts, e);
+          break;
+        }
+        log.debug("Fingerprint backfill batch conflicted with a concurrent writer, retrying", e);
+      }
+    }
+    if (total > 0) {
+      log.info("Backfilled MinHash fingerprints for {} submissions", total);
+    }
+    return total;
+  }
+
+  /**
+   * Collect the submissions created in the current transaction, to be fingerprinted together
+   * once it commits.
+   *
+   * @param event the submission change
+   */
+  @EventListener
+  public void onSubmissionChanged(EntityChangedEvent<Submission> event) {
+    if (event.isRemote() || event.getChangeType() != ChangeType.CREATED
+        || !TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    created().add(event.getEntity());
+  }
+
+  /**
+   * Drop committed removals from loaded indexes. Submissions committed by another process are
+   * already fingerprinted, so the index of their problem is reloaded on next use.
+   *
+   * @param event the submission change
+   */
+  @TransactionalEventListener
+  public void afterSubmissionChanged(EntityChangedEvent<Submission> event) {
+    Submission submission = event.getEntity();
+    if (event.isRemote()) {
+      // The committing process stored the fingerprint; reload the problem's index lazily.
+      indexesByProblem.remove(submission.getProblem().getId());
+    } else if (event.getChangeType() == ChangeType.DELETED) {
+      indexesByProblem.values().forEach(index -> index.remove(submission.getId()));
+    }
+  }
+
+  /**
+   * Find submissions to the same problem whose normalized source is similar to a submission.
+   *
+   * @param submissionId the ID of the reference submission
+   * @param threshold the minimum estimated Jaccard similarity, between 0 and 1
+   * @return similar submissions, most similar first
+   */
+  @Transactional(readOnly = true)
+  public List<SimilarSubmission> findSimilar(Long submissionId, double threshold) {
+    SubmissionFingerprint fingerprint = fingerprintRepository.findById(submissionId)
+        .orElseThrow(() -> new ResourceNotFoundException(
+            "No fingerprint for submission " + submissionId));
+    LshIndex index = indexesByProblem.computeIfAbsent(fingerprint.getProblemId(), this::load);
+    List<SimilarSubmission> similar = new ArrayList<>();
+    for (Map.Entry<Long, Double> match : index.findSimilar(submissionId, threshold)) {
+      similar.add(SimilarSubmission.builder()
+          .submissionId(match.getKey())
+          .similarity(match.getValue())
+          .build());
+    }
+    return similar;
+  }
+
+  /**
+   * The submissions created so far in the current transaction, registering their fingerprinting
+   * after commit on first use.
+   */
+  private List<Submission> created() {
+    @SuppressWarnings("unchecked")
+    List<Submission> pending =
+        (List<Submission>) TransactionSynchronizationManager.getResource(this);
+    if (pending == null) {
+      List<Submission> submissions = new ArrayList<>();
+      pending = submissions;
+      TransactionSynchronizationManager.bindResource(this, submissions);
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          store(submissions);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+          TransactionSynchronizationManager.unbindResourceIfPossible(SimilarityService.this);
+        }
+      });
+    }
+    return pending;
+  }
+
+  private void store(List<Submission> submissions) {
+    List<SubmissionFingerprint> fingerprints = submissions.stream()
+        .map(SimilarityService::fingerprint)
+        .toList();
+    afterCommit.executeWithoutResult(status -> fingerprintRepository.saveAll(fingerprints));
+    for (SubmissionFingerprint fingerprint : fingerprints) {
+      indexesByProblem.computeIfPresent(fingerprint.getProblemId(), (id, index) -> {
+        index.add(fingerprint.getSubmissionId(), MinHasher.fromBytes(fingerprint.getSignature()));
+        return index;
+      });
+    }
+  }
+
+  private LshIndex load(Long problemId) {
+    LshIndex index = new LshIndex();
+    for (SubmissionFingerprint fingerprint : fingerprintRepository.findByProblemId(problemId)) {
+      index.add(fingerprint.getSubmissionId(), MinHasher.fromBytes(fingerprint.getSignature()));
+    }
+    log.debug("Loaded LSH index for problem {} with {} submissions", problemId, index.size());
+    return index;
+  }
+
+  private static SubmissionFingerprint fingerprint(Submission submission) {
+    int[] signature = MinHasher.signature(SourceNormalizer.normalize(submission.getCodeContent()));
+    return SubmissionFingerprint.builder()
+        .submissionId(submission.getId())
+        .problemId(submission.getProblem().getId())
+        .signature(MinHasher.toBytes(signature))
+        .build();
+  }
+}
@@ -0,0 +1,92 @@
+package com.interviewsystem.service.similarity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Lexes Java or TypeScript source into a normalized token stream for similarity detection.
+ *
+ * <p>Comments and whitespace are dropped, identifiers collapse to {@code ID}, string literals to
+ * {@code STR} and numeric literals to {@code NUM}. Keywords and operators are kept, so renaming
+ * variables or reformatting code does not change the token stream while control flow does.
+ */
+final class SourceNormalizer {
+
+  private static final Set<String> KEYWORDS = Set.of(
+      "abstract", "any", "as", "async", "await", "boolean", "break", "byte", "case", "catch",
+      "char", "class", "const", "constructor", "continue", "default", "delete", "do", "double",
+      "else", "enum", "export", "extends", "false", "final", "finally", "float", "for",
+      "function", "if", "implements", "import", "in", "instanceof", "int", "interface", "let",
+      "long", "new", "null", "number", "of", "private", "protected", "public", "readonly",
+      "return", "short", "static", "string", "super", "switch", "synchronized", "this", "throw",
+      "throws", "true", "try", "type", "typeof", "undefined", "var", "void", "while", "yield");
+
+  private SourceNormalizer() {
+  }
+
+  /**
+   * Normalize source code into tokens.
+   *
+   * @param source the source code
+   * @return the normalized tokens
+   */
+  static List<String> normalize(String source) {
+    List<String> tokens = new ArrayList<>();
+    if (source == null) {
+      return tokens;
+    }
+    int length = source.length();
+    int i = 0;
+    while (i < length) {
+      char c = source.charAt(i);
+      if (Character.isWhitespace(c)) {
+        i++;
+      } else if (source.startsWith("//", i)) {
+        i = skipTo(source, i + 2, "\n");
+      } else if (source.startsWith("/*", i)) {
+        i = skipTo(source, i + 2, "*/");
+      } else if (c == '"' || c == '\'' || c == '`') {
+        i = skipString(source, i + 1, c);
+        tokens.add("STR");
+      } else if (Character.isDigit(c)) {
+        while (i < length && (Character.isLetterOrDigit(source.charAt(i))
+            || source.charAt(i) == '.' || source.charAt(i) == '_')) {
+          i++;
+        }
+        tokens.add("NUM");
+      } else if (Character.isJavaIdentifierStart(c)) {
+        int start = i;
+        while (i < length && Character.isJavaIdentifierPart(source.charAt(i))) {
+          i++;
+        }
+        String word = source.substring(start, i);
+        tokens.add(KEYWORDS.contains(word) ? word : "ID");
+      } else {
+        tokens.add(String.valueOf(c));
+        i++;
+      }
+    }
+    return tokens;
+  }
+
+  private static int skipTo(String source, int from, String terminator) {
+    int end = source.indexOf(terminator, from);
+    return end < 0 ? source.length() : end + terminator.length();
+  }
+
+  private static int skipString(String source, int from, char quote) {
+    int i = from;
+    while (i < source.length()) {
+      char c = source.charAt(i);
+      if (c == '\\') {
+        i += 2;
+      } else if (c == quote) {
+        return i + 1;
+      } else {
+        i++;
+      }
+    }
+    return source.length();
+  }
+}
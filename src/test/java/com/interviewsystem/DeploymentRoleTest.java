@@ -0,0 +1,64 @@
+package com.interviewsystem;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.interviewsystem.config.DeploymentRole;
+import com.interviewsystem.service.evaluation.EvaluationPipeline;
+import com.interviewsystem.service.evaluation.PipelineMetrics;
+import com.interviewsystem.service.leaderboard.LeaderboardService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Smoke tests starting the application once per deployment role.
+ */
+@DisplayName("Deployment Role Tests")
+class DeploymentRoleTest {
+
+  @Test
+  @DisplayName("API role should serve HTTP without the evaluation pipeline")
+  void testApiRole() {
+    try (ConfigurableApplicationContext context = start(DeploymentRole.API)) {
+      assertInstanceOf(WebServerApplicationContext.class, context);
+      assertFalse(context.getBeansWithAnnotation(RestController.class).isEmpty());
+      assertEquals(1, context.getBeanNamesForType(LeaderboardService.class).length);
+      assertEquals(0, context.getBeanNamesForType(EvaluationPipeline.class).length);
+      assertEquals(1, context.getBeanNamesForType(PipelineMetrics.class).length);
+    }
+  }
+
+  @Test
+  @DisplayName("Worker role should run the pipeline without a web server or read models")
+  void testWorkerRole() {
+    try (ConfigurableApplicationContext context = start(DeploymentRole.WORKER)) {
+      assertFalse(context instanceof WebServerApplicationContext);
+      assertTrue(context.getBeansWithAnnotation(RestController.class).isEmpty());
+      assertEquals(0, context.getBeanNamesForType(LeaderboardService.class).length);
+      assertEquals(1, context.getBeanNamesForType(EvaluationPipeline.class).length);
+      assertEquals(1, context.getBeanNamesForType(PipelineMetrics.class).length);
+    }
+  }
+
+  @Test
+  @DisplayName("All role should load both tiers")
+  void testAllRole() {
+    try (ConfigurableApplicationContext context = start(DeploymentRole.ALL)) {
+      assertInstanceOf(WebServerApplicationContext.class, context);
+      assertFalse(context.getBeansWithAnnotation(RestController.class).isEmpty());
+      assertEquals(1, context.getBeanNamesForType(LeaderboardService.class).length);
+      assertEquals(1, context.getBeanNamesForType(EvaluationPipeline.class).length);
+    }
+  }
+
+  private ConfigurableApplicationContext start(DeploymentRole role) {
+    return new SpringApplicationBuilder(InterviewSystemApplication.class)
+        .profiles("test")
+        .run("--interview.role=" + role.name().toLowerCase(),
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:role-" + role.name().toLowerCase());
+  }
+}
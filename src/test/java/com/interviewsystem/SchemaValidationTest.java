@@ -0,0 +1,121 @@
+package com.interviewsystem;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.interviewsystem.dto.CandidateImportResult;
+import com.interviewsystem.service.importer.CandidateImportService;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import liquibase.parser.ChangeLogParserFactory;
+import org.hibernate.dialect.H2Dialect;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Builds the schema from the Liquibase changelog instead of from the entities, then has Hibernate
+ * validate the mappings against it.
+ *
+ * <p>The other integration tests let Hibernate create the schema, which hides column types in the
+ * changelog that do not match the entities. H2 runs in PostgreSQL mode; changesets limited to
+ * {@code dbms="postgresql"} are skipped, and {@code TEXT} columns, which H2 stores as
+ * {@code CLOB}, are accepted where the entities expect PostgreSQL's {@code text}. XSD validation
+ * of the changelog files is off, since the changelogs reference a newer schema version than the
+ * Liquibase library bundles and remote lookups are not allowed.
+ *
+ * <p>Writes that bypass Hibernate, such as the candidate import's upsert, are checked here too,
+ * since they depend on column defaults that only the changelog defines.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:schema-validation;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+        + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+    "spring.autoconfigure.exclude=",
+    "spring.liquibase.enabled=true",
+    "spring.jpa.hibernate.ddl-auto=validate",
+    "spring.jpa.properties.hibernate.dialect="
+        + "com.interviewsystem.SchemaValidationTest$PostgresTextH2Dialect"})
+@ActiveProfiles("test")
+@DisplayName("Schema Validation Tests")
+class SchemaValidationTest {
+
+  private static final String VALIDATE_XML = "liquibase.validateXmlChangelogFiles";
+
+  static {
+    System.setProperty(VALIDATE_XML, "false");
+    // The XML parser reads the setting when it is created and is cached across contexts.
+    ChangeLogParserFactory.reset();
+  }
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private JdbcTemplate jdbc;
+
+  @Autowired
+  private CandidateImportService importService;
+
+  /**
+   * H2 dialect that treats H2's {@code CLOB} as equivalent to {@code VARCHAR}, as PostgreSQL's
+   * {@code text} is.
+   */
+  public static class PostgresTextH2Dialect extends H2Dialect {
+
+    @Override
+    public boolean equivalentTypes(int typeCode1, int typeCode2) {
+      return super.equivalentTypes(typeCode1, typeCode2)
+          || isText(typeCode1) && isText(typeCode2);
+    }
+
+    private static boolean isText(int typeCode) {
+      return typeCode == Types.VARCHAR || typeCode == Types.LONGVARCHAR || typeCode == Types.CLOB;
+    }
+  }
+
+  @AfterAll
+  static void restoreXmlValidation() {
+    System.clearProperty(VALIDATE_XML);
+    ChangeLogParserFactory.reset();
+  }
+
+  @Test
+  @DisplayName("Should validate every entity against the schema built by the changelog")
+  void testChangelogMatchesEntities() {
+    // Assert: the context only starts if Hibernate validated the schema
+    assertTrue(entityManagerFactory.isOpen());
+    assertEquals(Integer.valueOf(0), jdbc.queryForObject(
+        "select count(*) from databasechangelog where exectype <> 'EXECUTED'"
+            + " and exectype <> 'SKIPPED'", Integer.class));
+  }
+
+  @Test
+  @DisplayName("Should assign IDs to candidates created by the import's upsert")
+  void testImportCreatesCandidates() throws IOException {
+    // Arrange
+    String csv = "email,first_name,last_name\n"
+        + "schema-1@example.com,Grace,Hopper\n"
+        + "schema-2@example.com,Alan,Turing\n";
+
+    // Act
+    CandidateImportResult result = importService.importCsv(
+        new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+    // Assert
+    try {
+      assertEquals(2, result.getCreated());
+      assertEquals(0, result.getRejected());
+      assertEquals(Integer.valueOf(2), jdbc.queryForObject(
+          "select count(distinct id) from candidate where email like 'schema-%'",
+          Integer.class));
+    } finally {
+      jdbc.update("delete from candidate where email like 'schema-%'");
+    }
+  }
+}
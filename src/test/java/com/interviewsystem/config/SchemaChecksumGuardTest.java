@@ -0,0 +1,117 @@
+package com.interviewsystem.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import com.interviewsystem.service.evaluation.EvaluationPipeline;
+import com.interviewsystem.service.export.BulkExportService;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.HashMap;
+import java.util.Map;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * Unit tests for the startup schema checksum guard and the lazy-initialization exclusions.
+ */
+@DisplayName("Startup Optimization Tests")
+class SchemaChecksumGuardTest {
+
+  private DriverManagerDataSource dataSource;
+
+  private JdbcTemplate jdbc;
+
+  @BeforeEach
+  void setUp() {
+    dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:checksum-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    jdbc = new JdbcTemplate(dataSource);
+  }
+
+  @Test
+  @DisplayName("Should run migrations and store the checksum when none is stored")
+  void firstStartStoresChecksum() {
+    // Arrange
+    createChecksumTable();
+
+    // Act
+    Map<String, Object> hibernate = start();
+
+    // Assert
+    assertFalse(hibernate.containsKey("hibernate.hbm2ddl.auto"));
+    assertEquals(SchemaChecksumGuard.computeChecksum(), jdbc.queryForObject(
+        "select checksum from schema_checksum where id = 1", String.class));
+  }
+
+  @Test
+  @DisplayName("Should skip schema validation when the checksum is unchanged")
+  void unchangedChecksumSkipsValidation() {
+    // Arrange
+    createChecksumTable();
+    start();
+
+    // Act
+    Map<String, Object> hibernate = start();
+
+    // Assert
+    assertEquals("none", hibernate.get("hibernate.hbm2ddl.auto"));
+  }
+
+  @Test
+  @DisplayName("Should replace a stale checksum after migrating")
+  void staleChecksumIsReplaced() {
+    // Arrange
+    createChecksumTable();
+    jdbc.update("insert into schema_checksum (id, checksum) values (1, 'stale')");
+
+    // Act
+    Map<String, Object> hibernate = start();
+
+    // Assert
+    assertFalse(hibernate.containsKey("hibernate.hbm2ddl.auto"));
+    assertEquals(SchemaChecksumGuard.computeChecksum(), jdbc.queryForObject(
+        "select checksum from schema_checksum where id = 1", String.class));
+  }
+
+  @Test
+  @DisplayName("Should take the normal path when the checksum table does not exist")
+  void missingTableRunsMigrations() {
+    // Act
+    Map<String, Object> hibernate = start();
+
+    // Assert
+    assertFalse(hibernate.containsKey("hibernate.hbm2ddl.auto"));
+  }
+
+  @Test
+  @DisplayName("Should keep scheduled and event-driven beans eager")
+  void backgroundBeansStayEager() {
+    assertTrue(LazyInitializationConfig.hasBackgroundWork(EvaluationPipeline.class));
+    assertFalse(LazyInitializationConfig.hasBackgroundWork(BulkExportService.class));
+  }
+
+  private void createChecksumTable() {
+    jdbc.execute("create table schema_checksum (id int primary key, checksum varchar(64) not null, "
+        + "updated_at timestamp default current_timestamp)");
+  }
+
+  /**
+   * Drive the guard through one application start: Liquibase, then the entity manager factory.
+   */
+  private Map<String, Object> start() {
+    SchemaChecksumGuard guard = new SchemaChecksumGuard();
+    guard.setEnvironment(new MockEnvironment());
+    SpringLiquibase liquibase = new SpringLiquibase();
+    liquibase.setDataSource(dataSource);
+    guard.postProcessBeforeInitialization(liquibase, "liquibase");
+    Map<String, Object> hibernate = new HashMap<>();
+    guard.customize(hibernate);
+    guard.postProcessAfterInitialization(mock(EntityManagerFactory.class), "entityManagerFactory");
+    return hibernate;
+  }
+}
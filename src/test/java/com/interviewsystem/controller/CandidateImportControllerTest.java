@@ -0,0 +1,86 @@
+package com.interviewsystem.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewsystem.repository.CandidateRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Integration tests for the bulk candidate import endpoints.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Candidate Import Controller Tests")
+class CandidateImportControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ObjectMapper jsonMapper;
+
+  @Autowired
+  private CandidateRepository candidateRepository;
+
+  @AfterEach
+  void tearDown() {
+    candidateRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Should import a CSV body and serve its error report as an attachment")
+  void testImportAndDownloadErrors() throws Exception {
+    // Arrange
+    String csv = "email,first_name,last_name\n"
+        + "ada@example.com,Ada,Lovelace\n"
+        + "broken,Charles,Babbage\n";
+
+    // Act
+    MvcResult result = mockMvc.perform(post("/api/candidates/import")
+            .contentType(CandidateImportController.TEXT_CSV_VALUE)
+            .content(csv))
+        .andExpect(status().isOk())
+        .andReturn();
+    JsonNode body = jsonMapper.readTree(result.getResponse().getContentAsString());
+    MvcResult report = mockMvc.perform(get(body.get("errorReport").asText()))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Content-Disposition",
+            "attachment; filename=\"candidate-import-" + body.get("importId").asText()
+                + "-errors.csv\""))
+        .andReturn();
+
+    // Assert
+    assertEquals(1, body.get("created").asInt());
+    assertEquals(1, body.get("rejected").asInt());
+    assertTrue(candidateRepository.existsByEmail("ada@example.com"));
+    assertEquals("line,email,error\n3,broken,Email should be valid\n",
+        report.getResponse().getContentAsString());
+  }
+
+  @Test
+  @DisplayName("Should answer 400 for a bad header and 404 for an unknown report")
+  void testErrors() throws Exception {
+    // Act & Assert
+    mockMvc.perform(post("/api/candidates/import")
+            .contentType(CandidateImportController.TEXT_CSV_VALUE)
+            .content("name\nAda\n"))
+        .andExpect(status().isBadRequest());
+    mockMvc.perform(get("/api/candidates/import/{importId}/errors", "unknown"))
+        .andExpect(status().isNotFound());
+  }
+}
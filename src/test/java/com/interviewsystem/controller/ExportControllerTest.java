@@ -0,0 +1,155 @@
+package com.interviewsystem.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewsystem.dto.SubmissionBatchRequest;
+import com.interviewsystem.dto.SubmissionExport;
+import com.interviewsystem.dto.SubmissionRequest;
+import com.interviewsystem.entity.Candidate;
+import com.interviewsystem.entity.Problem;
+import com.interviewsystem.entity.Submission;
+import com.interviewsystem.repository.CandidateRepository;
+import com.interviewsystem.repository.ProblemRepository;
+import com.interviewsystem.repository.SubmissionRepository;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Integration tests for JSON/CBOR content negotiation on the bulk endpoints.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Export Controller Tests")
+class ExportControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ObjectMapper jsonMapper;
+
+  @Autowired
+  private MappingJackson2CborHttpMessageConverter cborConverter;
+
+  @Autowired
+  private CandidateRepository candidateRepository;
+
+  @Autowired
+  private ProblemRepository problemRepository;
+
+  @Autowired
+  private SubmissionRepository submissionRepository;
+
+  private Candidate candidate;
+
+  private Problem problem;
+
+  @BeforeEach
+  void setUp() {
+    candidate = candidateRepository.save(Candidate.builder()
+        .email("export@example.com")
+        .firstName("Test")
+        .lastName("Candidate")
+        .build());
+    problem = problemRepository.save(Problem.builder()
+        .title("Export Problem")
+        .description("Ship me")
+        .category("ALGORITHMS")
+        .primaryTechStack("JAVA")
+        .build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    submissionRepository.deleteAll();
+    candidateRepository.deleteAll();
+    problemRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Should stream the same page as JSON or as smaller CBOR")
+  void testExportNegotiation() throws Exception {
+    // Arrange
+    for (int i = 0; i < 20; i++) {
+      submissionRepository.save(Submission.builder()
+          .candidate(candidate)
+          .problem(problem)
+          .codeContent("class Solution { int answer() { return " + i + "; } }")
+          .language("JAVA")
+          .build());
+    }
+
+    // Act
+    byte[] json = export(MediaType.APPLICATION_JSON, "application/json");
+    byte[] cbor = export(MediaType.APPLICATION_CBOR, "application/cbor, application/json;q=0.5");
+
+    // Assert
+    SubmissionExport[] fromJson = jsonMapper.readValue(json, SubmissionExport[].class);
+    SubmissionExport[] fromCbor =
+        cborConverter.getObjectMapper().readValue(cbor, SubmissionExport[].class);
+    assertEquals(10, fromJson.length);
+    assertArrayEquals(fromJson, fromCbor);
+    assertTrue(cbor.length < json.length, "CBOR should be smaller than JSON");
+    assertTrue(fromJson[0].getId() < fromJson[9].getId());
+  }
+
+  @Test
+  @DisplayName("Should accept a CBOR batch ingestion request")
+  void testCborRequestBody() throws Exception {
+    // Arrange
+    SubmissionBatchRequest request = new SubmissionBatchRequest(List.of(SubmissionRequest.builder()
+        .idempotencyKey("cbor-1")
+        .candidateId(candidate.getId())
+        .problemId(problem.getId())
+        .codeContent("class Solution {}")
+        .language("JAVA")
+        .build()));
+    ObjectMapper cborMapper = cborConverter.getObjectMapper();
+
+    // Act
+    MvcResult result = mockMvc.perform(post("/api/submissions/batch")
+            .contentType(MediaType.APPLICATION_CBOR)
+            .accept(MediaType.APPLICATION_CBOR)
+            .content(cborMapper.writeValueAsBytes(request)))
+        .andExpect(status().isOk())
+        .andReturn();
+
+    // Assert
+    JsonNode response = cborMapper.readTree(result.getResponse().getContentAsByteArray());
+    assertEquals(1, response.get("created").asInt());
+  }
+
+  private byte[] export(MediaType expected, String accept) throws Exception {
+    MvcResult started = mockMvc.perform(get("/api/export/submissions")
+            .param("limit", "10")
+            .header("Accept", accept))
+        .andReturn();
+    return mockMvc.perform(asyncDispatch(started))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Content-Type", expected.toString()))
+        .andExpect(header().string(ExportController.SCHEMA_VERSION_HEADER,
+            ExportController.SCHEMA_VERSION))
+        .andReturn()
+        .getResponse()
+        .getContentAsByteArray();
+  }
+}
@@ -0,0 +1,115 @@
+package com.interviewsystem.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.interviewsystem.config.FlightRecorderProperties;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Stream;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for the continuous flight recording and its Actuator endpoint.
+ */
+@DisplayName("Flight Recording Tests")
+class FlightRecordingTest {
+
+  @TempDir
+  Path dumpDirectory;
+
+  @Test
+  @DisplayName("Should dump the ring buffer to a readable file through the endpoint")
+  void testDump() throws Exception {
+    // Arrange
+    FlightRecorderProperties properties = new FlightRecorderProperties();
+    properties.setMaxAge(Duration.ofMinutes(1));
+    properties.setDumpDirectory(dumpDirectory);
+    FlightRecording recording = new FlightRecording(properties);
+    FlightRecorderEndpoint endpoint = new FlightRecorderEndpoint(recording);
+    recording.start();
+    try {
+      // Act
+      Map<String, Object> status = endpoint.recording();
+      Map<String, Object> dumped = endpoint.dump();
+
+      // Assert
+      assertEquals(true, status.get("running"));
+      assertEquals(FlightRecording.RECORDING_NAME, status.get("name"));
+      Path file = Path.of((String) dumped.get("file"));
+      assertEquals(dumpDirectory, file.getParent());
+      assertTrue(Files.size(file) > 0);
+      try (RecordingFile events = new RecordingFile(file)) {
+        assertTrue(events.hasMoreEvents());
+      }
+    } finally {
+      recording.stop();
+    }
+  }
+
+  @Test
+  @DisplayName("Should keep only the newest dumps")
+  void testDumpRetention() throws Exception {
+    // Arrange
+    FlightRecorderProperties properties = new FlightRecorderProperties();
+    properties.setMaxAge(Duration.ofMinutes(1));
+    properties.setDumpDirectory(dumpDirectory);
+    properties.setMaxDumps(2);
+    properties.setMinDumpInterval(Duration.ZERO);
+    FlightRecording recording = new FlightRecording(properties);
+    recording.start();
+    try {
+      // Act
+      Path first = recording.dump();
+      Thread.sleep(5);
+      recording.dump();
+      Thread.sleep(5);
+      Path last = recording.dump();
+
+      // Assert
+      try (Stream<Path> files = Files.list(dumpDirectory)) {
+        assertEquals(2, files.count());
+      }
+      assertFalse(Files.exists(first));
+      assertTrue(Files.exists(last));
+    } finally {
+      recording.stop();
+    }
+  }
+
+  @Test
+  @DisplayName("Should return the previous dump when asked again within the minimum interval")
+  void testDumpThrottled() {
+    // Arrange
+    FlightRecorderProperties properties = new FlightRecorderProperties();
+    properties.setMaxAge(Duration.ofMinutes(1));
+    properties.setDumpDirectory(dumpDirectory);
+    FlightRecording recording = new FlightRecording(properties);
+    recording.start();
+    try {
+      // Act
+      Path first = recording.dump();
+      Path second = recording.dump();
+
+      // Assert
+      assertEquals(first, second);
+    } finally {
+      recording.stop();
+    }
+  }
+
+  @Test
+  @DisplayName("Should refuse to dump when not running")
+  void testDumpWhenStopped() {
+    // Arrange
+    FlightRecording recording = new FlightRecording(new FlightRecorderProperties());
+
+    // Act & Assert
+    assertThrows(IllegalStateException.class, recording::dump);
+    assertFalse(recording.isRunning());
+  }
+}
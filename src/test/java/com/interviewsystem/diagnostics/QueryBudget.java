@@ -0,0 +1,30 @@
+package com.interviewsystem.diagnostics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Fails a test that executes more SQL statements than its budget allows.
+ *
+ * <p>Only statements issued on the test thread while the test method runs are counted, so
+ * {@code @BeforeEach} fixtures do not consume the budget. Placed on a class, the budget applies to
+ * every test method that does not declare its own.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+  /**
+   * Maximum number of statements the test may execute.
+   */
+  int maxStatements();
+
+  /**
+   * Maximum executions of any single statement shape; more is treated as an N+1.
+   */
+  int maxExecutionsPerShape() default 4;
+}
@@ -0,0 +1,57 @@
+package com.interviewsystem.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.interviewsystem.dto.SqlRequestReport;
+import com.interviewsystem.dto.SqlStatementStats;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+/**
+ * JUnit extension behind {@link QueryBudget}: opens a {@link QueryScope} around the test method and
+ * asserts the recorded statements against the budget.
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback,
+    AfterTestExecutionCallback {
+
+  private static final ExtensionContext.Namespace NAMESPACE =
+      ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+  @Override
+  public void beforeTestExecution(ExtensionContext context) {
+    context.getStore(NAMESPACE).put(context.getUniqueId(), QueryScope.open());
+  }
+
+  @Override
+  public void afterTestExecution(ExtensionContext context) {
+    QueryScope scope = context.getStore(NAMESPACE).remove(context.getUniqueId(), QueryScope.class);
+    scope.close();
+    QueryBudget budget = budgetFor(context);
+    SqlRequestReport report = scope.report(context.getDisplayName(),
+        budget.maxExecutionsPerShape() + 1, Integer.MAX_VALUE);
+    assertTrue(report.getStatementCount() <= budget.maxStatements(),
+        () -> "Executed " + report.getStatementCount() + " SQL statements, budget is "
+            + budget.maxStatements() + ":\n" + describe(report));
+    assertTrue(report.getProbableNPlusOne().isEmpty(),
+        () -> "Statement shape executed more than " + budget.maxExecutionsPerShape()
+            + " times (probable N+1):\n" + describe(report));
+  }
+
+  private static QueryBudget budgetFor(ExtensionContext context) {
+    return AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), QueryBudget.class)
+        .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(),
+            QueryBudget.class))
+        .orElseThrow();
+  }
+
+  private static String describe(SqlRequestReport report) {
+    StringBuilder description = new StringBuilder();
+    for (SqlStatementStats stats : report.getSlowest()) {
+      description.append("  ").append(stats.getExecutions()).append("x ")
+          .append(stats.getShape()).append('\n');
+    }
+    return description.toString();
+  }
+}
@@ -0,0 +1,164 @@
+package com.interviewsystem.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.interviewsystem.dto.SqlRequestReport;
+import com.interviewsystem.entity.Candidate;
+import com.interviewsystem.entity.Problem;
+import com.interviewsystem.entity.Submission;
+import com.interviewsystem.repository.CandidateRepository;
+import com.interviewsystem.repository.ProblemRepository;
+import com.interviewsystem.repository.SubmissionRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for per-request SQL diagnostics and query budgets.
+ */
+@SpringBootTest(properties = "interview.diagnostics.response-headers=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Query Diagnostics Tests")
+class QueryDiagnosticsTest {
+
+  private static final int CANDIDATES = 6;
+
+  @Autowired
+  private QueryDiagnostics diagnostics;
+
+  @Autowired
+  private SqlStatsEndpoint endpoint;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @Autowired
+  private CandidateRepository candidateRepository;
+
+  @Autowired
+  private ProblemRepository problemRepository;
+
+  @Autowired
+  private SubmissionRepository submissionRepository;
+
+  private final List<Long> candidateIds = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    Problem problem = problemRepository.save(Problem.builder()
+        .title("Diagnostics Problem")
+        .description("Count the queries")
+        .difficulty("EASY")
+        .category("ALGORITHMS")
+        .primaryTechStack("JAVA")
+        .build());
+    for (int i = 0; i < CANDIDATES; i++) {
+      Candidate candidate = candidateRepository.save(Candidate.builder()
+          .email("diagnostics" + i + "@example.com")
+          .firstName("Test")
+          .lastName("Candidate")
+          .build());
+      candidateIds.add(candidate.getId());
+      submissionRepository.save(Submission.builder()
+          .candidate(candidate)
+          .problem(problem)
+          .codeContent("class Solution {}")
+          .language("JAVA")
+          .submittedAt(LocalDateTime.now())
+          .build());
+    }
+    diagnostics.reset();
+  }
+
+  @AfterEach
+  void tearDown() {
+    submissionRepository.deleteAll();
+    candidateRepository.deleteAll();
+    problemRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Should normalize literals, IN lists and comments into one shape")
+  void testSqlShapes() {
+    // Act
+    String first = SqlShapes.normalize("/* load Candidate */ "
+        + "select c.id from candidate c where c.id in (?, ?, ?) and c.email='a'");
+    String second = SqlShapes.normalize(
+        "select c.id  from candidate c\n where c.id in (?) and c.email = 'b' and 1=1");
+
+    // Assert
+    assertEquals("select c.id from candidate c where c.id in (?) and c.email=?", first);
+    assertEquals("select c.id from candidate c where c.id in (?) and c.email = ? and ?=?", second);
+  }
+
+  @Test
+  @DisplayName("Should flag lazy collection loads in a loop as a probable N+1")
+  void testDetectsNPlusOne() {
+    // Arrange
+    QueryScope scope = QueryScope.open();
+
+    // Act
+    transactionTemplate.executeWithoutResult(status -> {
+      for (Candidate candidate : candidateRepository.findAllById(candidateIds)) {
+        candidate.getSubmissions().size();
+      }
+    });
+    SqlRequestReport report = diagnostics.finish(scope, "lazy loop");
+
+    // Assert
+    assertEquals(CANDIDATES + 1, report.getStatementCount());
+    assertEquals(1, report.getProbableNPlusOne().size());
+    assertEquals(CANDIDATES, report.getProbableNPlusOne().get(0).getExecutions());
+    assertTrue(report.getProbableNPlusOne().get(0).getShape().contains("submission"));
+    assertSame(report, diagnostics.recentReports().get(0));
+  }
+
+  @Test
+  @QueryBudget(maxStatements = 1)
+  @DisplayName("Should resolve a candidate's attempted problems with one statement")
+  void testQueryBudget() {
+    // Act
+    List<Long> problemIds = submissionRepository.findAttemptedProblemIds(candidateIds.get(0));
+
+    // Assert
+    assertEquals(1, problemIds.size());
+  }
+
+  @Test
+  @DisplayName("Should report request SQL through headers and the Actuator endpoint")
+  void testRequestHeadersAndEndpoint() throws Exception {
+    // Act
+    mockMvc.perform(get("/api/candidates/{id}/dossier", candidateIds.get(0)))
+        .andExpect(status().isOk())
+        .andExpect(header().exists(SqlDiagnosticsResponseAdvice.COUNT_HEADER))
+        .andExpect(header().exists(SqlDiagnosticsResponseAdvice.TIME_HEADER))
+        .andExpect(header().string(SqlDiagnosticsResponseAdvice.REPEATED_HEADER, "0"));
+    Map<String, Object> stats = endpoint.sqlStats();
+
+    // Assert
+    @SuppressWarnings("unchecked")
+    List<SqlRequestReport> recent = (List<SqlRequestReport>) stats.get("recentRequests");
+    assertEquals("GET /api/candidates/" + candidateIds.get(0) + "/dossier",
+        recent.get(0).getLabel());
+    assertTrue(recent.get(0).getStatementCount() > 0);
+    assertTrue(stats.containsKey("hibernate"));
+  }
+}
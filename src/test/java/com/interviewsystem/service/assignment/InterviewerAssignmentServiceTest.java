@@ -0,0 +1,154 @@
+package com.interviewsystem.service.assignment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.interviewsystem.dto.AssignmentResult;
+import com.interviewsystem.entity.Candidate;
+import com.interviewsystem.entity.Evaluation;
+import com.interviewsystem.entity.Interviewer;
+import com.interviewsystem.entity.Problem;
+import com.interviewsystem.entity.Submission;
+import com.interviewsystem.repository.CandidateRepository;
+import com.interviewsystem.repository.EvaluationRepository;
+import com.interviewsystem.repository.InterviewerRepository;
+import com.interviewsystem.repository.ProblemRepository;
+import com.interviewsystem.repository.SubmissionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Integration tests for batch interviewer assignment and rebalancing.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Interviewer Assignment Service Tests")
+class InterviewerAssignmentServiceTest {
+
+  @Autowired
+  private InterviewerAssignmentService assignmentService;
+
+  @Autowired
+  private InterviewerRepository interviewerRepository;
+
+  @Autowired
+  private CandidateRepository candidateRepository;
+
+  @Autowired
+  private ProblemRepository problemRepository;
+
+  @Autowired
+  private SubmissionRepository submissionRepository;
+
+  @Autowired
+  private EvaluationRepository evaluationRepository;
+
+  private Interviewer javaInterviewer;
+
+  private Interviewer typeScriptInterviewer;
+
+  @BeforeEach
+  void setUp() {
+    javaInterviewer = interviewerRepository.save(interviewer("java@example.com", "JAVA,SPRING"));
+    typeScriptInterviewer =
+        interviewerRepository.save(interviewer("ts@example.com", "TYPESCRIPT,REACT"));
+  }
+
+  @AfterEach
+  void tearDown() {
+    evaluationRepository.deleteAll();
+    submissionRepository.deleteAll();
+    candidateRepository.deleteAll();
+    problemRepository.deleteAll();
+    interviewerRepository.deleteAll();
+    assignmentService.rebuild();
+  }
+
+  @Test
+  @DisplayName("Should assign pending evaluations by expertise")
+  void testAssignByExpertise() {
+    // Arrange
+    Evaluation javaEvaluation = pendingEvaluation("java-1@example.com", "Java Problem", "JAVA");
+    Evaluation tsEvaluation = pendingEvaluation("ts-1@example.com", "TS Problem", "TYPESCRIPT");
+
+    // Act
+    AssignmentResult result = assignmentService.assignPending();
+
+    // Assert
+    assertEquals(2, result.getAssigned());
+    assertEquals(javaInterviewer.getId(), assigneeOf(javaEvaluation));
+    assertEquals(typeScriptInterviewer.getId(), assigneeOf(tsEvaluation));
+    assertEquals("IN_REVIEW", evaluationRepository.findById(javaEvaluation.getId())
+        .orElseThrow().getStatus());
+  }
+
+  @Test
+  @DisplayName("Should release in-review work when an interviewer goes inactive")
+  void testRebalanceOnDeactivation() {
+    // Arrange
+    Evaluation evaluation = pendingEvaluation("java-2@example.com", "Another Problem", "JAVA");
+    assignmentService.assignPending();
+    assertEquals(javaInterviewer.getId(), assigneeOf(evaluation));
+
+    // Act
+    javaInterviewer.setActive(false);
+    interviewerRepository.save(javaInterviewer);
+
+    // Assert
+    assertNull(assigneeOf(evaluation), "Nobody else has Java expertise");
+    assertEquals("PENDING", evaluationRepository.findById(evaluation.getId())
+        .orElseThrow().getStatus());
+    assertEquals(1, assignmentService.getWorkloads().size());
+    assertEquals(0, assignmentService.getWorkloads().get(0).getOpenEvaluations());
+
+    Interviewer replacement = interviewerRepository.save(
+        interviewer("java-backup@example.com", "JAVA"));
+    assignmentService.assignPending();
+    assertEquals(replacement.getId(), assigneeOf(evaluation));
+  }
+
+  private Long assigneeOf(Evaluation evaluation) {
+    return evaluationRepository.findOpenAssignments().stream()
+        .filter(open -> open.getEvaluationId().equals(evaluation.getId()))
+        .map(OpenAssignment::getInterviewerId)
+        .findFirst()
+        .orElse(null);
+  }
+
+  private Evaluation pendingEvaluation(String email, String title, String techStack) {
+    Candidate candidate = candidateRepository.save(Candidate.builder()
+        .email(email)
+        .firstName("Test")
+        .lastName("Candidate")
+        .build());
+    Problem problem = problemRepository.save(Problem.builder()
+        .title(title)
+        .description("Solve it")
+        .category("ALGORITHMS")
+        .primaryTechStack(techStack)
+        .build());
+    Submission submission = submissionRepository.save(Submission.builder()
+        .candidate(candidate)
+        .problem(problem)
+        .codeContent("class Solution {}")
+        .language(techStack)
+        .build());
+    return evaluationRepository.save(Evaluation.builder()
+        .submission(submission)
+        .totalTestCases(1)
+        .build());
+  }
+
+  private static Interviewer interviewer(String email, String expertise) {
+    return Interviewer.builder()
+        .email(email)
+        .firstName("Test")
+        .lastName("Interviewer")
+        .expertiseAreas(expertise)
+        .build();
+  }
+}
@@ -0,0 +1,93 @@
+package com.interviewsystem.service.assignment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the interviewer workload index.
+ */
+@DisplayName("Workload Index Tests")
+class WorkloadIndexTest {
+
+  private WorkloadIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new WorkloadIndex();
+    index.reset(Map.of(
+        1L, Set.of("JAVA", "SPRING"),
+        2L, Set.of("JAVA"),
+        3L, Set.of("TYPESCRIPT")),
+        List.of(new OpenAssignment(100L, 1L)));
+  }
+
+  @Test
+  @DisplayName("Should pick the least-loaded interviewer with matching expertise")
+  void testAssignLeastLoadedBySkill() {
+    // Act & Assert
+    assertEquals(2L, index.assign(1L, List.of("JAVA"), 5, false).orElseThrow());
+    assertEquals(1L, index.assign(2L, List.of("JAVA"), 5, false).orElseThrow(),
+        "Ties on load should go to the lowest interviewer ID");
+    assertEquals(3L, index.assign(3L, List.of("TYPESCRIPT"), 5, false).orElseThrow());
+  }
+
+  @Test
+  @DisplayName("Should fall back to any interviewer when allowed and respect the cap")
+  void testFallbackAndCap() {
+    // Act
+    Long fallback = index.assign(1L, List.of("PYTHON"), 1, true).orElseThrow();
+    index.assign(2L, List.of("JAVA"), 1, true);
+
+    // Assert
+    assertNotEquals(1L, fallback, "Interviewer 1 is already at the cap");
+    assertTrue(index.assign(3L, List.of("JAVA"), 1, true).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should leave evaluations without a matching interviewer unassigned by default")
+  void testNoFallbackByDefault() {
+    // Act
+    boolean python = index.assign(1L, List.of("PYTHON"), 5, false).isPresent();
+    index.assign(2L, List.of("JAVA"), 1, false);
+    boolean javaAtCap = index.assign(3L, List.of("JAVA"), 1, false).isPresent();
+
+    // Assert
+    assertFalse(python, "Nobody has Python expertise");
+    assertFalse(javaAtCap, "Both Java interviewers are at the cap");
+    assertEquals(3L, index.assign(4L, List.of(), 1, false).orElseThrow(),
+        "Evaluations without skills can go to anyone with capacity");
+  }
+
+  @Test
+  @DisplayName("Should release load when evaluations complete or move")
+  void testTrack() {
+    // Act
+    index.track(100L, null);
+    index.track(101L, 3L);
+    index.track(101L, 2L);
+
+    // Assert
+    Map<Long, Integer> loads = new HashMap<>();
+    index.snapshot().forEach(view -> loads.put(view.getInterviewerId(), view.getOpenEvaluations()));
+    assertEquals(Map.of(1L, 0, 2L, 1, 3L, 0), loads);
+  }
+
+  @Test
+  @DisplayName("Should stop assigning to removed interviewers")
+  void testRemoveInterviewer() {
+    // Act
+    assertTrue(index.removeInterviewer(3L));
+
+    // Assert
+    assertFalse(index.removeInterviewer(3L));
+    assertTrue(index.assign(1L, List.of("TYPESCRIPT"), 5, false).isEmpty());
+    assertNotEquals(3L, index.assign(1L, List.of("TYPESCRIPT"), 5, true).orElseThrow());
+  }
+}
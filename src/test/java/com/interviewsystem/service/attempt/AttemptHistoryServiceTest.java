@@ -0,0 +1,214 @@
+package com.interviewsystem.service.attempt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.interviewsystem.dto.AttemptDiff;
+import com.interviewsystem.dto.AttemptSummary;
+import com.interviewsystem.dto.SubmissionExport;
+import com.interviewsystem.dto.SubmissionRequest;
+import com.interviewsystem.entity.Candidate;
+import com.interviewsystem.entity.Problem;
+import com.interviewsystem.entity.Submission;
+import com.interviewsystem.exception.ResourceNotFoundException;
+import com.interviewsystem.repository.AttemptSourceBaseRepository;
+import com.interviewsystem.repository.CandidateRepository;
+import com.interviewsystem.repository.ProblemRepository;
+import com.interviewsystem.repository.SubmissionRepository;
+import com.interviewsystem.service.ingestion.SubmissionIngestionService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for delta-encoded attempt storage, history and diffs.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Attempt History Service Tests")
+class AttemptHistoryServiceTest {
+
+  @Autowired
+  private AttemptHistoryService historyService;
+
+  @Autowired
+  private SubmissionIngestionService ingestionService;
+
+  @Autowired
+  private CandidateRepository candidateRepository;
+
+  @Autowired
+  private ProblemRepository problemRepository;
+
+  @Autowired
+  private SubmissionRepository submissionRepository;
+
+  @Autowired
+  private AttemptSourceBaseRepository baseRepository;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  private Candidate candidate;
+
+  private Problem problem;
+
+  @BeforeEach
+  void setUp() {
+    candidate = candidateRepository.save(Candidate.builder()
+        .email("attempts@example.com")
+        .firstName("Attempt")
+        .lastName("Candidate")
+        .build());
+    problem = problemRepository.save(Problem.builder()
+        .title("Attempt Problem")
+        .description("Sum the values")
+        .category("ALGORITHMS")
+        .primaryTechStack("JAVA")
+        .build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    submissionRepository.deleteAll();
+    baseRepository.deleteAll();
+    candidateRepository.deleteAll();
+    problemRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Should store successive attempts as deltas against one base")
+  void testDeltaStorage() {
+    // Arrange
+    List<Long> ids = ingest(5);
+
+    // Act
+    List<Submission> attempts = transactionTemplate.execute(status ->
+        submissionRepository.findAttemptHistory(candidate.getId(), problem.getId()));
+
+    // Assert
+    assertEquals(ids, attempts.stream().map(Submission::getId).toList());
+    assertEquals(1, baseRepository.count());
+    for (int i = 0; i < attempts.size(); i++) {
+      assertTrue(attempts.get(i).isDeltaEncoded());
+      assertEquals(source(i), attempts.get(i).getCodeContent());
+      assertTrue(attempts.get(i).getCodeDelta().length < 40);
+    }
+  }
+
+  @Test
+  @DisplayName("Should start a new base after the configured number of attempts")
+  void testRebase() {
+    // Act
+    ingest(20);
+
+    // Assert
+    assertEquals(2, baseRepository.count());
+    List<AttemptSummary> history = historyService.getHistory(candidate.getId(), problem.getId());
+    assertEquals(20, history.size());
+  }
+
+  @Test
+  @DisplayName("Should list attempts with the lines each one changed")
+  void testHistory() {
+    // Arrange
+    ingest(3);
+
+    // Act
+    List<AttemptSummary> history = historyService.getHistory(candidate.getId(), problem.getId());
+
+    // Assert
+    assertEquals(3, history.size());
+    assertEquals(1, history.get(0).getAttemptNumber());
+    assertEquals(7, history.get(0).getLinesAdded());
+    assertEquals(0, history.get(0).getLinesRemoved());
+    assertEquals(1, history.get(2).getLinesAdded());
+    assertEquals(1, history.get(2).getLinesRemoved());
+  }
+
+  @Test
+  @DisplayName("Should diff an attempt against the previous one as unified hunks")
+  void testDiff() {
+    // Arrange
+    List<Long> ids = ingest(3);
+
+    // Act
+    AttemptDiff diff = historyService.getDiff(ids.get(2), null);
+    AttemptDiff against = historyService.getDiff(ids.get(2), ids.get(0));
+
+    // Assert
+    assertEquals(ids.get(1), diff.getPreviousSubmissionId());
+    assertEquals(1, diff.getHunks().size());
+    assertEquals(List.of("   int base = 2;", "   int scale = 3;", "   int offset = 4;",
+        "-  return 1;", "+  return 2;", " }"), diff.getHunks().get(0).getLines());
+    assertEquals(3, diff.getHunks().get(0).getOldStart());
+    assertEquals(5, diff.getHunks().get(0).getOldLines());
+    assertEquals(ids.get(0), against.getPreviousSubmissionId());
+    assertEquals(1, against.getLinesRemoved());
+    assertNull(historyService.getDiff(ids.get(0), null).getPreviousSubmissionId());
+    assertThrows(ResourceNotFoundException.class,
+        () -> historyService.getDiff(ids.get(0), 999_999L));
+  }
+
+  @Test
+  @DisplayName("Should export the rebuilt source of delta-encoded submissions")
+  void testExport() {
+    // Arrange
+    List<Long> ids = ingest(2);
+
+    // Act
+    List<SubmissionExport> exported = transactionTemplate.execute(status -> {
+      try (Stream<SubmissionExport> rows =
+          submissionRepository.streamExport(ids.get(0) - 1, Limit.of(2))) {
+        return rows.toList();
+      }
+    });
+
+    // Assert
+    assertEquals(List.of(source(0), source(1)),
+        exported.stream().map(SubmissionExport::getCodeContent).toList());
+  }
+
+  /**
+   * Ingest {@code count} attempts, each changing the returned constant, two attempts per batch.
+   */
+  private List<Long> ingest(int count) {
+    List<Long> ids = new ArrayList<>();
+    List<SubmissionRequest> batch = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      batch.add(SubmissionRequest.builder()
+          .idempotencyKey("attempt-" + i)
+          .candidateId(candidate.getId())
+          .problemId(problem.getId())
+          .codeContent(source(i))
+          .language("JAVA")
+          .submittedAt(LocalDateTime.now().minusMinutes(count - i))
+          .build());
+      if (batch.size() == 2 || i == count - 1) {
+        ingestionService.ingest(batch).getResults()
+            .forEach(result -> ids.add(result.getSubmissionId()));
+        batch.clear();
+      }
+    }
+    return ids;
+  }
+
+  private static String source(int attempt) {
+    return "class Solution {\n"
+        + "  int limit = 1;\n"
+        + "  int base = 2;\n"
+        + "  int scale = 3;\n"
+        + "  int offset = 4;\n"
+        + "  return " + attempt + ";\n"
+        + "}\n";
+  }
+}
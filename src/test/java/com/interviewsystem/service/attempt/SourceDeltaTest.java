@@ -0,0 +1,121 @@
+package com.interviewsystem.service.attempt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.interviewsystem.service.attempt.LineDiff.Op;
+import com.interviewsystem.service.attempt.LineDiff.Run;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for line diffs and source deltas.
+ */
+@DisplayName("Source Delta Tests")
+class SourceDeltaTest {
+
+  private static final String BASE = """
+      class Solution {
+        int sum(int[] values) {
+          int total = 0;
+          for (int value : values) {
+            total += value;
+          }
+          return total;
+        }
+      }
+      """;
+
+  @Test
+  @DisplayName("Should encode a small edit as a small delta and rebuild it exactly")
+  void testSmallEdit() {
+    // Arrange
+    String source = BASE.replace("int total = 0;", "long total = 0L;")
+        .replace("return total;", "return (int) total;");
+
+    // Act
+    byte[] delta = SourceDelta.encode(BASE, source, 1000);
+
+    // Assert
+    assertEquals(source, SourceDelta.apply(BASE, delta));
+    assertTrue(delta.length < source.length() / 2, "delta was " + delta.length + " bytes");
+  }
+
+  @Test
+  @DisplayName("Should rebuild random edits, CRLF endings and missing final newlines")
+  void testRandomEdits() {
+    // Arrange
+    Random random = new Random(7);
+    List<String> words = List.of("a\n", "b\r\n", "c\n", "return x;\n", "}\n", "");
+
+    for (int round = 0; round < 200; round++) {
+      String base = randomText(random, words);
+      String source = randomText(random, words) + (random.nextBoolean() ? "tail" : "");
+
+      // Act
+      byte[] delta = SourceDelta.encode(base, source, random.nextBoolean() ? 1000 : 2);
+
+      // Assert
+      assertEquals(source, SourceDelta.apply(base, delta));
+    }
+  }
+
+  @Test
+  @DisplayName("Should produce a minimal diff with merged runs")
+  void testDiffRuns() {
+    // Arrange
+    List<String> a = List.of("1\n", "2\n", "3\n", "4\n", "5\n");
+    List<String> b = List.of("1\n", "3\n", "4\n", "x\n", "5\n");
+
+    // Act
+    List<Run> runs = LineDiff.diff(a, b, 100);
+
+    // Assert
+    assertEquals(List.of(
+        new Run(Op.EQUAL, 0, 0, 1),
+        new Run(Op.DELETE, 1, 1, 1),
+        new Run(Op.EQUAL, 2, 1, 2),
+        new Run(Op.INSERT, 4, 3, 1),
+        new Run(Op.EQUAL, 4, 4, 1)), runs);
+  }
+
+  @Test
+  @DisplayName("Should report texts as replaced past the edit limit")
+  void testEditLimit() {
+    // Arrange
+    List<String> a = List.of("keep\n", "a\n", "b\n", "c\n");
+    List<String> b = List.of("keep\n", "x\n", "y\n", "z\n");
+
+    // Act
+    List<Run> runs = LineDiff.diff(a, b, 3);
+
+    // Assert
+    assertEquals(List.of(
+        new Run(Op.EQUAL, 0, 0, 1),
+        new Run(Op.DELETE, 1, 1, 3),
+        new Run(Op.INSERT, 4, 1, 3)), runs);
+  }
+
+  @Test
+  @DisplayName("Should reject a delta that does not fit its base")
+  void testMalformedDelta() {
+    // Arrange
+    byte[] delta = SourceDelta.encode(BASE, BASE, 1000);
+
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> SourceDelta.apply("short\n", delta));
+    assertThrows(IllegalArgumentException.class,
+        () -> SourceDelta.apply(BASE, new byte[] {9}));
+  }
+
+  private static String randomText(Random random, List<String> words) {
+    List<String> lines = new ArrayList<>();
+    int count = random.nextInt(12);
+    for (int i = 0; i < count; i++) {
+      lines.add(words.get(random.nextInt(words.size())));
+    }
+    return String.join("", lines);
+  }
+}
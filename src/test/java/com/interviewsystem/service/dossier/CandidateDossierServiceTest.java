@@ -0,0 +1,165 @@
+package com.interviewsystem.service.dossier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.interviewsystem.dto.CandidateDossier;
+import com.interviewsystem.dto.DossierProblemSummary;
+import com.interviewsystem.entity.Candidate;
+import com.interviewsystem.entity.Evaluation;
+import com.interviewsystem.entity.Interviewer;
+import com.interviewsystem.entity.Problem;
+import com.interviewsystem.entity.Submission;
+import com.interviewsystem.repository.CandidateRepository;
+import com.interviewsystem.repository.EvaluationRepository;
+import com.interviewsystem.repository.InterviewerRepository;
+import com.interviewsystem.repository.ProblemRepository;
+import com.interviewsystem.repository.SubmissionRepository;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Integration tests for candidate dossier assembly and caching.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Candidate Dossier Service Tests")
+class CandidateDossierServiceTest {
+
+  @Autowired
+  private CandidateDossierService dossierService;
+
+  @Autowired
+  private CandidateRepository candidateRepository;
+
+  @Autowired
+  private ProblemRepository problemRepository;
+
+  @Autowired
+  private SubmissionRepository submissionRepository;
+
+  @Autowired
+  private EvaluationRepository evaluationRepository;
+
+  @Autowired
+  private InterviewerRepository interviewerRepository;
+
+  private Candidate candidate;
+
+  private Interviewer interviewer;
+
+  @BeforeEach
+  void setUp() {
+    candidate = candidateRepository.save(Candidate.builder()
+        .email("dossier@example.com")
+        .firstName("Dana")
+        .lastName("Candidate")
+        .build());
+    interviewer = interviewerRepository.save(Interviewer.builder()
+        .email("reviewer@example.com")
+        .firstName("Riley")
+        .lastName("Reviewer")
+        .build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    evaluationRepository.deleteAll();
+    submissionRepository.deleteAll();
+    candidateRepository.deleteAll();
+    interviewerRepository.deleteAll();
+    problemRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Should summarize the best and latest attempt at each problem")
+  void testBestAndLatestAttempts() {
+    // Arrange
+    LocalDateTime now = LocalDateTime.now();
+    Problem twoSum = problem("Two Sum");
+    Problem lru = problem("LRU Cache");
+    evaluate(submit(twoSum, now.minusHours(3)), 60, "Works, but slow.");
+    Submission best = submit(twoSum, now.minusHours(2));
+    evaluate(best, 90, "Clean hash map solution. " + "Very thorough. ".repeat(40));
+    Submission latest = submit(twoSum, now.minusHours(1));
+    submit(lru, now.minusHours(4));
+
+    // Act
+    CandidateDossier dossier = dossierService.getDossier(candidate.getId()).orElseThrow();
+
+    // Assert
+    assertEquals(4, dossier.getTotalSubmissions());
+    assertEquals(2, dossier.getProblemsAttempted());
+    assertEquals(1, dossier.getProblemsEvaluated());
+    assertEquals(90.0, dossier.getAverageBestScore());
+    DossierProblemSummary first = dossier.getProblems().get(0);
+    assertEquals(twoSum.getId(), first.getProblemId());
+    assertEquals(3, first.getAttempts());
+    assertEquals(best.getId(), first.getBest().getSubmissionId());
+    assertEquals("Riley Reviewer", first.getBest().getInterviewerName());
+    assertTrue(first.getBest().getFeedbackSummary().length() <= 283);
+    assertTrue(first.getBest().getFeedbackSummary().endsWith("..."));
+    assertEquals(latest.getId(), first.getLatest().getSubmissionId());
+    assertNull(first.getLatest().getEvaluationId());
+    DossierProblemSummary second = dossier.getProblems().get(1);
+    assertNull(second.getBest(), "Unevaluated problems should have no best attempt");
+    assertNotNull(second.getLatest());
+  }
+
+  @Test
+  @DisplayName("Should serve cached dossiers until the candidate submits again")
+  void testCacheInvalidation() {
+    // Arrange
+    Problem problem = problem("Valid Parentheses");
+    submit(problem, LocalDateTime.now().minusMinutes(5));
+    CandidateDossier first = dossierService.getDossier(candidate.getId()).orElseThrow();
+
+    // Act
+    CandidateDossier cached = dossierService.getDossierByEmail(candidate.getEmail())
+        .orElseThrow();
+    submit(problem, LocalDateTime.now());
+    CandidateDossier refreshed = dossierService.getDossier(candidate.getId()).orElseThrow();
+
+    // Assert
+    assertSame(first, cached);
+    assertEquals(1, first.getTotalSubmissions());
+    assertEquals(2, refreshed.getTotalSubmissions());
+    assertTrue(dossierService.getDossier(-1L).isEmpty());
+  }
+
+  private Problem problem(String title) {
+    return problemRepository.save(Problem.builder()
+        .title(title)
+        .description("Solve it")
+        .category("ALGORITHMS")
+        .primaryTechStack("JAVA")
+        .build());
+  }
+
+  private Submission submit(Problem problem, LocalDateTime submittedAt) {
+    return submissionRepository.save(Submission.builder()
+        .candidate(candidate)
+        .problem(problem)
+        .codeContent("class Solution {}")
+        .language("JAVA")
+        .submittedAt(submittedAt)
+        .build());
+  }
+
+  private void evaluate(Submission submission, int score, String feedback) {
+    evaluationRepository.save(Evaluation.builder()
+        .submission(submission)
+        .interviewer(interviewer)
+        .totalTestCases(1)
+        .overallScore(score)
+        .feedback(feedback)
+        .status("COMPLETED")
+        .evaluatedAt(LocalDateTime.now())
+        .build());
+  }
+}
@@ -0,0 +1,80 @@
+package com.interviewsystem.service.evaluation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.interviewsystem.service.evaluation.ComplexityEstimator.Sample;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.LongToDoubleFunction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for fitting timings to complexity classes.
+ */
+@DisplayName("Complexity Estimator Tests")
+class ComplexityEstimatorTest {
+
+  private static final long[] SIZES = {1_000, 2_000, 5_000, 10_000, 20_000, 50_000, 100_000};
+
+  @Test
+  @DisplayName("Should recognise each class from noisy timings with a fixed start-up cost")
+  void testEstimateWithNoise() {
+    // Arrange
+    Random random = new Random(42);
+
+    // Act & Assert
+    assertEquals(ComplexityClass.CONSTANT, estimate(n -> 5e6, random));
+    assertEquals(ComplexityClass.LOGARITHMIC, estimate(n -> 1e6 * Math.log(n), random));
+    assertEquals(ComplexityClass.LINEAR, estimate(n -> 200.0 * n, random));
+    assertEquals(ComplexityClass.LINEARITHMIC, estimate(n -> 50.0 * n * Math.log(n), random));
+    assertEquals(ComplexityClass.QUADRATIC, estimate(n -> 0.5 * n * n, random));
+    assertEquals(ComplexityClass.CUBIC, estimate(n -> 1e-5 * n * n * n, random));
+  }
+
+  @Test
+  @DisplayName("Should require three distinct input sizes")
+  void testTooFewSizes() {
+    // Arrange
+    List<Sample> samples = List.of(new Sample(10, 100), new Sample(10, 110), new Sample(20, 200));
+
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> ComplexityEstimator.estimate(samples));
+  }
+
+  @Test
+  @DisplayName("Should measure spread robustly against a single outlier")
+  void testMedianAndSpread() {
+    // Arrange
+    long[] nanos = {100, 102, 98, 101, 5_000};
+
+    // Act & Assert
+    assertEquals(101, ComplexityEstimator.median(nanos));
+    assertTrue(ComplexityEstimator.relativeSpread(nanos) < 0.05);
+    assertEquals(0, ComplexityEstimator.relativeSpread(new long[] {7, 7, 7}));
+  }
+
+  @Test
+  @DisplayName("Should score against the expected class")
+  void testScore() {
+    // Act & Assert
+    assertEquals(100, PerformanceGrader.score(ComplexityClass.LINEAR, ComplexityClass.LINEAR));
+    assertEquals(100, PerformanceGrader.score(ComplexityClass.LINEAR, ComplexityClass.QUADRATIC));
+    assertEquals(50, PerformanceGrader.score(ComplexityClass.LINEARITHMIC, ComplexityClass.LINEAR));
+    assertEquals(0, PerformanceGrader.score(ComplexityClass.QUADRATIC, ComplexityClass.LINEAR));
+    assertNull(PerformanceGrader.score(ComplexityClass.LINEAR, null));
+  }
+
+  /**
+   * Time {@code cost} plus a 2 ms start-up cost at each size, with up to 5% noise either way.
+   */
+  private static ComplexityClass estimate(LongToDoubleFunction cost, Random random) {
+    List<Sample> samples = new ArrayList<>();
+    for (long size : SIZES) {
+      double noise = 1 + (random.nextDouble() - 0.5) * 0.1;
+      samples.add(new Sample(size, (2e6 + cost.applyAsDouble(size)) * noise));
+    }
+    return ComplexityEstimator.estimate(samples);
+  }
+}
@@ -0,0 +1,319 @@
+package com.interviewsystem.service.evaluation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.interviewsystem.config.PipelineProperties;
+import com.interviewsystem.entity.Candidate;
+import com.interviewsystem.entity.EvaluationLease;
+import com.interviewsystem.entity.Problem;
+import com.interviewsystem.entity.Submission;
+import com.interviewsystem.entity.TestCase;
+import com.interviewsystem.repository.CandidateRepository;
+import com.interviewsystem.repository.EvaluationLeaseRepository;
+import com.interviewsystem.repository.EvaluationRepository;
+import com.interviewsystem.repository.ProblemRepository;
+import com.interviewsystem.repository.SubmissionRepository;
+import com.interviewsystem.repository.TestCaseRepository;
+import com.interviewsystem.service.fixture.FixtureStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for lease-based claiming with several workers sharing one database.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Evaluation Leases Tests")
+class EvaluationLeasesTest {
+
+  /**
+   * Compilations per source, across every worker.
+   */
+  static final Map<String, Integer> COMPILATIONS = new ConcurrentHashMap<>();
+
+  /**
+   * How long each test case run takes.
+   */
+  static volatile Duration runTime = Duration.ZERO;
+
+  /**
+   * Echoes its input after {@link #runTime}; sources containing "crash" throw while compiling.
+   */
+  @TestConfiguration
+  static class CountingRunnerConfig {
+
+    @Bean
+    CodeRunner countingCodeRunner() {
+      return new CodeRunner() {
+        @Override
+        public CompileResult compile(String language, String code) {
+          COMPILATIONS.merge(code, 1, Integer::sum);
+          if (code.contains("crash")) {
+            throw new IllegalStateException("Runner crashed");
+          }
+          return CompileResult.success(code);
+        }
+
+        @Override
+        public TestRunResult run(CompileResult program, String input, Duration timeout) {
+          try {
+            Thread.sleep(runTime.toMillis());
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return TestRunResult.completed(input);
+        }
+      };
+    }
+  }
+
+  @Autowired
+  private CandidateRepository candidateRepository;
+
+  @Autowired
+  private ProblemRepository problemRepository;
+
+  @Autowired
+  private TestCaseRepository testCaseRepository;
+
+  @Autowired
+  private SubmissionRepository submissionRepository;
+
+  @Autowired
+  private EvaluationRepository evaluationRepository;
+
+  @Autowired
+  private EvaluationLeaseRepository leaseRepository;
+
+  @Autowired
+  private ObjectProvider<CodeRunner> codeRunner;
+
+  @Autowired
+  private PipelineMetrics metrics;
+
+  @Autowired
+  private PipelineProperties properties;
+
+  @Autowired
+  private FixtureStore fixtureStore;
+
+  @Autowired
+  private PerformanceGrader performanceGrader;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @Autowired
+  private MeterRegistry registry;
+
+  private Problem problem;
+
+  private Candidate candidate;
+
+  @BeforeEach
+  void setUp() {
+    COMPILATIONS.clear();
+    problem = problemRepository.save(Problem.builder()
+        .title("Lease Problem")
+        .description("Echo the input")
+        .difficulty("EASY")
+        .category("ALGORITHMS")
+        .primaryTechStack("JAVA")
+        .build());
+    testCaseRepository.save(TestCase.builder()
+        .problem(problem)
+        .inputDescription("ping")
+        .expectedOutput("ping")
+        .weightPercentage(100)
+        .build());
+    candidate = candidateRepository.save(Candidate.builder()
+        .email("leases@example.com")
+        .firstName("Test")
+        .lastName("Candidate")
+        .build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    runTime = Duration.ZERO;
+    leaseRepository.deleteAll();
+    evaluationRepository.deleteAll();
+    submissionRepository.deleteAll();
+    testCaseRepository.deleteAll();
+    candidateRepository.deleteAll();
+    problemRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Should let several workers drain the queue evaluating each submission once")
+  void testConcurrentWorkers() throws Exception {
+    // Arrange
+    List<Submission> submissions = new ArrayList<>();
+    for (int i = 0; i < 24; i++) {
+      submissions.add(submit("class Solution" + i + " {}"));
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    List<Future<Integer>> workers = new ArrayList<>();
+
+    // Act
+    try {
+      for (int w = 0; w < 4; w++) {
+        EvaluationPipeline pipeline = pipeline(leases("worker-" + w));
+        workers.add(executor.submit(() -> {
+          int total = 0;
+          int processed;
+          do {
+            processed = pipeline.processPending();
+            total += processed;
+          } while (processed > 0);
+          return total;
+        }));
+      }
+      int evaluated = 0;
+      for (Future<Integer> worker : workers) {
+        evaluated += worker.get();
+      }
+
+      // Assert
+      assertEquals(24, evaluated);
+    } finally {
+      executor.shutdownNow();
+    }
+    for (Submission submission : submissions) {
+      assertEquals(1, COMPILATIONS.get(submission.getCodeContent()));
+      assertEquals("SUCCESS", submissionRepository.findById(submission.getId()).orElseThrow()
+          .getCompilationStatus());
+    }
+    assertEquals(0, leaseRepository.count());
+  }
+
+  @Test
+  @DisplayName("Should take over an expired lease and reject the stalled worker's result")
+  void testExpiredLeaseTakeover() {
+    // Arrange
+    Submission submission = submit("class Solution {}");
+    EvaluationLeases stalled = leases("stalled");
+    EvaluationPipeline healthy = pipeline(leases("healthy"));
+    assertTrue(stalled.claim(submission.getId()));
+    assertEquals(0, healthy.processPending());
+
+    // Act
+    transactionTemplate.executeWithoutResult(status -> leaseRepository
+        .lockBySubmissionId(submission.getId()).orElseThrow()
+        .setExpiresAt(LocalDateTime.now().minusSeconds(1)));
+    int processed = healthy.processPending();
+
+    // Assert
+    assertEquals(1, processed);
+    assertTrue(evaluationRepository.findBySubmissionId(submission.getId()).isPresent());
+    assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(
+        status -> stalled.complete(submission.getId())));
+  }
+
+  @Test
+  @DisplayName("Should keep a lease alive through a test run longer than the lease")
+  void testHeartbeatDuringLongRun() throws Exception {
+    // Arrange
+    Submission submission = submit("class Solution {}");
+    PipelineProperties slowWorker = workerProperties("slow");
+    slowWorker.getLease().setDuration(Duration.ofSeconds(1));
+    slowWorker.getLease().setHeartbeatIntervalMs(200);
+    EvaluationLeases leases = new EvaluationLeases(leaseRepository, submissionRepository,
+        metrics, slowWorker, transactionTemplate);
+    EvaluationPipeline pipeline = new EvaluationPipeline(submissionRepository,
+        testCaseRepository, evaluationRepository, codeRunner, metrics, slowWorker, fixtureStore,
+        performanceGrader, leases, transactionTemplate);
+    runTime = Duration.ofSeconds(4);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    // Act
+    leases.start();
+    try {
+      Future<Integer> processed = executor.submit(pipeline::processPending);
+      Thread.sleep(2500);
+      boolean rivalClaimed = leases("rival").claim(submission.getId());
+
+      // Assert
+      assertFalse(rivalClaimed);
+      assertEquals(1, processed.get());
+    } finally {
+      leases.stop();
+      executor.shutdownNow();
+    }
+    assertTrue(evaluationRepository.findBySubmissionId(submission.getId()).isPresent());
+    assertEquals(0, leaseRepository.count());
+  }
+
+  @Test
+  @DisplayName("Should dead-letter a submission once its attempts are used up")
+  void testDeadLetter() {
+    // Arrange
+    Submission submission = submit("class Solution { crash }");
+    double deadLetters = registry.find(PipelineMetrics.DEAD_LETTERS).counters().stream()
+        .mapToDouble(Counter::count).sum();
+
+    // Act
+    int processed = pipeline(leases("worker")).processPending();
+
+    // Assert
+    assertEquals(0, processed);
+    assertEquals(properties.getLease().getMaxAttempts(),
+        COMPILATIONS.get(submission.getCodeContent()));
+    assertEquals(EvaluationLeases.STATUS_DEAD_LETTER, submissionRepository
+        .findById(submission.getId()).orElseThrow().getCompilationStatus());
+    assertEquals(0, leaseRepository.count());
+    assertEquals(deadLetters + 1, registry.find(PipelineMetrics.DEAD_LETTERS).counters().stream()
+        .mapToDouble(Counter::count).sum());
+  }
+
+  private EvaluationLeases leases(String workerId) {
+    return new EvaluationLeases(leaseRepository, submissionRepository, metrics,
+        workerProperties(workerId), transactionTemplate);
+  }
+
+  private EvaluationPipeline pipeline(EvaluationLeases leases) {
+    return new EvaluationPipeline(submissionRepository, testCaseRepository, evaluationRepository,
+        codeRunner, metrics, workerProperties(leases.workerId()), fixtureStore, performanceGrader,
+        leases, transactionTemplate);
+  }
+
+  /**
+   * Settings of a separate worker node: the shared defaults with its own worker ID.
+   */
+  private PipelineProperties workerProperties(String workerId) {
+    PipelineProperties worker = new PipelineProperties();
+    worker.setComparison(properties.getComparison());
+    worker.getLease().setWorkerId(workerId);
+    return worker;
+  }
+
+  private Submission submit(String code) {
+    return submissionRepository.save(Submission.builder()
+        .candidate(candidate)
+        .problem(problem)
+        .codeContent(code)
+        .language("JAVA")
+        .submittedAt(LocalDateTime.now())
+        .build());
+  }
+}
@@ -0,0 +1,413 @@
+package com.interviewsystem.service.evaluation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.interviewsystem.entity.Candidate;
+import com.interviewsystem.entity.Evaluation;
+import com.interviewsystem.entity.PerformanceInput;
+import com.interviewsystem.entity.Problem;
+import com.interviewsystem.entity.Submission;
+import com.interviewsystem.entity.TestCase;
+import com.interviewsystem.repository.CandidateRepository;
+import com.interviewsystem.repository.EvaluationRepository;
+import com.interviewsystem.repository.PerformanceInputRepository;
+import com.interviewsystem.repository.ProblemRepository;
+import com.interviewsystem.repository.SubmissionRepository;
+import com.interviewsystem.repository.TestCaseRepository;
+import com.interviewsystem.service.fixture.FixtureStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Integration tests for the evaluation pipeline and its metrics.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Evaluation Pipeline Tests")
+class EvaluationPipelineTest {
+
+  @Autowired
+  private EvaluationPipeline pipeline;
+
+  @Autowired
+  private PipelineMetrics metrics;
+
+  @Autowired
+  private MeterRegistry registry;
+
+  @Autowired
+  private CandidateRepository candidateRepository;
+
+  @Autowired
+  private ProblemRepository problemRepository;
+
+  @Autowired
+  private TestCaseRepository testCaseRepository;
+
+  @Autowired
+  private SubmissionRepository submissionRepository;
+
+  @Autowired
+  private EvaluationRepository evaluationRepository;
+
+  @Autowired
+  private PerformanceInputRepository performanceInputRepository;
+
+  @Autowired
+  private FixtureStore fixtureStore;
+
+  private Problem problem;
+
+  private Candidate candidate;
+
+  /**
+   * Upper-cases its input; sources containing "syntax error" fail to compile, the input "loop"
+   * never finishes and "sleep N" sleeps for N milliseconds. Records whether it was ever called
+   * inside a transaction.
+   */
+  @TestConfiguration
+  static class StubRunnerConfig {
+
+    static final AtomicBoolean RAN_IN_TRANSACTION = new AtomicBoolean();
+
+    @Bean
+    CodeRunner stubCodeRunner() {
+      return new CodeRunner() {
+        @Override
+        public CompileResult compile(String language, String code) {
+          checkTransaction();
+          return code.contains("syntax error")
+              ? CompileResult.failure("expected ';'")
+              : CompileResult.success(code);
+        }
+
+        @Override
+        public TestRunResult run(CompileResult program, String input, Duration timeout) {
+          checkTransaction();
+          if (input.startsWith("sleep ")) {
+            try {
+              Thread.sleep(Long.parseLong(input.substring(6).trim()));
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          }
+          return "loop".equals(input)
+              ? TestRunResult.timedOut()
+              : TestRunResult.completed(input.toUpperCase(Locale.ROOT) + "\n");
+        }
+
+        private void checkTransaction() {
+          if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            RAN_IN_TRANSACTION.set(true);
+          }
+        }
+      };
+    }
+  }
+
+  @BeforeEach
+  void setUp() {
+    problem = problemRepository.save(Problem.builder()
+        .title("Pipeline Problem")
+        .description("Shout the input")
+        .difficulty("EASY")
+        .category("ALGORITHMS")
+        .primaryTechStack("JAVA")
+        .build());
+    candidate = candidateRepository.save(Candidate.builder()
+        .email("pipeline@example.com")
+        .firstName("Test")
+        .lastName("Candidate")
+        .build());
+    testCase("abc", "ABC", 50);
+    testCase("xyz", "wrong", 20);
+    testCase("loop", "LOOP", 30);
+  }
+
+  @AfterEach
+  void tearDown() {
+    evaluationRepository.deleteAll();
+    submissionRepository.deleteAll();
+    performanceInputRepository.deleteAll();
+    testCaseRepository.deleteAll();
+    candidateRepository.deleteAll();
+    problemRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Should score passing tests and time every stage")
+  void testEvaluateSubmission() {
+    // Arrange
+    Submission submission = submit("class Solution {}");
+    long testRuns = stageCount("test_run");
+    double timeouts = counter(PipelineMetrics.TEST_TIMEOUTS);
+
+    // Act
+    Evaluation evaluation = pipeline.evaluate(submission.getId());
+
+    // Assert
+    assertEquals(3, evaluation.getTotalTestCases());
+    assertEquals(1, evaluation.getTestPassCount());
+    assertEquals(50, evaluation.getExecutionScore());
+    assertEquals("PENDING", evaluation.getStatus());
+    assertEquals("SUCCESS",
+        submissionRepository.findById(submission.getId()).orElseThrow().getCompilationStatus());
+    assertEquals(testRuns + 3, stageCount("test_run"));
+    assertEquals(timeouts + 1, counter(PipelineMetrics.TEST_TIMEOUTS));
+    for (PipelineMetrics.Stage stage : PipelineMetrics.Stage.values()) {
+      assertTrue(stageCount(stage.tagValue()) > 0, stage.name());
+    }
+  }
+
+  @Test
+  @DisplayName("Should compile and run tests outside any transaction")
+  void testRunsOutsideTransaction() {
+    // Arrange
+    Submission submission = submit("class Solution {}");
+    StubRunnerConfig.RAN_IN_TRANSACTION.set(false);
+
+    // Act
+    int processed = pipeline.processPending();
+
+    // Assert
+    assertEquals(1, processed);
+    assertFalse(StubRunnerConfig.RAN_IN_TRANSACTION.get());
+    assertEquals("SUCCESS",
+        submissionRepository.findById(submission.getId()).orElseThrow().getCompilationStatus());
+  }
+
+  @Test
+  @DisplayName("Should record a compile failure without running tests")
+  void testCompileFailure() {
+    // Arrange
+    Submission submission = submit("class Solution { syntax error }");
+    long testRuns = stageCount("test_run");
+    double failures = counter(PipelineMetrics.COMPILE_FAILURES);
+
+    // Act
+    Evaluation evaluation = pipeline.evaluate(submission.getId());
+
+    // Assert
+    assertEquals(0, evaluation.getExecutionScore());
+    Submission stored = submissionRepository.findById(submission.getId()).orElseThrow();
+    assertEquals("FAILED", stored.getCompilationStatus());
+    assertEquals("expected ';'", stored.getCompilationError());
+    assertEquals(testRuns, stageCount("test_run"));
+    assertEquals(failures + 1, counter(PipelineMetrics.COMPILE_FAILURES));
+  }
+
+  @Test
+  @DisplayName("Should record end-to-end latency once when an evaluation completes")
+  void testEndToEndLatency() {
+    // Arrange
+    Submission submission = submit("class Solution {}");
+    Evaluation evaluation = pipeline.evaluate(submission.getId());
+    long completions = endToEndCount();
+
+    // Act
+    evaluation.setStatus("COMPLETED");
+    evaluation.setEvaluatedAt(LocalDateTime.now());
+    evaluation = evaluationRepository.save(evaluation);
+    evaluation.setFeedback("Looks good");
+    evaluationRepository.save(evaluation);
+
+    // Assert
+    assertEquals(completions + 1, endToEndCount());
+  }
+
+  @Test
+  @DisplayName("Should run tests whose input and expected output are fixtures")
+  void testFixtureBackedTestCase() {
+    // Arrange
+    testCaseRepository.deleteAll();
+    String input = "large input\n".repeat(10_000);
+    testCaseRepository.save(TestCase.builder()
+        .problem(problem)
+        .inputDescription("10,000 lines")
+        .inputFixture(fixtureStore.store(new ByteArrayInputStream(input.getBytes())))
+        .expectedOutput("10,000 upper-cased lines")
+        .expectedOutputFixture(fixtureStore.store(
+            new ByteArrayInputStream(input.toUpperCase(Locale.ROOT).getBytes())))
+        .weightPercentage(100)
+        .build());
+    Submission submission = submit("class Solution {}");
+
+    // Act
+    Evaluation evaluation = pipeline.evaluate(submission.getId());
+
+    // Assert
+    assertEquals(1, evaluation.getTestPassCount());
+    assertEquals(100, evaluation.getExecutionScore());
+  }
+
+  @Test
+  @DisplayName("Should grade the growth of an accepted submission's running time")
+  void testPerformanceGrading() {
+    // Arrange
+    problem = problemRepository.save(Problem.builder()
+        .title("Performance Problem")
+        .description("Shout the input, quickly")
+        .difficulty("MEDIUM")
+        .category("ALGORITHMS")
+        .primaryTechStack("JAVA")
+        .performanceGrading(true)
+        .expectedComplexity("LINEARITHMIC")
+        .build());
+    testCase("abc", "ABC", 100);
+    for (long size : new long[] {2, 4, 8}) {
+      performanceInput(size, "sleep " + size * size);
+    }
+    Submission submission = submit("class Solution {}");
+
+    // Act
+    Evaluation evaluation = pipeline.evaluate(submission.getId());
+
+    // Assert
+    assertEquals(100, evaluation.getExecutionScore());
+    assertEquals("QUADRATIC", evaluation.getComplexityClass());
+    assertEquals(50, evaluation.getPerformanceScore());
+  }
+
+  @Test
+  @DisplayName("Should score zero performance when a scaled input times out")
+  void testPerformanceGradingTimeout() {
+    // Arrange
+    problem = problemRepository.save(Problem.builder()
+        .title("Performance Problem")
+        .description("Shout the input, quickly")
+        .difficulty("MEDIUM")
+        .category("ALGORITHMS")
+        .primaryTechStack("JAVA")
+        .performanceGrading(true)
+        .expectedComplexity("LINEAR")
+        .build());
+    testCase("abc", "ABC", 100);
+    performanceInput(10, "sleep 1");
+    performanceInput(100, "sleep 1");
+    performanceInput(1000, "loop");
+    Submission submission = submit("class Solution {}");
+
+    // Act
+    Evaluation evaluation = pipeline.evaluate(submission.getId());
+
+    // Assert
+    assertNull(evaluation.getComplexityClass());
+    assertEquals(0, evaluation.getPerformanceScore());
+  }
+
+  @Test
+  @DisplayName("Should emit a JFR event per stage with the IDs involved")
+  void testFlightRecorderEvents() throws Exception {
+    // Arrange
+    Submission submission = submit("class Solution {}");
+    Path dump = Files.createTempFile("pipeline", ".jfr");
+
+    // Act
+    try (Recording recording = new Recording()) {
+      recording.enable(CompileSubmissionEvent.class);
+      recording.enable(RunTestCaseEvent.class);
+      recording.enable(ScoreEvaluationEvent.class);
+      recording.enable(PersistEvaluationEvent.class);
+      recording.start();
+      pipeline.evaluate(submission.getId());
+      recording.stop();
+      recording.dump(dump);
+    }
+
+    // Assert
+    List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+    Files.delete(dump);
+    Map<String, Long> counts = events.stream()
+        .filter(event -> event.getLong("submissionId") == submission.getId())
+        .collect(Collectors.groupingBy(event -> event.getEventType().getName(),
+            Collectors.counting()));
+    assertEquals(1, counts.get("com.interviewsystem.CompileSubmission"));
+    assertEquals(3, counts.get("com.interviewsystem.RunTestCase"));
+    assertEquals(1, counts.get("com.interviewsystem.ScoreEvaluation"));
+    assertEquals(1, counts.get("com.interviewsystem.PersistEvaluation"));
+    RecordedEvent timeout = events.stream()
+        .filter(event -> event.getEventType().getName().equals("com.interviewsystem.RunTestCase"))
+        .filter(event -> "timeout".equals(event.getString("outcome")))
+        .findFirst()
+        .orElseThrow();
+    assertEquals(problem.getId(), timeout.getLong("problemId"));
+    assertTrue(timeout.getLong("testCaseId") > 0);
+  }
+
+  @Test
+  @DisplayName("Should bound problem and language tag values")
+  void testTagCardinality() {
+    // Act & Assert
+    assertEquals("java", metrics.languageTag("JAVA"));
+    assertEquals("other", metrics.languageTag("brainfuck"));
+    assertEquals("3", metrics.problemBucket(19L));
+    assertEquals("other", metrics.problemBucket(null));
+  }
+
+  private long stageCount(String stage) {
+    return registry.find(PipelineMetrics.STAGE_TIMER).tag("stage", stage).timers().stream()
+        .mapToLong(Timer::count)
+        .sum();
+  }
+
+  private long endToEndCount() {
+    return registry.find(PipelineMetrics.END_TO_END_TIMER).timers().stream()
+        .mapToLong(Timer::count)
+        .sum();
+  }
+
+  private double counter(String name) {
+    return registry.find(name).counters().stream().mapToDouble(Counter::count).sum();
+  }
+
+  private void testCase(String input, String expected, int weight) {
+    testCaseRepository.save(TestCase.builder()
+        .problem(problem)
+        .inputDescription(input)
+        .expectedOutput(expected)
+        .weightPercentage(weight)
+        .build());
+  }
+
+  private void performanceInput(long size, String input) {
+    performanceInputRepository.save(PerformanceInput.builder()
+        .problem(problem)
+        .inputSize(size)
+        .inputFixture(fixtureStore.store(new ByteArrayInputStream(input.getBytes())))
+        .build());
+  }
+
+  private Submission submit(String code) {
+    return submissionRepository.save(Submission.builder()
+        .candidate(candidate)
+        .problem(problem)
+        .codeContent(code)
+        .language("JAVA")
+        .submittedAt(LocalDateTime.now().minusSeconds(5))
+        .build());
+  }
+}
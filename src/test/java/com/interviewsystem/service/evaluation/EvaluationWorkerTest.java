@@ -0,0 +1,165 @@
+package com.interviewsystem.service.evaluation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.interviewsystem.config.WorkerRuntimeHints;
+import com.interviewsystem.entity.Candidate;
+import com.interviewsystem.entity.Evaluation;
+import com.interviewsystem.entity.Problem;
+import com.interviewsystem.entity.Submission;
+import com.interviewsystem.entity.TestCase;
+import com.interviewsystem.repository.CandidateRepository;
+import com.interviewsystem.repository.EvaluationRepository;
+import com.interviewsystem.repository.ProblemRepository;
+import com.interviewsystem.repository.SubmissionRepository;
+import com.interviewsystem.repository.TestCaseRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * Tests for the evaluation worker role. Written to run unchanged as native tests
+ * ({@code mvn -P nativeTest,native-worker -Dtest=EvaluationWorkerTest test}), so no mocks. The
+ * worker polls on its own database and its context is closed afterwards so that it never drains
+ * submissions belonging to other tests.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "interview.pipeline.interval-ms=100",
+        "spring.datasource.url=jdbc:h2:mem:workertest"})
+@ActiveProfiles({"test", "worker"})
+@DirtiesContext
+@DisplayName("Evaluation Worker Tests")
+class EvaluationWorkerTest {
+
+  @Autowired
+  private ApplicationContext context;
+
+  @Autowired
+  private CandidateRepository candidateRepository;
+
+  @Autowired
+  private ProblemRepository problemRepository;
+
+  @Autowired
+  private TestCaseRepository testCaseRepository;
+
+  @Autowired
+  private SubmissionRepository submissionRepository;
+
+  @Autowired
+  private EvaluationRepository evaluationRepository;
+
+  /**
+   * Echoes its input.
+   */
+  @TestConfiguration
+  static class EchoRunnerConfig {
+
+    @Bean
+    CodeRunner echoCodeRunner() {
+      return new CodeRunner() {
+        @Override
+        public CompileResult compile(String language, String code) {
+          return CompileResult.success(code);
+        }
+
+        @Override
+        public TestRunResult run(CompileResult program, String input, Duration timeout) {
+          return TestRunResult.completed(input);
+        }
+      };
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    evaluationRepository.deleteAll();
+    submissionRepository.deleteAll();
+    testCaseRepository.deleteAll();
+    candidateRepository.deleteAll();
+    problemRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Should start without a web server")
+  void testNonWebContext() {
+    // Assert
+    assertFalse(context instanceof WebApplicationContext);
+  }
+
+  @Test
+  @DisplayName("Should claim and evaluate queued submissions on its own")
+  void testDrainsQueue() throws InterruptedException {
+    // Arrange
+    Problem problem = problemRepository.save(Problem.builder()
+        .title("Worker Problem")
+        .description("Echo the input")
+        .difficulty("EASY")
+        .category("ALGORITHMS")
+        .primaryTechStack("JAVA")
+        .build());
+    testCaseRepository.save(TestCase.builder()
+        .problem(problem)
+        .inputDescription("ping")
+        .expectedOutput("ping")
+        .weightPercentage(100)
+        .build());
+    Candidate candidate = candidateRepository.save(Candidate.builder()
+        .email("worker@example.com")
+        .firstName("Test")
+        .lastName("Candidate")
+        .build());
+
+    // Act
+    Submission submission = submissionRepository.save(Submission.builder()
+        .candidate(candidate)
+        .problem(problem)
+        .codeContent("class Solution {}")
+        .language("JAVA")
+        .submittedAt(LocalDateTime.now())
+        .build());
+
+    // Assert
+    Optional<Evaluation> evaluation = Optional.empty();
+    for (int attempt = 0; attempt < 100 && evaluation.isEmpty(); attempt++) {
+      Thread.sleep(100);
+      evaluation = evaluationRepository.findBySubmissionId(submission.getId());
+    }
+    assertTrue(evaluation.isPresent(), "submission was not evaluated within 10s");
+    assertEquals(100, evaluation.get().getExecutionScore());
+    assertEquals("SUCCESS",
+        submissionRepository.findById(submission.getId()).orElseThrow().getCompilationStatus());
+  }
+
+  @Test
+  @DisplayName("Should register native hints for entities, builders and changelogs")
+  void testRuntimeHints() {
+    // Arrange
+    RuntimeHints hints = new RuntimeHints();
+
+    // Act
+    new WorkerRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+    // Assert
+    for (Class<?> type : new Class<?>[] {Submission.class, Evaluation.class, TestCase.class,
+        Submission.SubmissionBuilder.class}) {
+      assertTrue(RuntimeHintsPredicates.reflection().onType(type).test(hints), type.getName());
+    }
+    assertTrue(RuntimeHintsPredicates.resource()
+        .forResource("db/changelog/db.changelog-master.xml").test(hints));
+  }
+}
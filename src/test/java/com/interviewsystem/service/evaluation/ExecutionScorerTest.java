@@ -0,0 +1,50 @@
+package com.interviewsystem.service.evaluation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.interviewsystem.entity.TestCase;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for weighted execution scoring.
+ */
+@DisplayName("Execution Scorer Tests")
+class ExecutionScorerTest {
+
+  @Test
+  @DisplayName("Should weight passed tests by their weight percentage")
+  void testWeightedScore() {
+    // Arrange
+    List<TestCase> testCases = List.of(weighted(50), weighted(30), weighted(20));
+
+    // Act & Assert
+    assertEquals(100, ExecutionScorer.score(testCases, new boolean[] {true, true, true}));
+    assertEquals(70, ExecutionScorer.score(testCases, new boolean[] {true, false, true}));
+    assertEquals(0, ExecutionScorer.score(testCases, new boolean[] {false, false, false}));
+  }
+
+  @Test
+  @DisplayName("Should normalize weights that do not sum to 100")
+  void testNormalization() {
+    // Arrange
+    List<TestCase> uneven = List.of(weighted(10), weighted(10), weighted(10));
+    List<TestCase> unweighted = List.of(weighted(0), weighted(0), weighted(0));
+
+    // Act & Assert
+    assertEquals(67, ExecutionScorer.score(uneven, new boolean[] {true, true, false}));
+    assertEquals(33, ExecutionScorer.score(unweighted, new boolean[] {true, false, false}));
+    assertEquals(0, ExecutionScorer.score(List.of(), new boolean[0]));
+    assertThrows(IllegalArgumentException.class,
+        () -> ExecutionScorer.score(uneven, new boolean[] {true}));
+  }
+
+  private static TestCase weighted(int weight) {
+    return TestCase.builder()
+        .inputDescription("in")
+        .expectedOutput("out")
+        .weightPercentage(weight)
+        .build();
+  }
+}
@@ -0,0 +1,52 @@
+package com.interviewsystem.service.evaluation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for output comparison strategies.
+ */
+@DisplayName("Output Comparison Tests")
+class OutputComparisonTest {
+
+  @Test
+  @DisplayName("Should ignore trailing whitespace and blank lines only in trimmed mode")
+  void testTrimmed() {
+    // Act & Assert
+    assertTrue(OutputComparison.TRIMMED.matches("1 2\n3\n", "1 2  \r\n3\n\n\n"));
+    assertFalse(OutputComparison.TRIMMED.matches("1 2\n3", "1  2\n3"));
+    assertFalse(OutputComparison.TRIMMED.matches("1\n\n2", "1\n2"));
+    assertFalse(OutputComparison.TRIMMED.matches("1\n2", "1\n2\n3"));
+    assertFalse(OutputComparison.EXACT.matches("1 2\n3\n", "1 2  \n3\n"));
+  }
+
+  @Test
+  @DisplayName("Should compare whitespace-separated tokens")
+  void testTokens() {
+    // Act & Assert
+    assertTrue(OutputComparison.TOKENS.matches("[1, 2]\nyes", "  [1,   2]  yes\n"));
+    assertFalse(OutputComparison.TOKENS.matches("1 2 3", "1 2"));
+    assertFalse(OutputComparison.TOKENS.matches("1.0", "1"));
+    assertTrue(OutputComparison.TOKENS.matches("", "  \n"));
+  }
+
+  @Test
+  @DisplayName("Should accept numbers within tolerance and reject other differences")
+  void testNumeric() {
+    // Act & Assert
+    assertTrue(OutputComparison.NUMERIC.matches("3.1415926 1e9", "3.14159265 1000000000.5"));
+    assertTrue(OutputComparison.NUMERIC.matches("1.0 done", "1 done"));
+    assertFalse(OutputComparison.NUMERIC.matches("1.0 done", "1.001 done"));
+    assertFalse(OutputComparison.NUMERIC.matches("yes", "no"));
+  }
+
+  @Test
+  @DisplayName("Should ignore line order in unordered mode")
+  void testUnorderedLines() {
+    // Act & Assert
+    assertTrue(OutputComparison.UNORDERED_LINES.matches("a\nb\nc\n", "c \na\nb"));
+    assertFalse(OutputComparison.UNORDERED_LINES.matches("a\na\nb", "a\nb\nb"));
+  }
+}
@@ -0,0 +1,180 @@
+package com.interviewsystem.service.fixture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.interviewsystem.config.FixtureProperties;
+import com.interviewsystem.exception.ResourceNotFoundException;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Unit tests for the content-addressed fixture store and its node-local cache.
+ */
+@DisplayName("Fixture Store Tests")
+class FixtureStoreTest {
+
+  @TempDir
+  Path shared;
+
+  @TempDir
+  Path cache;
+
+  private FixtureProperties properties;
+
+  private FixtureStore store;
+
+  @BeforeEach
+  void setUp() {
+    properties = new FixtureProperties();
+    properties.setDirectory(shared);
+    store = new FixtureStore(properties);
+  }
+
+  @Test
+  @DisplayName("Should name fixtures by SHA-256 and store identical content once")
+  void testContentAddressing() throws Exception {
+    // Arrange
+    byte[] content = "1 2 3\n".repeat(1000).getBytes(StandardCharsets.UTF_8);
+
+    // Act
+    String first = store.store(new ByteArrayInputStream(content));
+    String second = store.store(new ByteArrayInputStream(content));
+
+    // Assert
+    String sha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    assertEquals(sha256, first);
+    assertEquals(first, second);
+    assertEquals(1, countFiles(shared));
+    assertArrayEquals(content, Files.readAllBytes(store.resolve(first)));
+  }
+
+  @Test
+  @DisplayName("Should memory-map fixtures and decode them as text")
+  void testMap() {
+    // Arrange
+    String hash = store.store(new ByteArrayInputStream("expected\n".getBytes()));
+
+    // Act
+    ByteBuffer mapped = store.map(hash);
+
+    // Assert
+    assertEquals(9, mapped.remaining());
+    assertEquals("expected\n", store.readString(hash));
+  }
+
+  @Test
+  @DisplayName("Should read ASCII fixtures in place and decode other text")
+  void testReadText() {
+    // Arrange
+    String ascii = store.store(new ByteArrayInputStream("1 2\n3\n".getBytes()));
+    String unicode = store.store(
+        new ByteArrayInputStream("caf\u00e9\n".getBytes(StandardCharsets.UTF_8)));
+
+    // Act
+    CharSequence asciiText = store.readText(ascii);
+    CharSequence unicodeText = store.readText(unicode);
+
+    // Assert
+    assertFalse(asciiText instanceof String);
+    assertEquals("1 2\n3\n", asciiText.toString());
+    assertEquals("2\n3", asciiText.subSequence(2, 5).toString());
+    assertEquals('3', asciiText.charAt(4));
+    assertEquals("caf\u00e9\n", unicodeText.toString());
+  }
+
+  @Test
+  @DisplayName("Should copy fixtures into the local cache and serve them from there")
+  void testLocalCache() throws Exception {
+    // Arrange
+    properties.setCacheDirectory(cache);
+    String hash = store.store(new ByteArrayInputStream("cached".getBytes()));
+
+    // Act
+    Path resolved = store.resolve(hash);
+    Files.delete(shared.resolve(hash.substring(0, 2)).resolve(hash));
+
+    // Assert
+    assertTrue(resolved.startsWith(cache));
+    assertEquals(resolved, store.resolve(hash));
+    assertEquals("cached", store.readString(hash));
+  }
+
+  @Test
+  @DisplayName("Should evict the least recently used fixtures when the cache is full")
+  void testEviction() throws Exception {
+    // Arrange
+    properties.setCacheDirectory(cache);
+    properties.setCacheMaxSize(DataSize.ofBytes(2500));
+    String oldest = store.store(new ByteArrayInputStream(new byte[1000]));
+    String used = store.store(new ByteArrayInputStream(new byte[1001]));
+    String newest = store.store(new ByteArrayInputStream(new byte[1002]));
+    Path oldestCopy = store.resolve(oldest);
+    Path usedCopy = store.resolve(used);
+    Files.setLastModifiedTime(oldestCopy, FileTime.fromMillis(1000));
+    Files.setLastModifiedTime(usedCopy, FileTime.fromMillis(2000));
+
+    // Act
+    Path newestCopy = store.resolve(newest);
+
+    // Assert
+    assertFalse(Files.exists(oldestCopy));
+    assertTrue(Files.exists(usedCopy));
+    assertTrue(Files.exists(newestCopy));
+  }
+
+  @Test
+  @DisplayName("Should reject fixtures over the size limit without keeping them")
+  void testMaxSize() throws Exception {
+    // Arrange
+    properties.setMaxFixtureSize(DataSize.ofBytes(10));
+
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class,
+        () -> store.store(new ByteArrayInputStream(new byte[11])));
+    assertEquals(0, countFiles(shared));
+  }
+
+  @Test
+  @DisplayName("Should stop reading an upload once it passes the size limit")
+  void testMaxSizeEndlessUpload() throws Exception {
+    // Arrange
+    properties.setMaxFixtureSize(DataSize.ofKilobytes(100));
+    InputStream endless = new InputStream() {
+      @Override
+      public int read() {
+        return 'x';
+      }
+    };
+
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> store.store(endless));
+    assertEquals(0, countFiles(shared));
+  }
+
+  @Test
+  @DisplayName("Should treat unknown and malformed hashes as not found")
+  void testNotFound() {
+    // Act & Assert
+    assertThrows(ResourceNotFoundException.class, () -> store.resolve("0".repeat(64)));
+    assertThrows(ResourceNotFoundException.class, () -> store.resolve("../../etc/passwd"));
+  }
+
+  private static long countFiles(Path root) throws Exception {
+    try (Stream<Path> files = Files.walk(root)) {
+      return files.filter(Files::isRegularFile).count();
+    }
+  }
+}
@@ -0,0 +1,141 @@
+package com.interviewsystem.service.importer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.interviewsystem.dto.CandidateImportResult;
+import com.interviewsystem.entity.Candidate;
+import com.interviewsystem.entity.OutboxEvent;
+import com.interviewsystem.exception.InvalidRequestException;
+import com.interviewsystem.repository.CandidateRepository;
+import com.interviewsystem.repository.OutboxEventRepository;
+import com.interviewsystem.service.lookup.EmailLookupService;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Integration tests for bulk candidate imports.
+ */
+@SpringBootTest(properties = {
+    "interview.candidate-import.chunk-size=500",
+    "interview.candidate-import.batch-size=100"
+})
+@ActiveProfiles("test")
+@DisplayName("Candidate Import Service Tests")
+class CandidateImportServiceTest {
+
+  @Autowired
+  private CandidateImportService importService;
+
+  @Autowired
+  private CandidateRepository candidateRepository;
+
+  @Autowired
+  private EmailLookupService emailLookup;
+
+  @Autowired
+  private OutboxEventRepository outboxEventRepository;
+
+  @AfterEach
+  void tearDown() {
+    candidateRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Should create and update candidates across chunks")
+  void testUpsertsAcrossChunks() throws IOException {
+    // Arrange
+    Candidate existing = candidateRepository.save(Candidate.builder()
+        .email("row7@example.com")
+        .firstName("Old")
+        .lastName("Name")
+        .build());
+    StringBuilder csv = new StringBuilder("Email Address,First Name,Last Name,Phone,Tech Stack\n");
+    for (int i = 0; i < 1200; i++) {
+      csv.append("row").append(i).append("@example.com,First").append(i).append(",Last")
+          .append(i).append(",555-0100,python\n");
+    }
+
+    // Act
+    CandidateImportResult result = importService.importCsv(input(csv.toString()));
+
+    // Assert
+    assertEquals(1200, result.getRows());
+    assertEquals(1199, result.getCreated());
+    assertEquals(1, result.getUpdated());
+    assertEquals(0, result.getRejected());
+    assertNull(result.getErrorReport());
+    assertEquals(1200, candidateRepository.count());
+    Candidate updated = candidateRepository.findById(existing.getId()).orElseThrow();
+    assertEquals("First7", updated.getFirstName());
+    assertEquals("PYTHON", updated.getTechStack());
+    assertEquals(existing.getCreatedAt().withNano(0), updated.getCreatedAt().withNano(0));
+    assertTrue(emailLookup.candidateExists("row1199@example.com"));
+    Set<Long> ids = candidateRepository.findAll().stream().map(Candidate::getId)
+        .collect(Collectors.toSet());
+    Map<String, Long> outbox = outboxEventRepository.findAll().stream()
+        .filter(event -> "CANDIDATE".equals(event.getAggregateType())
+            && ids.contains(event.getAggregateId()))
+        .collect(Collectors.groupingBy(OutboxEvent::getChangeType, Collectors.counting()));
+    assertEquals(Map.of("CREATED", 1200L, "UPDATED", 1L), outbox);
+  }
+
+  @Test
+  @DisplayName("Should report invalid and superseded rows in a downloadable error report")
+  void testErrorReport() throws IOException {
+    // Arrange
+    String csv = "email,first_name,last_name\n"
+        + "good@example.com,Grace,Hopper\n"
+        + "not-an-email,Alan,Turing\n"
+        + "\n"
+        + "dup@example.com,First,Copy\n"
+        + "nameless@example.com,,Lovelace\n"
+        + "dup@example.com,Second,Copy\n";
+
+    // Act
+    CandidateImportResult result = importService.importCsv(input(csv));
+
+    // Assert
+    assertEquals(5, result.getRows());
+    assertEquals(2, result.getCreated());
+    assertEquals(1, result.getSuperseded());
+    assertEquals(2, result.getRejected());
+    assertEquals("Second", candidateRepository.findByEmail("dup@example.com").orElseThrow()
+        .getFirstName());
+    assertEquals("/api/candidates/import/" + result.getImportId() + "/errors",
+        result.getErrorReport());
+    Path report = importService.findErrorReport(result.getImportId()).orElseThrow();
+    List<String> lines = Files.readAllLines(report);
+    assertEquals("line,email,error", lines.get(0));
+    assertEquals("3,not-an-email,Email should be valid", lines.get(1));
+    assertEquals("6,nameless@example.com,First name is required", lines.get(2));
+    assertEquals("5,dup@example.com,Superseded by line 7 with the same email", lines.get(3));
+    assertTrue(importService.findErrorReport("../" + result.getImportId()).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should reject an import whose header lacks a required column")
+  void testMissingColumn() {
+    // Act & Assert
+    InvalidRequestException error = assertThrows(InvalidRequestException.class,
+        () -> importService.importCsv(input("email,first_name\na@example.com,Ada\n")));
+    assertTrue(error.getMessage().contains("last_name"));
+  }
+
+  private static InputStream input(String csv) {
+    return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+  }
+}
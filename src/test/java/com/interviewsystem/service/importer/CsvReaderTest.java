@@ -0,0 +1,61 @@
+package com.interviewsystem.service.importer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the streaming CSV parser used by candidate imports.
+ */
+@DisplayName("CSV Reader Tests")
+class CsvReaderTest {
+
+  @Test
+  @DisplayName("Should parse quoted fields with commas, quotes and line breaks")
+  void testQuotedFields() throws IOException {
+    // Arrange
+    CsvReader csv = new CsvReader(new StringReader(
+        "\uFEFFemail,name\r\n"
+            + "a@example.com,\"Doe, Jane\"\r\n"
+            + "b@example.com,\"Say \"\"hi\"\"\nthen leave\"\n"
+            + "c@example.com,\n"));
+
+    // Act & Assert
+    assertEquals(List.of("email", "name"), csv.next());
+    assertEquals(List.of("a@example.com", "Doe, Jane"), csv.next());
+    assertEquals(2, csv.recordLine());
+    assertEquals(List.of("b@example.com", "Say \"hi\"\nthen leave"), csv.next());
+    assertEquals(List.of("c@example.com", ""), csv.next());
+    assertEquals(5, csv.recordLine());
+    assertNull(csv.next());
+  }
+
+  @Test
+  @DisplayName("Should read a last record without a trailing line break")
+  void testLastRecordWithoutLineBreak() throws IOException {
+    // Arrange
+    CsvReader csv = new CsvReader(new StringReader("a,b\nc,d"));
+
+    // Act & Assert
+    assertEquals(List.of("a", "b"), csv.next());
+    assertEquals(List.of("c", "d"), csv.next());
+    assertNull(csv.next());
+  }
+
+  @Test
+  @DisplayName("Should reject a quoted field left open at the end of the input")
+  void testUnterminatedQuote() throws IOException {
+    // Arrange
+    CsvReader csv = new CsvReader(new StringReader("a,b\n\"open,c\n"));
+    csv.next();
+
+    // Act & Assert
+    EOFException error = assertThrows(EOFException.class, csv::next);
+    assertTrue(error.getMessage().contains("line 2"));
+  }
+}
@@ -0,0 +1,124 @@
+package com.interviewsystem.service.ingestion;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.interviewsystem.dto.SubmissionBatchResponse;
+import com.interviewsystem.dto.SubmissionItemResult.Status;
+import com.interviewsystem.dto.SubmissionRequest;
+import com.interviewsystem.entity.Candidate;
+import com.interviewsystem.entity.Problem;
+import com.interviewsystem.repository.CandidateRepository;
+import com.interviewsystem.repository.EvaluationRepository;
+import com.interviewsystem.repository.ProblemRepository;
+import com.interviewsystem.repository.SubmissionRepository;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Integration tests for batch submission ingestion.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Submission Ingestion Service Tests")
+class SubmissionIngestionServiceTest {
+
+  @Autowired
+  private SubmissionIngestionService ingestionService;
+
+  @Autowired
+  private CandidateRepository candidateRepository;
+
+  @Autowired
+  private ProblemRepository problemRepository;
+
+  @Autowired
+  private SubmissionRepository submissionRepository;
+
+  @Autowired
+  private EvaluationRepository evaluationRepository;
+
+  private Candidate candidate;
+
+  private Problem problem;
+
+  @BeforeEach
+  void setUp() {
+    candidate = candidateRepository.save(Candidate.builder()
+        .email("batch@example.com")
+        .firstName("Batch")
+        .lastName("Candidate")
+        .build());
+    problem = problemRepository.save(Problem.builder()
+        .title("Batch Problem")
+        .description("Ingest me")
+        .category("ALGORITHMS")
+        .primaryTechStack("JAVA")
+        .build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    evaluationRepository.deleteAll();
+    submissionRepository.deleteAll();
+    candidateRepository.deleteAll();
+    problemRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Should create, reject and deduplicate items in one batch")
+  void testMixedBatch() {
+    // Act
+    SubmissionBatchResponse response = ingestionService.ingest(List.of(
+        request("key-1", candidate.getId()),
+        request("key-2", candidate.getId()),
+        request("key-1", candidate.getId()),
+        request("key-3", 999_999L),
+        request("", candidate.getId())));
+
+    // Assert
+    assertEquals(2, response.getCreated());
+    assertEquals(1, response.getDuplicates());
+    assertEquals(2, response.getRejected());
+    assertEquals(response.getResults().get(0).getSubmissionId(),
+        response.getResults().get(2).getSubmissionId());
+    assertEquals(Status.REJECTED, response.getResults().get(3).getStatus());
+    assertEquals(List.of("Idempotency key is required"),
+        response.getResults().get(4).getErrors());
+    assertEquals(2, submissionRepository.count());
+  }
+
+  @Test
+  @DisplayName("Should treat a retried batch as duplicates")
+  void testRetryIsIdempotent() {
+    // Arrange
+    List<SubmissionRequest> batch = List.of(request("retry-1", candidate.getId()),
+        request("retry-2", candidate.getId()));
+    SubmissionBatchResponse first = ingestionService.ingest(batch);
+
+    // Act
+    SubmissionBatchResponse retry = ingestionService.ingest(batch);
+
+    // Assert
+    assertEquals(0, retry.getCreated());
+    assertEquals(2, retry.getDuplicates());
+    assertEquals(first.getResults().get(1).getSubmissionId(),
+        retry.getResults().get(1).getSubmissionId());
+    assertEquals(2, submissionRepository.count());
+  }
+
+  private SubmissionRequest request(String key, Long candidateId) {
+    return SubmissionRequest.builder()
+        .idempotencyKey(key)
+        .candidateId(candidateId)
+        .problemId(problem.getId())
+        .codeContent("class Solution {}")
+        .language("JAVA")
+        .build();
+  }
+}
@@ -0,0 +1,132 @@
+package com.interviewsystem.service.leaderboard;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.interviewsystem.dto.LeaderboardEntry;
+import com.interviewsystem.entity.Candidate;
+import com.interviewsystem.entity.Evaluation;
+import com.interviewsystem.entity.Problem;
+import com.interviewsystem.entity.Submission;
+import com.interviewsystem.repository.CandidateRepository;
+import com.interviewsystem.repository.EvaluationRepository;
+import com.interviewsystem.repository.ProblemRepository;
+import com.interviewsystem.repository.SubmissionRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Integration tests for event-driven leaderboard maintenance.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Leaderboard Service Tests")
+class LeaderboardServiceTest {
+
+  @Autowired
+  private LeaderboardService leaderboardService;
+
+  @Autowired
+  private CandidateRepository candidateRepository;
+
+  @Autowired
+  private ProblemRepository problemRepository;
+
+  @Autowired
+  private SubmissionRepository submissionRepository;
+
+  @Autowired
+  private EvaluationRepository evaluationRepository;
+
+  private Problem problem;
+
+  @BeforeEach
+  void setUp() {
+    problem = problemRepository.save(Problem.builder()
+        .title("Leaderboard Problem")
+        .description("Rank me")
+        .difficulty("EASY")
+        .category("ALGORITHMS")
+        .primaryTechStack("JAVA")
+        .build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    evaluationRepository.deleteAll();
+    submissionRepository.deleteAll();
+    candidateRepository.deleteAll();
+    problemRepository.deleteAll();
+    leaderboardService.rebuild();
+  }
+
+  @Test
+  @DisplayName("Should rank completed evaluations by score with earlier submission winning ties")
+  void testRankingOnCompletion() {
+    // Arrange
+    LocalDateTime now = LocalDateTime.now();
+    Evaluation alice = evaluate("alice@example.com", now.minusMinutes(5), 80, "COMPLETED");
+    evaluate("bob@example.com", now.minusMinutes(10), 80, "COMPLETED");
+    evaluate("carol@example.com", now, 95, "COMPLETED");
+    evaluate("dave@example.com", now, 99, "PENDING");
+
+    // Act
+    List<LeaderboardEntry> top = leaderboardService.getLeaderboard(problem.getId(), 0, 10);
+
+    // Assert
+    assertEquals(3, top.size());
+    assertEquals(95, top.get(0).getOverallScore());
+    assertEquals(alice.getId(), top.get(2).getEvaluationId());
+    assertEquals(3, leaderboardService.getCandidateEntry(problem.getId(),
+        top.get(2).getCandidateId()).orElseThrow().getRank());
+  }
+
+  @Test
+  @DisplayName("Should re-rank when a pending evaluation completes and survive a rebuild")
+  void testUpdateAndRebuild() {
+    // Arrange
+    evaluate("erin@example.com", LocalDateTime.now(), 70, "COMPLETED");
+    Evaluation pending = evaluate("frank@example.com", LocalDateTime.now(), 90, "PENDING");
+    assertEquals(1, leaderboardService.countRanked(problem.getId()));
+
+    // Act
+    pending.setStatus("COMPLETED");
+    pending.setEvaluatedAt(LocalDateTime.now());
+    evaluationRepository.save(pending);
+
+    // Assert
+    assertEquals(pending.getId(),
+        leaderboardService.getLeaderboard(problem.getId(), 0, 1).get(0).getEvaluationId());
+    leaderboardService.rebuild();
+    assertEquals(2, leaderboardService.countRanked(problem.getId()));
+    assertEquals(pending.getId(),
+        leaderboardService.getLeaderboard(problem.getId(), 0, 1).get(0).getEvaluationId());
+  }
+
+  private Evaluation evaluate(String email, LocalDateTime submittedAt, int score, String status) {
+    Candidate candidate = candidateRepository.save(Candidate.builder()
+        .email(email)
+        .firstName("Test")
+        .lastName("Candidate")
+        .build());
+    Submission submission = submissionRepository.save(Submission.builder()
+        .candidate(candidate)
+        .problem(problem)
+        .codeContent("class Solution {}")
+        .language("JAVA")
+        .submittedAt(submittedAt)
+        .build());
+    return evaluationRepository.save(Evaluation.builder()
+        .submission(submission)
+        .totalTestCases(1)
+        .overallScore(score)
+        .status(status)
+        .build());
+  }
+}
@@ -0,0 +1,102 @@
+package com.interviewsystem.service.leaderboard;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the indexable skip list backing problem leaderboards.
+ */
+@DisplayName("Ranked Skip List Tests")
+class RankedSkipListTest {
+
+  private RankedSkipList<Integer> skipList;
+
+  @BeforeEach
+  void setUp() {
+    skipList = new RankedSkipList<>(Comparator.naturalOrder());
+  }
+
+  @Test
+  @DisplayName("Should rank elements in comparator order")
+  void testRank() {
+    // Arrange
+    skipList.insert(30);
+    skipList.insert(10);
+    skipList.insert(20);
+
+    // Act & Assert
+    assertEquals(1, skipList.rank(10));
+    assertEquals(2, skipList.rank(20));
+    assertEquals(3, skipList.rank(30));
+    assertEquals(0, skipList.rank(25), "Missing elements should have rank 0");
+  }
+
+  @Test
+  @DisplayName("Should return windows by offset and limit")
+  void testRange() {
+    // Arrange
+    for (int i = 10; i > 0; i--) {
+      skipList.insert(i);
+    }
+
+    // Act & Assert
+    assertEquals(List.of(1, 2, 3), skipList.range(0, 3));
+    assertEquals(List.of(9, 10), skipList.range(8, 5));
+    assertTrue(skipList.range(10, 5).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should remove elements and keep ranks consistent")
+  void testRemove() {
+    // Arrange
+    skipList.insert(1);
+    skipList.insert(2);
+    skipList.insert(3);
+
+    // Act
+    boolean removed = skipList.remove(2);
+
+    // Assert
+    assertTrue(removed);
+    assertFalse(skipList.remove(2));
+    assertEquals(2, skipList.size());
+    assertEquals(2, skipList.rank(3));
+  }
+
+  @Test
+  @DisplayName("Should match a sorted list under random inserts and removals")
+  void testRandomOperationsMatchSortedList() {
+    // Arrange
+    Random random = new Random(42);
+    List<Integer> expected = new ArrayList<>();
+
+    // Act
+    for (int i = 0; i < 5000; i++) {
+      int value = random.nextInt(2000);
+      int index = Collections.binarySearch(expected, value);
+      if (index >= 0) {
+        expected.remove(index);
+        assertTrue(skipList.remove(value));
+      } else {
+        expected.add(-index - 1, value);
+        skipList.insert(value);
+      }
+    }
+
+    // Assert
+    assertEquals(expected.size(), skipList.size());
+    assertEquals(expected, skipList.range(0, expected.size()));
+    for (int i = 0; i < expected.size(); i += 37) {
+      assertEquals(i + 1, skipList.rank(expected.get(i)));
+      assertEquals(expected.get(i), skipList.range(i, 1).get(0));
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package com.interviewsystem.service.lookup;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the Bloom filter behind email lookups.
+ */
+@DisplayName("Bloom Filter Tests")
+class BloomFilterTest {
+
+  private static final int ENTRIES = 10_000;
+
+  @Test
+  @DisplayName("Should never report an added entry as absent")
+  void testNoFalseNegatives() {
+    // Arrange
+    BloomFilter filter = new BloomFilter(ENTRIES, 0.01);
+
+    // Act
+    for (int i = 0; i < ENTRIES; i++) {
+      filter.put("candidate" + i + "@example.com");
+    }
+
+    // Assert
+    for (int i = 0; i < ENTRIES; i++) {
+      assertTrue(filter.mightContain("candidate" + i + "@example.com"));
+    }
+    assertEquals(ENTRIES, filter.insertions());
+    assertEquals(7, filter.hashCount());
+  }
+
+  @Test
+  @DisplayName("Should keep the false positive rate near the target at the planned size")
+  void testFalsePositiveRate() {
+    // Arrange
+    BloomFilter filter = new BloomFilter(ENTRIES, 0.01);
+    for (int i = 0; i < ENTRIES; i++) {
+      filter.put("candidate" + i + "@example.com");
+    }
+
+    // Act
+    int falsePositives = 0;
+    for (int i = 0; i < ENTRIES; i++) {
+      if (filter.mightContain("stranger" + i + "@example.org")) {
+        falsePositives++;
+      }
+    }
+
+    // Assert
+    assertTrue(falsePositives < ENTRIES * 0.02, "False positives: " + falsePositives);
+  }
+
+  @Test
+  @DisplayName("Should reject a false positive rate outside (0, 1)")
+  void testRejectsInvalidRate() {
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> new BloomFilter(ENTRIES, 0));
+    assertThrows(IllegalArgumentException.class, () -> new BloomFilter(ENTRIES, 1));
+  }
+}
@@ -0,0 +1,228 @@
+package com.interviewsystem.service.lookup;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.interviewsystem.config.EmailLookupProperties;
+import com.interviewsystem.diagnostics.QueryScope;
+import com.interviewsystem.entity.Candidate;
+import com.interviewsystem.entity.Interviewer;
+import com.interviewsystem.repository.CandidateRepository;
+import com.interviewsystem.repository.InterviewerRepository;
+import com.interviewsystem.service.outbox.OutboxRelay;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the Bloom filter and cache in front of email lookups.
+ */
+@SpringBootTest(properties = "interview.email-lookup.batch-size=10")
+@ActiveProfiles("test")
+@DisplayName("Email Lookup Service Tests")
+class EmailLookupServiceTest {
+
+  @Autowired
+  private EmailLookupService emailLookup;
+
+  @Autowired
+  private CandidateRepository candidateRepository;
+
+  @Autowired
+  private InterviewerRepository interviewerRepository;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private OutboxRelay relay;
+
+  @AfterEach
+  void tearDown() {
+    candidateRepository.deleteAll();
+    interviewerRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Should answer unregistered emails without querying the database")
+  void testNegativeLookupsSkipDatabase() {
+    // Arrange
+    Candidate candidate = candidateRepository.save(candidate("known@example.com"));
+
+    // Act
+    int misses = 0;
+    int statements;
+    try (QueryScope scope = QueryScope.open()) {
+      for (int i = 0; i < 100; i++) {
+        if (!emailLookup.candidateExists("unknown" + i + "@example.com")) {
+          misses++;
+        }
+      }
+      statements = scope.getStatementCount();
+    }
+
+    // Assert
+    assertEquals(100, misses);
+    assertTrue(statements <= 3, "Statements: " + statements);
+    assertEquals(candidate.getId(), emailLookup.findCandidateId("known@example.com").orElseThrow());
+  }
+
+  @Test
+  @DisplayName("Should serve repeated lookups of a registered email from the cache")
+  void testPositiveLookupsAreCached() {
+    // Arrange
+    Candidate candidate = candidateRepository.save(candidate("cached@example.com"));
+    assertTrue(emailLookup.candidateExists("cached@example.com"));
+
+    // Act
+    int statements;
+    try (QueryScope scope = QueryScope.open()) {
+      for (int i = 0; i < 10; i++) {
+        assertEquals(candidate.getId(),
+            emailLookup.findCandidateId("cached@example.com").orElseThrow());
+      }
+      statements = scope.getStatementCount();
+    }
+
+    // Assert
+    assertEquals(0, statements);
+  }
+
+  @Test
+  @DisplayName("Should resolve bulk emails with one IN query per batch")
+  void testResolveInBatches() {
+    // Arrange
+    List<String> emails = new ArrayList<>();
+    for (int i = 0; i < 25; i++) {
+      String email = "bulk" + i + "@example.com";
+      candidateRepository.save(candidate(email));
+      emails.add(email);
+      emails.add("absent" + i + "@example.com");
+    }
+    emailLookup.findCandidateId("bulk0@example.com");
+
+    // Act
+    Map<String, Long> resolved;
+    int statements;
+    try (QueryScope scope = QueryScope.open()) {
+      resolved = emailLookup.resolveCandidates(emails);
+      statements = scope.getStatementCount();
+    }
+
+    // Assert
+    assertEquals(25, resolved.size());
+    assertEquals("bulk0@example.com", resolved.keySet().iterator().next());
+    assertTrue(resolved.keySet().stream().allMatch(email -> email.startsWith("bulk")));
+    assertTrue(statements >= 3 && statements <= 4, "Statements: " + statements);
+  }
+
+  @Test
+  @DisplayName("Should stay consistent with inserts, email changes and deletes")
+  void testConsistentWithChanges() {
+    // Arrange
+    assertFalse(emailLookup.candidateExists("late@example.com"));
+
+    // Act & Assert
+    Long id = candidateRepository.save(candidate("late@example.com")).getId();
+    assertTrue(emailLookup.candidateExists("late@example.com"));
+
+    transactionTemplate.executeWithoutResult(status ->
+        candidateRepository.findById(id).orElseThrow().setEmail("renamed@example.com"));
+    assertFalse(emailLookup.candidateExists("late@example.com"));
+    assertEquals(id, emailLookup.findCandidate("renamed@example.com").orElseThrow().getId());
+
+    candidateRepository.deleteById(id);
+    assertFalse(emailLookup.candidateExists("renamed@example.com"));
+    assertTrue(emailLookup.findCandidate("renamed@example.com").isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should learn candidates registered by another process from the outbox")
+  void testRemoteInsertsReachFilter() {
+    // Arrange
+    relay.relay();
+    emailLookup.rebuild();
+
+    // Act: another process registers a candidate and records it in the outbox
+    transactionTemplate.executeWithoutResult(status -> {
+      jdbcTemplate.update("insert into candidate (email, first_name, last_name, tech_stack, "
+          + "created_at, updated_at) values (?, ?, ?, ?, ?, ?)", "remote@example.com", "Remy",
+          "Remote", "JAVA", LocalDateTime.now(), LocalDateTime.now());
+      Long id = jdbcTemplate.queryForObject("select id from candidate where email = ?",
+          Long.class, "remote@example.com");
+      jdbcTemplate.update("insert into outbox_event (aggregate_type, aggregate_id, change_type, "
+          + "payload, origin, created_at) values (?, ?, ?, ?, ?, ?)", "CANDIDATE", id,
+          "CREATED", "{\"id\":" + id + "}", "api-2", LocalDateTime.now());
+    });
+    boolean beforeRelay = emailLookup.candidateExists("remote@example.com");
+    relay.relay();
+
+    // Assert
+    assertFalse(beforeRelay);
+    assertTrue(emailLookup.candidateExists("remote@example.com"));
+  }
+
+  @Test
+  @DisplayName("Should rebuild a filter once it reaches the rebuild interval")
+  void testRebuildInterval() {
+    // Arrange
+    EmailLookupProperties properties = new EmailLookupProperties();
+    EmailIndex index = new EmailIndex("test", properties, email -> Optional.empty(),
+        emails -> List.of(), new SimpleMeterRegistry());
+    index.rebuild(0, sink -> Stream.of("a@example.com").forEach(sink));
+
+    // Act
+    boolean fresh = index.needsRebuild();
+    properties.setRebuildInterval(Duration.ZERO);
+    boolean expired = index.needsRebuild();
+
+    // Assert
+    assertFalse(fresh);
+    assertTrue(expired);
+  }
+
+  @Test
+  @DisplayName("Should look up interviewers separately from candidates")
+  void testInterviewerLookups() {
+    // Arrange
+    Interviewer interviewer = interviewerRepository.save(Interviewer.builder()
+        .email("shared@example.com")
+        .firstName("Riley")
+        .lastName("Reviewer")
+        .build());
+
+    // Act
+    Map<String, Long> resolved = emailLookup.resolveInterviewers(
+        List.of("shared@example.com", "nobody@example.com"));
+
+    // Assert
+    assertEquals(Map.of("shared@example.com", interviewer.getId()), resolved);
+    assertTrue(emailLookup.interviewerExists("shared@example.com"));
+    assertFalse(emailLookup.candidateExists("shared@example.com"));
+    assertEquals(interviewer.getId(),
+        emailLookup.findInterviewer("shared@example.com").orElseThrow().getId());
+  }
+
+  private static Candidate candidate(String email) {
+    return Candidate.builder()
+        .email(email)
+        .firstName("Casey")
+        .lastName("Lookup")
+        .build();
+  }
+}
@@ -0,0 +1,252 @@
+package com.interviewsystem.service.outbox;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewsystem.config.OutboxProperties;
+import com.interviewsystem.dto.OutboxMessage;
+import com.interviewsystem.entity.Candidate;
+import com.interviewsystem.entity.Evaluation;
+import com.interviewsystem.entity.Problem;
+import com.interviewsystem.entity.Submission;
+import com.interviewsystem.repository.CandidateRepository;
+import com.interviewsystem.repository.EvaluationRepository;
+import com.interviewsystem.repository.OutboxEventRepository;
+import com.interviewsystem.repository.OutboxOffsetRepository;
+import com.interviewsystem.repository.ProblemRepository;
+import com.interviewsystem.repository.SubmissionRepository;
+import com.interviewsystem.service.leaderboard.LeaderboardService;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for outbox recording, sequencing and delivery.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Outbox Relay Tests")
+class OutboxRelayTest {
+
+  @TestConfiguration
+  static class RecordingSubscriberConfig {
+
+    @Bean
+    RecordingSubscriber recordingSubscriber() {
+      return new RecordingSubscriber();
+    }
+  }
+
+  static class RecordingSubscriber implements OutboxSubscriber {
+
+    final List<OutboxMessage> received = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String consumerName() {
+      return "test-recorder";
+    }
+
+    @Override
+    public void onEvents(List<OutboxMessage> events) {
+      received.addAll(events);
+    }
+  }
+
+  @Autowired
+  private OutboxRelay relay;
+
+  @Autowired
+  private RecordingSubscriber subscriber;
+
+  @Autowired
+  private LeaderboardService leaderboardService;
+
+  @Autowired
+  private OutboxEventRepository eventRepository;
+
+  @Autowired
+  private OutboxOffsetRepository offsetRepository;
+
+  @Autowired
+  private CandidateRepository candidateRepository;
+
+  @Autowired
+  private ProblemRepository problemRepository;
+
+  @Autowired
+  private SubmissionRepository submissionRepository;
+
+  @Autowired
+  private EvaluationRepository evaluationRepository;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @TempDir
+  Path directory;
+
+  private Candidate candidate;
+
+  private Problem problem;
+
+  @BeforeEach
+  void setUp() {
+    candidate = candidateRepository.save(Candidate.builder()
+        .email("outbox@example.com")
+        .firstName("Outbox")
+        .lastName("Candidate")
+        .build());
+    problem = problemRepository.save(Problem.builder()
+        .title("Outbox Problem")
+        .description("Relay me")
+        .category("ALGORITHMS")
+        .primaryTechStack("JAVA")
+        .build());
+    relay.relay();
+    subscriber.received.clear();
+  }
+
+  @AfterEach
+  void tearDown() {
+    evaluationRepository.deleteAll();
+    submissionRepository.deleteAll();
+    candidateRepository.deleteAll();
+    problemRepository.deleteAll();
+    relay.relay();
+    eventRepository.deleteAll();
+    offsetRepository.deleteById(subscriber.consumerName());
+    leaderboardService.rebuild();
+  }
+
+  @Test
+  @DisplayName("Should record changes when the transaction commits and not when it rolls back")
+  void testRecordedWithTransaction() {
+    // Arrange
+    long before = eventRepository.count();
+
+    // Act
+    transactionTemplate.executeWithoutResult(status -> {
+      submissionRepository.saveAndFlush(submission());
+      status.setRollbackOnly();
+    });
+    long afterRollback = eventRepository.count();
+    Submission committed = submissionRepository.save(submission());
+
+    // Assert
+    assertEquals(before, afterRollback);
+    assertEquals(before + 1, eventRepository.count());
+    relay.relay();
+    OutboxMessage message = subscriber.received.get(0);
+    assertEquals(OutboxRecorder.SUBMISSION, message.getAggregateType());
+    assertEquals(committed.getId(), message.getAggregateId());
+    assertEquals("CREATED", message.getChangeType());
+  }
+
+  @Test
+  @DisplayName("Should deliver events once each, in sequence order, and persist the offset")
+  void testSequencedDelivery() {
+    // Arrange
+    for (int i = 0; i < 3; i++) {
+      submissionRepository.save(submission());
+    }
+
+    // Act
+    int sequenced = relay.relay();
+    relay.relay();
+
+    // Assert
+    assertEquals(3, sequenced);
+    assertEquals(3, subscriber.received.size());
+    for (int i = 1; i < 3; i++) {
+      assertEquals(subscriber.received.get(i - 1).getSequence() + 1,
+          subscriber.received.get(i).getSequence());
+    }
+    assertEquals(subscriber.received.get(2).getSequence(),
+        relay.offsetOf(subscriber.consumerName()));
+  }
+
+  @Test
+  @DisplayName("Should apply evaluations committed by another process to local read models")
+  void testForeignEventsReachReadModels() {
+    // Arrange
+    Submission submission = submissionRepository.save(submission());
+    Evaluation evaluation = evaluationRepository.save(Evaluation.builder()
+        .submission(submission)
+        .totalTestCases(1)
+        .overallScore(88)
+        .status("PENDING")
+        .build());
+    relay.relay();
+    assertEquals(0, leaderboardService.countRanked(problem.getId()));
+
+    // Act: another process completes the evaluation and records it in the outbox
+    transactionTemplate.executeWithoutResult(status -> {
+      jdbcTemplate.update("update evaluation set status = 'COMPLETED', evaluated_at = ? "
+          + "where id = ?", LocalDateTime.now(), evaluation.getId());
+      jdbcTemplate.update("insert into outbox_event (aggregate_type, aggregate_id, change_type, "
+          + "payload, origin, created_at) values (?, ?, ?, ?, ?, ?)", OutboxRecorder.EVALUATION,
+          evaluation.getId(), "UPDATED", "{\"id\":" + evaluation.getId() + "}", "worker-1",
+          LocalDateTime.now());
+    });
+    relay.relay();
+
+    // Assert
+    assertEquals(1, leaderboardService.countRanked(problem.getId()));
+    assertEquals(evaluation.getId(),
+        leaderboardService.getLeaderboard(problem.getId(), 0, 1).get(0).getEvaluationId());
+  }
+
+  @Test
+  @DisplayName("Should append events to the broker file as JSON lines")
+  void testLocalFileBroker() throws Exception {
+    // Arrange
+    OutboxProperties properties = new OutboxProperties();
+    properties.setBrokerFile(directory.resolve("events/outbox.jsonl"));
+    LocalFileOutboxBroker broker = new LocalFileOutboxBroker(properties, objectMapper);
+    OutboxMessage first = OutboxMessage.builder()
+        .sequence(1L).aggregateType("SUBMISSION").aggregateId(7L).changeType("CREATED")
+        .payload("{}").origin("test").createdAt(LocalDateTime.now()).build();
+    OutboxMessage second = OutboxMessage.builder()
+        .sequence(2L).aggregateType("EVALUATION").aggregateId(9L).changeType("UPDATED")
+        .payload("{}").origin("test").createdAt(LocalDateTime.now()).build();
+
+    // Act
+    broker.publish(List.of(first));
+    broker.publish(List.of(second));
+
+    // Assert
+    List<String> lines = Files.readAllLines(properties.getBrokerFile());
+    assertEquals(2, lines.size());
+    assertEquals(second, objectMapper.readValue(lines.get(1), OutboxMessage.class));
+  }
+
+  private Submission submission() {
+    return Submission.builder()
+        .candidate(candidate)
+        .problem(problem)
+        .codeContent("class Solution {}")
+        .language("JAVA")
+        .submittedAt(LocalDateTime.now())
+        .build();
+  }
+}
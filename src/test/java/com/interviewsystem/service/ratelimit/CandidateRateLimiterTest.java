@@ -0,0 +1,235 @@
+package com.interviewsystem.service.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.interviewsystem.config.RateLimitProperties.Limit;
+import com.interviewsystem.dto.SubmissionBatchResponse;
+import com.interviewsystem.dto.SubmissionItemResult.Status;
+import com.interviewsystem.dto.SubmissionRequest;
+import com.interviewsystem.entity.Candidate;
+import com.interviewsystem.entity.Problem;
+import com.interviewsystem.repository.CandidateRepository;
+import com.interviewsystem.repository.ProblemRepository;
+import com.interviewsystem.repository.RateLimitBucketRepository;
+import com.interviewsystem.repository.SubmissionRepository;
+import com.interviewsystem.service.ingestion.SubmissionIngestionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Integration tests for per-candidate rate limits on submissions and API calls.
+ */
+@SpringBootTest(properties = {
+    "interview.rate-limit.enabled=true",
+    "interview.rate-limit.submissions.capacity=2",
+    "interview.rate-limit.submissions.refill-interval=1h",
+    "interview.rate-limit.tech-stacks.PYTHON.capacity=1",
+    "interview.rate-limit.tech-stacks.PYTHON.refill-interval=1h",
+    "interview.rate-limit.api.capacity=3",
+    "interview.rate-limit.api.refill-interval=1h"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Candidate Rate Limiter Tests")
+class CandidateRateLimiterTest {
+
+  @Autowired
+  private SubmissionIngestionService ingestionService;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private MeterRegistry registry;
+
+  @Autowired
+  private CandidateRepository candidateRepository;
+
+  @Autowired
+  private ProblemRepository problemRepository;
+
+  @Autowired
+  private SubmissionRepository submissionRepository;
+
+  @Autowired
+  private RateLimitBucketRepository bucketRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private Problem problem;
+
+  @BeforeEach
+  void setUp() {
+    problem = problemRepository.save(Problem.builder()
+        .title("Rate Limit Problem")
+        .description("Submit slowly")
+        .category("ALGORITHMS")
+        .primaryTechStack("JAVA")
+        .build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    submissionRepository.deleteAll();
+    candidateRepository.deleteAll();
+    problemRepository.deleteAll();
+    bucketRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Should rate limit submissions per candidate with per-tech-stack limits")
+  void testSubmissionLimits() {
+    // Arrange
+    Candidate java = candidate("java@example.com", "JAVA");
+    Candidate python = candidate("python@example.com", "PYTHON");
+    double rejections = rejections();
+
+    // Act
+    SubmissionBatchResponse response = ingestionService.ingest(List.of(
+        request("java-1", java), request("java-2", java), request("java-3", java),
+        request("python-1", python), request("python-2", python)));
+
+    // Assert
+    assertEquals(3, response.getCreated());
+    assertEquals(2, response.getRateLimited());
+    assertEquals(Status.RATE_LIMITED, response.getResults().get(2).getStatus());
+    assertNull(response.getResults().get(2).getSubmissionId());
+    assertEquals(Status.CREATED, response.getResults().get(3).getStatus());
+    assertEquals(Status.RATE_LIMITED, response.getResults().get(4).getStatus());
+    assertEquals(rejections + 2, rejections());
+    assertEquals(3, submissionRepository.count());
+  }
+
+  @Test
+  @DisplayName("Should not charge duplicates or unknown problems when a batch is retried")
+  void testRetryNotCharged() {
+    // Arrange
+    Candidate java = candidate("retry@example.com", "JAVA");
+    SubmissionRequest unknownProblem = request("java-x", java);
+    unknownProblem.setProblemId(problem.getId() + 1000);
+    List<SubmissionRequest> batch = List.of(
+        request("java-1", java), unknownProblem, request("java-1", java), request("java-2", java));
+    double rejections = rejections();
+
+    // Act
+    SubmissionBatchResponse first = ingestionService.ingest(batch);
+    SubmissionBatchResponse retry = ingestionService.ingest(batch);
+
+    // Assert
+    assertEquals(2, first.getCreated());
+    assertEquals(1, first.getDuplicates());
+    assertEquals(1, first.getRejected());
+    assertEquals(0, retry.getRateLimited());
+    assertEquals(3, retry.getDuplicates());
+    assertEquals(first.getResults().get(3).getSubmissionId(),
+        retry.getResults().get(3).getSubmissionId());
+    assertEquals(rejections, rejections());
+    assertEquals(Status.RATE_LIMITED,
+        ingestionService.ingest(List.of(request("java-3", java))).getResults().get(0).getStatus());
+  }
+
+  @Test
+  @DisplayName("Should answer 429 with Retry-After once a client address's API bucket is empty")
+  void testApiLimit() throws Exception {
+    // Act: identity headers are client-supplied and must not open new buckets
+    for (int i = 0; i < 3; i++) {
+      mockMvc.perform(search("10.0.0.7").header("X-Candidate-Id", Integer.toString(i)))
+          .andExpect(status().isOk());
+    }
+
+    // Assert
+    mockMvc.perform(search("10.0.0.7").header("X-Candidate-Id", "99"))
+        .andExpect(status().isTooManyRequests())
+        .andExpect(header().exists("Retry-After"));
+    mockMvc.perform(search("10.0.0.8"))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  @DisplayName("Should charge authenticated calls to the principal rather than the address")
+  void testApiLimitByPrincipal() throws Exception {
+    // Act
+    for (int i = 0; i < 3; i++) {
+      mockMvc.perform(search("10.0.0.9").principal(() -> "alice"))
+          .andExpect(status().isOk());
+    }
+
+    // Assert
+    mockMvc.perform(search("10.0.0.10").principal(() -> "alice"))
+        .andExpect(status().isTooManyRequests());
+    mockMvc.perform(search("10.0.0.9").principal(() -> "bob"))
+        .andExpect(status().isOk());
+    mockMvc.perform(search("10.0.0.9"))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  @DisplayName("Should share buckets across nodes through the database store")
+  void testDatabaseStore() {
+    // Arrange
+    Limit limit = new Limit(2, Duration.ofHours(1));
+    RateLimitStore node1 = new DatabaseRateLimitStore(bucketRepository, transactionManager);
+    RateLimitStore node2 = new DatabaseRateLimitStore(bucketRepository, transactionManager);
+
+    // Act
+    boolean first = node1.acquire("submission:candidate:1", limit).allowed();
+    boolean second = node2.acquire("submission:candidate:1", limit).allowed();
+    RateLimitDecision third = node1.acquire("submission:candidate:1", limit);
+
+    // Assert
+    assertTrue(first);
+    assertTrue(second);
+    assertFalse(third.allowed());
+    assertTrue(third.retryAfter().compareTo(Duration.ofMinutes(59)) > 0);
+    assertTrue(node2.acquire("submission:candidate:2", limit).allowed());
+    assertEquals(0, node1.evictIdle());
+  }
+
+  private double rejections() {
+    return registry.find(CandidateRateLimiter.REJECTIONS).tag("kind", "submission").counters()
+        .stream().mapToDouble(Counter::count).sum();
+  }
+
+  private static MockHttpServletRequestBuilder search(String remoteAddress) {
+    return get("/api/problems/search").param("q", "rate")
+        .with(request -> {
+          request.setRemoteAddr(remoteAddress);
+          return request;
+        });
+  }
+
+  private Candidate candidate(String email, String techStack) {
+    return candidateRepository.save(Candidate.builder()
+        .email(email)
+        .firstName("Rate")
+        .lastName("Limited")
+        .techStack(techStack)
+        .build());
+  }
+
+  private SubmissionRequest request(String key, Candidate candidate) {
+    return SubmissionRequest.builder()
+        .idempotencyKey(key)
+        .candidateId(candidate.getId())
+        .problemId(problem.getId())
+        .codeContent("class Solution {}")
+        .language(candidate.getTechStack())
+        .build();
+  }
+}
@@ -0,0 +1,105 @@
+package com.interviewsystem.service.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.interviewsystem.config.RateLimitProperties.Limit;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the lock-free in-process token buckets, on a manual clock.
+ */
+@DisplayName("Local Rate Limit Store Tests")
+class LocalRateLimitStoreTest {
+
+  private static final Limit LIMIT = new Limit(3, Duration.ofSeconds(10));
+
+  private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+  private LocalRateLimitStore store;
+
+  @BeforeEach
+  void setUp() {
+    store = new LocalRateLimitStore(clock::get);
+  }
+
+  @Test
+  @DisplayName("Should allow a full burst, then reject until a token refills")
+  void testBurstAndRefill() {
+    // Act
+    for (int i = 0; i < 3; i++) {
+      assertTrue(store.acquire("a", LIMIT).allowed());
+    }
+    RateLimitDecision rejected = store.acquire("a", LIMIT);
+    clock.addAndGet(Duration.ofSeconds(10).toNanos());
+    RateLimitDecision refilled = store.acquire("a", LIMIT);
+
+    // Assert
+    assertFalse(rejected.allowed());
+    assertEquals(Duration.ofSeconds(10), rejected.retryAfter());
+    assertEquals(10, rejected.retryAfterSeconds());
+    assertTrue(refilled.allowed());
+    assertFalse(store.acquire("a", LIMIT).allowed());
+    assertTrue(store.acquire("b", LIMIT).allowed());
+  }
+
+  @Test
+  @DisplayName("Should never allow more than the capacity under concurrent requests")
+  void testConcurrentAcquire() throws Exception {
+    // Arrange
+    Limit limit = new Limit(100, Duration.ofHours(1));
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    List<Future<Integer>> results = new ArrayList<>();
+
+    // Act
+    try {
+      for (int t = 0; t < 8; t++) {
+        results.add(executor.submit(() -> {
+          int allowed = 0;
+          for (int i = 0; i < 1000; i++) {
+            allowed += store.acquire("shared", limit).allowed() ? 1 : 0;
+          }
+          return allowed;
+        }));
+      }
+      int allowed = 0;
+      for (Future<Integer> result : results) {
+        allowed += result.get();
+      }
+
+      // Assert
+      assertEquals(100, allowed);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("Should drop buckets once they have refilled completely")
+  void testEvictIdle() {
+    // Arrange
+    store.acquire("a", LIMIT);
+    store.acquire("b", LIMIT);
+    store.acquire("b", LIMIT);
+    clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+    // Act
+    int evicted = store.evictIdle();
+
+    // Assert
+    assertEquals(1, evicted);
+    assertEquals(1, store.size());
+    for (int i = 0; i < 2; i++) {
+      assertTrue(store.acquire("b", LIMIT).allowed());
+    }
+    assertFalse(store.acquire("b", LIMIT).allowed());
+  }
+}
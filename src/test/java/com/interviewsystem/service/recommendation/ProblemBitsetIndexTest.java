@@ -0,0 +1,87 @@
+package com.interviewsystem.service.recommendation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.interviewsystem.dto.ProblemRecommendation;
+import com.interviewsystem.entity.Problem;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the bitset problem index used by recommendations.
+ */
+@DisplayName("Problem Bitset Index Tests")
+class ProblemBitsetIndexTest {
+
+  private ProblemBitsetIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new ProblemBitsetIndex();
+    index.reindex(List.of(
+        problem(1L, "MEDIUM", "ALGORITHMS", "JAVA"),
+        problem(2L, "MEDIUM", "ALGORITHMS", "JAVA"),
+        problem(3L, "MEDIUM", "ALGORITHMS", "JAVA"),
+        problem(4L, "MEDIUM", "OOP", "JAVA"),
+        problem(5L, "MEDIUM", "SYSTEM_DESIGN", "JAVA"),
+        problem(6L, "HARD", "OOP", "JAVA"),
+        problem(7L, "MEDIUM", "OOP", "TYPESCRIPT")));
+  }
+
+  @Test
+  @DisplayName("Should filter by difficulty and stack and balance across categories")
+  void testBalancedSelection() {
+    // Act
+    List<Long> ids = idsOf(index.select("medium", "JAVA", new BitSet(), 3));
+
+    // Assert
+    assertEquals(List.of(1L, 4L, 5L), ids);
+  }
+
+  @Test
+  @DisplayName("Should exclude attempted problems")
+  void testExcludeAttempted() {
+    // Arrange
+    BitSet attempted = new BitSet();
+    attempted.set(index.slotOf(1L));
+    attempted.set(index.slotOf(4L));
+
+    // Act
+    List<Long> ids = idsOf(index.select("MEDIUM", "JAVA", attempted, 10));
+
+    // Assert
+    assertEquals(List.of(2L, 5L, 3L), ids);
+  }
+
+  @Test
+  @DisplayName("Should reflect re-indexed and removed problems")
+  void testIncrementalUpdates() {
+    // Act
+    index.index(problem(6L, "MEDIUM", "OOP", "JAVA"));
+    index.remove(5L);
+
+    // Assert
+    assertEquals(List.of(1L, 4L, 2L, 6L, 3L),
+        idsOf(index.select("MEDIUM", "JAVA", new BitSet(), 10)));
+  }
+
+  private static List<Long> idsOf(List<ProblemRecommendation> recommendations) {
+    return recommendations.stream().map(ProblemRecommendation::getProblemId)
+        .collect(Collectors.toList());
+  }
+
+  private static Problem problem(Long id, String difficulty, String category, String stack) {
+    return Problem.builder()
+        .id(id)
+        .title("Problem " + id)
+        .description("Description " + id)
+        .difficulty(difficulty)
+        .category(category)
+        .primaryTechStack(stack)
+        .build();
+  }
+}
@@ -0,0 +1,136 @@
+package com.interviewsystem.service.rollup;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.interviewsystem.dto.ActivityRollupResponse;
+import com.interviewsystem.entity.Candidate;
+import com.interviewsystem.entity.Evaluation;
+import com.interviewsystem.entity.Problem;
+import com.interviewsystem.entity.Submission;
+import com.interviewsystem.repository.CandidateRepository;
+import com.interviewsystem.repository.EvaluationRepository;
+import com.interviewsystem.repository.ProblemRepository;
+import com.interviewsystem.repository.SubmissionRepository;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Integration tests for event-driven activity rollups.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Activity Rollup Service Tests")
+class ActivityRollupServiceTest {
+
+  @Autowired
+  private ActivityRollupService rollupService;
+
+  @Autowired
+  private CandidateRepository candidateRepository;
+
+  @Autowired
+  private ProblemRepository problemRepository;
+
+  @Autowired
+  private SubmissionRepository submissionRepository;
+
+  @Autowired
+  private EvaluationRepository evaluationRepository;
+
+  private Problem problem;
+
+  private Candidate candidate;
+
+  @BeforeEach
+  void setUp() {
+    problem = problemRepository.save(Problem.builder()
+        .title("Rollup Problem")
+        .description("Count me")
+        .difficulty("EASY")
+        .category("ALGORITHMS")
+        .primaryTechStack("JAVA")
+        .build());
+    candidate = candidateRepository.save(Candidate.builder()
+        .email("rollup@example.com")
+        .firstName("Test")
+        .lastName("Candidate")
+        .build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    evaluationRepository.deleteAll();
+    submissionRepository.deleteAll();
+    candidateRepository.deleteAll();
+    problemRepository.deleteAll();
+    rollupService.rebuild();
+  }
+
+  @Test
+  @DisplayName("Should move a submission's count when its compilation status changes")
+  void testCompilationStatusChange() {
+    // Arrange
+    Submission submission = submit("JAVA");
+    submit("PYTHON");
+    assertEquals(2, query(ActivityMetric.SUBMISSIONS, null, "PENDING").getTotalCount());
+
+    // Act
+    submission.setCompilationStatus("SUCCESS");
+    submissionRepository.save(submission);
+
+    // Assert
+    assertEquals(2, query(ActivityMetric.SUBMISSIONS, null, null).getTotalCount());
+    assertEquals(1, query(ActivityMetric.SUBMISSIONS, null, "SUCCESS").getTotalCount());
+    assertEquals(1, query(ActivityMetric.SUBMISSIONS, "JAVA", null).getTotalCount());
+    assertEquals(1, query(ActivityMetric.SUBMISSIONS, null, "PENDING").getTotalCount());
+  }
+
+  @Test
+  @DisplayName("Should count completed evaluations once and agree with a rebuild")
+  void testEvaluationRescoreAndRebuild() {
+    // Arrange
+    Evaluation evaluation = evaluationRepository.save(Evaluation.builder()
+        .submission(submit("JAVA"))
+        .totalTestCases(1)
+        .overallScore(55)
+        .status("COMPLETED")
+        .evaluatedAt(LocalDateTime.now())
+        .build());
+
+    // Act
+    evaluation.setOverallScore(85);
+    evaluationRepository.save(evaluation);
+
+    // Assert
+    ActivityRollupResponse live = query(ActivityMetric.EVALUATIONS, null, null);
+    assertEquals(1, live.getTotalCount());
+    assertEquals(85.0, live.getAverageScore());
+    assertEquals(1L, live.getScoreHistogram().get(8));
+    rollupService.rebuild();
+    ActivityRollupResponse rebuilt = query(ActivityMetric.EVALUATIONS, null, null);
+    assertEquals(live.getTotalCount(), rebuilt.getTotalCount());
+    assertEquals(live.getScoreHistogram(), rebuilt.getScoreHistogram());
+  }
+
+  private ActivityRollupResponse query(ActivityMetric metric, String language, String status) {
+    LocalDateTime now = LocalDateTime.now();
+    return rollupService.query(metric, now.minusHours(1), now.plusMinutes(1), Granularity.MINUTE,
+        problem.getId(), language, status);
+  }
+
+  private Submission submit(String language) {
+    return submissionRepository.save(Submission.builder()
+        .candidate(candidate)
+        .problem(problem)
+        .codeContent("class Solution {}")
+        .language(language)
+        .submittedAt(LocalDateTime.now())
+        .build());
+  }
+}
@@ -0,0 +1,119 @@
+package com.interviewsystem.service.rollup;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.NavigableMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the tiered activity rollup store.
+ */
+@DisplayName("Rollup Store Tests")
+class RollupStoreTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 10, 12, 30, 15);
+
+  private static final RollupKey JAVA = new RollupKey(ActivityMetric.SUBMISSIONS, 1L, "JAVA",
+      "SUCCESS");
+
+  private static final RollupKey PYTHON = new RollupKey(ActivityMetric.SUBMISSIONS, 1L, "PYTHON",
+      "FAILED");
+
+  private static final RollupKey SCORED = new RollupKey(ActivityMetric.EVALUATIONS, 1L, "JAVA",
+      null);
+
+  private RollupStore store;
+
+  @BeforeEach
+  void setUp() {
+    store = new RollupStore(Duration.ofHours(1), Duration.ofDays(1));
+  }
+
+  @Test
+  @DisplayName("Should sum minute buckets into the requested granularity")
+  void testQueryByHour() {
+    // Arrange
+    store.add(NOW.minusMinutes(1), JAVA, 1, null, NOW);
+    store.add(NOW.minusMinutes(2), JAVA, 1, null, NOW);
+    store.add(NOW.minusMinutes(3), PYTHON, 1, null, NOW);
+
+    // Act
+    NavigableMap<Long, RollupStore.Bucket> all = store.query(NOW.minusHours(1), NOW,
+        Granularity.HOUR, key -> key.matches(ActivityMetric.SUBMISSIONS, null, null, null));
+    NavigableMap<Long, RollupStore.Bucket> java = store.query(NOW.minusHours(1), NOW,
+        Granularity.MINUTE, key -> key.matches(ActivityMetric.SUBMISSIONS, null, "java", null));
+
+    // Assert
+    assertEquals(1, all.size());
+    assertEquals(3, all.firstEntry().getValue().getCell().getCount());
+    assertEquals(Granularity.HOUR, all.firstEntry().getValue().getGranularity());
+    assertEquals(2, java.size());
+    assertEquals(2, java.values().stream().mapToLong(b -> b.getCell().getCount()).sum());
+  }
+
+  @Test
+  @DisplayName("Should compact expired buckets without changing window totals")
+  void testCompaction() {
+    // Arrange
+    for (int minutes = 0; minutes < 3 * 24 * 60; minutes += 7) {
+      store.add(NOW.minusMinutes(minutes), JAVA, 1, null, NOW.minusMinutes(minutes));
+    }
+    long before = total(store.query(NOW.minusDays(4), NOW.plusMinutes(1), Granularity.MINUTE,
+        key -> true));
+
+    // Act
+    int folded = store.compact(NOW);
+
+    // Assert
+    assertTrue(folded > 0);
+    assertTrue(store.bucketCount(Granularity.MINUTE) <= 60 / 7 + 1);
+    assertTrue(store.bucketCount(Granularity.HOUR) <= 25);
+    assertTrue(store.bucketCount(Granularity.DAY) >= 2);
+    assertEquals(before, total(store.query(NOW.minusDays(4), NOW.plusMinutes(1),
+        Granularity.MINUTE, key -> true)));
+    assertEquals(0, store.compact(NOW), "A second compaction should have nothing to fold");
+  }
+
+  @Test
+  @DisplayName("Should route late events to the tier their timestamp belongs to")
+  void testLateEvent() {
+    // Act
+    store.add(NOW.minusHours(5), JAVA, 1, null, NOW);
+    store.add(NOW.minusDays(3), JAVA, 1, null, NOW);
+
+    // Assert
+    assertEquals(0, store.bucketCount(Granularity.MINUTE));
+    assertEquals(1, store.bucketCount(Granularity.HOUR));
+    assertEquals(1, store.bucketCount(Granularity.DAY));
+  }
+
+  @Test
+  @DisplayName("Should keep score histograms and drop cells retracted to zero")
+  void testScoresAndRetraction() {
+    // Arrange
+    store.add(NOW, SCORED, 1, 95, NOW);
+    store.add(NOW, SCORED, 1, 40, NOW);
+    store.add(NOW, JAVA, 1, null, NOW);
+
+    // Act
+    store.add(NOW, JAVA, -1, null, NOW);
+    RollupCell cell = store.query(NOW.minusMinutes(1), NOW.plusMinutes(1), Granularity.DAY,
+        key -> true).firstEntry().getValue().getCell();
+
+    // Assert
+    assertEquals(2, cell.getCount());
+    assertEquals(67.5, cell.getAverageScore());
+    assertEquals(1, cell.getHistogram()[9]);
+    assertEquals(1, cell.getHistogram()[4]);
+    assertTrue(store.query(NOW.minusMinutes(1), NOW.plusMinutes(1), Granularity.DAY,
+        key -> key.matches(ActivityMetric.SUBMISSIONS, null, null, null)).isEmpty());
+  }
+
+  private static long total(NavigableMap<Long, RollupStore.Bucket> buckets) {
+    return buckets.values().stream().mapToLong(bucket -> bucket.getCell().getCount()).sum();
+  }
+}
@@ -0,0 +1,94 @@
+package com.interviewsystem.service.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.interviewsystem.dto.ProblemSearchResponse;
+import com.interviewsystem.entity.Problem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the in-memory problem search index.
+ */
+@DisplayName("Problem Search Index Tests")
+class ProblemSearchIndexTest {
+
+  private ProblemSearchIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new ProblemSearchIndex();
+    index.index(problem(1L, "Graph Traversal", "Walk a graph breadth first", "MEDIUM",
+        "ALGORITHMS", "JAVA"));
+    index.index(problem(2L, "LRU Cache", "Design a cache with graph-free eviction", "HARD",
+        "DATA_STRUCTURES", "JAVA"));
+    index.index(problem(3L, "Todo List", "Build a React todo list component", "EASY",
+        "OOP", "TYPESCRIPT"));
+  }
+
+  @Test
+  @DisplayName("Should rank title matches above description matches")
+  void testBm25Ranking() {
+    // Act
+    ProblemSearchResponse response = index.search("graph", null, null, null, 10);
+
+    // Assert
+    assertEquals(2, response.getTotalHits());
+    assertEquals(1L, response.getHits().get(0).getProblemId());
+    assertTrue(response.getHits().get(0).getScore() > response.getHits().get(1).getScore());
+  }
+
+  @Test
+  @DisplayName("Should expand prefix terms")
+  void testPrefixSearch() {
+    // Act
+    ProblemSearchResponse response = index.search("trav*", null, null, null, 10);
+
+    // Assert
+    assertEquals(1, response.getTotalHits());
+    assertEquals("Graph Traversal", response.getHits().get(0).getTitle());
+  }
+
+  @Test
+  @DisplayName("Should apply filters and count facets over all matches")
+  void testFiltersAndFacets() {
+    // Act
+    ProblemSearchResponse all = index.search("", null, null, null, 1);
+    ProblemSearchResponse java = index.search("", null, null, "java", 10);
+
+    // Assert
+    assertEquals(3, all.getTotalHits());
+    assertEquals(1, all.getHits().size());
+    assertEquals(2, all.getFacets().get("primaryTechStack").get("JAVA"));
+    assertEquals(1, all.getFacets().get("difficulty").get("EASY"));
+    assertEquals(2, java.getTotalHits());
+  }
+
+  @Test
+  @DisplayName("Should replace and remove documents incrementally")
+  void testIncrementalUpdates() {
+    // Act
+    index.index(problem(3L, "Todo Graph", "Render a dependency graph", "EASY", "OOP",
+        "TYPESCRIPT"));
+    index.remove(2L);
+
+    // Assert
+    assertEquals(2, index.size());
+    assertEquals(2, index.search("graph", null, null, null, 10).getTotalHits());
+    assertEquals(0, index.search("react", null, null, null, 10).getTotalHits());
+    assertEquals(0, index.search("cache", null, null, null, 10).getTotalHits());
+  }
+
+  private static Problem problem(Long id, String title, String description, String difficulty,
+      String category, String techStack) {
+    return Problem.builder()
+        .id(id)
+        .title(title)
+        .description(description)
+        .difficulty(difficulty)
+        .category(category)
+        .primaryTechStack(techStack)
+        .build();
+  }
+}
@@ -0,0 +1,87 @@
+package com.interviewsystem.service.similarity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for source normalization, MinHash signatures and the LSH index.
+ */
+@DisplayName("MinHash Similarity Tests")
+class MinHashSimilarityTest {
+
+  private static final String ORIGINAL = """
+      public int sum(int[] values) {
+        // add everything up
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+          total += values[i];
+        }
+        System.out.println("done");
+        return total;
+      }
+      """;
+
+  private static final String RENAMED = """
+      public int sum(int[] xs) { int acc = 0;
+        for (int k = 0; k < xs.length; k++) { acc += xs[k]; }
+        System.out.println("finished"); return acc; }
+      """;
+
+  private static final String DIFFERENT = """
+      public String reverse(String s) {
+        StringBuilder builder = new StringBuilder(s);
+        while (builder.length() > 10) {
+          builder.deleteCharAt(0);
+        }
+        return builder.reverse().toString();
+      }
+      """;
+
+  @Test
+  @DisplayName("Should ignore identifiers, literals, comments and whitespace")
+  void testNormalizationIgnoresRenaming() {
+    // Act & Assert
+    assertEquals(SourceNormalizer.normalize(ORIGINAL), SourceNormalizer.normalize(RENAMED));
+    assertEquals(List.of("return", "ID", "+", "NUM", ";"),
+        SourceNormalizer.normalize("return count + 42; /* trailing */"));
+  }
+
+  @Test
+  @DisplayName("Should estimate high similarity for renamed code and low for unrelated code")
+  void testSignatureSimilarity() {
+    // Arrange
+    int[] original = signatureOf(ORIGINAL);
+
+    // Act & Assert
+    assertEquals(1.0, MinHasher.similarity(original, signatureOf(RENAMED)));
+    assertTrue(MinHasher.similarity(original, signatureOf(DIFFERENT)) < 0.3);
+    assertArrayEquals(original, MinHasher.fromBytes(MinHasher.toBytes(original)));
+  }
+
+  @Test
+  @DisplayName("Should return only submissions above the threshold from the LSH index")
+  void testLshQuery() {
+    // Arrange
+    LshIndex index = new LshIndex();
+    index.add(1L, signatureOf(ORIGINAL));
+    index.add(2L, signatureOf(RENAMED));
+    index.add(3L, signatureOf(DIFFERENT));
+
+    // Act
+    List<Map.Entry<Long, Double>> similar = index.findSimilar(1L, 0.8);
+
+    // Assert
+    assertEquals(1, similar.size());
+    assertEquals(2L, similar.get(0).getKey());
+    index.remove(2L);
+    assertTrue(index.findSimilar(1L, 0.8).isEmpty());
+  }
+
+  private static int[] signatureOf(String source) {
+    return MinHasher.signature(SourceNormalizer.normalize(source));
+  }
+}
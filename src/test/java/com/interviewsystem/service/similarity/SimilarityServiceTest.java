@@ -0,0 +1,134 @@
+package com.interviewsystem.service.similarity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.interviewsystem.dto.SimilarSubmission;
+import com.interviewsystem.entity.Candidate;
+import com.interviewsystem.entity.Problem;
+import com.interviewsystem.entity.Submission;
+import com.interviewsystem.repository.CandidateRepository;
+import com.interviewsystem.repository.ProblemRepository;
+import com.interviewsystem.repository.SubmissionFingerprintRepository;
+import com.interviewsystem.repository.SubmissionRepository;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for submission fingerprinting and similarity lookups.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Similarity Service Tests")
+class SimilarityServiceTest {
+
+  @Autowired
+  private SimilarityService similarityService;
+
+  @Autowired
+  private CandidateRepository candidateRepository;
+
+  @Autowired
+  private ProblemRepository problemRepository;
+
+  @Autowired
+  private SubmissionRepository submissionRepository;
+
+  @Autowired
+  private SubmissionFingerprintRepository fingerprintRepository;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @AfterEach
+  void tearDown() {
+    fingerprintRepository.deleteAll();
+    submissionRepository.deleteAll();
+    candidateRepository.deleteAll();
+    problemRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Should fingerprint new submissions and find copies of them")
+  void testFingerprintAndFindSimilar() {
+    // Arrange
+    Problem problem = problemRepository.save(Problem.builder()
+        .title("Similarity Problem")
+        .description("Copy me")
+        .category("ALGORITHMS")
+        .primaryTechStack("JAVA")
+        .build());
+    Submission original = submit(problem, "alice@example.com",
+        "int max(int a, int b) { if (a > b) { return a; } return b; } // mine");
+    Submission copy = submit(problem, "bob@example.com",
+        "int max(int x, int y) {\n  if (x > y) { return x; }\n  return y;\n}");
+    submit(problem, "carol@example.com",
+        "String greet(String name) { return \"Hello, \" + name + \"!\"; }");
+
+    // Act
+    List<SimilarSubmission> similar = similarityService.findSimilar(original.getId(), 0.8);
+
+    // Assert
+    assertEquals(3, fingerprintRepository.findByProblemId(problem.getId()).size());
+    assertEquals(1, similar.size());
+    assertEquals(copy.getId(), similar.get(0).getSubmissionId());
+  }
+
+  @Test
+  @DisplayName("Should fingerprint a transaction's submissions together into loaded indexes")
+  void testFingerprintBatch() {
+    // Arrange
+    Problem problem = problemRepository.save(Problem.builder()
+        .title("Batch Similarity Problem")
+        .description("Copy me in bulk")
+        .category("ALGORITHMS")
+        .primaryTechStack("JAVA")
+        .build());
+    Submission original = submit(problem, "dave@example.com",
+        "int sum(int[] xs) { int t = 0; for (int x : xs) { t += x; } return t; }");
+    assertTrue(similarityService.findSimilar(original.getId(), 0.8).isEmpty());
+    Candidate candidate = candidate("erin@example.com");
+
+    // Act
+    List<Submission> batch = transactionTemplate.execute(status ->
+        submissionRepository.saveAll(Stream.of(
+            "int sum(int[] ys) { int s = 0; for (int y : ys) { s += y; } return s; }",
+            "boolean even(int n) { return n % 2 == 0; }",
+            "String shout(String s) { return s.toUpperCase() + \"!\"; }")
+            .map(code -> submission(problem, candidate, code))
+            .toList()));
+
+    // Assert
+    assertEquals(4, fingerprintRepository.findByProblemId(problem.getId()).size());
+    List<SimilarSubmission> similar = similarityService.findSimilar(original.getId(), 0.8);
+    assertEquals(1, similar.size());
+    assertEquals(batch.get(0).getId(), similar.get(0).getSubmissionId());
+  }
+
+  private Submission submit(Problem problem, String email, String code) {
+    return submissionRepository.save(submission(problem, candidate(email), code));
+  }
+
+  private Candidate candidate(String email) {
+    return candidateRepository.save(Candidate.builder()
+        .email(email)
+        .firstName("Test")
+        .lastName("Candidate")
+        .build());
+  }
+
+  private static Submission submission(Problem problem, Candidate candidate, String code) {
+    return Submission.builder()
+        .candidate(candidate)
+        .problem(problem)
+        .codeContent(code)
+        .language("JAVA")
+        .build();
+  }
+}